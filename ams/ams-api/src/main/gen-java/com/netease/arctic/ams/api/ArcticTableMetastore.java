@@ -7,7 +7,7 @@
 package com.netease.arctic.ams.api;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2022-08-22")
+@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2026-10-19")
 public class ArcticTableMetastore {
 
   /**
@@ -34,12 +34,20 @@ public class ArcticTableMetastore {
 
     public TableMeta getTable(com.netease.arctic.ams.api.TableIdentifier tableIdentifier) throws com.netease.arctic.ams.api.NoSuchObjectException, org.apache.thrift.TException;
 
+    public java.util.List<TableMeta> getTables(java.util.List<com.netease.arctic.ams.api.TableIdentifier> tableIdentifiers) throws com.netease.arctic.ams.api.NoSuchObjectException, org.apache.thrift.TException;
+
     public void removeTable(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, boolean deleteData) throws com.netease.arctic.ams.api.NoSuchObjectException, com.netease.arctic.ams.api.MetaException, org.apache.thrift.TException;
 
     public void tableCommit(TableCommitMeta commit) throws com.netease.arctic.ams.api.MetaException, org.apache.thrift.TException;
 
+    public void tableCommits(java.util.List<TableCommitMeta> commits) throws com.netease.arctic.ams.api.MetaException, com.netease.arctic.ams.api.NoSuchObjectException, org.apache.thrift.TException;
+
     public long allocateTransactionId(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, java.lang.String transactionSignature) throws org.apache.thrift.TException;
 
+    public java.util.List<java.lang.Long> allocateTransactionIds(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, int count) throws com.netease.arctic.ams.api.NoSuchObjectException, com.netease.arctic.ams.api.MetaException, org.apache.thrift.TException;
+
+    public TableCommitEvent waitTableCommit(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, long changeSnapshotId, long baseSnapshotId, long waitTime) throws com.netease.arctic.ams.api.NoSuchObjectException, com.netease.arctic.ams.api.MetaException, org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface {
@@ -62,12 +70,20 @@ public class ArcticTableMetastore {
 
     public void getTable(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, org.apache.thrift.async.AsyncMethodCallback<TableMeta> resultHandler) throws org.apache.thrift.TException;
 
+    public void getTables(java.util.List<com.netease.arctic.ams.api.TableIdentifier> tableIdentifiers, org.apache.thrift.async.AsyncMethodCallback<java.util.List<TableMeta>> resultHandler) throws org.apache.thrift.TException;
+
     public void removeTable(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, boolean deleteData, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void tableCommit(TableCommitMeta commit, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
+    public void tableCommits(java.util.List<TableCommitMeta> commits, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+
     public void allocateTransactionId(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, java.lang.String transactionSignature, org.apache.thrift.async.AsyncMethodCallback<java.lang.Long> resultHandler) throws org.apache.thrift.TException;
 
+    public void allocateTransactionIds(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, int count, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Long>> resultHandler) throws org.apache.thrift.TException;
+
+    public void waitTableCommit(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, long changeSnapshotId, long baseSnapshotId, long waitTime, org.apache.thrift.async.AsyncMethodCallback<TableCommitEvent> resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends org.apache.thrift.TServiceClient implements Iface {
@@ -319,6 +335,32 @@ public class ArcticTableMetastore {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getTable failed: unknown result");
     }
 
+    public java.util.List<TableMeta> getTables(java.util.List<com.netease.arctic.ams.api.TableIdentifier> tableIdentifiers) throws com.netease.arctic.ams.api.NoSuchObjectException, org.apache.thrift.TException
+    {
+      send_getTables(tableIdentifiers);
+      return recv_getTables();
+    }
+
+    public void send_getTables(java.util.List<com.netease.arctic.ams.api.TableIdentifier> tableIdentifiers) throws org.apache.thrift.TException
+    {
+      getTables_args args = new getTables_args();
+      args.setTableIdentifiers(tableIdentifiers);
+      sendBase("getTables", args);
+    }
+
+    public java.util.List<TableMeta> recv_getTables() throws com.netease.arctic.ams.api.NoSuchObjectException, org.apache.thrift.TException
+    {
+      getTables_result result = new getTables_result();
+      receiveBase(result, "getTables");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getTables failed: unknown result");
+    }
+
     public void removeTable(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, boolean deleteData) throws com.netease.arctic.ams.api.NoSuchObjectException, com.netease.arctic.ams.api.MetaException, org.apache.thrift.TException
     {
       send_removeTable(tableIdentifier, deleteData);
@@ -369,6 +411,32 @@ public class ArcticTableMetastore {
       return;
     }
 
+    public void tableCommits(java.util.List<TableCommitMeta> commits) throws com.netease.arctic.ams.api.MetaException, com.netease.arctic.ams.api.NoSuchObjectException, org.apache.thrift.TException
+    {
+      send_tableCommits(commits);
+      recv_tableCommits();
+    }
+
+    public void send_tableCommits(java.util.List<TableCommitMeta> commits) throws org.apache.thrift.TException
+    {
+      tableCommits_args args = new tableCommits_args();
+      args.setCommits(commits);
+      sendBase("tableCommits", args);
+    }
+
+    public void recv_tableCommits() throws com.netease.arctic.ams.api.MetaException, com.netease.arctic.ams.api.NoSuchObjectException, org.apache.thrift.TException
+    {
+      tableCommits_result result = new tableCommits_result();
+      receiveBase(result, "tableCommits");
+      if (result.e1 != null) {
+        throw result.e1;
+      }
+      if (result.e2 != null) {
+        throw result.e2;
+      }
+      return;
+    }
+
     public long allocateTransactionId(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, java.lang.String transactionSignature) throws org.apache.thrift.TException
     {
       send_allocateTransactionId(tableIdentifier, transactionSignature);
@@ -393,6 +461,68 @@ public class ArcticTableMetastore {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "allocateTransactionId failed: unknown result");
     }
 
+    public java.util.List<java.lang.Long> allocateTransactionIds(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, int count) throws com.netease.arctic.ams.api.NoSuchObjectException, com.netease.arctic.ams.api.MetaException, org.apache.thrift.TException
+    {
+      send_allocateTransactionIds(tableIdentifier, count);
+      return recv_allocateTransactionIds();
+    }
+
+    public void send_allocateTransactionIds(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, int count) throws org.apache.thrift.TException
+    {
+      allocateTransactionIds_args args = new allocateTransactionIds_args();
+      args.setTableIdentifier(tableIdentifier);
+      args.setCount(count);
+      sendBase("allocateTransactionIds", args);
+    }
+
+    public java.util.List<java.lang.Long> recv_allocateTransactionIds() throws com.netease.arctic.ams.api.NoSuchObjectException, com.netease.arctic.ams.api.MetaException, org.apache.thrift.TException
+    {
+      allocateTransactionIds_result result = new allocateTransactionIds_result();
+      receiveBase(result, "allocateTransactionIds");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e1 != null) {
+        throw result.e1;
+      }
+      if (result.e2 != null) {
+        throw result.e2;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "allocateTransactionIds failed: unknown result");
+    }
+
+    public TableCommitEvent waitTableCommit(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, long changeSnapshotId, long baseSnapshotId, long waitTime) throws com.netease.arctic.ams.api.NoSuchObjectException, com.netease.arctic.ams.api.MetaException, org.apache.thrift.TException
+    {
+      send_waitTableCommit(tableIdentifier, changeSnapshotId, baseSnapshotId, waitTime);
+      return recv_waitTableCommit();
+    }
+
+    public void send_waitTableCommit(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, long changeSnapshotId, long baseSnapshotId, long waitTime) throws org.apache.thrift.TException
+    {
+      waitTableCommit_args args = new waitTableCommit_args();
+      args.setTableIdentifier(tableIdentifier);
+      args.setChangeSnapshotId(changeSnapshotId);
+      args.setBaseSnapshotId(baseSnapshotId);
+      args.setWaitTime(waitTime);
+      sendBase("waitTableCommit", args);
+    }
+
+    public TableCommitEvent recv_waitTableCommit() throws com.netease.arctic.ams.api.NoSuchObjectException, com.netease.arctic.ams.api.MetaException, org.apache.thrift.TException
+    {
+      waitTableCommit_result result = new waitTableCommit_result();
+      receiveBase(result, "waitTableCommit");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e1 != null) {
+        throw result.e1;
+      }
+      if (result.e2 != null) {
+        throw result.e2;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "waitTableCommit failed: unknown result");
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -702,6 +832,38 @@ public class ArcticTableMetastore {
       }
     }
 
+    public void getTables(java.util.List<com.netease.arctic.ams.api.TableIdentifier> tableIdentifiers, org.apache.thrift.async.AsyncMethodCallback<java.util.List<TableMeta>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getTables_call method_call = new getTables_call(tableIdentifiers, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getTables_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<TableMeta>> {
+      private java.util.List<com.netease.arctic.ams.api.TableIdentifier> tableIdentifiers;
+      public getTables_call(java.util.List<com.netease.arctic.ams.api.TableIdentifier> tableIdentifiers, org.apache.thrift.async.AsyncMethodCallback<java.util.List<TableMeta>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.tableIdentifiers = tableIdentifiers;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getTables", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getTables_args args = new getTables_args();
+        args.setTableIdentifiers(tableIdentifiers);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.util.List<TableMeta> getResult() throws com.netease.arctic.ams.api.NoSuchObjectException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getTables();
+      }
+    }
+
     public void removeTable(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, boolean deleteData, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       removeTable_call method_call = new removeTable_call(tableIdentifier, deleteData, resultHandler, this, ___protocolFactory, ___transport);
@@ -769,6 +931,38 @@ public class ArcticTableMetastore {
       }
     }
 
+    public void tableCommits(java.util.List<TableCommitMeta> commits, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      tableCommits_call method_call = new tableCommits_call(commits, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class tableCommits_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private java.util.List<TableCommitMeta> commits;
+      public tableCommits_call(java.util.List<TableCommitMeta> commits, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.commits = commits;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("tableCommits", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        tableCommits_args args = new tableCommits_args();
+        args.setCommits(commits);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws com.netease.arctic.ams.api.MetaException, com.netease.arctic.ams.api.NoSuchObjectException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
     public void allocateTransactionId(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, java.lang.String transactionSignature, org.apache.thrift.async.AsyncMethodCallback<java.lang.Long> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       allocateTransactionId_call method_call = new allocateTransactionId_call(tableIdentifier, transactionSignature, resultHandler, this, ___protocolFactory, ___transport);
@@ -804,6 +998,82 @@ public class ArcticTableMetastore {
       }
     }
 
+    public void allocateTransactionIds(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, int count, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Long>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      allocateTransactionIds_call method_call = new allocateTransactionIds_call(tableIdentifier, count, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class allocateTransactionIds_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<java.lang.Long>> {
+      private com.netease.arctic.ams.api.TableIdentifier tableIdentifier;
+      private int count;
+      public allocateTransactionIds_call(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, int count, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Long>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.tableIdentifier = tableIdentifier;
+        this.count = count;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("allocateTransactionIds", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        allocateTransactionIds_args args = new allocateTransactionIds_args();
+        args.setTableIdentifier(tableIdentifier);
+        args.setCount(count);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.util.List<java.lang.Long> getResult() throws com.netease.arctic.ams.api.NoSuchObjectException, com.netease.arctic.ams.api.MetaException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_allocateTransactionIds();
+      }
+    }
+
+    public void waitTableCommit(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, long changeSnapshotId, long baseSnapshotId, long waitTime, org.apache.thrift.async.AsyncMethodCallback<TableCommitEvent> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      waitTableCommit_call method_call = new waitTableCommit_call(tableIdentifier, changeSnapshotId, baseSnapshotId, waitTime, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class waitTableCommit_call extends org.apache.thrift.async.TAsyncMethodCall<TableCommitEvent> {
+      private com.netease.arctic.ams.api.TableIdentifier tableIdentifier;
+      private long changeSnapshotId;
+      private long baseSnapshotId;
+      private long waitTime;
+      public waitTableCommit_call(com.netease.arctic.ams.api.TableIdentifier tableIdentifier, long changeSnapshotId, long baseSnapshotId, long waitTime, org.apache.thrift.async.AsyncMethodCallback<TableCommitEvent> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.tableIdentifier = tableIdentifier;
+        this.changeSnapshotId = changeSnapshotId;
+        this.baseSnapshotId = baseSnapshotId;
+        this.waitTime = waitTime;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("waitTableCommit", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        waitTableCommit_args args = new waitTableCommit_args();
+        args.setTableIdentifier(tableIdentifier);
+        args.setChangeSnapshotId(changeSnapshotId);
+        args.setBaseSnapshotId(baseSnapshotId);
+        args.setWaitTime(waitTime);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public TableCommitEvent getResult() throws com.netease.arctic.ams.api.NoSuchObjectException, com.netease.arctic.ams.api.MetaException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_waitTableCommit();
+      }
+    }
+
   }
 
   public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
@@ -826,9 +1096,13 @@ public class ArcticTableMetastore {
       processMap.put("createTableMeta", new createTableMeta());
       processMap.put("listTables", new listTables());
       processMap.put("getTable", new getTable());
+      processMap.put("getTables", new getTables());
       processMap.put("removeTable", new removeTable());
       processMap.put("tableCommit", new tableCommit());
+      processMap.put("tableCommits", new tableCommits());
       processMap.put("allocateTransactionId", new allocateTransactionId());
+      processMap.put("allocateTransactionIds", new allocateTransactionIds());
+      processMap.put("waitTableCommit", new waitTableCommit());
       return processMap;
     }
 
@@ -1093,6 +1367,35 @@ public class ArcticTableMetastore {
       }
     }
 
+    public static class getTables<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getTables_args> {
+      public getTables() {
+        super("getTables");
+      }
+
+      public getTables_args getEmptyArgsInstance() {
+        return new getTables_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public getTables_result getResult(I iface, getTables_args args) throws org.apache.thrift.TException {
+        getTables_result result = new getTables_result();
+        try {
+          result.success = iface.getTables(args.tableIdentifiers);
+        } catch (com.netease.arctic.ams.api.NoSuchObjectException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class removeTable<I extends Iface> extends org.apache.thrift.ProcessFunction<I, removeTable_args> {
       public removeTable() {
         super("removeTable");
@@ -1153,6 +1456,37 @@ public class ArcticTableMetastore {
       }
     }
 
+    public static class tableCommits<I extends Iface> extends org.apache.thrift.ProcessFunction<I, tableCommits_args> {
+      public tableCommits() {
+        super("tableCommits");
+      }
+
+      public tableCommits_args getEmptyArgsInstance() {
+        return new tableCommits_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public tableCommits_result getResult(I iface, tableCommits_args args) throws org.apache.thrift.TException {
+        tableCommits_result result = new tableCommits_result();
+        try {
+          iface.tableCommits(args.commits);
+        } catch (com.netease.arctic.ams.api.MetaException e1) {
+          result.e1 = e1;
+        } catch (com.netease.arctic.ams.api.NoSuchObjectException e2) {
+          result.e2 = e2;
+        }
+        return result;
+      }
+    }
+
     public static class allocateTransactionId<I extends Iface> extends org.apache.thrift.ProcessFunction<I, allocateTransactionId_args> {
       public allocateTransactionId() {
         super("allocateTransactionId");
@@ -1179,37 +1513,103 @@ public class ArcticTableMetastore {
       }
     }
 
-  }
+    public static class allocateTransactionIds<I extends Iface> extends org.apache.thrift.ProcessFunction<I, allocateTransactionIds_args> {
+      public allocateTransactionIds() {
+        super("allocateTransactionIds");
+      }
 
-  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
-    private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger(AsyncProcessor.class.getName());
-    public AsyncProcessor(I iface) {
-      super(iface, getProcessMap(new java.util.HashMap<java.lang.String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>()));
-    }
+      public allocateTransactionIds_args getEmptyArgsInstance() {
+        return new allocateTransactionIds_args();
+      }
 
-    protected AsyncProcessor(I iface, java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
-      super(iface, getProcessMap(processMap));
-    }
+      protected boolean isOneway() {
+        return false;
+      }
 
-    private static <I extends AsyncIface> java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
-      processMap.put("ping", new ping());
-      processMap.put("getCatalogs", new getCatalogs());
-      processMap.put("getCatalog", new getCatalog());
-      processMap.put("getDatabases", new getDatabases());
-      processMap.put("createDatabase", new createDatabase());
-      processMap.put("dropDatabase", new dropDatabase());
-      processMap.put("createTableMeta", new createTableMeta());
-      processMap.put("listTables", new listTables());
-      processMap.put("getTable", new getTable());
-      processMap.put("removeTable", new removeTable());
-      processMap.put("tableCommit", new tableCommit());
-      processMap.put("allocateTransactionId", new allocateTransactionId());
-      return processMap;
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public allocateTransactionIds_result getResult(I iface, allocateTransactionIds_args args) throws org.apache.thrift.TException {
+        allocateTransactionIds_result result = new allocateTransactionIds_result();
+        try {
+          result.success = iface.allocateTransactionIds(args.tableIdentifier, args.count);
+        } catch (com.netease.arctic.ams.api.NoSuchObjectException e1) {
+          result.e1 = e1;
+        } catch (com.netease.arctic.ams.api.MetaException e2) {
+          result.e2 = e2;
+        }
+        return result;
+      }
     }
 
-    public static class ping<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, ping_args, Void> {
-      public ping() {
-        super("ping");
+    public static class waitTableCommit<I extends Iface> extends org.apache.thrift.ProcessFunction<I, waitTableCommit_args> {
+      public waitTableCommit() {
+        super("waitTableCommit");
+      }
+
+      public waitTableCommit_args getEmptyArgsInstance() {
+        return new waitTableCommit_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public waitTableCommit_result getResult(I iface, waitTableCommit_args args) throws org.apache.thrift.TException {
+        waitTableCommit_result result = new waitTableCommit_result();
+        try {
+          result.success = iface.waitTableCommit(args.tableIdentifier, args.changeSnapshotId, args.baseSnapshotId, args.waitTime);
+        } catch (com.netease.arctic.ams.api.NoSuchObjectException e1) {
+          result.e1 = e1;
+        } catch (com.netease.arctic.ams.api.MetaException e2) {
+          result.e2 = e2;
+        }
+        return result;
+      }
+    }
+
+  }
+
+  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
+    private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger(AsyncProcessor.class.getName());
+    public AsyncProcessor(I iface) {
+      super(iface, getProcessMap(new java.util.HashMap<java.lang.String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>()));
+    }
+
+    protected AsyncProcessor(I iface, java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      super(iface, getProcessMap(processMap));
+    }
+
+    private static <I extends AsyncIface> java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      processMap.put("ping", new ping());
+      processMap.put("getCatalogs", new getCatalogs());
+      processMap.put("getCatalog", new getCatalog());
+      processMap.put("getDatabases", new getDatabases());
+      processMap.put("createDatabase", new createDatabase());
+      processMap.put("dropDatabase", new dropDatabase());
+      processMap.put("createTableMeta", new createTableMeta());
+      processMap.put("listTables", new listTables());
+      processMap.put("getTable", new getTable());
+      processMap.put("getTables", new getTables());
+      processMap.put("removeTable", new removeTable());
+      processMap.put("tableCommit", new tableCommit());
+      processMap.put("tableCommits", new tableCommits());
+      processMap.put("allocateTransactionId", new allocateTransactionId());
+      processMap.put("allocateTransactionIds", new allocateTransactionIds());
+      processMap.put("waitTableCommit", new waitTableCommit());
+      return processMap;
+    }
+
+    public static class ping<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, ping_args, Void> {
+      public ping() {
+        super("ping");
       }
 
       public ping_args getEmptyArgsInstance() {
@@ -1796,6 +2196,71 @@ public class ArcticTableMetastore {
       }
     }
 
+    public static class getTables<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getTables_args, java.util.List<TableMeta>> {
+      public getTables() {
+        super("getTables");
+      }
+
+      public getTables_args getEmptyArgsInstance() {
+        return new getTables_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<TableMeta>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<TableMeta>>() { 
+          public void onComplete(java.util.List<TableMeta> o) {
+            getTables_result result = new getTables_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getTables_result result = new getTables_result();
+            if (e instanceof com.netease.arctic.ams.api.NoSuchObjectException) {
+              result.e = (com.netease.arctic.ams.api.NoSuchObjectException) e;
+              result.setEIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getTables_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<TableMeta>> resultHandler) throws org.apache.thrift.TException {
+        iface.getTables(args.tableIdentifiers,resultHandler);
+      }
+    }
+
     public static class removeTable<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeTable_args, Void> {
       public removeTable() {
         super("removeTable");
@@ -1928,6 +2393,74 @@ public class ArcticTableMetastore {
       }
     }
 
+    public static class tableCommits<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, tableCommits_args, Void> {
+      public tableCommits() {
+        super("tableCommits");
+      }
+
+      public tableCommits_args getEmptyArgsInstance() {
+        return new tableCommits_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            tableCommits_result result = new tableCommits_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            tableCommits_result result = new tableCommits_result();
+            if (e instanceof com.netease.arctic.ams.api.MetaException) {
+              result.e1 = (com.netease.arctic.ams.api.MetaException) e;
+              result.setE1IsSet(true);
+              msg = result;
+            } else if (e instanceof com.netease.arctic.ams.api.NoSuchObjectException) {
+              result.e2 = (com.netease.arctic.ams.api.NoSuchObjectException) e;
+              result.setE2IsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, tableCommits_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.tableCommits(args.commits,resultHandler);
+      }
+    }
+
     public static class allocateTransactionId<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, allocateTransactionId_args, java.lang.Long> {
       public allocateTransactionId() {
         super("allocateTransactionId");
@@ -1990,54 +2523,192 @@ public class ArcticTableMetastore {
       }
     }
 
-  }
-
-  public static class ping_args implements org.apache.thrift.TBase<ping_args, ping_args._Fields>, java.io.Serializable, Cloneable, Comparable<ping_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("ping_args");
-
-
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new ping_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new ping_argsTupleSchemeFactory();
+    public static class allocateTransactionIds<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, allocateTransactionIds_args, java.util.List<java.lang.Long>> {
+      public allocateTransactionIds() {
+        super("allocateTransactionIds");
+      }
 
+      public allocateTransactionIds_args getEmptyArgsInstance() {
+        return new allocateTransactionIds_args();
+      }
 
-    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
-    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Long>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Long>>() { 
+          public void onComplete(java.util.List<java.lang.Long> o) {
+            allocateTransactionIds_result result = new allocateTransactionIds_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            allocateTransactionIds_result result = new allocateTransactionIds_result();
+            if (e instanceof com.netease.arctic.ams.api.NoSuchObjectException) {
+              result.e1 = (com.netease.arctic.ams.api.NoSuchObjectException) e;
+              result.setE1IsSet(true);
+              msg = result;
+            } else if (e instanceof com.netease.arctic.ams.api.MetaException) {
+              result.e2 = (com.netease.arctic.ams.api.MetaException) e;
+              result.setE2IsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
 
-      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+      protected boolean isOneway() {
+        return false;
+      }
 
-      static {
-        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
-          byName.put(field.getFieldName(), field);
-        }
+      public void start(I iface, allocateTransactionIds_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.Long>> resultHandler) throws org.apache.thrift.TException {
+        iface.allocateTransactionIds(args.tableIdentifier, args.count,resultHandler);
       }
+    }
 
-      /**
-       * Find the _Fields constant that matches fieldId, or null if its not found.
-       */
-      @org.apache.thrift.annotation.Nullable
-      public static _Fields findByThriftId(int fieldId) {
-        switch(fieldId) {
-          default:
-            return null;
-        }
+    public static class waitTableCommit<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, waitTableCommit_args, TableCommitEvent> {
+      public waitTableCommit() {
+        super("waitTableCommit");
       }
 
-      /**
-       * Find the _Fields constant that matches fieldId, throwing an exception
-       * if it is not found.
-       */
-      public static _Fields findByThriftIdOrThrow(int fieldId) {
-        _Fields fields = findByThriftId(fieldId);
-        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
-        return fields;
+      public waitTableCommit_args getEmptyArgsInstance() {
+        return new waitTableCommit_args();
       }
 
-      /**
-       * Find the _Fields constant that matches name, or null if its not found.
-       */
-      @org.apache.thrift.annotation.Nullable
-      public static _Fields findByName(java.lang.String name) {
+      public org.apache.thrift.async.AsyncMethodCallback<TableCommitEvent> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<TableCommitEvent>() { 
+          public void onComplete(TableCommitEvent o) {
+            waitTableCommit_result result = new waitTableCommit_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            waitTableCommit_result result = new waitTableCommit_result();
+            if (e instanceof com.netease.arctic.ams.api.NoSuchObjectException) {
+              result.e1 = (com.netease.arctic.ams.api.NoSuchObjectException) e;
+              result.setE1IsSet(true);
+              msg = result;
+            } else if (e instanceof com.netease.arctic.ams.api.MetaException) {
+              result.e2 = (com.netease.arctic.ams.api.MetaException) e;
+              result.setE2IsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, waitTableCommit_args args, org.apache.thrift.async.AsyncMethodCallback<TableCommitEvent> resultHandler) throws org.apache.thrift.TException {
+        iface.waitTableCommit(args.tableIdentifier, args.changeSnapshotId, args.baseSnapshotId, args.waitTime,resultHandler);
+      }
+    }
+
+  }
+
+  public static class ping_args implements org.apache.thrift.TBase<ping_args, ping_args._Fields>, java.io.Serializable, Cloneable, Comparable<ping_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("ping_args");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new ping_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new ping_argsTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
         return byName.get(name);
       }
 
@@ -9616,22 +10287,19 @@ public class ArcticTableMetastore {
     }
   }
 
-  public static class removeTable_args implements org.apache.thrift.TBase<removeTable_args, removeTable_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeTable_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeTable_args");
+  public static class getTables_args implements org.apache.thrift.TBase<getTables_args, getTables_args._Fields>, java.io.Serializable, Cloneable, Comparable<getTables_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTables_args");
 
-    private static final org.apache.thrift.protocol.TField TABLE_IDENTIFIER_FIELD_DESC = new org.apache.thrift.protocol.TField("tableIdentifier", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField DELETE_DATA_FIELD_DESC = new org.apache.thrift.protocol.TField("deleteData", org.apache.thrift.protocol.TType.BOOL, (short)2);
+    private static final org.apache.thrift.protocol.TField TABLE_IDENTIFIERS_FIELD_DESC = new org.apache.thrift.protocol.TField("tableIdentifiers", org.apache.thrift.protocol.TType.LIST, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeTable_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeTable_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getTables_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getTables_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.TableIdentifier tableIdentifier; // required
-    public boolean deleteData; // required
+    public @org.apache.thrift.annotation.Nullable java.util.List<com.netease.arctic.ams.api.TableIdentifier> tableIdentifiers; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      TABLE_IDENTIFIER((short)1, "tableIdentifier"),
-      DELETE_DATA((short)2, "deleteData");
+      TABLE_IDENTIFIERS((short)1, "tableIdentifiers");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -9647,10 +10315,8 @@ public class ArcticTableMetastore {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // TABLE_IDENTIFIER
-            return TABLE_IDENTIFIER;
-          case 2: // DELETE_DATA
-            return DELETE_DATA;
+          case 1: // TABLE_IDENTIFIERS
+            return TABLE_IDENTIFIERS;
           default:
             return null;
         }
@@ -9692,117 +10358,96 @@ public class ArcticTableMetastore {
     }
 
     // isset id assignments
-    private static final int __DELETEDATA_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.TABLE_IDENTIFIER, new org.apache.thrift.meta_data.FieldMetaData("tableIdentifier", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.netease.arctic.ams.api.TableIdentifier.class)));
-      tmpMap.put(_Fields.DELETE_DATA, new org.apache.thrift.meta_data.FieldMetaData("deleteData", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.TABLE_IDENTIFIERS, new org.apache.thrift.meta_data.FieldMetaData("tableIdentifiers", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.netease.arctic.ams.api.TableIdentifier.class))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeTable_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTables_args.class, metaDataMap);
     }
 
-    public removeTable_args() {
+    public getTables_args() {
     }
 
-    public removeTable_args(
-      com.netease.arctic.ams.api.TableIdentifier tableIdentifier,
-      boolean deleteData)
+    public getTables_args(
+      java.util.List<com.netease.arctic.ams.api.TableIdentifier> tableIdentifiers)
     {
       this();
-      this.tableIdentifier = tableIdentifier;
-      this.deleteData = deleteData;
-      setDeleteDataIsSet(true);
+      this.tableIdentifiers = tableIdentifiers;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public removeTable_args(removeTable_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      if (other.isSetTableIdentifier()) {
-        this.tableIdentifier = new com.netease.arctic.ams.api.TableIdentifier(other.tableIdentifier);
+    public getTables_args(getTables_args other) {
+      if (other.isSetTableIdentifiers()) {
+        java.util.List<com.netease.arctic.ams.api.TableIdentifier> __this__tableIdentifiers = new java.util.ArrayList<com.netease.arctic.ams.api.TableIdentifier>(other.tableIdentifiers.size());
+        for (com.netease.arctic.ams.api.TableIdentifier other_element : other.tableIdentifiers) {
+          __this__tableIdentifiers.add(new com.netease.arctic.ams.api.TableIdentifier(other_element));
+        }
+        this.tableIdentifiers = __this__tableIdentifiers;
       }
-      this.deleteData = other.deleteData;
     }
 
-    public removeTable_args deepCopy() {
-      return new removeTable_args(this);
+    public getTables_args deepCopy() {
+      return new getTables_args(this);
     }
 
     @Override
     public void clear() {
-      this.tableIdentifier = null;
-      setDeleteDataIsSet(false);
-      this.deleteData = false;
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public com.netease.arctic.ams.api.TableIdentifier getTableIdentifier() {
-      return this.tableIdentifier;
-    }
-
-    public removeTable_args setTableIdentifier(@org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.TableIdentifier tableIdentifier) {
-      this.tableIdentifier = tableIdentifier;
-      return this;
+      this.tableIdentifiers = null;
     }
 
-    public void unsetTableIdentifier() {
-      this.tableIdentifier = null;
+    public int getTableIdentifiersSize() {
+      return (this.tableIdentifiers == null) ? 0 : this.tableIdentifiers.size();
     }
 
-    /** Returns true if field tableIdentifier is set (has been assigned a value) and false otherwise */
-    public boolean isSetTableIdentifier() {
-      return this.tableIdentifier != null;
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<com.netease.arctic.ams.api.TableIdentifier> getTableIdentifiersIterator() {
+      return (this.tableIdentifiers == null) ? null : this.tableIdentifiers.iterator();
     }
 
-    public void setTableIdentifierIsSet(boolean value) {
-      if (!value) {
-        this.tableIdentifier = null;
+    public void addToTableIdentifiers(com.netease.arctic.ams.api.TableIdentifier elem) {
+      if (this.tableIdentifiers == null) {
+        this.tableIdentifiers = new java.util.ArrayList<com.netease.arctic.ams.api.TableIdentifier>();
       }
+      this.tableIdentifiers.add(elem);
     }
 
-    public boolean isDeleteData() {
-      return this.deleteData;
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<com.netease.arctic.ams.api.TableIdentifier> getTableIdentifiers() {
+      return this.tableIdentifiers;
     }
 
-    public removeTable_args setDeleteData(boolean deleteData) {
-      this.deleteData = deleteData;
-      setDeleteDataIsSet(true);
+    public getTables_args setTableIdentifiers(@org.apache.thrift.annotation.Nullable java.util.List<com.netease.arctic.ams.api.TableIdentifier> tableIdentifiers) {
+      this.tableIdentifiers = tableIdentifiers;
       return this;
     }
 
-    public void unsetDeleteData() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __DELETEDATA_ISSET_ID);
+    public void unsetTableIdentifiers() {
+      this.tableIdentifiers = null;
     }
 
-    /** Returns true if field deleteData is set (has been assigned a value) and false otherwise */
-    public boolean isSetDeleteData() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __DELETEDATA_ISSET_ID);
+    /** Returns true if field tableIdentifiers is set (has been assigned a value) and false otherwise */
+    public boolean isSetTableIdentifiers() {
+      return this.tableIdentifiers != null;
     }
 
-    public void setDeleteDataIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __DELETEDATA_ISSET_ID, value);
+    public void setTableIdentifiersIsSet(boolean value) {
+      if (!value) {
+        this.tableIdentifiers = null;
+      }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case TABLE_IDENTIFIER:
+      case TABLE_IDENTIFIERS:
         if (value == null) {
-          unsetTableIdentifier();
-        } else {
-          setTableIdentifier((com.netease.arctic.ams.api.TableIdentifier)value);
-        }
-        break;
-
-      case DELETE_DATA:
-        if (value == null) {
-          unsetDeleteData();
+          unsetTableIdentifiers();
         } else {
-          setDeleteData((java.lang.Boolean)value);
+          setTableIdentifiers((java.util.List<com.netease.arctic.ams.api.TableIdentifier>)value);
         }
         break;
 
@@ -9812,11 +10457,8 @@ public class ArcticTableMetastore {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case TABLE_IDENTIFIER:
-        return getTableIdentifier();
-
-      case DELETE_DATA:
-        return isDeleteData();
+      case TABLE_IDENTIFIERS:
+        return getTableIdentifiers();
 
       }
       throw new java.lang.IllegalStateException();
@@ -9829,10 +10471,8 @@ public class ArcticTableMetastore {
       }
 
       switch (field) {
-      case TABLE_IDENTIFIER:
-        return isSetTableIdentifier();
-      case DELETE_DATA:
-        return isSetDeleteData();
+      case TABLE_IDENTIFIERS:
+        return isSetTableIdentifiers();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -9841,32 +10481,23 @@ public class ArcticTableMetastore {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof removeTable_args)
-        return this.equals((removeTable_args)that);
+      if (that instanceof getTables_args)
+        return this.equals((getTables_args)that);
       return false;
     }
 
-    public boolean equals(removeTable_args that) {
+    public boolean equals(getTables_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_tableIdentifier = true && this.isSetTableIdentifier();
-      boolean that_present_tableIdentifier = true && that.isSetTableIdentifier();
-      if (this_present_tableIdentifier || that_present_tableIdentifier) {
-        if (!(this_present_tableIdentifier && that_present_tableIdentifier))
-          return false;
-        if (!this.tableIdentifier.equals(that.tableIdentifier))
-          return false;
-      }
-
-      boolean this_present_deleteData = true;
-      boolean that_present_deleteData = true;
-      if (this_present_deleteData || that_present_deleteData) {
-        if (!(this_present_deleteData && that_present_deleteData))
+      boolean this_present_tableIdentifiers = true && this.isSetTableIdentifiers();
+      boolean that_present_tableIdentifiers = true && that.isSetTableIdentifiers();
+      if (this_present_tableIdentifiers || that_present_tableIdentifiers) {
+        if (!(this_present_tableIdentifiers && that_present_tableIdentifiers))
           return false;
-        if (this.deleteData != that.deleteData)
+        if (!this.tableIdentifiers.equals(that.tableIdentifiers))
           return false;
       }
 
@@ -9877,39 +10508,27 @@ public class ArcticTableMetastore {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetTableIdentifier()) ? 131071 : 524287);
-      if (isSetTableIdentifier())
-        hashCode = hashCode * 8191 + tableIdentifier.hashCode();
-
-      hashCode = hashCode * 8191 + ((deleteData) ? 131071 : 524287);
+      hashCode = hashCode * 8191 + ((isSetTableIdentifiers()) ? 131071 : 524287);
+      if (isSetTableIdentifiers())
+        hashCode = hashCode * 8191 + tableIdentifiers.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(removeTable_args other) {
+    public int compareTo(getTables_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetTableIdentifier()).compareTo(other.isSetTableIdentifier());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetTableIdentifier()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tableIdentifier, other.tableIdentifier);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.valueOf(isSetDeleteData()).compareTo(other.isSetDeleteData());
+      lastComparison = java.lang.Boolean.valueOf(isSetTableIdentifiers()).compareTo(other.isSetTableIdentifiers());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetDeleteData()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.deleteData, other.deleteData);
+      if (isSetTableIdentifiers()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tableIdentifiers, other.tableIdentifiers);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -9932,20 +10551,16 @@ public class ArcticTableMetastore {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeTable_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getTables_args(");
       boolean first = true;
 
-      sb.append("tableIdentifier:");
-      if (this.tableIdentifier == null) {
+      sb.append("tableIdentifiers:");
+      if (this.tableIdentifiers == null) {
         sb.append("null");
       } else {
-        sb.append(this.tableIdentifier);
+        sb.append(this.tableIdentifiers);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("deleteData:");
-      sb.append(this.deleteData);
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -9953,9 +10568,6 @@ public class ArcticTableMetastore {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (tableIdentifier != null) {
-        tableIdentifier.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -9968,23 +10580,21 @@ public class ArcticTableMetastore {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class removeTable_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeTable_argsStandardScheme getScheme() {
-        return new removeTable_argsStandardScheme();
+    private static class getTables_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getTables_argsStandardScheme getScheme() {
+        return new getTables_argsStandardScheme();
       }
     }
 
-    private static class removeTable_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeTable_args> {
+    private static class getTables_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getTables_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, removeTable_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getTables_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9994,19 +10604,21 @@ public class ArcticTableMetastore {
             break;
           }
           switch (schemeField.id) {
-            case 1: // TABLE_IDENTIFIER
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.tableIdentifier = new com.netease.arctic.ams.api.TableIdentifier();
-                struct.tableIdentifier.read(iprot);
-                struct.setTableIdentifierIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // DELETE_DATA
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.deleteData = iprot.readBool();
-                struct.setDeleteDataIsSet(true);
+            case 1: // TABLE_IDENTIFIERS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list142 = iprot.readListBegin();
+                  struct.tableIdentifiers = new java.util.ArrayList<com.netease.arctic.ams.api.TableIdentifier>(_list142.size);
+                  @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.TableIdentifier _elem143;
+                  for (int _i144 = 0; _i144 < _list142.size; ++_i144)
+                  {
+                    _elem143 = new com.netease.arctic.ams.api.TableIdentifier();
+                    _elem143.read(iprot);
+                    struct.tableIdentifiers.add(_elem143);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setTableIdentifiersIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -10022,63 +10634,72 @@ public class ArcticTableMetastore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, removeTable_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getTables_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.tableIdentifier != null) {
-          oprot.writeFieldBegin(TABLE_IDENTIFIER_FIELD_DESC);
-          struct.tableIdentifier.write(oprot);
+        if (struct.tableIdentifiers != null) {
+          oprot.writeFieldBegin(TABLE_IDENTIFIERS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.tableIdentifiers.size()));
+            for (com.netease.arctic.ams.api.TableIdentifier _iter145 : struct.tableIdentifiers)
+            {
+              _iter145.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
-        oprot.writeFieldBegin(DELETE_DATA_FIELD_DESC);
-        oprot.writeBool(struct.deleteData);
-        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class removeTable_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeTable_argsTupleScheme getScheme() {
-        return new removeTable_argsTupleScheme();
+    private static class getTables_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getTables_argsTupleScheme getScheme() {
+        return new getTables_argsTupleScheme();
       }
     }
 
-    private static class removeTable_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeTable_args> {
+    private static class getTables_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getTables_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, removeTable_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getTables_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetTableIdentifier()) {
+        if (struct.isSetTableIdentifiers()) {
           optionals.set(0);
         }
-        if (struct.isSetDeleteData()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetTableIdentifier()) {
-          struct.tableIdentifier.write(oprot);
-        }
-        if (struct.isSetDeleteData()) {
-          oprot.writeBool(struct.deleteData);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetTableIdentifiers()) {
+          {
+            oprot.writeI32(struct.tableIdentifiers.size());
+            for (com.netease.arctic.ams.api.TableIdentifier _iter146 : struct.tableIdentifiers)
+            {
+              _iter146.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, removeTable_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getTables_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
+        java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.tableIdentifier = new com.netease.arctic.ams.api.TableIdentifier();
-          struct.tableIdentifier.read(iprot);
-          struct.setTableIdentifierIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.deleteData = iprot.readBool();
-          struct.setDeleteDataIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list147 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.tableIdentifiers = new java.util.ArrayList<com.netease.arctic.ams.api.TableIdentifier>(_list147.size);
+            @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.TableIdentifier _elem148;
+            for (int _i149 = 0; _i149 < _list147.size; ++_i149)
+            {
+              _elem148 = new com.netease.arctic.ams.api.TableIdentifier();
+              _elem148.read(iprot);
+              struct.tableIdentifiers.add(_elem148);
+            }
+          }
+          struct.setTableIdentifiersIsSet(true);
         }
       }
     }
@@ -10088,22 +10709,22 @@ public class ArcticTableMetastore {
     }
   }
 
-  public static class removeTable_result implements org.apache.thrift.TBase<removeTable_result, removeTable_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeTable_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeTable_result");
+  public static class getTables_result implements org.apache.thrift.TBase<getTables_result, getTables_result._Fields>, java.io.Serializable, Cloneable, Comparable<getTables_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTables_result");
 
-    private static final org.apache.thrift.protocol.TField E1_FIELD_DESC = new org.apache.thrift.protocol.TField("e1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField E2_FIELD_DESC = new org.apache.thrift.protocol.TField("e2", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeTable_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeTable_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getTables_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getTables_resultTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.NoSuchObjectException e1; // required
-    public @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.MetaException e2; // required
+    public @org.apache.thrift.annotation.Nullable java.util.List<TableMeta> success; // required
+    public @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.NoSuchObjectException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      E1((short)1, "e1"),
-      E2((short)2, "e2");
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -10119,10 +10740,10 @@ public class ArcticTableMetastore {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // E1
-            return E1;
-          case 2: // E2
-            return E2;
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
           default:
             return null;
         }
@@ -10167,113 +10788,134 @@ public class ArcticTableMetastore {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.E1, new org.apache.thrift.meta_data.FieldMetaData("e1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TableMeta.class))));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.netease.arctic.ams.api.NoSuchObjectException.class)));
-      tmpMap.put(_Fields.E2, new org.apache.thrift.meta_data.FieldMetaData("e2", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.netease.arctic.ams.api.MetaException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeTable_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTables_result.class, metaDataMap);
     }
 
-    public removeTable_result() {
+    public getTables_result() {
     }
 
-    public removeTable_result(
-      com.netease.arctic.ams.api.NoSuchObjectException e1,
-      com.netease.arctic.ams.api.MetaException e2)
+    public getTables_result(
+      java.util.List<TableMeta> success,
+      com.netease.arctic.ams.api.NoSuchObjectException e)
     {
       this();
-      this.e1 = e1;
-      this.e2 = e2;
+      this.success = success;
+      this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public removeTable_result(removeTable_result other) {
-      if (other.isSetE1()) {
-        this.e1 = new com.netease.arctic.ams.api.NoSuchObjectException(other.e1);
+    public getTables_result(getTables_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<TableMeta> __this__success = new java.util.ArrayList<TableMeta>(other.success.size());
+        for (TableMeta other_element : other.success) {
+          __this__success.add(new TableMeta(other_element));
+        }
+        this.success = __this__success;
       }
-      if (other.isSetE2()) {
-        this.e2 = new com.netease.arctic.ams.api.MetaException(other.e2);
+      if (other.isSetE()) {
+        this.e = new com.netease.arctic.ams.api.NoSuchObjectException(other.e);
       }
     }
 
-    public removeTable_result deepCopy() {
-      return new removeTable_result(this);
+    public getTables_result deepCopy() {
+      return new getTables_result(this);
     }
 
     @Override
     public void clear() {
-      this.e1 = null;
-      this.e2 = null;
+      this.success = null;
+      this.e = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
     }
 
     @org.apache.thrift.annotation.Nullable
-    public com.netease.arctic.ams.api.NoSuchObjectException getE1() {
-      return this.e1;
+    public java.util.Iterator<TableMeta> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
     }
 
-    public removeTable_result setE1(@org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.NoSuchObjectException e1) {
-      this.e1 = e1;
+    public void addToSuccess(TableMeta elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<TableMeta>();
+      }
+      this.success.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<TableMeta> getSuccess() {
+      return this.success;
+    }
+
+    public getTables_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<TableMeta> success) {
+      this.success = success;
       return this;
     }
 
-    public void unsetE1() {
-      this.e1 = null;
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    /** Returns true if field e1 is set (has been assigned a value) and false otherwise */
-    public boolean isSetE1() {
-      return this.e1 != null;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    public void setE1IsSet(boolean value) {
+    public void setSuccessIsSet(boolean value) {
       if (!value) {
-        this.e1 = null;
+        this.success = null;
       }
     }
 
     @org.apache.thrift.annotation.Nullable
-    public com.netease.arctic.ams.api.MetaException getE2() {
-      return this.e2;
+    public com.netease.arctic.ams.api.NoSuchObjectException getE() {
+      return this.e;
     }
 
-    public removeTable_result setE2(@org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.MetaException e2) {
-      this.e2 = e2;
+    public getTables_result setE(@org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.NoSuchObjectException e) {
+      this.e = e;
       return this;
     }
 
-    public void unsetE2() {
-      this.e2 = null;
+    public void unsetE() {
+      this.e = null;
     }
 
-    /** Returns true if field e2 is set (has been assigned a value) and false otherwise */
-    public boolean isSetE2() {
-      return this.e2 != null;
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
     }
 
-    public void setE2IsSet(boolean value) {
+    public void setEIsSet(boolean value) {
       if (!value) {
-        this.e2 = null;
+        this.e = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case E1:
+      case SUCCESS:
         if (value == null) {
-          unsetE1();
+          unsetSuccess();
         } else {
-          setE1((com.netease.arctic.ams.api.NoSuchObjectException)value);
+          setSuccess((java.util.List<TableMeta>)value);
         }
         break;
 
-      case E2:
+      case E:
         if (value == null) {
-          unsetE2();
+          unsetE();
         } else {
-          setE2((com.netease.arctic.ams.api.MetaException)value);
+          setE((com.netease.arctic.ams.api.NoSuchObjectException)value);
         }
         break;
 
@@ -10283,11 +10925,11 @@ public class ArcticTableMetastore {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case E1:
-        return getE1();
+      case SUCCESS:
+        return getSuccess();
 
-      case E2:
-        return getE2();
+      case E:
+        return getE();
 
       }
       throw new java.lang.IllegalStateException();
@@ -10300,10 +10942,10 @@ public class ArcticTableMetastore {
       }
 
       switch (field) {
-      case E1:
-        return isSetE1();
-      case E2:
-        return isSetE2();
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -10312,32 +10954,32 @@ public class ArcticTableMetastore {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof removeTable_result)
-        return this.equals((removeTable_result)that);
+      if (that instanceof getTables_result)
+        return this.equals((getTables_result)that);
       return false;
     }
 
-    public boolean equals(removeTable_result that) {
+    public boolean equals(getTables_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_e1 = true && this.isSetE1();
-      boolean that_present_e1 = true && that.isSetE1();
-      if (this_present_e1 || that_present_e1) {
-        if (!(this_present_e1 && that_present_e1))
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
           return false;
-        if (!this.e1.equals(that.e1))
+        if (!this.success.equals(that.success))
           return false;
       }
 
-      boolean this_present_e2 = true && this.isSetE2();
-      boolean that_present_e2 = true && that.isSetE2();
-      if (this_present_e2 || that_present_e2) {
-        if (!(this_present_e2 && that_present_e2))
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
           return false;
-        if (!this.e2.equals(that.e2))
+        if (!this.e.equals(that.e))
           return false;
       }
 
@@ -10348,41 +10990,41 @@ public class ArcticTableMetastore {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetE1()) ? 131071 : 524287);
-      if (isSetE1())
-        hashCode = hashCode * 8191 + e1.hashCode();
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
 
-      hashCode = hashCode * 8191 + ((isSetE2()) ? 131071 : 524287);
-      if (isSetE2())
-        hashCode = hashCode * 8191 + e2.hashCode();
+      hashCode = hashCode * 8191 + ((isSetE()) ? 131071 : 524287);
+      if (isSetE())
+        hashCode = hashCode * 8191 + e.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(removeTable_result other) {
+    public int compareTo(getTables_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetE1()).compareTo(other.isSetE1());
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetE1()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e1, other.e1);
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetE2()).compareTo(other.isSetE2());
+      lastComparison = java.lang.Boolean.valueOf(isSetE()).compareTo(other.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetE2()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e2, other.e2);
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -10405,22 +11047,22 @@ public class ArcticTableMetastore {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeTable_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getTables_result(");
       boolean first = true;
 
-      sb.append("e1:");
-      if (this.e1 == null) {
+      sb.append("success:");
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.e1);
+        sb.append(this.success);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("e2:");
-      if (this.e2 == null) {
+      sb.append("e:");
+      if (this.e == null) {
         sb.append("null");
       } else {
-        sb.append(this.e2);
+        sb.append(this.e);
       }
       first = false;
       sb.append(")");
@@ -10448,15 +11090,15 @@ public class ArcticTableMetastore {
       }
     }
 
-    private static class removeTable_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeTable_resultStandardScheme getScheme() {
-        return new removeTable_resultStandardScheme();
+    private static class getTables_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getTables_resultStandardScheme getScheme() {
+        return new getTables_resultStandardScheme();
       }
     }
 
-    private static class removeTable_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeTable_result> {
+    private static class getTables_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getTables_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, removeTable_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getTables_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10466,20 +11108,30 @@ public class ArcticTableMetastore {
             break;
           }
           switch (schemeField.id) {
-            case 1: // E1
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e1 = new com.netease.arctic.ams.api.NoSuchObjectException();
-                struct.e1.read(iprot);
-                struct.setE1IsSet(true);
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list150 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<TableMeta>(_list150.size);
+                  @org.apache.thrift.annotation.Nullable TableMeta _elem151;
+                  for (int _i152 = 0; _i152 < _list150.size; ++_i152)
+                  {
+                    _elem151 = new TableMeta();
+                    _elem151.read(iprot);
+                    struct.success.add(_elem151);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // E2
+            case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e2 = new com.netease.arctic.ams.api.MetaException();
-                struct.e2.read(iprot);
-                struct.setE2IsSet(true);
+                struct.e = new com.netease.arctic.ams.api.NoSuchObjectException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -10495,18 +11147,25 @@ public class ArcticTableMetastore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, removeTable_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getTables_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.e1 != null) {
-          oprot.writeFieldBegin(E1_FIELD_DESC);
-          struct.e1.write(oprot);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (TableMeta _iter153 : struct.success)
+            {
+              _iter153.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
-        if (struct.e2 != null) {
-          oprot.writeFieldBegin(E2_FIELD_DESC);
-          struct.e2.write(oprot);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -10515,46 +11174,61 @@ public class ArcticTableMetastore {
 
     }
 
-    private static class removeTable_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeTable_resultTupleScheme getScheme() {
-        return new removeTable_resultTupleScheme();
+    private static class getTables_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getTables_resultTupleScheme getScheme() {
+        return new getTables_resultTupleScheme();
       }
     }
 
-    private static class removeTable_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeTable_result> {
+    private static class getTables_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getTables_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, removeTable_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getTables_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetE1()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetE2()) {
+        if (struct.isSetE()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetE1()) {
-          struct.e1.write(oprot);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (TableMeta _iter154 : struct.success)
+            {
+              _iter154.write(oprot);
+            }
+          }
         }
-        if (struct.isSetE2()) {
-          struct.e2.write(oprot);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, removeTable_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getTables_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.e1 = new com.netease.arctic.ams.api.NoSuchObjectException();
-          struct.e1.read(iprot);
-          struct.setE1IsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list155 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new java.util.ArrayList<TableMeta>(_list155.size);
+            @org.apache.thrift.annotation.Nullable TableMeta _elem156;
+            for (int _i157 = 0; _i157 < _list155.size; ++_i157)
+            {
+              _elem156 = new TableMeta();
+              _elem156.read(iprot);
+              struct.success.add(_elem156);
+            }
+          }
+          struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.e2 = new com.netease.arctic.ams.api.MetaException();
-          struct.e2.read(iprot);
-          struct.setE2IsSet(true);
+          struct.e = new com.netease.arctic.ams.api.NoSuchObjectException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
         }
       }
     }
@@ -10564,19 +11238,22 @@ public class ArcticTableMetastore {
     }
   }
 
-  public static class tableCommit_args implements org.apache.thrift.TBase<tableCommit_args, tableCommit_args._Fields>, java.io.Serializable, Cloneable, Comparable<tableCommit_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("tableCommit_args");
+  public static class removeTable_args implements org.apache.thrift.TBase<removeTable_args, removeTable_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeTable_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeTable_args");
 
-    private static final org.apache.thrift.protocol.TField COMMIT_FIELD_DESC = new org.apache.thrift.protocol.TField("commit", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField TABLE_IDENTIFIER_FIELD_DESC = new org.apache.thrift.protocol.TField("tableIdentifier", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField DELETE_DATA_FIELD_DESC = new org.apache.thrift.protocol.TField("deleteData", org.apache.thrift.protocol.TType.BOOL, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new tableCommit_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new tableCommit_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeTable_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeTable_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable TableCommitMeta commit; // required
+    public @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.TableIdentifier tableIdentifier; // required
+    public boolean deleteData; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      COMMIT((short)1, "commit");
+      TABLE_IDENTIFIER((short)1, "tableIdentifier"),
+      DELETE_DATA((short)2, "deleteData");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -10592,8 +11269,10 @@ public class ArcticTableMetastore {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // COMMIT
-            return COMMIT;
+          case 1: // TABLE_IDENTIFIER
+            return TABLE_IDENTIFIER;
+          case 2: // DELETE_DATA
+            return DELETE_DATA;
           default:
             return null;
         }
@@ -10635,75 +11314,117 @@ public class ArcticTableMetastore {
     }
 
     // isset id assignments
+    private static final int __DELETEDATA_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.COMMIT, new org.apache.thrift.meta_data.FieldMetaData("commit", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TableCommitMeta.class)));
+      tmpMap.put(_Fields.TABLE_IDENTIFIER, new org.apache.thrift.meta_data.FieldMetaData("tableIdentifier", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.netease.arctic.ams.api.TableIdentifier.class)));
+      tmpMap.put(_Fields.DELETE_DATA, new org.apache.thrift.meta_data.FieldMetaData("deleteData", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(tableCommit_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeTable_args.class, metaDataMap);
     }
 
-    public tableCommit_args() {
+    public removeTable_args() {
     }
 
-    public tableCommit_args(
-      TableCommitMeta commit)
+    public removeTable_args(
+      com.netease.arctic.ams.api.TableIdentifier tableIdentifier,
+      boolean deleteData)
     {
       this();
-      this.commit = commit;
+      this.tableIdentifier = tableIdentifier;
+      this.deleteData = deleteData;
+      setDeleteDataIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public tableCommit_args(tableCommit_args other) {
-      if (other.isSetCommit()) {
-        this.commit = new TableCommitMeta(other.commit);
+    public removeTable_args(removeTable_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetTableIdentifier()) {
+        this.tableIdentifier = new com.netease.arctic.ams.api.TableIdentifier(other.tableIdentifier);
       }
+      this.deleteData = other.deleteData;
     }
 
-    public tableCommit_args deepCopy() {
-      return new tableCommit_args(this);
+    public removeTable_args deepCopy() {
+      return new removeTable_args(this);
     }
 
     @Override
     public void clear() {
-      this.commit = null;
+      this.tableIdentifier = null;
+      setDeleteDataIsSet(false);
+      this.deleteData = false;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public TableCommitMeta getCommit() {
-      return this.commit;
+    public com.netease.arctic.ams.api.TableIdentifier getTableIdentifier() {
+      return this.tableIdentifier;
     }
 
-    public tableCommit_args setCommit(@org.apache.thrift.annotation.Nullable TableCommitMeta commit) {
-      this.commit = commit;
+    public removeTable_args setTableIdentifier(@org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.TableIdentifier tableIdentifier) {
+      this.tableIdentifier = tableIdentifier;
       return this;
     }
 
-    public void unsetCommit() {
-      this.commit = null;
+    public void unsetTableIdentifier() {
+      this.tableIdentifier = null;
     }
 
-    /** Returns true if field commit is set (has been assigned a value) and false otherwise */
-    public boolean isSetCommit() {
-      return this.commit != null;
+    /** Returns true if field tableIdentifier is set (has been assigned a value) and false otherwise */
+    public boolean isSetTableIdentifier() {
+      return this.tableIdentifier != null;
     }
 
-    public void setCommitIsSet(boolean value) {
+    public void setTableIdentifierIsSet(boolean value) {
       if (!value) {
-        this.commit = null;
+        this.tableIdentifier = null;
       }
     }
 
+    public boolean isDeleteData() {
+      return this.deleteData;
+    }
+
+    public removeTable_args setDeleteData(boolean deleteData) {
+      this.deleteData = deleteData;
+      setDeleteDataIsSet(true);
+      return this;
+    }
+
+    public void unsetDeleteData() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __DELETEDATA_ISSET_ID);
+    }
+
+    /** Returns true if field deleteData is set (has been assigned a value) and false otherwise */
+    public boolean isSetDeleteData() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __DELETEDATA_ISSET_ID);
+    }
+
+    public void setDeleteDataIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __DELETEDATA_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case COMMIT:
+      case TABLE_IDENTIFIER:
         if (value == null) {
-          unsetCommit();
+          unsetTableIdentifier();
         } else {
-          setCommit((TableCommitMeta)value);
+          setTableIdentifier((com.netease.arctic.ams.api.TableIdentifier)value);
+        }
+        break;
+
+      case DELETE_DATA:
+        if (value == null) {
+          unsetDeleteData();
+        } else {
+          setDeleteData((java.lang.Boolean)value);
         }
         break;
 
@@ -10713,8 +11434,11 @@ public class ArcticTableMetastore {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case COMMIT:
-        return getCommit();
+      case TABLE_IDENTIFIER:
+        return getTableIdentifier();
+
+      case DELETE_DATA:
+        return isDeleteData();
 
       }
       throw new java.lang.IllegalStateException();
@@ -10727,8 +11451,10 @@ public class ArcticTableMetastore {
       }
 
       switch (field) {
-      case COMMIT:
-        return isSetCommit();
+      case TABLE_IDENTIFIER:
+        return isSetTableIdentifier();
+      case DELETE_DATA:
+        return isSetDeleteData();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -10737,23 +11463,32 @@ public class ArcticTableMetastore {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof tableCommit_args)
-        return this.equals((tableCommit_args)that);
+      if (that instanceof removeTable_args)
+        return this.equals((removeTable_args)that);
       return false;
     }
 
-    public boolean equals(tableCommit_args that) {
+    public boolean equals(removeTable_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_commit = true && this.isSetCommit();
-      boolean that_present_commit = true && that.isSetCommit();
-      if (this_present_commit || that_present_commit) {
-        if (!(this_present_commit && that_present_commit))
+      boolean this_present_tableIdentifier = true && this.isSetTableIdentifier();
+      boolean that_present_tableIdentifier = true && that.isSetTableIdentifier();
+      if (this_present_tableIdentifier || that_present_tableIdentifier) {
+        if (!(this_present_tableIdentifier && that_present_tableIdentifier))
           return false;
-        if (!this.commit.equals(that.commit))
+        if (!this.tableIdentifier.equals(that.tableIdentifier))
+          return false;
+      }
+
+      boolean this_present_deleteData = true;
+      boolean that_present_deleteData = true;
+      if (this_present_deleteData || that_present_deleteData) {
+        if (!(this_present_deleteData && that_present_deleteData))
+          return false;
+        if (this.deleteData != that.deleteData)
           return false;
       }
 
@@ -10764,27 +11499,39 @@ public class ArcticTableMetastore {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetCommit()) ? 131071 : 524287);
-      if (isSetCommit())
-        hashCode = hashCode * 8191 + commit.hashCode();
+      hashCode = hashCode * 8191 + ((isSetTableIdentifier()) ? 131071 : 524287);
+      if (isSetTableIdentifier())
+        hashCode = hashCode * 8191 + tableIdentifier.hashCode();
+
+      hashCode = hashCode * 8191 + ((deleteData) ? 131071 : 524287);
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(tableCommit_args other) {
+    public int compareTo(removeTable_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetCommit()).compareTo(other.isSetCommit());
+      lastComparison = java.lang.Boolean.valueOf(isSetTableIdentifier()).compareTo(other.isSetTableIdentifier());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetCommit()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.commit, other.commit);
+      if (isSetTableIdentifier()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tableIdentifier, other.tableIdentifier);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetDeleteData()).compareTo(other.isSetDeleteData());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetDeleteData()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.deleteData, other.deleteData);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -10807,16 +11554,20 @@ public class ArcticTableMetastore {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("tableCommit_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeTable_args(");
       boolean first = true;
 
-      sb.append("commit:");
-      if (this.commit == null) {
+      sb.append("tableIdentifier:");
+      if (this.tableIdentifier == null) {
         sb.append("null");
       } else {
-        sb.append(this.commit);
+        sb.append(this.tableIdentifier);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("deleteData:");
+      sb.append(this.deleteData);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -10824,8 +11575,8 @@ public class ArcticTableMetastore {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (commit != null) {
-        commit.validate();
+      if (tableIdentifier != null) {
+        tableIdentifier.validate();
       }
     }
 
@@ -10839,21 +11590,23 @@ public class ArcticTableMetastore {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class tableCommit_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public tableCommit_argsStandardScheme getScheme() {
-        return new tableCommit_argsStandardScheme();
+    private static class removeTable_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeTable_argsStandardScheme getScheme() {
+        return new removeTable_argsStandardScheme();
       }
     }
 
-    private static class tableCommit_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<tableCommit_args> {
+    private static class removeTable_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeTable_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, tableCommit_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeTable_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10863,11 +11616,19 @@ public class ArcticTableMetastore {
             break;
           }
           switch (schemeField.id) {
-            case 1: // COMMIT
+            case 1: // TABLE_IDENTIFIER
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.commit = new TableCommitMeta();
-                struct.commit.read(iprot);
-                struct.setCommitIsSet(true);
+                struct.tableIdentifier = new com.netease.arctic.ams.api.TableIdentifier();
+                struct.tableIdentifier.read(iprot);
+                struct.setTableIdentifierIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // DELETE_DATA
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.deleteData = iprot.readBool();
+                struct.setDeleteDataIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -10883,50 +11644,63 @@ public class ArcticTableMetastore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, tableCommit_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeTable_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.commit != null) {
-          oprot.writeFieldBegin(COMMIT_FIELD_DESC);
-          struct.commit.write(oprot);
+        if (struct.tableIdentifier != null) {
+          oprot.writeFieldBegin(TABLE_IDENTIFIER_FIELD_DESC);
+          struct.tableIdentifier.write(oprot);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(DELETE_DATA_FIELD_DESC);
+        oprot.writeBool(struct.deleteData);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class tableCommit_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public tableCommit_argsTupleScheme getScheme() {
-        return new tableCommit_argsTupleScheme();
+    private static class removeTable_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeTable_argsTupleScheme getScheme() {
+        return new removeTable_argsTupleScheme();
       }
     }
 
-    private static class tableCommit_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<tableCommit_args> {
+    private static class removeTable_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeTable_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, tableCommit_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeTable_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetCommit()) {
+        if (struct.isSetTableIdentifier()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetCommit()) {
-          struct.commit.write(oprot);
+        if (struct.isSetDeleteData()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetTableIdentifier()) {
+          struct.tableIdentifier.write(oprot);
+        }
+        if (struct.isSetDeleteData()) {
+          oprot.writeBool(struct.deleteData);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, tableCommit_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeTable_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.commit = new TableCommitMeta();
-          struct.commit.read(iprot);
-          struct.setCommitIsSet(true);
+          struct.tableIdentifier = new com.netease.arctic.ams.api.TableIdentifier();
+          struct.tableIdentifier.read(iprot);
+          struct.setTableIdentifierIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.deleteData = iprot.readBool();
+          struct.setDeleteDataIsSet(true);
         }
       }
     }
@@ -10936,19 +11710,22 @@ public class ArcticTableMetastore {
     }
   }
 
-  public static class tableCommit_result implements org.apache.thrift.TBase<tableCommit_result, tableCommit_result._Fields>, java.io.Serializable, Cloneable, Comparable<tableCommit_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("tableCommit_result");
+  public static class removeTable_result implements org.apache.thrift.TBase<removeTable_result, removeTable_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeTable_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeTable_result");
 
     private static final org.apache.thrift.protocol.TField E1_FIELD_DESC = new org.apache.thrift.protocol.TField("e1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E2_FIELD_DESC = new org.apache.thrift.protocol.TField("e2", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new tableCommit_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new tableCommit_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeTable_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeTable_resultTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.MetaException e1; // required
+    public @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.NoSuchObjectException e1; // required
+    public @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.MetaException e2; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      E1((short)1, "e1");
+      E1((short)1, "e1"),
+      E2((short)2, "e2");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -10966,6 +11743,8 @@ public class ArcticTableMetastore {
         switch(fieldId) {
           case 1: // E1
             return E1;
+          case 2: // E2
+            return E2;
           default:
             return null;
         }
@@ -11011,45 +11790,53 @@ public class ArcticTableMetastore {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.E1, new org.apache.thrift.meta_data.FieldMetaData("e1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.netease.arctic.ams.api.NoSuchObjectException.class)));
+      tmpMap.put(_Fields.E2, new org.apache.thrift.meta_data.FieldMetaData("e2", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.netease.arctic.ams.api.MetaException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(tableCommit_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeTable_result.class, metaDataMap);
     }
 
-    public tableCommit_result() {
+    public removeTable_result() {
     }
 
-    public tableCommit_result(
-      com.netease.arctic.ams.api.MetaException e1)
+    public removeTable_result(
+      com.netease.arctic.ams.api.NoSuchObjectException e1,
+      com.netease.arctic.ams.api.MetaException e2)
     {
       this();
       this.e1 = e1;
+      this.e2 = e2;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public tableCommit_result(tableCommit_result other) {
+    public removeTable_result(removeTable_result other) {
       if (other.isSetE1()) {
-        this.e1 = new com.netease.arctic.ams.api.MetaException(other.e1);
+        this.e1 = new com.netease.arctic.ams.api.NoSuchObjectException(other.e1);
+      }
+      if (other.isSetE2()) {
+        this.e2 = new com.netease.arctic.ams.api.MetaException(other.e2);
       }
     }
 
-    public tableCommit_result deepCopy() {
-      return new tableCommit_result(this);
+    public removeTable_result deepCopy() {
+      return new removeTable_result(this);
     }
 
     @Override
     public void clear() {
       this.e1 = null;
+      this.e2 = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public com.netease.arctic.ams.api.MetaException getE1() {
+    public com.netease.arctic.ams.api.NoSuchObjectException getE1() {
       return this.e1;
     }
 
-    public tableCommit_result setE1(@org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.MetaException e1) {
+    public removeTable_result setE1(@org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.NoSuchObjectException e1) {
       this.e1 = e1;
       return this;
     }
@@ -11069,13 +11856,46 @@ public class ArcticTableMetastore {
       }
     }
 
+    @org.apache.thrift.annotation.Nullable
+    public com.netease.arctic.ams.api.MetaException getE2() {
+      return this.e2;
+    }
+
+    public removeTable_result setE2(@org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.MetaException e2) {
+      this.e2 = e2;
+      return this;
+    }
+
+    public void unsetE2() {
+      this.e2 = null;
+    }
+
+    /** Returns true if field e2 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE2() {
+      return this.e2 != null;
+    }
+
+    public void setE2IsSet(boolean value) {
+      if (!value) {
+        this.e2 = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
       case E1:
         if (value == null) {
           unsetE1();
         } else {
-          setE1((com.netease.arctic.ams.api.MetaException)value);
+          setE1((com.netease.arctic.ams.api.NoSuchObjectException)value);
+        }
+        break;
+
+      case E2:
+        if (value == null) {
+          unsetE2();
+        } else {
+          setE2((com.netease.arctic.ams.api.MetaException)value);
         }
         break;
 
@@ -11088,6 +11908,9 @@ public class ArcticTableMetastore {
       case E1:
         return getE1();
 
+      case E2:
+        return getE2();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -11101,6 +11924,8 @@ public class ArcticTableMetastore {
       switch (field) {
       case E1:
         return isSetE1();
+      case E2:
+        return isSetE2();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -11109,12 +11934,12 @@ public class ArcticTableMetastore {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof tableCommit_result)
-        return this.equals((tableCommit_result)that);
+      if (that instanceof removeTable_result)
+        return this.equals((removeTable_result)that);
       return false;
     }
 
-    public boolean equals(tableCommit_result that) {
+    public boolean equals(removeTable_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -11129,6 +11954,15 @@ public class ArcticTableMetastore {
           return false;
       }
 
+      boolean this_present_e2 = true && this.isSetE2();
+      boolean that_present_e2 = true && that.isSetE2();
+      if (this_present_e2 || that_present_e2) {
+        if (!(this_present_e2 && that_present_e2))
+          return false;
+        if (!this.e2.equals(that.e2))
+          return false;
+      }
+
       return true;
     }
 
@@ -11140,11 +11974,15 @@ public class ArcticTableMetastore {
       if (isSetE1())
         hashCode = hashCode * 8191 + e1.hashCode();
 
+      hashCode = hashCode * 8191 + ((isSetE2()) ? 131071 : 524287);
+      if (isSetE2())
+        hashCode = hashCode * 8191 + e2.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(tableCommit_result other) {
+    public int compareTo(removeTable_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -11161,6 +11999,16 @@ public class ArcticTableMetastore {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.valueOf(isSetE2()).compareTo(other.isSetE2());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE2()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e2, other.e2);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -11179,7 +12027,7 @@ public class ArcticTableMetastore {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("tableCommit_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeTable_result(");
       boolean first = true;
 
       sb.append("e1:");
@@ -11189,6 +12037,14 @@ public class ArcticTableMetastore {
         sb.append(this.e1);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("e2:");
+      if (this.e2 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e2);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -11214,15 +12070,15 @@ public class ArcticTableMetastore {
       }
     }
 
-    private static class tableCommit_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public tableCommit_resultStandardScheme getScheme() {
-        return new tableCommit_resultStandardScheme();
+    private static class removeTable_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeTable_resultStandardScheme getScheme() {
+        return new removeTable_resultStandardScheme();
       }
     }
 
-    private static class tableCommit_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<tableCommit_result> {
+    private static class removeTable_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeTable_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, tableCommit_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeTable_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11234,25 +12090,34 @@ public class ArcticTableMetastore {
           switch (schemeField.id) {
             case 1: // E1
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e1 = new com.netease.arctic.ams.api.MetaException();
+                struct.e1 = new com.netease.arctic.ams.api.NoSuchObjectException();
                 struct.e1.read(iprot);
                 struct.setE1IsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            default:
-              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-          }
-          iprot.readFieldEnd();
-        }
-        iprot.readStructEnd();
-
-        // check for required fields of primitive type, which can't be checked in the validate method
+            case 2: // E2
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e2 = new com.netease.arctic.ams.api.MetaException();
+                struct.e2.read(iprot);
+                struct.setE2IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, tableCommit_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeTable_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -11261,42 +12126,58 @@ public class ArcticTableMetastore {
           struct.e1.write(oprot);
           oprot.writeFieldEnd();
         }
+        if (struct.e2 != null) {
+          oprot.writeFieldBegin(E2_FIELD_DESC);
+          struct.e2.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class tableCommit_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public tableCommit_resultTupleScheme getScheme() {
-        return new tableCommit_resultTupleScheme();
+    private static class removeTable_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeTable_resultTupleScheme getScheme() {
+        return new removeTable_resultTupleScheme();
       }
     }
 
-    private static class tableCommit_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<tableCommit_result> {
+    private static class removeTable_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeTable_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, tableCommit_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeTable_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetE1()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE2()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetE1()) {
           struct.e1.write(oprot);
         }
+        if (struct.isSetE2()) {
+          struct.e2.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, tableCommit_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeTable_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.e1 = new com.netease.arctic.ams.api.MetaException();
+          struct.e1 = new com.netease.arctic.ams.api.NoSuchObjectException();
           struct.e1.read(iprot);
           struct.setE1IsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.e2 = new com.netease.arctic.ams.api.MetaException();
+          struct.e2.read(iprot);
+          struct.setE2IsSet(true);
+        }
       }
     }
 
@@ -11305,22 +12186,19 @@ public class ArcticTableMetastore {
     }
   }
 
-  public static class allocateTransactionId_args implements org.apache.thrift.TBase<allocateTransactionId_args, allocateTransactionId_args._Fields>, java.io.Serializable, Cloneable, Comparable<allocateTransactionId_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("allocateTransactionId_args");
+  public static class tableCommit_args implements org.apache.thrift.TBase<tableCommit_args, tableCommit_args._Fields>, java.io.Serializable, Cloneable, Comparable<tableCommit_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("tableCommit_args");
 
-    private static final org.apache.thrift.protocol.TField TABLE_IDENTIFIER_FIELD_DESC = new org.apache.thrift.protocol.TField("tableIdentifier", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField TRANSACTION_SIGNATURE_FIELD_DESC = new org.apache.thrift.protocol.TField("transactionSignature", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField COMMIT_FIELD_DESC = new org.apache.thrift.protocol.TField("commit", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new allocateTransactionId_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new allocateTransactionId_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new tableCommit_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new tableCommit_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.TableIdentifier tableIdentifier; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String transactionSignature; // required
+    public @org.apache.thrift.annotation.Nullable TableCommitMeta commit; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      TABLE_IDENTIFIER((short)1, "tableIdentifier"),
-      TRANSACTION_SIGNATURE((short)2, "transactionSignature");
+      COMMIT((short)1, "commit");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -11336,10 +12214,8 @@ public class ArcticTableMetastore {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // TABLE_IDENTIFIER
-            return TABLE_IDENTIFIER;
-          case 2: // TRANSACTION_SIGNATURE
-            return TRANSACTION_SIGNATURE;
+          case 1: // COMMIT
+            return COMMIT;
           default:
             return null;
         }
@@ -11384,113 +12260,72 @@ public class ArcticTableMetastore {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.TABLE_IDENTIFIER, new org.apache.thrift.meta_data.FieldMetaData("tableIdentifier", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.netease.arctic.ams.api.TableIdentifier.class)));
-      tmpMap.put(_Fields.TRANSACTION_SIGNATURE, new org.apache.thrift.meta_data.FieldMetaData("transactionSignature", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.COMMIT, new org.apache.thrift.meta_data.FieldMetaData("commit", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TableCommitMeta.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(allocateTransactionId_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(tableCommit_args.class, metaDataMap);
     }
 
-    public allocateTransactionId_args() {
+    public tableCommit_args() {
     }
 
-    public allocateTransactionId_args(
-      com.netease.arctic.ams.api.TableIdentifier tableIdentifier,
-      java.lang.String transactionSignature)
+    public tableCommit_args(
+      TableCommitMeta commit)
     {
       this();
-      this.tableIdentifier = tableIdentifier;
-      this.transactionSignature = transactionSignature;
+      this.commit = commit;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public allocateTransactionId_args(allocateTransactionId_args other) {
-      if (other.isSetTableIdentifier()) {
-        this.tableIdentifier = new com.netease.arctic.ams.api.TableIdentifier(other.tableIdentifier);
-      }
-      if (other.isSetTransactionSignature()) {
-        this.transactionSignature = other.transactionSignature;
+    public tableCommit_args(tableCommit_args other) {
+      if (other.isSetCommit()) {
+        this.commit = new TableCommitMeta(other.commit);
       }
     }
 
-    public allocateTransactionId_args deepCopy() {
-      return new allocateTransactionId_args(this);
+    public tableCommit_args deepCopy() {
+      return new tableCommit_args(this);
     }
 
     @Override
     public void clear() {
-      this.tableIdentifier = null;
-      this.transactionSignature = null;
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public com.netease.arctic.ams.api.TableIdentifier getTableIdentifier() {
-      return this.tableIdentifier;
-    }
-
-    public allocateTransactionId_args setTableIdentifier(@org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.TableIdentifier tableIdentifier) {
-      this.tableIdentifier = tableIdentifier;
-      return this;
-    }
-
-    public void unsetTableIdentifier() {
-      this.tableIdentifier = null;
-    }
-
-    /** Returns true if field tableIdentifier is set (has been assigned a value) and false otherwise */
-    public boolean isSetTableIdentifier() {
-      return this.tableIdentifier != null;
-    }
-
-    public void setTableIdentifierIsSet(boolean value) {
-      if (!value) {
-        this.tableIdentifier = null;
-      }
+      this.commit = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getTransactionSignature() {
-      return this.transactionSignature;
+    public TableCommitMeta getCommit() {
+      return this.commit;
     }
 
-    public allocateTransactionId_args setTransactionSignature(@org.apache.thrift.annotation.Nullable java.lang.String transactionSignature) {
-      this.transactionSignature = transactionSignature;
+    public tableCommit_args setCommit(@org.apache.thrift.annotation.Nullable TableCommitMeta commit) {
+      this.commit = commit;
       return this;
     }
 
-    public void unsetTransactionSignature() {
-      this.transactionSignature = null;
+    public void unsetCommit() {
+      this.commit = null;
     }
 
-    /** Returns true if field transactionSignature is set (has been assigned a value) and false otherwise */
-    public boolean isSetTransactionSignature() {
-      return this.transactionSignature != null;
+    /** Returns true if field commit is set (has been assigned a value) and false otherwise */
+    public boolean isSetCommit() {
+      return this.commit != null;
     }
 
-    public void setTransactionSignatureIsSet(boolean value) {
+    public void setCommitIsSet(boolean value) {
       if (!value) {
-        this.transactionSignature = null;
+        this.commit = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case TABLE_IDENTIFIER:
-        if (value == null) {
-          unsetTableIdentifier();
-        } else {
-          setTableIdentifier((com.netease.arctic.ams.api.TableIdentifier)value);
-        }
-        break;
-
-      case TRANSACTION_SIGNATURE:
+      case COMMIT:
         if (value == null) {
-          unsetTransactionSignature();
+          unsetCommit();
         } else {
-          setTransactionSignature((java.lang.String)value);
+          setCommit((TableCommitMeta)value);
         }
         break;
 
@@ -11500,11 +12335,8 @@ public class ArcticTableMetastore {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case TABLE_IDENTIFIER:
-        return getTableIdentifier();
-
-      case TRANSACTION_SIGNATURE:
-        return getTransactionSignature();
+      case COMMIT:
+        return getCommit();
 
       }
       throw new java.lang.IllegalStateException();
@@ -11517,10 +12349,8 @@ public class ArcticTableMetastore {
       }
 
       switch (field) {
-      case TABLE_IDENTIFIER:
-        return isSetTableIdentifier();
-      case TRANSACTION_SIGNATURE:
-        return isSetTransactionSignature();
+      case COMMIT:
+        return isSetCommit();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -11529,32 +12359,23 @@ public class ArcticTableMetastore {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof allocateTransactionId_args)
-        return this.equals((allocateTransactionId_args)that);
+      if (that instanceof tableCommit_args)
+        return this.equals((tableCommit_args)that);
       return false;
     }
 
-    public boolean equals(allocateTransactionId_args that) {
+    public boolean equals(tableCommit_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_tableIdentifier = true && this.isSetTableIdentifier();
-      boolean that_present_tableIdentifier = true && that.isSetTableIdentifier();
-      if (this_present_tableIdentifier || that_present_tableIdentifier) {
-        if (!(this_present_tableIdentifier && that_present_tableIdentifier))
-          return false;
-        if (!this.tableIdentifier.equals(that.tableIdentifier))
-          return false;
-      }
-
-      boolean this_present_transactionSignature = true && this.isSetTransactionSignature();
-      boolean that_present_transactionSignature = true && that.isSetTransactionSignature();
-      if (this_present_transactionSignature || that_present_transactionSignature) {
-        if (!(this_present_transactionSignature && that_present_transactionSignature))
+      boolean this_present_commit = true && this.isSetCommit();
+      boolean that_present_commit = true && that.isSetCommit();
+      if (this_present_commit || that_present_commit) {
+        if (!(this_present_commit && that_present_commit))
           return false;
-        if (!this.transactionSignature.equals(that.transactionSignature))
+        if (!this.commit.equals(that.commit))
           return false;
       }
 
@@ -11565,41 +12386,27 @@ public class ArcticTableMetastore {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetTableIdentifier()) ? 131071 : 524287);
-      if (isSetTableIdentifier())
-        hashCode = hashCode * 8191 + tableIdentifier.hashCode();
-
-      hashCode = hashCode * 8191 + ((isSetTransactionSignature()) ? 131071 : 524287);
-      if (isSetTransactionSignature())
-        hashCode = hashCode * 8191 + transactionSignature.hashCode();
+      hashCode = hashCode * 8191 + ((isSetCommit()) ? 131071 : 524287);
+      if (isSetCommit())
+        hashCode = hashCode * 8191 + commit.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(allocateTransactionId_args other) {
+    public int compareTo(tableCommit_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetTableIdentifier()).compareTo(other.isSetTableIdentifier());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetTableIdentifier()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tableIdentifier, other.tableIdentifier);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.valueOf(isSetTransactionSignature()).compareTo(other.isSetTransactionSignature());
+      lastComparison = java.lang.Boolean.valueOf(isSetCommit()).compareTo(other.isSetCommit());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetTransactionSignature()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.transactionSignature, other.transactionSignature);
+      if (isSetCommit()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.commit, other.commit);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -11622,22 +12429,14 @@ public class ArcticTableMetastore {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("allocateTransactionId_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("tableCommit_args(");
       boolean first = true;
 
-      sb.append("tableIdentifier:");
-      if (this.tableIdentifier == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.tableIdentifier);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("transactionSignature:");
-      if (this.transactionSignature == null) {
+      sb.append("commit:");
+      if (this.commit == null) {
         sb.append("null");
       } else {
-        sb.append(this.transactionSignature);
+        sb.append(this.commit);
       }
       first = false;
       sb.append(")");
@@ -11647,9 +12446,9 @@ public class ArcticTableMetastore {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (tableIdentifier != null) {
-        tableIdentifier.validate();
-      }
+      if (commit != null) {
+        commit.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -11668,15 +12467,15 @@ public class ArcticTableMetastore {
       }
     }
 
-    private static class allocateTransactionId_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public allocateTransactionId_argsStandardScheme getScheme() {
-        return new allocateTransactionId_argsStandardScheme();
+    private static class tableCommit_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public tableCommit_argsStandardScheme getScheme() {
+        return new tableCommit_argsStandardScheme();
       }
     }
 
-    private static class allocateTransactionId_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<allocateTransactionId_args> {
+    private static class tableCommit_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<tableCommit_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, allocateTransactionId_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, tableCommit_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11686,19 +12485,11 @@ public class ArcticTableMetastore {
             break;
           }
           switch (schemeField.id) {
-            case 1: // TABLE_IDENTIFIER
+            case 1: // COMMIT
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.tableIdentifier = new com.netease.arctic.ams.api.TableIdentifier();
-                struct.tableIdentifier.read(iprot);
-                struct.setTableIdentifierIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // TRANSACTION_SIGNATURE
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.transactionSignature = iprot.readString();
-                struct.setTransactionSignatureIsSet(true);
+                struct.commit = new TableCommitMeta();
+                struct.commit.read(iprot);
+                struct.setCommitIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -11714,18 +12505,13 @@ public class ArcticTableMetastore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, allocateTransactionId_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, tableCommit_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.tableIdentifier != null) {
-          oprot.writeFieldBegin(TABLE_IDENTIFIER_FIELD_DESC);
-          struct.tableIdentifier.write(oprot);
-          oprot.writeFieldEnd();
-        }
-        if (struct.transactionSignature != null) {
-          oprot.writeFieldBegin(TRANSACTION_SIGNATURE_FIELD_DESC);
-          oprot.writeString(struct.transactionSignature);
+        if (struct.commit != null) {
+          oprot.writeFieldBegin(COMMIT_FIELD_DESC);
+          struct.commit.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -11734,45 +12520,35 @@ public class ArcticTableMetastore {
 
     }
 
-    private static class allocateTransactionId_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public allocateTransactionId_argsTupleScheme getScheme() {
-        return new allocateTransactionId_argsTupleScheme();
+    private static class tableCommit_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public tableCommit_argsTupleScheme getScheme() {
+        return new tableCommit_argsTupleScheme();
       }
     }
 
-    private static class allocateTransactionId_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<allocateTransactionId_args> {
+    private static class tableCommit_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<tableCommit_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, allocateTransactionId_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, tableCommit_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetTableIdentifier()) {
+        if (struct.isSetCommit()) {
           optionals.set(0);
         }
-        if (struct.isSetTransactionSignature()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetTableIdentifier()) {
-          struct.tableIdentifier.write(oprot);
-        }
-        if (struct.isSetTransactionSignature()) {
-          oprot.writeString(struct.transactionSignature);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetCommit()) {
+          struct.commit.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, allocateTransactionId_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, tableCommit_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
+        java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.tableIdentifier = new com.netease.arctic.ams.api.TableIdentifier();
-          struct.tableIdentifier.read(iprot);
-          struct.setTableIdentifierIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.transactionSignature = iprot.readString();
-          struct.setTransactionSignatureIsSet(true);
+          struct.commit = new TableCommitMeta();
+          struct.commit.read(iprot);
+          struct.setCommitIsSet(true);
         }
       }
     }
@@ -11782,19 +12558,19 @@ public class ArcticTableMetastore {
     }
   }
 
-  public static class allocateTransactionId_result implements org.apache.thrift.TBase<allocateTransactionId_result, allocateTransactionId_result._Fields>, java.io.Serializable, Cloneable, Comparable<allocateTransactionId_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("allocateTransactionId_result");
+  public static class tableCommit_result implements org.apache.thrift.TBase<tableCommit_result, tableCommit_result._Fields>, java.io.Serializable, Cloneable, Comparable<tableCommit_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("tableCommit_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+    private static final org.apache.thrift.protocol.TField E1_FIELD_DESC = new org.apache.thrift.protocol.TField("e1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new allocateTransactionId_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new allocateTransactionId_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new tableCommit_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new tableCommit_resultTupleSchemeFactory();
 
-    public long success; // required
+    public @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.MetaException e1; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      E1((short)1, "e1");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -11810,8 +12586,8 @@ public class ArcticTableMetastore {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
+          case 1: // E1
+            return E1;
           default:
             return null;
         }
@@ -11853,76 +12629,75 @@ public class ArcticTableMetastore {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.E1, new org.apache.thrift.meta_data.FieldMetaData("e1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.netease.arctic.ams.api.MetaException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(allocateTransactionId_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(tableCommit_result.class, metaDataMap);
     }
 
-    public allocateTransactionId_result() {
+    public tableCommit_result() {
     }
 
-    public allocateTransactionId_result(
-      long success)
+    public tableCommit_result(
+      com.netease.arctic.ams.api.MetaException e1)
     {
       this();
-      this.success = success;
-      setSuccessIsSet(true);
+      this.e1 = e1;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public allocateTransactionId_result(allocateTransactionId_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public tableCommit_result(tableCommit_result other) {
+      if (other.isSetE1()) {
+        this.e1 = new com.netease.arctic.ams.api.MetaException(other.e1);
+      }
     }
 
-    public allocateTransactionId_result deepCopy() {
-      return new allocateTransactionId_result(this);
+    public tableCommit_result deepCopy() {
+      return new tableCommit_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = 0;
+      this.e1 = null;
     }
 
-    public long getSuccess() {
-      return this.success;
+    @org.apache.thrift.annotation.Nullable
+    public com.netease.arctic.ams.api.MetaException getE1() {
+      return this.e1;
     }
 
-    public allocateTransactionId_result setSuccess(long success) {
-      this.success = success;
-      setSuccessIsSet(true);
+    public tableCommit_result setE1(@org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.MetaException e1) {
+      this.e1 = e1;
       return this;
     }
 
-    public void unsetSuccess() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    public void unsetE1() {
+      this.e1 = null;
     }
 
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    /** Returns true if field e1 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE1() {
+      return this.e1 != null;
     }
 
-    public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    public void setE1IsSet(boolean value) {
+      if (!value) {
+        this.e1 = null;
+      }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case SUCCESS:
+      case E1:
         if (value == null) {
-          unsetSuccess();
+          unsetE1();
         } else {
-          setSuccess((java.lang.Long)value);
+          setE1((com.netease.arctic.ams.api.MetaException)value);
         }
         break;
 
@@ -11932,8 +12707,8 @@ public class ArcticTableMetastore {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
+      case E1:
+        return getE1();
 
       }
       throw new java.lang.IllegalStateException();
@@ -11946,8 +12721,8 @@ public class ArcticTableMetastore {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
+      case E1:
+        return isSetE1();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -11956,23 +12731,23 @@ public class ArcticTableMetastore {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof allocateTransactionId_result)
-        return this.equals((allocateTransactionId_result)that);
+      if (that instanceof tableCommit_result)
+        return this.equals((tableCommit_result)that);
       return false;
     }
 
-    public boolean equals(allocateTransactionId_result that) {
+    public boolean equals(tableCommit_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
+      boolean this_present_e1 = true && this.isSetE1();
+      boolean that_present_e1 = true && that.isSetE1();
+      if (this_present_e1 || that_present_e1) {
+        if (!(this_present_e1 && that_present_e1))
           return false;
-        if (this.success != that.success)
+        if (!this.e1.equals(that.e1))
           return false;
       }
 
@@ -11983,25 +12758,27 @@ public class ArcticTableMetastore {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(success);
+      hashCode = hashCode * 8191 + ((isSetE1()) ? 131071 : 524287);
+      if (isSetE1())
+        hashCode = hashCode * 8191 + e1.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(allocateTransactionId_result other) {
+    public int compareTo(tableCommit_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      lastComparison = java.lang.Boolean.valueOf(isSetE1()).compareTo(other.isSetE1());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+      if (isSetE1()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e1, other.e1);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -12024,11 +12801,15 @@ public class ArcticTableMetastore {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("allocateTransactionId_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("tableCommit_result(");
       boolean first = true;
 
-      sb.append("success:");
-      sb.append(this.success);
+      sb.append("e1:");
+      if (this.e1 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e1);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -12049,23 +12830,21 @@ public class ArcticTableMetastore {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class allocateTransactionId_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public allocateTransactionId_resultStandardScheme getScheme() {
-        return new allocateTransactionId_resultStandardScheme();
+    private static class tableCommit_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public tableCommit_resultStandardScheme getScheme() {
+        return new tableCommit_resultStandardScheme();
       }
     }
 
-    private static class allocateTransactionId_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<allocateTransactionId_result> {
+    private static class tableCommit_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<tableCommit_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, allocateTransactionId_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, tableCommit_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12075,10 +12854,11 @@ public class ArcticTableMetastore {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.success = iprot.readI64();
-                struct.setSuccessIsSet(true);
+            case 1: // E1
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e1 = new com.netease.arctic.ams.api.MetaException();
+                struct.e1.read(iprot);
+                struct.setE1IsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -12094,13 +12874,13 @@ public class ArcticTableMetastore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, allocateTransactionId_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, tableCommit_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI64(struct.success);
+        if (struct.e1 != null) {
+          oprot.writeFieldBegin(E1_FIELD_DESC);
+          struct.e1.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -12109,34 +12889,4127 @@ public class ArcticTableMetastore {
 
     }
 
-    private static class allocateTransactionId_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public allocateTransactionId_resultTupleScheme getScheme() {
-        return new allocateTransactionId_resultTupleScheme();
+    private static class tableCommit_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public tableCommit_resultTupleScheme getScheme() {
+        return new tableCommit_resultTupleScheme();
       }
     }
 
-    private static class allocateTransactionId_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<allocateTransactionId_result> {
+    private static class tableCommit_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<tableCommit_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, allocateTransactionId_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, tableCommit_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetSuccess()) {
+        if (struct.isSetE1()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetSuccess()) {
-          oprot.writeI64(struct.success);
+        if (struct.isSetE1()) {
+          struct.e1.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, allocateTransactionId_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, tableCommit_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readI64();
-          struct.setSuccessIsSet(true);
+          struct.e1 = new com.netease.arctic.ams.api.MetaException();
+          struct.e1.read(iprot);
+          struct.setE1IsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class tableCommits_args implements org.apache.thrift.TBase<tableCommits_args, tableCommits_args._Fields>, java.io.Serializable, Cloneable, Comparable<tableCommits_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("tableCommits_args");
+
+    private static final org.apache.thrift.protocol.TField COMMITS_FIELD_DESC = new org.apache.thrift.protocol.TField("commits", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new tableCommits_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new tableCommits_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.util.List<TableCommitMeta> commits; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      COMMITS((short)1, "commits");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // COMMITS
+            return COMMITS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.COMMITS, new org.apache.thrift.meta_data.FieldMetaData("commits", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TableCommitMeta.class))));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(tableCommits_args.class, metaDataMap);
+    }
+
+    public tableCommits_args() {
+    }
+
+    public tableCommits_args(
+      java.util.List<TableCommitMeta> commits)
+    {
+      this();
+      this.commits = commits;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public tableCommits_args(tableCommits_args other) {
+      if (other.isSetCommits()) {
+        java.util.List<TableCommitMeta> __this__commits = new java.util.ArrayList<TableCommitMeta>(other.commits.size());
+        for (TableCommitMeta other_element : other.commits) {
+          __this__commits.add(new TableCommitMeta(other_element));
+        }
+        this.commits = __this__commits;
+      }
+    }
+
+    public tableCommits_args deepCopy() {
+      return new tableCommits_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.commits = null;
+    }
+
+    public int getCommitsSize() {
+      return (this.commits == null) ? 0 : this.commits.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<TableCommitMeta> getCommitsIterator() {
+      return (this.commits == null) ? null : this.commits.iterator();
+    }
+
+    public void addToCommits(TableCommitMeta elem) {
+      if (this.commits == null) {
+        this.commits = new java.util.ArrayList<TableCommitMeta>();
+      }
+      this.commits.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<TableCommitMeta> getCommits() {
+      return this.commits;
+    }
+
+    public tableCommits_args setCommits(@org.apache.thrift.annotation.Nullable java.util.List<TableCommitMeta> commits) {
+      this.commits = commits;
+      return this;
+    }
+
+    public void unsetCommits() {
+      this.commits = null;
+    }
+
+    /** Returns true if field commits is set (has been assigned a value) and false otherwise */
+    public boolean isSetCommits() {
+      return this.commits != null;
+    }
+
+    public void setCommitsIsSet(boolean value) {
+      if (!value) {
+        this.commits = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case COMMITS:
+        if (value == null) {
+          unsetCommits();
+        } else {
+          setCommits((java.util.List<TableCommitMeta>)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case COMMITS:
+        return getCommits();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case COMMITS:
+        return isSetCommits();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof tableCommits_args)
+        return this.equals((tableCommits_args)that);
+      return false;
+    }
+
+    public boolean equals(tableCommits_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_commits = true && this.isSetCommits();
+      boolean that_present_commits = true && that.isSetCommits();
+      if (this_present_commits || that_present_commits) {
+        if (!(this_present_commits && that_present_commits))
+          return false;
+        if (!this.commits.equals(that.commits))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetCommits()) ? 131071 : 524287);
+      if (isSetCommits())
+        hashCode = hashCode * 8191 + commits.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(tableCommits_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetCommits()).compareTo(other.isSetCommits());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCommits()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.commits, other.commits);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("tableCommits_args(");
+      boolean first = true;
+
+      sb.append("commits:");
+      if (this.commits == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.commits);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class tableCommits_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public tableCommits_argsStandardScheme getScheme() {
+        return new tableCommits_argsStandardScheme();
+      }
+    }
+
+    private static class tableCommits_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<tableCommits_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, tableCommits_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // COMMITS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list158 = iprot.readListBegin();
+                  struct.commits = new java.util.ArrayList<TableCommitMeta>(_list158.size);
+                  @org.apache.thrift.annotation.Nullable TableCommitMeta _elem159;
+                  for (int _i160 = 0; _i160 < _list158.size; ++_i160)
+                  {
+                    _elem159 = new TableCommitMeta();
+                    _elem159.read(iprot);
+                    struct.commits.add(_elem159);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setCommitsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, tableCommits_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.commits != null) {
+          oprot.writeFieldBegin(COMMITS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.commits.size()));
+            for (TableCommitMeta _iter161 : struct.commits)
+            {
+              _iter161.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class tableCommits_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public tableCommits_argsTupleScheme getScheme() {
+        return new tableCommits_argsTupleScheme();
+      }
+    }
+
+    private static class tableCommits_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<tableCommits_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, tableCommits_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetCommits()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetCommits()) {
+          {
+            oprot.writeI32(struct.commits.size());
+            for (TableCommitMeta _iter162 : struct.commits)
+            {
+              _iter162.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, tableCommits_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list163 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.commits = new java.util.ArrayList<TableCommitMeta>(_list163.size);
+            @org.apache.thrift.annotation.Nullable TableCommitMeta _elem164;
+            for (int _i165 = 0; _i165 < _list163.size; ++_i165)
+            {
+              _elem164 = new TableCommitMeta();
+              _elem164.read(iprot);
+              struct.commits.add(_elem164);
+            }
+          }
+          struct.setCommitsIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class tableCommits_result implements org.apache.thrift.TBase<tableCommits_result, tableCommits_result._Fields>, java.io.Serializable, Cloneable, Comparable<tableCommits_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("tableCommits_result");
+
+    private static final org.apache.thrift.protocol.TField E1_FIELD_DESC = new org.apache.thrift.protocol.TField("e1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E2_FIELD_DESC = new org.apache.thrift.protocol.TField("e2", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new tableCommits_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new tableCommits_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.MetaException e1; // required
+    public @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.NoSuchObjectException e2; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E1((short)1, "e1"),
+      E2((short)2, "e2");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E1
+            return E1;
+          case 2: // E2
+            return E2;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E1, new org.apache.thrift.meta_data.FieldMetaData("e1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.netease.arctic.ams.api.MetaException.class)));
+      tmpMap.put(_Fields.E2, new org.apache.thrift.meta_data.FieldMetaData("e2", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.netease.arctic.ams.api.NoSuchObjectException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(tableCommits_result.class, metaDataMap);
+    }
+
+    public tableCommits_result() {
+    }
+
+    public tableCommits_result(
+      com.netease.arctic.ams.api.MetaException e1,
+      com.netease.arctic.ams.api.NoSuchObjectException e2)
+    {
+      this();
+      this.e1 = e1;
+      this.e2 = e2;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public tableCommits_result(tableCommits_result other) {
+      if (other.isSetE1()) {
+        this.e1 = new com.netease.arctic.ams.api.MetaException(other.e1);
+      }
+      if (other.isSetE2()) {
+        this.e2 = new com.netease.arctic.ams.api.NoSuchObjectException(other.e2);
+      }
+    }
+
+    public tableCommits_result deepCopy() {
+      return new tableCommits_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.e1 = null;
+      this.e2 = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public com.netease.arctic.ams.api.MetaException getE1() {
+      return this.e1;
+    }
+
+    public tableCommits_result setE1(@org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.MetaException e1) {
+      this.e1 = e1;
+      return this;
+    }
+
+    public void unsetE1() {
+      this.e1 = null;
+    }
+
+    /** Returns true if field e1 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE1() {
+      return this.e1 != null;
+    }
+
+    public void setE1IsSet(boolean value) {
+      if (!value) {
+        this.e1 = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public com.netease.arctic.ams.api.NoSuchObjectException getE2() {
+      return this.e2;
+    }
+
+    public tableCommits_result setE2(@org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.NoSuchObjectException e2) {
+      this.e2 = e2;
+      return this;
+    }
+
+    public void unsetE2() {
+      this.e2 = null;
+    }
+
+    /** Returns true if field e2 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE2() {
+      return this.e2 != null;
+    }
+
+    public void setE2IsSet(boolean value) {
+      if (!value) {
+        this.e2 = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case E1:
+        if (value == null) {
+          unsetE1();
+        } else {
+          setE1((com.netease.arctic.ams.api.MetaException)value);
+        }
+        break;
+
+      case E2:
+        if (value == null) {
+          unsetE2();
+        } else {
+          setE2((com.netease.arctic.ams.api.NoSuchObjectException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case E1:
+        return getE1();
+
+      case E2:
+        return getE2();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case E1:
+        return isSetE1();
+      case E2:
+        return isSetE2();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof tableCommits_result)
+        return this.equals((tableCommits_result)that);
+      return false;
+    }
+
+    public boolean equals(tableCommits_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_e1 = true && this.isSetE1();
+      boolean that_present_e1 = true && that.isSetE1();
+      if (this_present_e1 || that_present_e1) {
+        if (!(this_present_e1 && that_present_e1))
+          return false;
+        if (!this.e1.equals(that.e1))
+          return false;
+      }
+
+      boolean this_present_e2 = true && this.isSetE2();
+      boolean that_present_e2 = true && that.isSetE2();
+      if (this_present_e2 || that_present_e2) {
+        if (!(this_present_e2 && that_present_e2))
+          return false;
+        if (!this.e2.equals(that.e2))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetE1()) ? 131071 : 524287);
+      if (isSetE1())
+        hashCode = hashCode * 8191 + e1.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetE2()) ? 131071 : 524287);
+      if (isSetE2())
+        hashCode = hashCode * 8191 + e2.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(tableCommits_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetE1()).compareTo(other.isSetE1());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE1()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e1, other.e1);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetE2()).compareTo(other.isSetE2());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE2()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e2, other.e2);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("tableCommits_result(");
+      boolean first = true;
+
+      sb.append("e1:");
+      if (this.e1 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e1);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e2:");
+      if (this.e2 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e2);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class tableCommits_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public tableCommits_resultStandardScheme getScheme() {
+        return new tableCommits_resultStandardScheme();
+      }
+    }
+
+    private static class tableCommits_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<tableCommits_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, tableCommits_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // E1
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e1 = new com.netease.arctic.ams.api.MetaException();
+                struct.e1.read(iprot);
+                struct.setE1IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // E2
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e2 = new com.netease.arctic.ams.api.NoSuchObjectException();
+                struct.e2.read(iprot);
+                struct.setE2IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, tableCommits_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.e1 != null) {
+          oprot.writeFieldBegin(E1_FIELD_DESC);
+          struct.e1.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e2 != null) {
+          oprot.writeFieldBegin(E2_FIELD_DESC);
+          struct.e2.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class tableCommits_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public tableCommits_resultTupleScheme getScheme() {
+        return new tableCommits_resultTupleScheme();
+      }
+    }
+
+    private static class tableCommits_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<tableCommits_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, tableCommits_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetE1()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE2()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetE1()) {
+          struct.e1.write(oprot);
+        }
+        if (struct.isSetE2()) {
+          struct.e2.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, tableCommits_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.e1 = new com.netease.arctic.ams.api.MetaException();
+          struct.e1.read(iprot);
+          struct.setE1IsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e2 = new com.netease.arctic.ams.api.NoSuchObjectException();
+          struct.e2.read(iprot);
+          struct.setE2IsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class allocateTransactionId_args implements org.apache.thrift.TBase<allocateTransactionId_args, allocateTransactionId_args._Fields>, java.io.Serializable, Cloneable, Comparable<allocateTransactionId_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("allocateTransactionId_args");
+
+    private static final org.apache.thrift.protocol.TField TABLE_IDENTIFIER_FIELD_DESC = new org.apache.thrift.protocol.TField("tableIdentifier", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField TRANSACTION_SIGNATURE_FIELD_DESC = new org.apache.thrift.protocol.TField("transactionSignature", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new allocateTransactionId_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new allocateTransactionId_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.TableIdentifier tableIdentifier; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String transactionSignature; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      TABLE_IDENTIFIER((short)1, "tableIdentifier"),
+      TRANSACTION_SIGNATURE((short)2, "transactionSignature");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // TABLE_IDENTIFIER
+            return TABLE_IDENTIFIER;
+          case 2: // TRANSACTION_SIGNATURE
+            return TRANSACTION_SIGNATURE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.TABLE_IDENTIFIER, new org.apache.thrift.meta_data.FieldMetaData("tableIdentifier", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.netease.arctic.ams.api.TableIdentifier.class)));
+      tmpMap.put(_Fields.TRANSACTION_SIGNATURE, new org.apache.thrift.meta_data.FieldMetaData("transactionSignature", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(allocateTransactionId_args.class, metaDataMap);
+    }
+
+    public allocateTransactionId_args() {
+    }
+
+    public allocateTransactionId_args(
+      com.netease.arctic.ams.api.TableIdentifier tableIdentifier,
+      java.lang.String transactionSignature)
+    {
+      this();
+      this.tableIdentifier = tableIdentifier;
+      this.transactionSignature = transactionSignature;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public allocateTransactionId_args(allocateTransactionId_args other) {
+      if (other.isSetTableIdentifier()) {
+        this.tableIdentifier = new com.netease.arctic.ams.api.TableIdentifier(other.tableIdentifier);
+      }
+      if (other.isSetTransactionSignature()) {
+        this.transactionSignature = other.transactionSignature;
+      }
+    }
+
+    public allocateTransactionId_args deepCopy() {
+      return new allocateTransactionId_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.tableIdentifier = null;
+      this.transactionSignature = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public com.netease.arctic.ams.api.TableIdentifier getTableIdentifier() {
+      return this.tableIdentifier;
+    }
+
+    public allocateTransactionId_args setTableIdentifier(@org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.TableIdentifier tableIdentifier) {
+      this.tableIdentifier = tableIdentifier;
+      return this;
+    }
+
+    public void unsetTableIdentifier() {
+      this.tableIdentifier = null;
+    }
+
+    /** Returns true if field tableIdentifier is set (has been assigned a value) and false otherwise */
+    public boolean isSetTableIdentifier() {
+      return this.tableIdentifier != null;
+    }
+
+    public void setTableIdentifierIsSet(boolean value) {
+      if (!value) {
+        this.tableIdentifier = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getTransactionSignature() {
+      return this.transactionSignature;
+    }
+
+    public allocateTransactionId_args setTransactionSignature(@org.apache.thrift.annotation.Nullable java.lang.String transactionSignature) {
+      this.transactionSignature = transactionSignature;
+      return this;
+    }
+
+    public void unsetTransactionSignature() {
+      this.transactionSignature = null;
+    }
+
+    /** Returns true if field transactionSignature is set (has been assigned a value) and false otherwise */
+    public boolean isSetTransactionSignature() {
+      return this.transactionSignature != null;
+    }
+
+    public void setTransactionSignatureIsSet(boolean value) {
+      if (!value) {
+        this.transactionSignature = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case TABLE_IDENTIFIER:
+        if (value == null) {
+          unsetTableIdentifier();
+        } else {
+          setTableIdentifier((com.netease.arctic.ams.api.TableIdentifier)value);
+        }
+        break;
+
+      case TRANSACTION_SIGNATURE:
+        if (value == null) {
+          unsetTransactionSignature();
+        } else {
+          setTransactionSignature((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case TABLE_IDENTIFIER:
+        return getTableIdentifier();
+
+      case TRANSACTION_SIGNATURE:
+        return getTransactionSignature();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case TABLE_IDENTIFIER:
+        return isSetTableIdentifier();
+      case TRANSACTION_SIGNATURE:
+        return isSetTransactionSignature();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof allocateTransactionId_args)
+        return this.equals((allocateTransactionId_args)that);
+      return false;
+    }
+
+    public boolean equals(allocateTransactionId_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_tableIdentifier = true && this.isSetTableIdentifier();
+      boolean that_present_tableIdentifier = true && that.isSetTableIdentifier();
+      if (this_present_tableIdentifier || that_present_tableIdentifier) {
+        if (!(this_present_tableIdentifier && that_present_tableIdentifier))
+          return false;
+        if (!this.tableIdentifier.equals(that.tableIdentifier))
+          return false;
+      }
+
+      boolean this_present_transactionSignature = true && this.isSetTransactionSignature();
+      boolean that_present_transactionSignature = true && that.isSetTransactionSignature();
+      if (this_present_transactionSignature || that_present_transactionSignature) {
+        if (!(this_present_transactionSignature && that_present_transactionSignature))
+          return false;
+        if (!this.transactionSignature.equals(that.transactionSignature))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetTableIdentifier()) ? 131071 : 524287);
+      if (isSetTableIdentifier())
+        hashCode = hashCode * 8191 + tableIdentifier.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetTransactionSignature()) ? 131071 : 524287);
+      if (isSetTransactionSignature())
+        hashCode = hashCode * 8191 + transactionSignature.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(allocateTransactionId_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetTableIdentifier()).compareTo(other.isSetTableIdentifier());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTableIdentifier()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tableIdentifier, other.tableIdentifier);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetTransactionSignature()).compareTo(other.isSetTransactionSignature());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTransactionSignature()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.transactionSignature, other.transactionSignature);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("allocateTransactionId_args(");
+      boolean first = true;
+
+      sb.append("tableIdentifier:");
+      if (this.tableIdentifier == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.tableIdentifier);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("transactionSignature:");
+      if (this.transactionSignature == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.transactionSignature);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (tableIdentifier != null) {
+        tableIdentifier.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class allocateTransactionId_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public allocateTransactionId_argsStandardScheme getScheme() {
+        return new allocateTransactionId_argsStandardScheme();
+      }
+    }
+
+    private static class allocateTransactionId_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<allocateTransactionId_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, allocateTransactionId_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // TABLE_IDENTIFIER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.tableIdentifier = new com.netease.arctic.ams.api.TableIdentifier();
+                struct.tableIdentifier.read(iprot);
+                struct.setTableIdentifierIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // TRANSACTION_SIGNATURE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.transactionSignature = iprot.readString();
+                struct.setTransactionSignatureIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, allocateTransactionId_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.tableIdentifier != null) {
+          oprot.writeFieldBegin(TABLE_IDENTIFIER_FIELD_DESC);
+          struct.tableIdentifier.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.transactionSignature != null) {
+          oprot.writeFieldBegin(TRANSACTION_SIGNATURE_FIELD_DESC);
+          oprot.writeString(struct.transactionSignature);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class allocateTransactionId_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public allocateTransactionId_argsTupleScheme getScheme() {
+        return new allocateTransactionId_argsTupleScheme();
+      }
+    }
+
+    private static class allocateTransactionId_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<allocateTransactionId_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, allocateTransactionId_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetTableIdentifier()) {
+          optionals.set(0);
+        }
+        if (struct.isSetTransactionSignature()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetTableIdentifier()) {
+          struct.tableIdentifier.write(oprot);
+        }
+        if (struct.isSetTransactionSignature()) {
+          oprot.writeString(struct.transactionSignature);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, allocateTransactionId_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.tableIdentifier = new com.netease.arctic.ams.api.TableIdentifier();
+          struct.tableIdentifier.read(iprot);
+          struct.setTableIdentifierIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.transactionSignature = iprot.readString();
+          struct.setTransactionSignatureIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class allocateTransactionId_result implements org.apache.thrift.TBase<allocateTransactionId_result, allocateTransactionId_result._Fields>, java.io.Serializable, Cloneable, Comparable<allocateTransactionId_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("allocateTransactionId_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new allocateTransactionId_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new allocateTransactionId_resultTupleSchemeFactory();
+
+    public long success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(allocateTransactionId_result.class, metaDataMap);
+    }
+
+    public allocateTransactionId_result() {
+    }
+
+    public allocateTransactionId_result(
+      long success)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public allocateTransactionId_result(allocateTransactionId_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+    }
+
+    public allocateTransactionId_result deepCopy() {
+      return new allocateTransactionId_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0;
+    }
+
+    public long getSuccess() {
+      return this.success;
+    }
+
+    public allocateTransactionId_result setSuccess(long success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.lang.Long)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof allocateTransactionId_result)
+        return this.equals((allocateTransactionId_result)that);
+      return false;
+    }
+
+    public boolean equals(allocateTransactionId_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(success);
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(allocateTransactionId_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("allocateTransactionId_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class allocateTransactionId_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public allocateTransactionId_resultStandardScheme getScheme() {
+        return new allocateTransactionId_resultStandardScheme();
+      }
+    }
+
+    private static class allocateTransactionId_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<allocateTransactionId_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, allocateTransactionId_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.success = iprot.readI64();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, allocateTransactionId_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeI64(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class allocateTransactionId_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public allocateTransactionId_resultTupleScheme getScheme() {
+        return new allocateTransactionId_resultTupleScheme();
+      }
+    }
+
+    private static class allocateTransactionId_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<allocateTransactionId_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, allocateTransactionId_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeI64(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, allocateTransactionId_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readI64();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class allocateTransactionIds_args implements org.apache.thrift.TBase<allocateTransactionIds_args, allocateTransactionIds_args._Fields>, java.io.Serializable, Cloneable, Comparable<allocateTransactionIds_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("allocateTransactionIds_args");
+
+    private static final org.apache.thrift.protocol.TField TABLE_IDENTIFIER_FIELD_DESC = new org.apache.thrift.protocol.TField("tableIdentifier", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField COUNT_FIELD_DESC = new org.apache.thrift.protocol.TField("count", org.apache.thrift.protocol.TType.I32, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new allocateTransactionIds_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new allocateTransactionIds_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.TableIdentifier tableIdentifier; // required
+    public int count; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      TABLE_IDENTIFIER((short)1, "tableIdentifier"),
+      COUNT((short)2, "count");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // TABLE_IDENTIFIER
+            return TABLE_IDENTIFIER;
+          case 2: // COUNT
+            return COUNT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __COUNT_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.TABLE_IDENTIFIER, new org.apache.thrift.meta_data.FieldMetaData("tableIdentifier", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.netease.arctic.ams.api.TableIdentifier.class)));
+      tmpMap.put(_Fields.COUNT, new org.apache.thrift.meta_data.FieldMetaData("count", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(allocateTransactionIds_args.class, metaDataMap);
+    }
+
+    public allocateTransactionIds_args() {
+    }
+
+    public allocateTransactionIds_args(
+      com.netease.arctic.ams.api.TableIdentifier tableIdentifier,
+      int count)
+    {
+      this();
+      this.tableIdentifier = tableIdentifier;
+      this.count = count;
+      setCountIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public allocateTransactionIds_args(allocateTransactionIds_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetTableIdentifier()) {
+        this.tableIdentifier = new com.netease.arctic.ams.api.TableIdentifier(other.tableIdentifier);
+      }
+      this.count = other.count;
+    }
+
+    public allocateTransactionIds_args deepCopy() {
+      return new allocateTransactionIds_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.tableIdentifier = null;
+      setCountIsSet(false);
+      this.count = 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public com.netease.arctic.ams.api.TableIdentifier getTableIdentifier() {
+      return this.tableIdentifier;
+    }
+
+    public allocateTransactionIds_args setTableIdentifier(@org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.TableIdentifier tableIdentifier) {
+      this.tableIdentifier = tableIdentifier;
+      return this;
+    }
+
+    public void unsetTableIdentifier() {
+      this.tableIdentifier = null;
+    }
+
+    /** Returns true if field tableIdentifier is set (has been assigned a value) and false otherwise */
+    public boolean isSetTableIdentifier() {
+      return this.tableIdentifier != null;
+    }
+
+    public void setTableIdentifierIsSet(boolean value) {
+      if (!value) {
+        this.tableIdentifier = null;
+      }
+    }
+
+    public int getCount() {
+      return this.count;
+    }
+
+    public allocateTransactionIds_args setCount(int count) {
+      this.count = count;
+      setCountIsSet(true);
+      return this;
+    }
+
+    public void unsetCount() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __COUNT_ISSET_ID);
+    }
+
+    /** Returns true if field count is set (has been assigned a value) and false otherwise */
+    public boolean isSetCount() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __COUNT_ISSET_ID);
+    }
+
+    public void setCountIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __COUNT_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case TABLE_IDENTIFIER:
+        if (value == null) {
+          unsetTableIdentifier();
+        } else {
+          setTableIdentifier((com.netease.arctic.ams.api.TableIdentifier)value);
+        }
+        break;
+
+      case COUNT:
+        if (value == null) {
+          unsetCount();
+        } else {
+          setCount((java.lang.Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case TABLE_IDENTIFIER:
+        return getTableIdentifier();
+
+      case COUNT:
+        return getCount();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case TABLE_IDENTIFIER:
+        return isSetTableIdentifier();
+      case COUNT:
+        return isSetCount();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof allocateTransactionIds_args)
+        return this.equals((allocateTransactionIds_args)that);
+      return false;
+    }
+
+    public boolean equals(allocateTransactionIds_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_tableIdentifier = true && this.isSetTableIdentifier();
+      boolean that_present_tableIdentifier = true && that.isSetTableIdentifier();
+      if (this_present_tableIdentifier || that_present_tableIdentifier) {
+        if (!(this_present_tableIdentifier && that_present_tableIdentifier))
+          return false;
+        if (!this.tableIdentifier.equals(that.tableIdentifier))
+          return false;
+      }
+
+      boolean this_present_count = true;
+      boolean that_present_count = true;
+      if (this_present_count || that_present_count) {
+        if (!(this_present_count && that_present_count))
+          return false;
+        if (this.count != that.count)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetTableIdentifier()) ? 131071 : 524287);
+      if (isSetTableIdentifier())
+        hashCode = hashCode * 8191 + tableIdentifier.hashCode();
+
+      hashCode = hashCode * 8191 + count;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(allocateTransactionIds_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetTableIdentifier()).compareTo(other.isSetTableIdentifier());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTableIdentifier()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tableIdentifier, other.tableIdentifier);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetCount()).compareTo(other.isSetCount());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCount()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.count, other.count);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("allocateTransactionIds_args(");
+      boolean first = true;
+
+      sb.append("tableIdentifier:");
+      if (this.tableIdentifier == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.tableIdentifier);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("count:");
+      sb.append(this.count);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (tableIdentifier != null) {
+        tableIdentifier.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class allocateTransactionIds_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public allocateTransactionIds_argsStandardScheme getScheme() {
+        return new allocateTransactionIds_argsStandardScheme();
+      }
+    }
+
+    private static class allocateTransactionIds_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<allocateTransactionIds_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, allocateTransactionIds_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // TABLE_IDENTIFIER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.tableIdentifier = new com.netease.arctic.ams.api.TableIdentifier();
+                struct.tableIdentifier.read(iprot);
+                struct.setTableIdentifierIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // COUNT
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.count = iprot.readI32();
+                struct.setCountIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, allocateTransactionIds_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.tableIdentifier != null) {
+          oprot.writeFieldBegin(TABLE_IDENTIFIER_FIELD_DESC);
+          struct.tableIdentifier.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(COUNT_FIELD_DESC);
+        oprot.writeI32(struct.count);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class allocateTransactionIds_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public allocateTransactionIds_argsTupleScheme getScheme() {
+        return new allocateTransactionIds_argsTupleScheme();
+      }
+    }
+
+    private static class allocateTransactionIds_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<allocateTransactionIds_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, allocateTransactionIds_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetTableIdentifier()) {
+          optionals.set(0);
+        }
+        if (struct.isSetCount()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetTableIdentifier()) {
+          struct.tableIdentifier.write(oprot);
+        }
+        if (struct.isSetCount()) {
+          oprot.writeI32(struct.count);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, allocateTransactionIds_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.tableIdentifier = new com.netease.arctic.ams.api.TableIdentifier();
+          struct.tableIdentifier.read(iprot);
+          struct.setTableIdentifierIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.count = iprot.readI32();
+          struct.setCountIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class allocateTransactionIds_result implements org.apache.thrift.TBase<allocateTransactionIds_result, allocateTransactionIds_result._Fields>, java.io.Serializable, Cloneable, Comparable<allocateTransactionIds_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("allocateTransactionIds_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField E1_FIELD_DESC = new org.apache.thrift.protocol.TField("e1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E2_FIELD_DESC = new org.apache.thrift.protocol.TField("e2", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new allocateTransactionIds_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new allocateTransactionIds_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.util.List<java.lang.Long> success; // required
+    public @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.NoSuchObjectException e1; // required
+    public @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.MetaException e2; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E1((short)1, "e1"),
+      E2((short)2, "e2");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E1
+            return E1;
+          case 2: // E2
+            return E2;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
+      tmpMap.put(_Fields.E1, new org.apache.thrift.meta_data.FieldMetaData("e1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.netease.arctic.ams.api.NoSuchObjectException.class)));
+      tmpMap.put(_Fields.E2, new org.apache.thrift.meta_data.FieldMetaData("e2", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.netease.arctic.ams.api.MetaException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(allocateTransactionIds_result.class, metaDataMap);
+    }
+
+    public allocateTransactionIds_result() {
+    }
+
+    public allocateTransactionIds_result(
+      java.util.List<java.lang.Long> success,
+      com.netease.arctic.ams.api.NoSuchObjectException e1,
+      com.netease.arctic.ams.api.MetaException e2)
+    {
+      this();
+      this.success = success;
+      this.e1 = e1;
+      this.e2 = e2;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public allocateTransactionIds_result(allocateTransactionIds_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<java.lang.Long> __this__success = new java.util.ArrayList<java.lang.Long>(other.success);
+        this.success = __this__success;
+      }
+      if (other.isSetE1()) {
+        this.e1 = new com.netease.arctic.ams.api.NoSuchObjectException(other.e1);
+      }
+      if (other.isSetE2()) {
+        this.e2 = new com.netease.arctic.ams.api.MetaException(other.e2);
+      }
+    }
+
+    public allocateTransactionIds_result deepCopy() {
+      return new allocateTransactionIds_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e1 = null;
+      this.e2 = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<java.lang.Long> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(long elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<java.lang.Long>();
+      }
+      this.success.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<java.lang.Long> getSuccess() {
+      return this.success;
+    }
+
+    public allocateTransactionIds_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<java.lang.Long> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public com.netease.arctic.ams.api.NoSuchObjectException getE1() {
+      return this.e1;
+    }
+
+    public allocateTransactionIds_result setE1(@org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.NoSuchObjectException e1) {
+      this.e1 = e1;
+      return this;
+    }
+
+    public void unsetE1() {
+      this.e1 = null;
+    }
+
+    /** Returns true if field e1 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE1() {
+      return this.e1 != null;
+    }
+
+    public void setE1IsSet(boolean value) {
+      if (!value) {
+        this.e1 = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public com.netease.arctic.ams.api.MetaException getE2() {
+      return this.e2;
+    }
+
+    public allocateTransactionIds_result setE2(@org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.MetaException e2) {
+      this.e2 = e2;
+      return this;
+    }
+
+    public void unsetE2() {
+      this.e2 = null;
+    }
+
+    /** Returns true if field e2 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE2() {
+      return this.e2 != null;
+    }
+
+    public void setE2IsSet(boolean value) {
+      if (!value) {
+        this.e2 = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.util.List<java.lang.Long>)value);
+        }
+        break;
+
+      case E1:
+        if (value == null) {
+          unsetE1();
+        } else {
+          setE1((com.netease.arctic.ams.api.NoSuchObjectException)value);
+        }
+        break;
+
+      case E2:
+        if (value == null) {
+          unsetE2();
+        } else {
+          setE2((com.netease.arctic.ams.api.MetaException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E1:
+        return getE1();
+
+      case E2:
+        return getE2();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E1:
+        return isSetE1();
+      case E2:
+        return isSetE2();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof allocateTransactionIds_result)
+        return this.equals((allocateTransactionIds_result)that);
+      return false;
+    }
+
+    public boolean equals(allocateTransactionIds_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e1 = true && this.isSetE1();
+      boolean that_present_e1 = true && that.isSetE1();
+      if (this_present_e1 || that_present_e1) {
+        if (!(this_present_e1 && that_present_e1))
+          return false;
+        if (!this.e1.equals(that.e1))
+          return false;
+      }
+
+      boolean this_present_e2 = true && this.isSetE2();
+      boolean that_present_e2 = true && that.isSetE2();
+      if (this_present_e2 || that_present_e2) {
+        if (!(this_present_e2 && that_present_e2))
+          return false;
+        if (!this.e2.equals(that.e2))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetE1()) ? 131071 : 524287);
+      if (isSetE1())
+        hashCode = hashCode * 8191 + e1.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetE2()) ? 131071 : 524287);
+      if (isSetE2())
+        hashCode = hashCode * 8191 + e2.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(allocateTransactionIds_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetE1()).compareTo(other.isSetE1());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE1()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e1, other.e1);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetE2()).compareTo(other.isSetE2());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE2()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e2, other.e2);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("allocateTransactionIds_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e1:");
+      if (this.e1 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e1);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e2:");
+      if (this.e2 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e2);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class allocateTransactionIds_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public allocateTransactionIds_resultStandardScheme getScheme() {
+        return new allocateTransactionIds_resultStandardScheme();
+      }
+    }
+
+    private static class allocateTransactionIds_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<allocateTransactionIds_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, allocateTransactionIds_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list166 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<java.lang.Long>(_list166.size);
+                  long _elem167;
+                  for (int _i168 = 0; _i168 < _list166.size; ++_i168)
+                  {
+                    _elem167 = iprot.readI64();
+                    struct.success.add(_elem167);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E1
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e1 = new com.netease.arctic.ams.api.NoSuchObjectException();
+                struct.e1.read(iprot);
+                struct.setE1IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // E2
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e2 = new com.netease.arctic.ams.api.MetaException();
+                struct.e2.read(iprot);
+                struct.setE2IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, allocateTransactionIds_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.success.size()));
+            for (long _iter169 : struct.success)
+            {
+              oprot.writeI64(_iter169);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.e1 != null) {
+          oprot.writeFieldBegin(E1_FIELD_DESC);
+          struct.e1.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e2 != null) {
+          oprot.writeFieldBegin(E2_FIELD_DESC);
+          struct.e2.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class allocateTransactionIds_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public allocateTransactionIds_resultTupleScheme getScheme() {
+        return new allocateTransactionIds_resultTupleScheme();
+      }
+    }
+
+    private static class allocateTransactionIds_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<allocateTransactionIds_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, allocateTransactionIds_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE1()) {
+          optionals.set(1);
+        }
+        if (struct.isSetE2()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (long _iter170 : struct.success)
+            {
+              oprot.writeI64(_iter170);
+            }
+          }
+        }
+        if (struct.isSetE1()) {
+          struct.e1.write(oprot);
+        }
+        if (struct.isSetE2()) {
+          struct.e2.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, allocateTransactionIds_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list171 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.success = new java.util.ArrayList<java.lang.Long>(_list171.size);
+            long _elem172;
+            for (int _i173 = 0; _i173 < _list171.size; ++_i173)
+            {
+              _elem172 = iprot.readI64();
+              struct.success.add(_elem172);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e1 = new com.netease.arctic.ams.api.NoSuchObjectException();
+          struct.e1.read(iprot);
+          struct.setE1IsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.e2 = new com.netease.arctic.ams.api.MetaException();
+          struct.e2.read(iprot);
+          struct.setE2IsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class waitTableCommit_args implements org.apache.thrift.TBase<waitTableCommit_args, waitTableCommit_args._Fields>, java.io.Serializable, Cloneable, Comparable<waitTableCommit_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("waitTableCommit_args");
+
+    private static final org.apache.thrift.protocol.TField TABLE_IDENTIFIER_FIELD_DESC = new org.apache.thrift.protocol.TField("tableIdentifier", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField CHANGE_SNAPSHOT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("changeSnapshotId", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField BASE_SNAPSHOT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("baseSnapshotId", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField WAIT_TIME_FIELD_DESC = new org.apache.thrift.protocol.TField("waitTime", org.apache.thrift.protocol.TType.I64, (short)4);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new waitTableCommit_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new waitTableCommit_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.TableIdentifier tableIdentifier; // required
+    public long changeSnapshotId; // required
+    public long baseSnapshotId; // required
+    public long waitTime; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      TABLE_IDENTIFIER((short)1, "tableIdentifier"),
+      CHANGE_SNAPSHOT_ID((short)2, "changeSnapshotId"),
+      BASE_SNAPSHOT_ID((short)3, "baseSnapshotId"),
+      WAIT_TIME((short)4, "waitTime");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // TABLE_IDENTIFIER
+            return TABLE_IDENTIFIER;
+          case 2: // CHANGE_SNAPSHOT_ID
+            return CHANGE_SNAPSHOT_ID;
+          case 3: // BASE_SNAPSHOT_ID
+            return BASE_SNAPSHOT_ID;
+          case 4: // WAIT_TIME
+            return WAIT_TIME;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __CHANGESNAPSHOTID_ISSET_ID = 0;
+    private static final int __BASESNAPSHOTID_ISSET_ID = 1;
+    private static final int __WAITTIME_ISSET_ID = 2;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.TABLE_IDENTIFIER, new org.apache.thrift.meta_data.FieldMetaData("tableIdentifier", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.netease.arctic.ams.api.TableIdentifier.class)));
+      tmpMap.put(_Fields.CHANGE_SNAPSHOT_ID, new org.apache.thrift.meta_data.FieldMetaData("changeSnapshotId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.BASE_SNAPSHOT_ID, new org.apache.thrift.meta_data.FieldMetaData("baseSnapshotId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.WAIT_TIME, new org.apache.thrift.meta_data.FieldMetaData("waitTime", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(waitTableCommit_args.class, metaDataMap);
+    }
+
+    public waitTableCommit_args() {
+    }
+
+    public waitTableCommit_args(
+      com.netease.arctic.ams.api.TableIdentifier tableIdentifier,
+      long changeSnapshotId,
+      long baseSnapshotId,
+      long waitTime)
+    {
+      this();
+      this.tableIdentifier = tableIdentifier;
+      this.changeSnapshotId = changeSnapshotId;
+      setChangeSnapshotIdIsSet(true);
+      this.baseSnapshotId = baseSnapshotId;
+      setBaseSnapshotIdIsSet(true);
+      this.waitTime = waitTime;
+      setWaitTimeIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public waitTableCommit_args(waitTableCommit_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetTableIdentifier()) {
+        this.tableIdentifier = new com.netease.arctic.ams.api.TableIdentifier(other.tableIdentifier);
+      }
+      this.changeSnapshotId = other.changeSnapshotId;
+      this.baseSnapshotId = other.baseSnapshotId;
+      this.waitTime = other.waitTime;
+    }
+
+    public waitTableCommit_args deepCopy() {
+      return new waitTableCommit_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.tableIdentifier = null;
+      setChangeSnapshotIdIsSet(false);
+      this.changeSnapshotId = 0;
+      setBaseSnapshotIdIsSet(false);
+      this.baseSnapshotId = 0;
+      setWaitTimeIsSet(false);
+      this.waitTime = 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public com.netease.arctic.ams.api.TableIdentifier getTableIdentifier() {
+      return this.tableIdentifier;
+    }
+
+    public waitTableCommit_args setTableIdentifier(@org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.TableIdentifier tableIdentifier) {
+      this.tableIdentifier = tableIdentifier;
+      return this;
+    }
+
+    public void unsetTableIdentifier() {
+      this.tableIdentifier = null;
+    }
+
+    /** Returns true if field tableIdentifier is set (has been assigned a value) and false otherwise */
+    public boolean isSetTableIdentifier() {
+      return this.tableIdentifier != null;
+    }
+
+    public void setTableIdentifierIsSet(boolean value) {
+      if (!value) {
+        this.tableIdentifier = null;
+      }
+    }
+
+    public long getChangeSnapshotId() {
+      return this.changeSnapshotId;
+    }
+
+    public waitTableCommit_args setChangeSnapshotId(long changeSnapshotId) {
+      this.changeSnapshotId = changeSnapshotId;
+      setChangeSnapshotIdIsSet(true);
+      return this;
+    }
+
+    public void unsetChangeSnapshotId() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __CHANGESNAPSHOTID_ISSET_ID);
+    }
+
+    /** Returns true if field changeSnapshotId is set (has been assigned a value) and false otherwise */
+    public boolean isSetChangeSnapshotId() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __CHANGESNAPSHOTID_ISSET_ID);
+    }
+
+    public void setChangeSnapshotIdIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __CHANGESNAPSHOTID_ISSET_ID, value);
+    }
+
+    public long getBaseSnapshotId() {
+      return this.baseSnapshotId;
+    }
+
+    public waitTableCommit_args setBaseSnapshotId(long baseSnapshotId) {
+      this.baseSnapshotId = baseSnapshotId;
+      setBaseSnapshotIdIsSet(true);
+      return this;
+    }
+
+    public void unsetBaseSnapshotId() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __BASESNAPSHOTID_ISSET_ID);
+    }
+
+    /** Returns true if field baseSnapshotId is set (has been assigned a value) and false otherwise */
+    public boolean isSetBaseSnapshotId() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __BASESNAPSHOTID_ISSET_ID);
+    }
+
+    public void setBaseSnapshotIdIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __BASESNAPSHOTID_ISSET_ID, value);
+    }
+
+    public long getWaitTime() {
+      return this.waitTime;
+    }
+
+    public waitTableCommit_args setWaitTime(long waitTime) {
+      this.waitTime = waitTime;
+      setWaitTimeIsSet(true);
+      return this;
+    }
+
+    public void unsetWaitTime() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __WAITTIME_ISSET_ID);
+    }
+
+    /** Returns true if field waitTime is set (has been assigned a value) and false otherwise */
+    public boolean isSetWaitTime() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __WAITTIME_ISSET_ID);
+    }
+
+    public void setWaitTimeIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __WAITTIME_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case TABLE_IDENTIFIER:
+        if (value == null) {
+          unsetTableIdentifier();
+        } else {
+          setTableIdentifier((com.netease.arctic.ams.api.TableIdentifier)value);
+        }
+        break;
+
+      case CHANGE_SNAPSHOT_ID:
+        if (value == null) {
+          unsetChangeSnapshotId();
+        } else {
+          setChangeSnapshotId((java.lang.Long)value);
+        }
+        break;
+
+      case BASE_SNAPSHOT_ID:
+        if (value == null) {
+          unsetBaseSnapshotId();
+        } else {
+          setBaseSnapshotId((java.lang.Long)value);
+        }
+        break;
+
+      case WAIT_TIME:
+        if (value == null) {
+          unsetWaitTime();
+        } else {
+          setWaitTime((java.lang.Long)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case TABLE_IDENTIFIER:
+        return getTableIdentifier();
+
+      case CHANGE_SNAPSHOT_ID:
+        return getChangeSnapshotId();
+
+      case BASE_SNAPSHOT_ID:
+        return getBaseSnapshotId();
+
+      case WAIT_TIME:
+        return getWaitTime();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case TABLE_IDENTIFIER:
+        return isSetTableIdentifier();
+      case CHANGE_SNAPSHOT_ID:
+        return isSetChangeSnapshotId();
+      case BASE_SNAPSHOT_ID:
+        return isSetBaseSnapshotId();
+      case WAIT_TIME:
+        return isSetWaitTime();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof waitTableCommit_args)
+        return this.equals((waitTableCommit_args)that);
+      return false;
+    }
+
+    public boolean equals(waitTableCommit_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_tableIdentifier = true && this.isSetTableIdentifier();
+      boolean that_present_tableIdentifier = true && that.isSetTableIdentifier();
+      if (this_present_tableIdentifier || that_present_tableIdentifier) {
+        if (!(this_present_tableIdentifier && that_present_tableIdentifier))
+          return false;
+        if (!this.tableIdentifier.equals(that.tableIdentifier))
+          return false;
+      }
+
+      boolean this_present_changeSnapshotId = true;
+      boolean that_present_changeSnapshotId = true;
+      if (this_present_changeSnapshotId || that_present_changeSnapshotId) {
+        if (!(this_present_changeSnapshotId && that_present_changeSnapshotId))
+          return false;
+        if (this.changeSnapshotId != that.changeSnapshotId)
+          return false;
+      }
+
+      boolean this_present_baseSnapshotId = true;
+      boolean that_present_baseSnapshotId = true;
+      if (this_present_baseSnapshotId || that_present_baseSnapshotId) {
+        if (!(this_present_baseSnapshotId && that_present_baseSnapshotId))
+          return false;
+        if (this.baseSnapshotId != that.baseSnapshotId)
+          return false;
+      }
+
+      boolean this_present_waitTime = true;
+      boolean that_present_waitTime = true;
+      if (this_present_waitTime || that_present_waitTime) {
+        if (!(this_present_waitTime && that_present_waitTime))
+          return false;
+        if (this.waitTime != that.waitTime)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetTableIdentifier()) ? 131071 : 524287);
+      if (isSetTableIdentifier())
+        hashCode = hashCode * 8191 + tableIdentifier.hashCode();
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(changeSnapshotId);
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(baseSnapshotId);
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(waitTime);
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(waitTableCommit_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetTableIdentifier()).compareTo(other.isSetTableIdentifier());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTableIdentifier()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tableIdentifier, other.tableIdentifier);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetChangeSnapshotId()).compareTo(other.isSetChangeSnapshotId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetChangeSnapshotId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.changeSnapshotId, other.changeSnapshotId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetBaseSnapshotId()).compareTo(other.isSetBaseSnapshotId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBaseSnapshotId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.baseSnapshotId, other.baseSnapshotId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetWaitTime()).compareTo(other.isSetWaitTime());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetWaitTime()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.waitTime, other.waitTime);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("waitTableCommit_args(");
+      boolean first = true;
+
+      sb.append("tableIdentifier:");
+      if (this.tableIdentifier == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.tableIdentifier);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("changeSnapshotId:");
+      sb.append(this.changeSnapshotId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("baseSnapshotId:");
+      sb.append(this.baseSnapshotId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("waitTime:");
+      sb.append(this.waitTime);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (tableIdentifier != null) {
+        tableIdentifier.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class waitTableCommit_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public waitTableCommit_argsStandardScheme getScheme() {
+        return new waitTableCommit_argsStandardScheme();
+      }
+    }
+
+    private static class waitTableCommit_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<waitTableCommit_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, waitTableCommit_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // TABLE_IDENTIFIER
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.tableIdentifier = new com.netease.arctic.ams.api.TableIdentifier();
+                struct.tableIdentifier.read(iprot);
+                struct.setTableIdentifierIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CHANGE_SNAPSHOT_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.changeSnapshotId = iprot.readI64();
+                struct.setChangeSnapshotIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // BASE_SNAPSHOT_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.baseSnapshotId = iprot.readI64();
+                struct.setBaseSnapshotIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // WAIT_TIME
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.waitTime = iprot.readI64();
+                struct.setWaitTimeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, waitTableCommit_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.tableIdentifier != null) {
+          oprot.writeFieldBegin(TABLE_IDENTIFIER_FIELD_DESC);
+          struct.tableIdentifier.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(CHANGE_SNAPSHOT_ID_FIELD_DESC);
+        oprot.writeI64(struct.changeSnapshotId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(BASE_SNAPSHOT_ID_FIELD_DESC);
+        oprot.writeI64(struct.baseSnapshotId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(WAIT_TIME_FIELD_DESC);
+        oprot.writeI64(struct.waitTime);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class waitTableCommit_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public waitTableCommit_argsTupleScheme getScheme() {
+        return new waitTableCommit_argsTupleScheme();
+      }
+    }
+
+    private static class waitTableCommit_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<waitTableCommit_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, waitTableCommit_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetTableIdentifier()) {
+          optionals.set(0);
+        }
+        if (struct.isSetChangeSnapshotId()) {
+          optionals.set(1);
+        }
+        if (struct.isSetBaseSnapshotId()) {
+          optionals.set(2);
+        }
+        if (struct.isSetWaitTime()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetTableIdentifier()) {
+          struct.tableIdentifier.write(oprot);
+        }
+        if (struct.isSetChangeSnapshotId()) {
+          oprot.writeI64(struct.changeSnapshotId);
+        }
+        if (struct.isSetBaseSnapshotId()) {
+          oprot.writeI64(struct.baseSnapshotId);
+        }
+        if (struct.isSetWaitTime()) {
+          oprot.writeI64(struct.waitTime);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, waitTableCommit_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.tableIdentifier = new com.netease.arctic.ams.api.TableIdentifier();
+          struct.tableIdentifier.read(iprot);
+          struct.setTableIdentifierIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.changeSnapshotId = iprot.readI64();
+          struct.setChangeSnapshotIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.baseSnapshotId = iprot.readI64();
+          struct.setBaseSnapshotIdIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.waitTime = iprot.readI64();
+          struct.setWaitTimeIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class waitTableCommit_result implements org.apache.thrift.TBase<waitTableCommit_result, waitTableCommit_result._Fields>, java.io.Serializable, Cloneable, Comparable<waitTableCommit_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("waitTableCommit_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E1_FIELD_DESC = new org.apache.thrift.protocol.TField("e1", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E2_FIELD_DESC = new org.apache.thrift.protocol.TField("e2", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new waitTableCommit_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new waitTableCommit_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable TableCommitEvent success; // required
+    public @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.NoSuchObjectException e1; // required
+    public @org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.MetaException e2; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E1((short)1, "e1"),
+      E2((short)2, "e2");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E1
+            return E1;
+          case 2: // E2
+            return E2;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TableCommitEvent.class)));
+      tmpMap.put(_Fields.E1, new org.apache.thrift.meta_data.FieldMetaData("e1", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.netease.arctic.ams.api.NoSuchObjectException.class)));
+      tmpMap.put(_Fields.E2, new org.apache.thrift.meta_data.FieldMetaData("e2", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.netease.arctic.ams.api.MetaException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(waitTableCommit_result.class, metaDataMap);
+    }
+
+    public waitTableCommit_result() {
+    }
+
+    public waitTableCommit_result(
+      TableCommitEvent success,
+      com.netease.arctic.ams.api.NoSuchObjectException e1,
+      com.netease.arctic.ams.api.MetaException e2)
+    {
+      this();
+      this.success = success;
+      this.e1 = e1;
+      this.e2 = e2;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public waitTableCommit_result(waitTableCommit_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new TableCommitEvent(other.success);
+      }
+      if (other.isSetE1()) {
+        this.e1 = new com.netease.arctic.ams.api.NoSuchObjectException(other.e1);
+      }
+      if (other.isSetE2()) {
+        this.e2 = new com.netease.arctic.ams.api.MetaException(other.e2);
+      }
+    }
+
+    public waitTableCommit_result deepCopy() {
+      return new waitTableCommit_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e1 = null;
+      this.e2 = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public TableCommitEvent getSuccess() {
+      return this.success;
+    }
+
+    public waitTableCommit_result setSuccess(@org.apache.thrift.annotation.Nullable TableCommitEvent success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public com.netease.arctic.ams.api.NoSuchObjectException getE1() {
+      return this.e1;
+    }
+
+    public waitTableCommit_result setE1(@org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.NoSuchObjectException e1) {
+      this.e1 = e1;
+      return this;
+    }
+
+    public void unsetE1() {
+      this.e1 = null;
+    }
+
+    /** Returns true if field e1 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE1() {
+      return this.e1 != null;
+    }
+
+    public void setE1IsSet(boolean value) {
+      if (!value) {
+        this.e1 = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public com.netease.arctic.ams.api.MetaException getE2() {
+      return this.e2;
+    }
+
+    public waitTableCommit_result setE2(@org.apache.thrift.annotation.Nullable com.netease.arctic.ams.api.MetaException e2) {
+      this.e2 = e2;
+      return this;
+    }
+
+    public void unsetE2() {
+      this.e2 = null;
+    }
+
+    /** Returns true if field e2 is set (has been assigned a value) and false otherwise */
+    public boolean isSetE2() {
+      return this.e2 != null;
+    }
+
+    public void setE2IsSet(boolean value) {
+      if (!value) {
+        this.e2 = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((TableCommitEvent)value);
+        }
+        break;
+
+      case E1:
+        if (value == null) {
+          unsetE1();
+        } else {
+          setE1((com.netease.arctic.ams.api.NoSuchObjectException)value);
+        }
+        break;
+
+      case E2:
+        if (value == null) {
+          unsetE2();
+        } else {
+          setE2((com.netease.arctic.ams.api.MetaException)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E1:
+        return getE1();
+
+      case E2:
+        return getE2();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E1:
+        return isSetE1();
+      case E2:
+        return isSetE2();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof waitTableCommit_result)
+        return this.equals((waitTableCommit_result)that);
+      return false;
+    }
+
+    public boolean equals(waitTableCommit_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e1 = true && this.isSetE1();
+      boolean that_present_e1 = true && that.isSetE1();
+      if (this_present_e1 || that_present_e1) {
+        if (!(this_present_e1 && that_present_e1))
+          return false;
+        if (!this.e1.equals(that.e1))
+          return false;
+      }
+
+      boolean this_present_e2 = true && this.isSetE2();
+      boolean that_present_e2 = true && that.isSetE2();
+      if (this_present_e2 || that_present_e2) {
+        if (!(this_present_e2 && that_present_e2))
+          return false;
+        if (!this.e2.equals(that.e2))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetE1()) ? 131071 : 524287);
+      if (isSetE1())
+        hashCode = hashCode * 8191 + e1.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetE2()) ? 131071 : 524287);
+      if (isSetE2())
+        hashCode = hashCode * 8191 + e2.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(waitTableCommit_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetE1()).compareTo(other.isSetE1());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE1()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e1, other.e1);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetE2()).compareTo(other.isSetE2());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE2()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e2, other.e2);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("waitTableCommit_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e1:");
+      if (this.e1 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e1);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e2:");
+      if (this.e2 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e2);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class waitTableCommit_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public waitTableCommit_resultStandardScheme getScheme() {
+        return new waitTableCommit_resultStandardScheme();
+      }
+    }
+
+    private static class waitTableCommit_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<waitTableCommit_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, waitTableCommit_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new TableCommitEvent();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E1
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e1 = new com.netease.arctic.ams.api.NoSuchObjectException();
+                struct.e1.read(iprot);
+                struct.setE1IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // E2
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e2 = new com.netease.arctic.ams.api.MetaException();
+                struct.e2.read(iprot);
+                struct.setE2IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, waitTableCommit_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e1 != null) {
+          oprot.writeFieldBegin(E1_FIELD_DESC);
+          struct.e1.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e2 != null) {
+          oprot.writeFieldBegin(E2_FIELD_DESC);
+          struct.e2.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class waitTableCommit_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public waitTableCommit_resultTupleScheme getScheme() {
+        return new waitTableCommit_resultTupleScheme();
+      }
+    }
+
+    private static class waitTableCommit_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<waitTableCommit_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, waitTableCommit_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE1()) {
+          optionals.set(1);
+        }
+        if (struct.isSetE2()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE1()) {
+          struct.e1.write(oprot);
+        }
+        if (struct.isSetE2()) {
+          struct.e2.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, waitTableCommit_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.success = new TableCommitEvent();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e1 = new com.netease.arctic.ams.api.NoSuchObjectException();
+          struct.e1.read(iprot);
+          struct.setE1IsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.e2 = new com.netease.arctic.ams.api.MetaException();
+          struct.e2.read(iprot);
+          struct.setE2IsSet(true);
         }
       }
     }
@@ -7,7 +7,7 @@
 package com.netease.arctic.ams.api;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2022-08-25")
+@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2026-10-19")
 public class OptimizeManager {
 
   /**
@@ -22,6 +22,8 @@ public class OptimizeManager {
 
     public void reportOptimizeResult(OptimizeTaskStat optimizeTaskStat) throws org.apache.thrift.TException;
 
+    public void reportOptimizeTaskProgress(OptimizeTaskProgress optimizeTaskProgress) throws org.apache.thrift.TException;
+
     public void reportOptimizerState(OptimizerStateReport reportData) throws org.apache.thrift.TException;
 
   }
@@ -34,6 +36,8 @@ public class OptimizeManager {
 
     public void reportOptimizeResult(OptimizeTaskStat optimizeTaskStat, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
+    public void reportOptimizeTaskProgress(OptimizeTaskProgress optimizeTaskProgress, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+
     public void reportOptimizerState(OptimizerStateReport reportData, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
   }
@@ -126,6 +130,26 @@ public class OptimizeManager {
       return;
     }
 
+    public void reportOptimizeTaskProgress(OptimizeTaskProgress optimizeTaskProgress) throws org.apache.thrift.TException
+    {
+      send_reportOptimizeTaskProgress(optimizeTaskProgress);
+      recv_reportOptimizeTaskProgress();
+    }
+
+    public void send_reportOptimizeTaskProgress(OptimizeTaskProgress optimizeTaskProgress) throws org.apache.thrift.TException
+    {
+      reportOptimizeTaskProgress_args args = new reportOptimizeTaskProgress_args();
+      args.setOptimizeTaskProgress(optimizeTaskProgress);
+      sendBase("reportOptimizeTaskProgress", args);
+    }
+
+    public void recv_reportOptimizeTaskProgress() throws org.apache.thrift.TException
+    {
+      reportOptimizeTaskProgress_result result = new reportOptimizeTaskProgress_result();
+      receiveBase(result, "reportOptimizeTaskProgress");
+      return;
+    }
+
     public void reportOptimizerState(OptimizerStateReport reportData) throws org.apache.thrift.TException
     {
       send_reportOptimizerState(reportData);
@@ -266,6 +290,38 @@ public class OptimizeManager {
       }
     }
 
+    public void reportOptimizeTaskProgress(OptimizeTaskProgress optimizeTaskProgress, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      reportOptimizeTaskProgress_call method_call = new reportOptimizeTaskProgress_call(optimizeTaskProgress, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class reportOptimizeTaskProgress_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private OptimizeTaskProgress optimizeTaskProgress;
+      public reportOptimizeTaskProgress_call(OptimizeTaskProgress optimizeTaskProgress, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.optimizeTaskProgress = optimizeTaskProgress;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("reportOptimizeTaskProgress", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        reportOptimizeTaskProgress_args args = new reportOptimizeTaskProgress_args();
+        args.setOptimizeTaskProgress(optimizeTaskProgress);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
     public void reportOptimizerState(OptimizerStateReport reportData, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       reportOptimizerState_call method_call = new reportOptimizerState_call(reportData, resultHandler, this, ___protocolFactory, ___transport);
@@ -314,6 +370,7 @@ public class OptimizeManager {
       processMap.put("ping", new ping());
       processMap.put("pollTask", new pollTask());
       processMap.put("reportOptimizeResult", new reportOptimizeResult());
+      processMap.put("reportOptimizeTaskProgress", new reportOptimizeTaskProgress());
       processMap.put("reportOptimizerState", new reportOptimizerState());
       return processMap;
     }
@@ -397,6 +454,31 @@ public class OptimizeManager {
       }
     }
 
+    public static class reportOptimizeTaskProgress<I extends Iface> extends org.apache.thrift.ProcessFunction<I, reportOptimizeTaskProgress_args> {
+      public reportOptimizeTaskProgress() {
+        super("reportOptimizeTaskProgress");
+      }
+
+      public reportOptimizeTaskProgress_args getEmptyArgsInstance() {
+        return new reportOptimizeTaskProgress_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public reportOptimizeTaskProgress_result getResult(I iface, reportOptimizeTaskProgress_args args) throws org.apache.thrift.TException {
+        reportOptimizeTaskProgress_result result = new reportOptimizeTaskProgress_result();
+        iface.reportOptimizeTaskProgress(args.optimizeTaskProgress);
+        return result;
+      }
+    }
+
     public static class reportOptimizerState<I extends Iface> extends org.apache.thrift.ProcessFunction<I, reportOptimizerState_args> {
       public reportOptimizerState() {
         super("reportOptimizerState");
@@ -438,6 +520,7 @@ public class OptimizeManager {
       processMap.put("ping", new ping());
       processMap.put("pollTask", new pollTask());
       processMap.put("reportOptimizeResult", new reportOptimizeResult());
+      processMap.put("reportOptimizeTaskProgress", new reportOptimizeTaskProgress());
       processMap.put("reportOptimizerState", new reportOptimizerState());
       return processMap;
     }
@@ -627,6 +710,66 @@ public class OptimizeManager {
       }
     }
 
+    public static class reportOptimizeTaskProgress<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, reportOptimizeTaskProgress_args, Void> {
+      public reportOptimizeTaskProgress() {
+        super("reportOptimizeTaskProgress");
+      }
+
+      public reportOptimizeTaskProgress_args getEmptyArgsInstance() {
+        return new reportOptimizeTaskProgress_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            reportOptimizeTaskProgress_result result = new reportOptimizeTaskProgress_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            reportOptimizeTaskProgress_result result = new reportOptimizeTaskProgress_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, reportOptimizeTaskProgress_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.reportOptimizeTaskProgress(args.optimizeTaskProgress,resultHandler);
+      }
+    }
+
     public static class reportOptimizerState<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, reportOptimizerState_args, Void> {
       public reportOptimizerState() {
         super("reportOptimizerState");
@@ -2975,6 +3118,632 @@ public class OptimizeManager {
     }
   }
 
+  public static class reportOptimizeTaskProgress_args implements org.apache.thrift.TBase<reportOptimizeTaskProgress_args, reportOptimizeTaskProgress_args._Fields>, java.io.Serializable, Cloneable, Comparable<reportOptimizeTaskProgress_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("reportOptimizeTaskProgress_args");
+
+    private static final org.apache.thrift.protocol.TField OPTIMIZE_TASK_PROGRESS_FIELD_DESC = new org.apache.thrift.protocol.TField("optimizeTaskProgress", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new reportOptimizeTaskProgress_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new reportOptimizeTaskProgress_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable OptimizeTaskProgress optimizeTaskProgress; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      OPTIMIZE_TASK_PROGRESS((short)1, "optimizeTaskProgress");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // OPTIMIZE_TASK_PROGRESS
+            return OPTIMIZE_TASK_PROGRESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.OPTIMIZE_TASK_PROGRESS, new org.apache.thrift.meta_data.FieldMetaData("optimizeTaskProgress", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OptimizeTaskProgress.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(reportOptimizeTaskProgress_args.class, metaDataMap);
+    }
+
+    public reportOptimizeTaskProgress_args() {
+    }
+
+    public reportOptimizeTaskProgress_args(
+      OptimizeTaskProgress optimizeTaskProgress)
+    {
+      this();
+      this.optimizeTaskProgress = optimizeTaskProgress;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public reportOptimizeTaskProgress_args(reportOptimizeTaskProgress_args other) {
+      if (other.isSetOptimizeTaskProgress()) {
+        this.optimizeTaskProgress = new OptimizeTaskProgress(other.optimizeTaskProgress);
+      }
+    }
+
+    public reportOptimizeTaskProgress_args deepCopy() {
+      return new reportOptimizeTaskProgress_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.optimizeTaskProgress = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public OptimizeTaskProgress getOptimizeTaskProgress() {
+      return this.optimizeTaskProgress;
+    }
+
+    public reportOptimizeTaskProgress_args setOptimizeTaskProgress(@org.apache.thrift.annotation.Nullable OptimizeTaskProgress optimizeTaskProgress) {
+      this.optimizeTaskProgress = optimizeTaskProgress;
+      return this;
+    }
+
+    public void unsetOptimizeTaskProgress() {
+      this.optimizeTaskProgress = null;
+    }
+
+    /** Returns true if field optimizeTaskProgress is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptimizeTaskProgress() {
+      return this.optimizeTaskProgress != null;
+    }
+
+    public void setOptimizeTaskProgressIsSet(boolean value) {
+      if (!value) {
+        this.optimizeTaskProgress = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case OPTIMIZE_TASK_PROGRESS:
+        if (value == null) {
+          unsetOptimizeTaskProgress();
+        } else {
+          setOptimizeTaskProgress((OptimizeTaskProgress)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case OPTIMIZE_TASK_PROGRESS:
+        return getOptimizeTaskProgress();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case OPTIMIZE_TASK_PROGRESS:
+        return isSetOptimizeTaskProgress();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof reportOptimizeTaskProgress_args)
+        return this.equals((reportOptimizeTaskProgress_args)that);
+      return false;
+    }
+
+    public boolean equals(reportOptimizeTaskProgress_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_optimizeTaskProgress = true && this.isSetOptimizeTaskProgress();
+      boolean that_present_optimizeTaskProgress = true && that.isSetOptimizeTaskProgress();
+      if (this_present_optimizeTaskProgress || that_present_optimizeTaskProgress) {
+        if (!(this_present_optimizeTaskProgress && that_present_optimizeTaskProgress))
+          return false;
+        if (!this.optimizeTaskProgress.equals(that.optimizeTaskProgress))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetOptimizeTaskProgress()) ? 131071 : 524287);
+      if (isSetOptimizeTaskProgress())
+        hashCode = hashCode * 8191 + optimizeTaskProgress.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(reportOptimizeTaskProgress_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetOptimizeTaskProgress()).compareTo(other.isSetOptimizeTaskProgress());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptimizeTaskProgress()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.optimizeTaskProgress, other.optimizeTaskProgress);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("reportOptimizeTaskProgress_args(");
+      boolean first = true;
+
+      sb.append("optimizeTaskProgress:");
+      if (this.optimizeTaskProgress == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.optimizeTaskProgress);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (optimizeTaskProgress != null) {
+        optimizeTaskProgress.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class reportOptimizeTaskProgress_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public reportOptimizeTaskProgress_argsStandardScheme getScheme() {
+        return new reportOptimizeTaskProgress_argsStandardScheme();
+      }
+    }
+
+    private static class reportOptimizeTaskProgress_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<reportOptimizeTaskProgress_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, reportOptimizeTaskProgress_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // OPTIMIZE_TASK_PROGRESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.optimizeTaskProgress = new OptimizeTaskProgress();
+                struct.optimizeTaskProgress.read(iprot);
+                struct.setOptimizeTaskProgressIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, reportOptimizeTaskProgress_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.optimizeTaskProgress != null) {
+          oprot.writeFieldBegin(OPTIMIZE_TASK_PROGRESS_FIELD_DESC);
+          struct.optimizeTaskProgress.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class reportOptimizeTaskProgress_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public reportOptimizeTaskProgress_argsTupleScheme getScheme() {
+        return new reportOptimizeTaskProgress_argsTupleScheme();
+      }
+    }
+
+    private static class reportOptimizeTaskProgress_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<reportOptimizeTaskProgress_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, reportOptimizeTaskProgress_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetOptimizeTaskProgress()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetOptimizeTaskProgress()) {
+          struct.optimizeTaskProgress.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, reportOptimizeTaskProgress_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.optimizeTaskProgress = new OptimizeTaskProgress();
+          struct.optimizeTaskProgress.read(iprot);
+          struct.setOptimizeTaskProgressIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class reportOptimizeTaskProgress_result implements org.apache.thrift.TBase<reportOptimizeTaskProgress_result, reportOptimizeTaskProgress_result._Fields>, java.io.Serializable, Cloneable, Comparable<reportOptimizeTaskProgress_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("reportOptimizeTaskProgress_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new reportOptimizeTaskProgress_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new reportOptimizeTaskProgress_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(reportOptimizeTaskProgress_result.class, metaDataMap);
+    }
+
+    public reportOptimizeTaskProgress_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public reportOptimizeTaskProgress_result(reportOptimizeTaskProgress_result other) {
+    }
+
+    public reportOptimizeTaskProgress_result deepCopy() {
+      return new reportOptimizeTaskProgress_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof reportOptimizeTaskProgress_result)
+        return this.equals((reportOptimizeTaskProgress_result)that);
+      return false;
+    }
+
+    public boolean equals(reportOptimizeTaskProgress_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(reportOptimizeTaskProgress_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("reportOptimizeTaskProgress_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class reportOptimizeTaskProgress_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public reportOptimizeTaskProgress_resultStandardScheme getScheme() {
+        return new reportOptimizeTaskProgress_resultStandardScheme();
+      }
+    }
+
+    private static class reportOptimizeTaskProgress_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<reportOptimizeTaskProgress_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, reportOptimizeTaskProgress_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, reportOptimizeTaskProgress_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class reportOptimizeTaskProgress_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public reportOptimizeTaskProgress_resultTupleScheme getScheme() {
+        return new reportOptimizeTaskProgress_resultTupleScheme();
+      }
+    }
+
+    private static class reportOptimizeTaskProgress_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<reportOptimizeTaskProgress_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, reportOptimizeTaskProgress_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, reportOptimizeTaskProgress_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
   public static class reportOptimizerState_args implements org.apache.thrift.TBase<reportOptimizerState_args, reportOptimizerState_args._Fields>, java.io.Serializable, Cloneable, Comparable<reportOptimizerState_args>   {
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("reportOptimizerState_args");
 
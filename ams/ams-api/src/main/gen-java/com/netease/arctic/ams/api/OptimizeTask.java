@@ -7,7 +7,7 @@
 package com.netease.arctic.ams.api;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2022-08-22")
+@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2026-10-19")
 public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, OptimizeTask._Fields>, java.io.Serializable, Cloneable, Comparable<OptimizeTask> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("OptimizeTask");
 
@@ -19,6 +19,7 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
   private static final org.apache.thrift.protocol.TField POS_DELETE_FILES_FIELD_DESC = new org.apache.thrift.protocol.TField("posDeleteFiles", org.apache.thrift.protocol.TType.LIST, (short)6);
   private static final org.apache.thrift.protocol.TField SOURCE_NODES_FIELD_DESC = new org.apache.thrift.protocol.TField("sourceNodes", org.apache.thrift.protocol.TType.LIST, (short)7);
   private static final org.apache.thrift.protocol.TField PROPERTIES_FIELD_DESC = new org.apache.thrift.protocol.TField("properties", org.apache.thrift.protocol.TType.MAP, (short)8);
+  private static final org.apache.thrift.protocol.TField COMPLETED_FILES_FIELD_DESC = new org.apache.thrift.protocol.TField("completedFiles", org.apache.thrift.protocol.TType.LIST, (short)9);
 
   private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new OptimizeTaskStandardSchemeFactory();
   private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new OptimizeTaskTupleSchemeFactory();
@@ -31,6 +32,7 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
   public @org.apache.thrift.annotation.Nullable java.util.List<java.nio.ByteBuffer> posDeleteFiles; // optional
   public @org.apache.thrift.annotation.Nullable java.util.List<TreeNode> sourceNodes; // optional
   public @org.apache.thrift.annotation.Nullable java.util.Map<java.lang.String,java.lang.String> properties; // optional
+  public @org.apache.thrift.annotation.Nullable java.util.List<java.nio.ByteBuffer> completedFiles; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -41,7 +43,8 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
     BASE_FILES((short)5, "baseFiles"),
     POS_DELETE_FILES((short)6, "posDeleteFiles"),
     SOURCE_NODES((short)7, "sourceNodes"),
-    PROPERTIES((short)8, "properties");
+    PROPERTIES((short)8, "properties"),
+    COMPLETED_FILES((short)9, "completedFiles");
 
     private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -73,6 +76,8 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
           return SOURCE_NODES;
         case 8: // PROPERTIES
           return PROPERTIES;
+        case 9: // COMPLETED_FILES
+          return COMPLETED_FILES;
         default:
           return null;
       }
@@ -114,7 +119,7 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
   }
 
   // isset id assignments
-  private static final _Fields optionals[] = {_Fields.INSERT_FILES,_Fields.DELETE_FILES,_Fields.BASE_FILES,_Fields.POS_DELETE_FILES,_Fields.SOURCE_NODES,_Fields.PROPERTIES};
+  private static final _Fields optionals[] = {_Fields.INSERT_FILES,_Fields.DELETE_FILES,_Fields.BASE_FILES,_Fields.POS_DELETE_FILES,_Fields.SOURCE_NODES,_Fields.PROPERTIES,_Fields.COMPLETED_FILES};
   public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -141,6 +146,9 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
         new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
             new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
             new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+    tmpMap.put(_Fields.COMPLETED_FILES, new org.apache.thrift.meta_data.FieldMetaData("completedFiles", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING            , true))));
     metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(OptimizeTask.class, metaDataMap);
   }
@@ -194,6 +202,10 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
       java.util.Map<java.lang.String,java.lang.String> __this__properties = new java.util.HashMap<java.lang.String,java.lang.String>(other.properties);
       this.properties = __this__properties;
     }
+    if (other.isSetCompletedFiles()) {
+      java.util.List<java.nio.ByteBuffer> __this__completedFiles = new java.util.ArrayList<java.nio.ByteBuffer>(other.completedFiles);
+      this.completedFiles = __this__completedFiles;
+    }
   }
 
   public OptimizeTask deepCopy() {
@@ -210,6 +222,7 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
     this.posDeleteFiles = null;
     this.sourceNodes = null;
     this.properties = null;
+    this.completedFiles = null;
   }
 
   @org.apache.thrift.annotation.Nullable
@@ -503,6 +516,47 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
     }
   }
 
+  public int getCompletedFilesSize() {
+    return (this.completedFiles == null) ? 0 : this.completedFiles.size();
+  }
+
+  @org.apache.thrift.annotation.Nullable
+  public java.util.Iterator<java.nio.ByteBuffer> getCompletedFilesIterator() {
+    return (this.completedFiles == null) ? null : this.completedFiles.iterator();
+  }
+
+  public void addToCompletedFiles(java.nio.ByteBuffer elem) {
+    if (this.completedFiles == null) {
+      this.completedFiles = new java.util.ArrayList<java.nio.ByteBuffer>();
+    }
+    this.completedFiles.add(elem);
+  }
+
+  @org.apache.thrift.annotation.Nullable
+  public java.util.List<java.nio.ByteBuffer> getCompletedFiles() {
+    return this.completedFiles;
+  }
+
+  public OptimizeTask setCompletedFiles(@org.apache.thrift.annotation.Nullable java.util.List<java.nio.ByteBuffer> completedFiles) {
+    this.completedFiles = completedFiles;
+    return this;
+  }
+
+  public void unsetCompletedFiles() {
+    this.completedFiles = null;
+  }
+
+  /** Returns true if field completedFiles is set (has been assigned a value) and false otherwise */
+  public boolean isSetCompletedFiles() {
+    return this.completedFiles != null;
+  }
+
+  public void setCompletedFilesIsSet(boolean value) {
+    if (!value) {
+      this.completedFiles = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
     switch (field) {
     case TASK_ID:
@@ -569,6 +623,14 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
       }
       break;
 
+    case COMPLETED_FILES:
+      if (value == null) {
+        unsetCompletedFiles();
+      } else {
+        setCompletedFiles((java.util.List<java.nio.ByteBuffer>)value);
+      }
+      break;
+
     }
   }
 
@@ -599,6 +661,9 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
     case PROPERTIES:
       return getProperties();
 
+    case COMPLETED_FILES:
+      return getCompletedFiles();
+
     }
     throw new java.lang.IllegalStateException();
   }
@@ -626,6 +691,8 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
       return isSetSourceNodes();
     case PROPERTIES:
       return isSetProperties();
+    case COMPLETED_FILES:
+      return isSetCompletedFiles();
     }
     throw new java.lang.IllegalStateException();
   }
@@ -717,6 +784,15 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
         return false;
     }
 
+    boolean this_present_completedFiles = true && this.isSetCompletedFiles();
+    boolean that_present_completedFiles = true && that.isSetCompletedFiles();
+    if (this_present_completedFiles || that_present_completedFiles) {
+      if (!(this_present_completedFiles && that_present_completedFiles))
+        return false;
+      if (!this.completedFiles.equals(that.completedFiles))
+        return false;
+    }
+
     return true;
   }
 
@@ -756,6 +832,10 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
     if (isSetProperties())
       hashCode = hashCode * 8191 + properties.hashCode();
 
+    hashCode = hashCode * 8191 + ((isSetCompletedFiles()) ? 131071 : 524287);
+    if (isSetCompletedFiles())
+      hashCode = hashCode * 8191 + completedFiles.hashCode();
+
     return hashCode;
   }
 
@@ -847,6 +927,16 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
         return lastComparison;
       }
     }
+    lastComparison = java.lang.Boolean.valueOf(isSetCompletedFiles()).compareTo(other.isSetCompletedFiles());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetCompletedFiles()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.completedFiles, other.completedFiles);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -943,6 +1033,16 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
       }
       first = false;
     }
+    if (isSetCompletedFiles()) {
+      if (!first) sb.append(", ");
+      sb.append("completedFiles:");
+      if (this.completedFiles == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.completedFiles, sb);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -1118,6 +1218,24 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 9: // COMPLETED_FILES
+            if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+              {
+                org.apache.thrift.protocol.TList _list19 = iprot.readListBegin();
+                struct.completedFiles = new java.util.ArrayList<java.nio.ByteBuffer>(_list19.size);
+                @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer _elem20;
+                for (int _i21 = 0; _i21 < _list19.size; ++_i21)
+                {
+                  _elem20 = iprot.readBinary();
+                  struct.completedFiles.add(_elem20);
+                }
+                iprot.readListEnd();
+              }
+              struct.setCompletedFilesIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -1148,9 +1266,9 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
           oprot.writeFieldBegin(INSERT_FILES_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.insertFiles.size()));
-            for (java.nio.ByteBuffer _iter19 : struct.insertFiles)
+            for (java.nio.ByteBuffer _iter22 : struct.insertFiles)
             {
-              oprot.writeBinary(_iter19);
+              oprot.writeBinary(_iter22);
             }
             oprot.writeListEnd();
           }
@@ -1162,9 +1280,9 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
           oprot.writeFieldBegin(DELETE_FILES_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.deleteFiles.size()));
-            for (java.nio.ByteBuffer _iter20 : struct.deleteFiles)
+            for (java.nio.ByteBuffer _iter23 : struct.deleteFiles)
             {
-              oprot.writeBinary(_iter20);
+              oprot.writeBinary(_iter23);
             }
             oprot.writeListEnd();
           }
@@ -1176,9 +1294,9 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
           oprot.writeFieldBegin(BASE_FILES_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.baseFiles.size()));
-            for (java.nio.ByteBuffer _iter21 : struct.baseFiles)
+            for (java.nio.ByteBuffer _iter24 : struct.baseFiles)
             {
-              oprot.writeBinary(_iter21);
+              oprot.writeBinary(_iter24);
             }
             oprot.writeListEnd();
           }
@@ -1190,9 +1308,9 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
           oprot.writeFieldBegin(POS_DELETE_FILES_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.posDeleteFiles.size()));
-            for (java.nio.ByteBuffer _iter22 : struct.posDeleteFiles)
+            for (java.nio.ByteBuffer _iter25 : struct.posDeleteFiles)
             {
-              oprot.writeBinary(_iter22);
+              oprot.writeBinary(_iter25);
             }
             oprot.writeListEnd();
           }
@@ -1204,9 +1322,9 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
           oprot.writeFieldBegin(SOURCE_NODES_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.sourceNodes.size()));
-            for (TreeNode _iter23 : struct.sourceNodes)
+            for (TreeNode _iter26 : struct.sourceNodes)
             {
-              _iter23.write(oprot);
+              _iter26.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -1218,16 +1336,30 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
           oprot.writeFieldBegin(PROPERTIES_FIELD_DESC);
           {
             oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, struct.properties.size()));
-            for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter24 : struct.properties.entrySet())
+            for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter27 : struct.properties.entrySet())
             {
-              oprot.writeString(_iter24.getKey());
-              oprot.writeString(_iter24.getValue());
+              oprot.writeString(_iter27.getKey());
+              oprot.writeString(_iter27.getValue());
             }
             oprot.writeMapEnd();
           }
           oprot.writeFieldEnd();
         }
       }
+      if (struct.completedFiles != null) {
+        if (struct.isSetCompletedFiles()) {
+          oprot.writeFieldBegin(COMPLETED_FILES_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.completedFiles.size()));
+            for (java.nio.ByteBuffer _iter28 : struct.completedFiles)
+            {
+              oprot.writeBinary(_iter28);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -1270,7 +1402,10 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
       if (struct.isSetProperties()) {
         optionals.set(7);
       }
-      oprot.writeBitSet(optionals, 8);
+      if (struct.isSetCompletedFiles()) {
+        optionals.set(8);
+      }
+      oprot.writeBitSet(optionals, 9);
       if (struct.isSetTaskId()) {
         struct.taskId.write(oprot);
       }
@@ -1280,55 +1415,64 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
       if (struct.isSetInsertFiles()) {
         {
           oprot.writeI32(struct.insertFiles.size());
-          for (java.nio.ByteBuffer _iter25 : struct.insertFiles)
+          for (java.nio.ByteBuffer _iter29 : struct.insertFiles)
           {
-            oprot.writeBinary(_iter25);
+            oprot.writeBinary(_iter29);
           }
         }
       }
       if (struct.isSetDeleteFiles()) {
         {
           oprot.writeI32(struct.deleteFiles.size());
-          for (java.nio.ByteBuffer _iter26 : struct.deleteFiles)
+          for (java.nio.ByteBuffer _iter30 : struct.deleteFiles)
           {
-            oprot.writeBinary(_iter26);
+            oprot.writeBinary(_iter30);
           }
         }
       }
       if (struct.isSetBaseFiles()) {
         {
           oprot.writeI32(struct.baseFiles.size());
-          for (java.nio.ByteBuffer _iter27 : struct.baseFiles)
+          for (java.nio.ByteBuffer _iter31 : struct.baseFiles)
           {
-            oprot.writeBinary(_iter27);
+            oprot.writeBinary(_iter31);
           }
         }
       }
       if (struct.isSetPosDeleteFiles()) {
         {
           oprot.writeI32(struct.posDeleteFiles.size());
-          for (java.nio.ByteBuffer _iter28 : struct.posDeleteFiles)
+          for (java.nio.ByteBuffer _iter32 : struct.posDeleteFiles)
           {
-            oprot.writeBinary(_iter28);
+            oprot.writeBinary(_iter32);
           }
         }
       }
       if (struct.isSetSourceNodes()) {
         {
           oprot.writeI32(struct.sourceNodes.size());
-          for (TreeNode _iter29 : struct.sourceNodes)
+          for (TreeNode _iter33 : struct.sourceNodes)
           {
-            _iter29.write(oprot);
+            _iter33.write(oprot);
           }
         }
       }
       if (struct.isSetProperties()) {
         {
           oprot.writeI32(struct.properties.size());
-          for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter30 : struct.properties.entrySet())
+          for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter34 : struct.properties.entrySet())
           {
-            oprot.writeString(_iter30.getKey());
-            oprot.writeString(_iter30.getValue());
+            oprot.writeString(_iter34.getKey());
+            oprot.writeString(_iter34.getValue());
+          }
+        }
+      }
+      if (struct.isSetCompletedFiles()) {
+        {
+          oprot.writeI32(struct.completedFiles.size());
+          for (java.nio.ByteBuffer _iter35 : struct.completedFiles)
+          {
+            oprot.writeBinary(_iter35);
           }
         }
       }
@@ -1337,7 +1481,7 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, OptimizeTask struct) throws org.apache.thrift.TException {
       org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-      java.util.BitSet incoming = iprot.readBitSet(8);
+      java.util.BitSet incoming = iprot.readBitSet(9);
       if (incoming.get(0)) {
         struct.taskId = new OptimizeTaskId();
         struct.taskId.read(iprot);
@@ -1350,85 +1494,98 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
       }
       if (incoming.get(2)) {
         {
-          org.apache.thrift.protocol.TList _list31 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.insertFiles = new java.util.ArrayList<java.nio.ByteBuffer>(_list31.size);
-          @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer _elem32;
-          for (int _i33 = 0; _i33 < _list31.size; ++_i33)
+          org.apache.thrift.protocol.TList _list36 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.insertFiles = new java.util.ArrayList<java.nio.ByteBuffer>(_list36.size);
+          @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer _elem37;
+          for (int _i38 = 0; _i38 < _list36.size; ++_i38)
           {
-            _elem32 = iprot.readBinary();
-            struct.insertFiles.add(_elem32);
+            _elem37 = iprot.readBinary();
+            struct.insertFiles.add(_elem37);
           }
         }
         struct.setInsertFilesIsSet(true);
       }
       if (incoming.get(3)) {
         {
-          org.apache.thrift.protocol.TList _list34 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.deleteFiles = new java.util.ArrayList<java.nio.ByteBuffer>(_list34.size);
-          @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer _elem35;
-          for (int _i36 = 0; _i36 < _list34.size; ++_i36)
+          org.apache.thrift.protocol.TList _list39 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.deleteFiles = new java.util.ArrayList<java.nio.ByteBuffer>(_list39.size);
+          @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer _elem40;
+          for (int _i41 = 0; _i41 < _list39.size; ++_i41)
           {
-            _elem35 = iprot.readBinary();
-            struct.deleteFiles.add(_elem35);
+            _elem40 = iprot.readBinary();
+            struct.deleteFiles.add(_elem40);
           }
         }
         struct.setDeleteFilesIsSet(true);
       }
       if (incoming.get(4)) {
         {
-          org.apache.thrift.protocol.TList _list37 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.baseFiles = new java.util.ArrayList<java.nio.ByteBuffer>(_list37.size);
-          @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer _elem38;
-          for (int _i39 = 0; _i39 < _list37.size; ++_i39)
+          org.apache.thrift.protocol.TList _list42 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.baseFiles = new java.util.ArrayList<java.nio.ByteBuffer>(_list42.size);
+          @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer _elem43;
+          for (int _i44 = 0; _i44 < _list42.size; ++_i44)
           {
-            _elem38 = iprot.readBinary();
-            struct.baseFiles.add(_elem38);
+            _elem43 = iprot.readBinary();
+            struct.baseFiles.add(_elem43);
           }
         }
         struct.setBaseFilesIsSet(true);
       }
       if (incoming.get(5)) {
         {
-          org.apache.thrift.protocol.TList _list40 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.posDeleteFiles = new java.util.ArrayList<java.nio.ByteBuffer>(_list40.size);
-          @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer _elem41;
-          for (int _i42 = 0; _i42 < _list40.size; ++_i42)
+          org.apache.thrift.protocol.TList _list45 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.posDeleteFiles = new java.util.ArrayList<java.nio.ByteBuffer>(_list45.size);
+          @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer _elem46;
+          for (int _i47 = 0; _i47 < _list45.size; ++_i47)
           {
-            _elem41 = iprot.readBinary();
-            struct.posDeleteFiles.add(_elem41);
+            _elem46 = iprot.readBinary();
+            struct.posDeleteFiles.add(_elem46);
           }
         }
         struct.setPosDeleteFilesIsSet(true);
       }
       if (incoming.get(6)) {
         {
-          org.apache.thrift.protocol.TList _list43 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-          struct.sourceNodes = new java.util.ArrayList<TreeNode>(_list43.size);
-          @org.apache.thrift.annotation.Nullable TreeNode _elem44;
-          for (int _i45 = 0; _i45 < _list43.size; ++_i45)
+          org.apache.thrift.protocol.TList _list48 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+          struct.sourceNodes = new java.util.ArrayList<TreeNode>(_list48.size);
+          @org.apache.thrift.annotation.Nullable TreeNode _elem49;
+          for (int _i50 = 0; _i50 < _list48.size; ++_i50)
           {
-            _elem44 = new TreeNode();
-            _elem44.read(iprot);
-            struct.sourceNodes.add(_elem44);
+            _elem49 = new TreeNode();
+            _elem49.read(iprot);
+            struct.sourceNodes.add(_elem49);
           }
         }
         struct.setSourceNodesIsSet(true);
       }
       if (incoming.get(7)) {
         {
-          org.apache.thrift.protocol.TMap _map46 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.properties = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map46.size);
-          @org.apache.thrift.annotation.Nullable java.lang.String _key47;
-          @org.apache.thrift.annotation.Nullable java.lang.String _val48;
-          for (int _i49 = 0; _i49 < _map46.size; ++_i49)
+          org.apache.thrift.protocol.TMap _map51 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.properties = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map51.size);
+          @org.apache.thrift.annotation.Nullable java.lang.String _key52;
+          @org.apache.thrift.annotation.Nullable java.lang.String _val53;
+          for (int _i54 = 0; _i54 < _map51.size; ++_i54)
           {
-            _key47 = iprot.readString();
-            _val48 = iprot.readString();
-            struct.properties.put(_key47, _val48);
+            _key52 = iprot.readString();
+            _val53 = iprot.readString();
+            struct.properties.put(_key52, _val53);
           }
         }
         struct.setPropertiesIsSet(true);
       }
+      if (incoming.get(8)) {
+        {
+          org.apache.thrift.protocol.TList _list55 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.completedFiles = new java.util.ArrayList<java.nio.ByteBuffer>(_list55.size);
+          @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer _elem56;
+          for (int _i57 = 0; _i57 < _list55.size; ++_i57)
+          {
+            _elem56 = iprot.readBinary();
+            struct.completedFiles.add(_elem56);
+          }
+        }
+        struct.setCompletedFilesIsSet(true);
+      }
     }
   }
 
@@ -7,7 +7,7 @@
 package com.netease.arctic.ams.api;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2022-08-22")
+@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2026-10-19")
 public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskStat, OptimizeTaskStat._Fields>, java.io.Serializable, Cloneable, Comparable<OptimizeTaskStat> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("OptimizeTaskStat");
 
@@ -1100,13 +1100,13 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
           case 6: // FILES
             if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
               {
-                org.apache.thrift.protocol.TList _list50 = iprot.readListBegin();
-                struct.files = new java.util.ArrayList<java.nio.ByteBuffer>(_list50.size);
-                @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer _elem51;
-                for (int _i52 = 0; _i52 < _list50.size; ++_i52)
+                org.apache.thrift.protocol.TList _list58 = iprot.readListBegin();
+                struct.files = new java.util.ArrayList<java.nio.ByteBuffer>(_list58.size);
+                @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer _elem59;
+                for (int _i60 = 0; _i60 < _list58.size; ++_i60)
                 {
-                  _elem51 = iprot.readBinary();
-                  struct.files.add(_elem51);
+                  _elem59 = iprot.readBinary();
+                  struct.files.add(_elem59);
                 }
                 iprot.readListEnd();
               }
@@ -1199,9 +1199,9 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
           oprot.writeFieldBegin(FILES_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.files.size()));
-            for (java.nio.ByteBuffer _iter53 : struct.files)
+            for (java.nio.ByteBuffer _iter61 : struct.files)
             {
-              oprot.writeBinary(_iter53);
+              oprot.writeBinary(_iter61);
             }
             oprot.writeListEnd();
           }
@@ -1293,9 +1293,9 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
       if (struct.isSetFiles()) {
         {
           oprot.writeI32(struct.files.size());
-          for (java.nio.ByteBuffer _iter54 : struct.files)
+          for (java.nio.ByteBuffer _iter62 : struct.files)
           {
-            oprot.writeBinary(_iter54);
+            oprot.writeBinary(_iter62);
           }
         }
       }
@@ -1342,13 +1342,13 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
       }
       if (incoming.get(5)) {
         {
-          org.apache.thrift.protocol.TList _list55 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.files = new java.util.ArrayList<java.nio.ByteBuffer>(_list55.size);
-          @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer _elem56;
-          for (int _i57 = 0; _i57 < _list55.size; ++_i57)
+          org.apache.thrift.protocol.TList _list63 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.files = new java.util.ArrayList<java.nio.ByteBuffer>(_list63.size);
+          @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer _elem64;
+          for (int _i65 = 0; _i65 < _list63.size; ++_i65)
           {
-            _elem56 = iprot.readBinary();
-            struct.files.add(_elem56);
+            _elem64 = iprot.readBinary();
+            struct.files.add(_elem64);
           }
         }
         struct.setFilesIsSet(true);
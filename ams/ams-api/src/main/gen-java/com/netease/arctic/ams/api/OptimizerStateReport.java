@@ -7,7 +7,7 @@
 package com.netease.arctic.ams.api;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2022-08-22")
+@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2026-10-19")
 public class OptimizerStateReport implements org.apache.thrift.TBase<OptimizerStateReport, OptimizerStateReport._Fields>, java.io.Serializable, Cloneable, Comparable<OptimizerStateReport> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("OptimizerStateReport");
 
@@ -408,15 +408,15 @@ public class OptimizerStateReport implements org.apache.thrift.TBase<OptimizerSt
           case 2: // OPTIMIZER_STATE
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map58 = iprot.readMapBegin();
-                struct.optimizerState = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map58.size);
-                @org.apache.thrift.annotation.Nullable java.lang.String _key59;
-                @org.apache.thrift.annotation.Nullable java.lang.String _val60;
-                for (int _i61 = 0; _i61 < _map58.size; ++_i61)
+                org.apache.thrift.protocol.TMap _map74 = iprot.readMapBegin();
+                struct.optimizerState = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map74.size);
+                @org.apache.thrift.annotation.Nullable java.lang.String _key75;
+                @org.apache.thrift.annotation.Nullable java.lang.String _val76;
+                for (int _i77 = 0; _i77 < _map74.size; ++_i77)
                 {
-                  _key59 = iprot.readString();
-                  _val60 = iprot.readString();
-                  struct.optimizerState.put(_key59, _val60);
+                  _key75 = iprot.readString();
+                  _val76 = iprot.readString();
+                  struct.optimizerState.put(_key75, _val76);
                 }
                 iprot.readMapEnd();
               }
@@ -447,10 +447,10 @@ public class OptimizerStateReport implements org.apache.thrift.TBase<OptimizerSt
         oprot.writeFieldBegin(OPTIMIZER_STATE_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, struct.optimizerState.size()));
-          for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter62 : struct.optimizerState.entrySet())
+          for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter78 : struct.optimizerState.entrySet())
           {
-            oprot.writeString(_iter62.getKey());
-            oprot.writeString(_iter62.getValue());
+            oprot.writeString(_iter78.getKey());
+            oprot.writeString(_iter78.getValue());
           }
           oprot.writeMapEnd();
         }
@@ -487,10 +487,10 @@ public class OptimizerStateReport implements org.apache.thrift.TBase<OptimizerSt
       if (struct.isSetOptimizerState()) {
         {
           oprot.writeI32(struct.optimizerState.size());
-          for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter63 : struct.optimizerState.entrySet())
+          for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter79 : struct.optimizerState.entrySet())
           {
-            oprot.writeString(_iter63.getKey());
-            oprot.writeString(_iter63.getValue());
+            oprot.writeString(_iter79.getKey());
+            oprot.writeString(_iter79.getValue());
           }
         }
       }
@@ -506,15 +506,15 @@ public class OptimizerStateReport implements org.apache.thrift.TBase<OptimizerSt
       }
       if (incoming.get(1)) {
         {
-          org.apache.thrift.protocol.TMap _map64 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.optimizerState = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map64.size);
-          @org.apache.thrift.annotation.Nullable java.lang.String _key65;
-          @org.apache.thrift.annotation.Nullable java.lang.String _val66;
-          for (int _i67 = 0; _i67 < _map64.size; ++_i67)
+          org.apache.thrift.protocol.TMap _map80 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.optimizerState = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map80.size);
+          @org.apache.thrift.annotation.Nullable java.lang.String _key81;
+          @org.apache.thrift.annotation.Nullable java.lang.String _val82;
+          for (int _i83 = 0; _i83 < _map80.size; ++_i83)
           {
-            _key65 = iprot.readString();
-            _val66 = iprot.readString();
-            struct.optimizerState.put(_key65, _val66);
+            _key81 = iprot.readString();
+            _val82 = iprot.readString();
+            struct.optimizerState.put(_key81, _val82);
           }
         }
         struct.setOptimizerStateIsSet(true);
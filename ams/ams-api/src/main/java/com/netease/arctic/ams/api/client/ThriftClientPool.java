@@ -34,6 +34,7 @@ import java.lang.reflect.Proxy;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 public class ThriftClientPool<T extends org.apache.thrift.TServiceClient> {
@@ -51,6 +52,8 @@ public class ThriftClientPool<T extends org.apache.thrift.TServiceClient> {
   private boolean serviceReset = false;
 
   private final PoolConfig poolConfig;
+
+  private final AtomicLong failedCalls = new AtomicLong();
   // for thrift connects
   private static final int retries = 5;
 
@@ -90,8 +93,8 @@ public class ThriftClientPool<T extends org.apache.thrift.TServiceClient> {
     this.clientFactory = factory;
     this.pingFactory = pingFactory;
     this.poolConfig = config;
-    // test if config change
-    this.poolConfig.setTestOnReturn(true);
+    // connections are pinged when borrowed, pinging them again on return only adds a round trip to every call
+    this.poolConfig.setTestOnReturn(false);
     this.poolConfig.setTestOnBorrow(true);
     this.pool = new GenericObjectPool<>(new BasePooledObjectFactory<ThriftClient<T>>() {
 
@@ -230,8 +233,9 @@ public class ThriftClientPool<T extends org.apache.thrift.TServiceClient> {
     int attempt;
     for (attempt = 0; attempt < retries; ++attempt) {
       try {
+        // borrowed connections are already validated by ping, see validateObject
         client = pool.borrowObject();
-        if (client.isDisConnected() || !pingFactory.ping(client.iface())) {
+        if (client.isDisConnected()) {
           if (attempt > 1) {
             // if attempt > 1, it means the server is maybe restarting, so we should wait a while
             LOG.warn("server is restarting, wait a while");
@@ -270,6 +274,7 @@ public class ThriftClientPool<T extends org.apache.thrift.TServiceClient> {
         if (success) {
           pool.returnObject(finalClient);
         } else {
+          failedCalls.incrementAndGet();
           finalClient.closeClient();
           pool.invalidateObject(finalClient);
         }
@@ -277,4 +282,17 @@ public class ThriftClientPool<T extends org.apache.thrift.TServiceClient> {
       }
     });
   }
+
+  /**
+   * Pools live in client processes, which have no common metric registry, so the snapshot is not registered
+   * anywhere. It is up to callers to read it, e.g. {@code AmsClientPools.getClientPool(url).metrics()}, and export
+   * it to the metric system of their engine.
+   *
+   * @return current connection usage of this pool
+   */
+  public ThriftClientPoolMetrics metrics() {
+    return new ThriftClientPoolMetrics(pool.getNumActive(), pool.getNumIdle(), pool.getNumWaiters(),
+        pool.getBorrowedCount(), pool.getCreatedCount(), pool.getDestroyedCount(), failedCalls.get(),
+        pool.getMeanBorrowWaitTimeMillis(), pool.getMaxBorrowWaitTimeMillis());
+  }
 }
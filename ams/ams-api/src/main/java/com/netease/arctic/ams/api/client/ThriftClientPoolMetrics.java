@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.api.client;
+
+/**
+ * Snapshot of the connection usage of a {@link ThriftClientPool}.
+ */
+public class ThriftClientPoolMetrics {
+
+  private final int numActive;
+
+  private final int numIdle;
+
+  private final int numWaiters;
+
+  private final long borrowedCount;
+
+  private final long createdCount;
+
+  private final long destroyedCount;
+
+  private final long failedCallCount;
+
+  private final long meanBorrowWaitTimeMillis;
+
+  private final long maxBorrowWaitTimeMillis;
+
+  public ThriftClientPoolMetrics(
+      int numActive, int numIdle, int numWaiters, long borrowedCount, long createdCount,
+      long destroyedCount, long failedCallCount, long meanBorrowWaitTimeMillis, long maxBorrowWaitTimeMillis) {
+    this.numActive = numActive;
+    this.numIdle = numIdle;
+    this.numWaiters = numWaiters;
+    this.borrowedCount = borrowedCount;
+    this.createdCount = createdCount;
+    this.destroyedCount = destroyedCount;
+    this.failedCallCount = failedCallCount;
+    this.meanBorrowWaitTimeMillis = meanBorrowWaitTimeMillis;
+    this.maxBorrowWaitTimeMillis = maxBorrowWaitTimeMillis;
+  }
+
+  /**
+   * @return number of connections borrowed and not returned yet
+   */
+  public int getNumActive() {
+    return numActive;
+  }
+
+  /**
+   * @return number of connections kept idle in the pool
+   */
+  public int getNumIdle() {
+    return numIdle;
+  }
+
+  /**
+   * @return number of threads blocked waiting for a connection
+   */
+  public int getNumWaiters() {
+    return numWaiters;
+  }
+
+  public long getBorrowedCount() {
+    return borrowedCount;
+  }
+
+  public long getCreatedCount() {
+    return createdCount;
+  }
+
+  public long getDestroyedCount() {
+    return destroyedCount;
+  }
+
+  /**
+   * @return number of calls failed, the connections of failed calls are invalidated
+   */
+  public long getFailedCallCount() {
+    return failedCallCount;
+  }
+
+  public long getMeanBorrowWaitTimeMillis() {
+    return meanBorrowWaitTimeMillis;
+  }
+
+  public long getMaxBorrowWaitTimeMillis() {
+    return maxBorrowWaitTimeMillis;
+  }
+
+  @Override
+  public String toString() {
+    return "ThriftClientPoolMetrics [numActive=" + numActive + ", numIdle=" + numIdle +
+        ", numWaiters=" + numWaiters + ", borrowedCount=" + borrowedCount +
+        ", createdCount=" + createdCount + ", destroyedCount=" + destroyedCount +
+        ", failedCallCount=" + failedCallCount + ", meanBorrowWaitTimeMillis=" + meanBorrowWaitTimeMillis +
+        ", maxBorrowWaitTimeMillis=" + maxBorrowWaitTimeMillis + "]";
+  }
+}
@@ -22,6 +22,8 @@ struct OptimizeTask {
     6:optional list<binary> posDeleteFiles;
     7:optional list<TreeNode> sourceNodes;
     8:optional map<string, string> properties;
+    // output files of DataTreeNodes already completed by a previous attempt of this task
+    9:optional list<binary> completedFiles;
 }
 
 
@@ -49,6 +51,20 @@ struct OptimizeTaskStat {
     10:i64 costTime;
 }
 
+struct OptimizeTaskProgress {
+    1:JobId jobId;
+    2:arctic_commons.TableIdentifier tableIdentifier;
+    3:OptimizeTaskId taskId;
+    4:optional string attemptId;
+    5:i64 recordsRead;
+    6:i64 recordsWritten;
+    7:i64 bytesRead;
+    8:i64 bytesWritten;
+    9:optional string currentNode;
+    10:optional list<binary> completedFiles;
+    11:i64 reportTime;
+}
+
 struct JobId {
     1:optional string id;
     2:optional JobType type;
@@ -106,5 +122,7 @@ service OptimizeManager {
 
     void reportOptimizeResult(1:OptimizeTaskStat optimizeTaskStat)
 
+    void reportOptimizeTaskProgress(1:OptimizeTaskProgress optimizeTaskProgress)
+
     void reportOptimizerState(1: OptimizerStateReport reportData)
 }
\ No newline at end of file
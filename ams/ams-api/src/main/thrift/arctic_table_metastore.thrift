@@ -50,6 +50,14 @@ struct TableCommitMeta {
     7: SchemaUpdateMeta schemaUpdateMeta;
 }
 
+// latest snapshots of a keyed table known by ams, -1 if no commit has been seen
+struct TableCommitEvent {
+    1: arctic_commons.TableIdentifier tableIdentifier;
+    2: i64 changeSnapshotId;
+    3: i64 baseSnapshotId;
+    4: i64 commitTime;
+}
+
 struct UpdateColumn {
     1: string name;
     2: optional string parent;
@@ -115,6 +123,10 @@ service ArcticTableMetastore {
     TableMeta getTable(1:arctic_commons.TableIdentifier tableIdentifier)
             throws(1: arctic_commons.NoSuchObjectException e);
 
+    // load metas of tables in one call, tables not found are left out of the result
+    list<TableMeta> getTables(1: list<arctic_commons.TableIdentifier> tableIdentifiers)
+            throws(1: arctic_commons.NoSuchObjectException e);
+
     void removeTable(1:arctic_commons.TableIdentifier tableIdentifier, 2:bool deleteData)
         throws(
         1:arctic_commons.NoSuchObjectException e1,
@@ -122,5 +134,19 @@ service ArcticTableMetastore {
 
     void tableCommit(1: TableCommitMeta commit) throws (1: arctic_commons.MetaException e1)
 
+    // report commits in one call, they are handled in list order, a failed commit does not stop the following ones,
+    // failed tables are reported together by MetaException
+    void tableCommits(1: list<TableCommitMeta> commits)
+        throws (1: arctic_commons.MetaException e1, 2: arctic_commons.NoSuchObjectException e2)
+
     i64 allocateTransactionId(1:arctic_commons.TableIdentifier tableIdentifier, 2:string transactionSignature)
+
+    // allocate count consecutive transaction ids of table, in ascending order, count is limited to 10000
+    list<i64> allocateTransactionIds(1:arctic_commons.TableIdentifier tableIdentifier, 2:i32 count)
+        throws (1: arctic_commons.NoSuchObjectException e1, 2: arctic_commons.MetaException e2)
+
+    // wait until the change or base snapshot of table advances from given ones, or waitTime(ms) elapsed
+    TableCommitEvent waitTableCommit(1:arctic_commons.TableIdentifier tableIdentifier, 2:i64 changeSnapshotId,
+        3:i64 baseSnapshotId, 4:i64 waitTime)
+        throws (1: arctic_commons.NoSuchObjectException e1, 2: arctic_commons.MetaException e2)
 }
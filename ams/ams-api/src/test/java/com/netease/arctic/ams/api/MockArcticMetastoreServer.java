@@ -284,6 +284,13 @@ public class MockArcticMetastoreServer implements Runnable {
           .orElseThrow(NoSuchObjectException::new);
     }
 
+    @Override
+    public List<TableMeta> getTables(List<TableIdentifier> tableIdentifiers) {
+      return tables.stream()
+          .filter(t -> tableIdentifiers.contains(t.getTableIdentifier()))
+          .collect(Collectors.toList());
+    }
+
     @Override
     public void removeTable(TableIdentifier tableIdentifier, boolean deleteData) {
       tables.removeIf(t -> t.getTableIdentifier().equals(tableIdentifier));
@@ -299,6 +306,13 @@ public class MockArcticMetastoreServer implements Runnable {
       }
     }
 
+    @Override
+    public void tableCommits(List<TableCommitMeta> commits) throws TException {
+      for (TableCommitMeta commit : commits) {
+        tableCommit(commit);
+      }
+    }
+
     @Override
     public long allocateTransactionId(TableIdentifier tableIdentifier, String transactionSignature) {
       synchronized (lock) {
@@ -321,5 +335,26 @@ public class MockArcticMetastoreServer implements Runnable {
         }
       }
     }
+
+    @Override
+    public List<Long> allocateTransactionIds(TableIdentifier tableIdentifier, int count) {
+      synchronized (lock) {
+        long currentTxId = tableCurrentTxId.containsKey(tableIdentifier) ? tableCurrentTxId.get(tableIdentifier) : 0;
+        tableCurrentTxId.put(tableIdentifier, currentTxId + count);
+        List<Long> txIds = new ArrayList<>(count);
+        for (long txId = currentTxId + 1; txId <= currentTxId + count; txId++) {
+          txIds.add(txId);
+        }
+        return txIds;
+      }
+    }
+
+    @Override
+    public TableCommitEvent waitTableCommit(
+        TableIdentifier tableIdentifier, long changeSnapshotId,
+        long baseSnapshotId, long waitTime) {
+      // commits are not tracked, clients always fall back to refreshing tables
+      return new TableCommitEvent(tableIdentifier, -1L, -1L, 0L);
+    }
   }
 }
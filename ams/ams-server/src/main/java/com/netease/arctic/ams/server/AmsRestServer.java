@@ -21,6 +21,7 @@ package com.netease.arctic.ams.server;
 import com.alibaba.fastjson.JSONObject;
 import com.netease.arctic.ams.server.controller.HealthCheckController;
 import com.netease.arctic.ams.server.controller.LoginController;
+import com.netease.arctic.ams.server.controller.MetricsController;
 import com.netease.arctic.ams.server.controller.OptimizerController;
 import com.netease.arctic.ams.server.controller.TableController;
 import com.netease.arctic.ams.server.controller.TerminalController;
@@ -116,6 +117,8 @@ public class AmsRestServer {
       path("", () -> {
         //  /docs/latest can't be locationed to the index.html, so we add rule to redict to it.
         get("/docs/latest", ctx -> ctx.redirect("/docs/latest/index.html"));
+        // for prometheus scraping
+        get("/metrics", MetricsController::getPrometheusMetrics);
       });
       path("/ams/v1", () -> {
         /** login controller**/
@@ -162,6 +165,9 @@ public class AmsRestServer {
         /** health check **/
         get("/health/status", HealthCheckController::healthCheck);
 
+        /** metrics controller **/
+        get("/metrics", MetricsController::getMetrics);
+
         /** version controller **/
         get("/versionInfo", VersionController::getVersionInfo);
       });
@@ -207,6 +213,9 @@ public class AmsRestServer {
         /** health check **/
         get("/health/status", HealthCheckController::healthCheck);
 
+        /** metrics controller **/
+        get("/metrics", MetricsController::getMetrics);
+
         /** version controller **/
         get("/versionInfo", VersionController::getVersionInfo);
       });
@@ -248,6 +257,7 @@ public class AmsRestServer {
   private static final String[] urlWhiteList = {
       "/ams/v1/versionInfo",
       "/ams/v1/login",
+      "/metrics",
       "/",
       "/overview",
       "/introduce",
@@ -36,6 +36,8 @@ import com.netease.arctic.ams.server.config.ConfigFileProperties;
 import com.netease.arctic.ams.server.config.Configuration;
 import com.netease.arctic.ams.server.handler.impl.ArcticTableMetastoreHandler;
 import com.netease.arctic.ams.server.handler.impl.OptimizeManagerHandler;
+import com.netease.arctic.ams.server.metrics.InstrumentedProcessor;
+import com.netease.arctic.ams.server.metrics.InstrumentedWorkerPool;
 import com.netease.arctic.ams.server.model.Container;
 import com.netease.arctic.ams.server.model.OptimizeQueueMeta;
 import com.netease.arctic.ams.server.optimize.OptimizeCommitWorker;
@@ -167,11 +169,11 @@ public class ArcticMetaStore {
 
       TNonblockingServerSocket serverTransport = SecurityUtils.getServerSocket("0.0.0.0", port);
       TThreadedSelectorServer.Args args = new TThreadedSelectorServer.Args(serverTransport)
-          .processor(processor)
+          .processor(new InstrumentedProcessor(processor))
           .transportFactory(new TFramedTransport.Factory())
           .protocolFactory(protocolFactory)
           .inputProtocolFactory(inputProtoFactory)
-          .workerThreads(maxWorkerThreads);
+          .executorService(new InstrumentedWorkerPool("thrift_worker", maxWorkerThreads));
       server = new TThreadedSelectorServer(args);
       LOG.info("Started the new meta server on port [" + port + "]...");
       LOG.info("Options.minWorkerThreads = " + minWorkerThreads);
@@ -234,6 +236,9 @@ public class ArcticMetaStore {
 
         startOptimizeCheck(conf.getLong(ArcticMetaStoreConf.OPTIMIZE_CHECK_STATUS_INTERVAL));
         startOptimizeCommit(conf.getInteger(ArcticMetaStoreConf.OPTIMIZE_COMMIT_THREAD_POOL_SIZE));
+        startOptimizePlan(conf.getInteger(ArcticMetaStoreConf.OPTIMIZE_TABLE_PLAN_THREAD_POOL_SIZE),
+            conf.getLong(ArcticMetaStoreConf.OPTIMIZE_PLAN_INTERVAL),
+            conf.getInteger(ArcticMetaStoreConf.OPTIMIZE_QUEUE_TARGET_BACKLOG));
         startExpiredClean();
         startOrphanClean();
         startSupportHiveSync();
@@ -300,6 +305,12 @@ public class ArcticMetaStore {
     }
   }
 
+  private static void startOptimizePlan(int tablePlanParallelism, long planInterval, int targetBacklog) {
+    ServiceContainer.getOptimizeQueueService().startPlanners(
+        ThreadPool.getPool(ThreadPool.Type.OPTIMIZE_PLAN), ThreadPool.getPool(ThreadPool.Type.OPTIMIZE_TABLE_PLAN),
+        tablePlanParallelism, planInterval, targetBacklog);
+  }
+
   private static void startExpiredClean() {
     ThreadPool.getPool(ThreadPool.Type.EXPIRE).scheduleWithFixedDelay(
         ServiceContainer.getTableExpireService()::checkTableExpireTasks,
@@ -455,6 +466,26 @@ public class ArcticMetaStore {
     config.setInteger(
         ArcticMetaStoreConf.OPTIMIZE_COMMIT_THREAD_POOL_SIZE,
         systemConfig.getInteger(ArcticMetaStoreConf.OPTIMIZE_COMMIT_THREAD_POOL_SIZE.key()));
+    if (systemConfig.containsKey(ArcticMetaStoreConf.OPTIMIZE_PLAN_THREAD_POOL_SIZE.key())) {
+      config.setInteger(
+          ArcticMetaStoreConf.OPTIMIZE_PLAN_THREAD_POOL_SIZE,
+          systemConfig.getInteger(ArcticMetaStoreConf.OPTIMIZE_PLAN_THREAD_POOL_SIZE.key()));
+    }
+    if (systemConfig.containsKey(ArcticMetaStoreConf.OPTIMIZE_TABLE_PLAN_THREAD_POOL_SIZE.key())) {
+      config.setInteger(
+          ArcticMetaStoreConf.OPTIMIZE_TABLE_PLAN_THREAD_POOL_SIZE,
+          systemConfig.getInteger(ArcticMetaStoreConf.OPTIMIZE_TABLE_PLAN_THREAD_POOL_SIZE.key()));
+    }
+    if (systemConfig.containsKey(ArcticMetaStoreConf.OPTIMIZE_PLAN_INTERVAL.key())) {
+      config.setLong(
+          ArcticMetaStoreConf.OPTIMIZE_PLAN_INTERVAL,
+          systemConfig.getLong(ArcticMetaStoreConf.OPTIMIZE_PLAN_INTERVAL.key()));
+    }
+    if (systemConfig.containsKey(ArcticMetaStoreConf.OPTIMIZE_QUEUE_TARGET_BACKLOG.key())) {
+      config.setInteger(
+          ArcticMetaStoreConf.OPTIMIZE_QUEUE_TARGET_BACKLOG,
+          systemConfig.getInteger(ArcticMetaStoreConf.OPTIMIZE_QUEUE_TARGET_BACKLOG.key()));
+    }
     config.setInteger(
         ArcticMetaStoreConf.EXPIRE_THREAD_POOL_SIZE,
         systemConfig.getInteger(ArcticMetaStoreConf.EXPIRE_THREAD_POOL_SIZE.key()));
@@ -464,6 +495,16 @@ public class ArcticMetaStore {
     config.setInteger(
         ArcticMetaStoreConf.SYNC_FILE_INFO_CACHE_THREAD_POOL_SIZE,
         systemConfig.getInteger(ArcticMetaStoreConf.SYNC_FILE_INFO_CACHE_THREAD_POOL_SIZE.key()));
+    if (systemConfig.containsKey(ArcticMetaStoreConf.TABLE_COMMIT_NOTIFY_MAX_WAIT_TIME.key())) {
+      config.setLong(
+          ArcticMetaStoreConf.TABLE_COMMIT_NOTIFY_MAX_WAIT_TIME,
+          systemConfig.getLong(ArcticMetaStoreConf.TABLE_COMMIT_NOTIFY_MAX_WAIT_TIME.key()));
+    }
+    if (systemConfig.containsKey(ArcticMetaStoreConf.TABLE_COMMIT_NOTIFY_MAX_WAITERS.key())) {
+      config.setInteger(
+          ArcticMetaStoreConf.TABLE_COMMIT_NOTIFY_MAX_WAITERS,
+          systemConfig.getInteger(ArcticMetaStoreConf.TABLE_COMMIT_NOTIFY_MAX_WAITERS.key()));
+    }
 
     config.setString(
         ArcticMetaStoreConf.DB_TYPE,
@@ -475,6 +516,37 @@ public class ArcticMetaStore {
         ArcticMetaStoreConf.MYBATIS_CONNECTION_DRIVER_CLASS_NAME,
         systemConfig.getString(ArcticMetaStoreConf.MYBATIS_CONNECTION_DRIVER_CLASS_NAME.key()));
 
+    if (systemConfig.containsKey(ArcticMetaStoreConf.MYBATIS_CONNECTION_POOL_MAX_TOTAL.key())) {
+      config.setInteger(
+          ArcticMetaStoreConf.MYBATIS_CONNECTION_POOL_MAX_TOTAL,
+          systemConfig.getInteger(ArcticMetaStoreConf.MYBATIS_CONNECTION_POOL_MAX_TOTAL.key()));
+    }
+    if (systemConfig.containsKey(ArcticMetaStoreConf.MYBATIS_CONNECTION_POOL_MAX_IDLE.key())) {
+      config.setInteger(
+          ArcticMetaStoreConf.MYBATIS_CONNECTION_POOL_MAX_IDLE,
+          systemConfig.getInteger(ArcticMetaStoreConf.MYBATIS_CONNECTION_POOL_MAX_IDLE.key()));
+    }
+    if (systemConfig.containsKey(ArcticMetaStoreConf.MYBATIS_CONNECTION_POOL_MAX_WAIT.key())) {
+      config.setLong(
+          ArcticMetaStoreConf.MYBATIS_CONNECTION_POOL_MAX_WAIT,
+          systemConfig.getLong(ArcticMetaStoreConf.MYBATIS_CONNECTION_POOL_MAX_WAIT.key()));
+    }
+    if (systemConfig.containsKey(ArcticMetaStoreConf.CATALOG_META_CACHE_EXPIRE_TIME.key())) {
+      config.setLong(
+          ArcticMetaStoreConf.CATALOG_META_CACHE_EXPIRE_TIME,
+          systemConfig.getLong(ArcticMetaStoreConf.CATALOG_META_CACHE_EXPIRE_TIME.key()));
+    }
+    if (systemConfig.containsKey(ArcticMetaStoreConf.OPTIMIZE_FILE_INDEX_VERIFY_INTERVAL.key())) {
+      config.setLong(
+          ArcticMetaStoreConf.OPTIMIZE_FILE_INDEX_VERIFY_INTERVAL,
+          systemConfig.getLong(ArcticMetaStoreConf.OPTIMIZE_FILE_INDEX_VERIFY_INTERVAL.key()));
+    }
+    if (systemConfig.containsKey(ArcticMetaStoreConf.PARTITION_STATS_RECONCILE_INTERVAL.key())) {
+      config.setLong(
+          ArcticMetaStoreConf.PARTITION_STATS_RECONCILE_INTERVAL,
+          systemConfig.getLong(ArcticMetaStoreConf.PARTITION_STATS_RECONCILE_INTERVAL.key()));
+    }
+
     //mysql config
     if (systemConfig.getString(ArcticMetaStoreConf.DB_TYPE.key()).equalsIgnoreCase("mysql")) {
       config.setString(
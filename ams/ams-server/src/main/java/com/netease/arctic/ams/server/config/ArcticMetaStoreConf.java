@@ -80,6 +80,28 @@ public class ArcticMetaStoreConf {
           .defaultValue(10)
           .withDescription("Number of threads in the thread pool.  " +
               "These will be used to execute all optimize commit processes.");
+  public static final ConfigOption<Integer> OPTIMIZE_PLAN_THREAD_POOL_SIZE =
+      ConfigOptions.key("arctic.ams.optimize.plan.thread.pool-size")
+          .intType()
+          .defaultValue(3)
+          .withDescription("Number of threads in the thread pool.  " +
+              "These will be used to execute background optimize planning of all optimize queues.");
+  public static final ConfigOption<Integer> OPTIMIZE_TABLE_PLAN_THREAD_POOL_SIZE =
+      ConfigOptions.key("arctic.ams.optimize.table-plan.thread.pool-size")
+          .intType()
+          .defaultValue(10)
+          .withDescription("Number of threads in the thread pool.  " +
+              "These will be used to plan tables of an optimize queue concurrently.");
+  public static final ConfigOption<Long> OPTIMIZE_PLAN_INTERVAL =
+      ConfigOptions.key("arctic.ams.optimize.plan.interval")
+          .longType()
+          .defaultValue(5000L)
+          .withDescription("Interval of background optimize planning for each optimize queue.");
+  public static final ConfigOption<Integer> OPTIMIZE_QUEUE_TARGET_BACKLOG =
+      ConfigOptions.key("arctic.ams.optimize.queue.target-backlog")
+          .intType()
+          .defaultValue(10)
+          .withDescription("Number of pending tasks the background planner tries to keep in each optimize queue.");
   public static final ConfigOption<Integer> EXPIRE_THREAD_POOL_SIZE =
       ConfigOptions.key("arctic.ams.expire.thread.pool-size")
           .intType()
@@ -148,6 +170,38 @@ public class ArcticMetaStoreConf {
           .stringType()
           .defaultValue("93299")
           .withDescription("The password in database.");
+  public static final ConfigOption<Integer> MYBATIS_CONNECTION_POOL_MAX_TOTAL =
+      ConfigOptions.key("arctic.ams.mybatis.ConnectionPool.maxTotal")
+          .intType()
+          .defaultValue(20)
+          .withDescription("The max number of connections to database.");
+  public static final ConfigOption<Integer> MYBATIS_CONNECTION_POOL_MAX_IDLE =
+      ConfigOptions.key("arctic.ams.mybatis.ConnectionPool.maxIdle")
+          .intType()
+          .defaultValue(16)
+          .withDescription("The max number of idle connections to database.");
+  public static final ConfigOption<Long> MYBATIS_CONNECTION_POOL_MAX_WAIT =
+      ConfigOptions.key("arctic.ams.mybatis.ConnectionPool.maxWaitMillis")
+          .longType()
+          .defaultValue(1000L)
+          .withDescription("The max time to wait for a connection from the pool in milliseconds.");
+  public static final ConfigOption<Long> CATALOG_META_CACHE_EXPIRE_TIME =
+      ConfigOptions.key("arctic.ams.catalog-meta.cache.expire-time")
+          .longType()
+          .defaultValue(300000L)
+          .withDescription("Expire time of catalog metas cached in memory in milliseconds.");
+  public static final ConfigOption<Long> OPTIMIZE_FILE_INDEX_VERIFY_INTERVAL =
+      ConfigOptions.key("arctic.ams.optimize.file-index.verify-interval")
+          .longType()
+          .defaultValue(600000L)
+          .withDescription("Interval to reload the file index of optimize planning from file cache and check it " +
+              "in milliseconds.");
+  public static final ConfigOption<Long> PARTITION_STATS_RECONCILE_INTERVAL =
+      ConfigOptions.key("arctic.ams.partition-stats.reconcile-interval")
+          .longType()
+          .defaultValue(86400000L)
+          .withDescription("Interval to recompute the incrementally maintained partition stats from file cache " +
+              "in milliseconds.");
   public static final ConfigOption<String> DB_TYPE =
       ConfigOptions.key("arctic.ams.database.type")
           .stringType()
@@ -168,6 +222,18 @@ public class ArcticMetaStoreConf {
           .longType()
           .defaultValue(5 * 60 * 1000L)
           .withDescription("table file info will be sync-cache when there is long time no cache data.");
+  public static final ConfigOption<Long> TABLE_COMMIT_NOTIFY_MAX_WAIT_TIME =
+      ConfigOptions.key("arctic.ams.table.commit-notify.max-wait-time")
+          .longType()
+          .defaultValue(3000L)
+          .withDescription("Max time in millis a client waits for table commits in one call, " +
+              "should be less than the socket timeout of clients.");
+  public static final ConfigOption<Integer> TABLE_COMMIT_NOTIFY_MAX_WAITERS =
+      ConfigOptions.key("arctic.ams.table.commit-notify.max-waiters")
+          .intType()
+          .defaultValue(64)
+          .withDescription("Max number of clients waiting for table commits at the same time, " +
+              "clients beyond it return immediately to keep thrift worker threads available.");
   public static final ConfigOption<String> SYSTEM_EXTENSION_PROPERTIES =
       ConfigOptions.key("system.extension.properties")
           .stringType()
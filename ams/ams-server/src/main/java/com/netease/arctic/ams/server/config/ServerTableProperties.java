@@ -33,6 +33,7 @@ public class ServerTableProperties {
     HIDDEN_EXPOSED.add(TableProperties.LOCATION);
     HIDDEN_EXPOSED.add(TableProperties.TABLE_CREATE_TIME);
     HIDDEN_EXPOSED.add(TableProperties.TABLE_PARTITION_PROPERTIES);
+    HIDDEN_EXPOSED.add(TableProperties.TABLE_PARTITION_PROPERTIES_FILE);
     HIDDEN_EXPOSED.add(TableProperties.WRITE_DISTRIBUTION_MODE_NONE);
     HIDDEN_EXPOSED.add(TableProperties.WRITE_DISTRIBUTION_MODE_HASH);
     HIDDEN_EXPOSED.add(TableProperties.WRITE_DISTRIBUTION_MODE_RANGE);
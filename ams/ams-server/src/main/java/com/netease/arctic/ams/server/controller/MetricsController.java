@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.controller;
+
+import com.netease.arctic.ams.server.controller.response.OkResponse;
+import com.netease.arctic.ams.server.metrics.AmsMetrics;
+import com.netease.arctic.ams.server.metrics.PrometheusFormatter;
+import io.javalin.http.Context;
+
+/**
+ * metrics controller
+ */
+public class MetricsController {
+  private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  /**
+   * get all metrics of ams.
+   */
+  public static void getMetrics(Context ctx) {
+    ctx.json(OkResponse.of(AmsMetrics.snapshot()));
+  }
+
+  /**
+   * get all metrics of ams in prometheus text format.
+   */
+  public static void getPrometheusMetrics(Context ctx) {
+    ctx.contentType(PROMETHEUS_CONTENT_TYPE);
+    ctx.result(PrometheusFormatter.format(AmsMetrics.snapshot()));
+  }
+}
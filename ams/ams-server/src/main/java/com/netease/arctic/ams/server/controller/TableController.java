@@ -18,6 +18,8 @@
 
 package com.netease.arctic.ams.server.controller;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.netease.arctic.ams.api.Constants;
 import com.netease.arctic.ams.api.DataFileInfo;
 import com.netease.arctic.ams.api.MetaException;
@@ -84,6 +86,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -100,6 +103,12 @@ public class TableController extends RestBaseController {
   private static AdaptHiveService adaptHiveService = ServiceContainer.getAdaptHiveService();
   private static DDLTracerService ddlTracerService = ServiceContainer.getDdlTracerService();
 
+  // partition spec rarely changes, avoid loading table from catalog for every page of partition files
+  private static final Cache<TableIdentifier, Boolean> UNPARTITIONED_TABLES = Caffeine.newBuilder()
+      .maximumSize(1000)
+      .expireAfterWrite(10, TimeUnit.MINUTES)
+      .build();
+
   /**
    * get table detail.
    */
@@ -362,12 +371,13 @@ public class TableController extends RestBaseController {
     Integer pageSize = ctx.queryParamAsClass("pageSize", Integer.class).getOrDefault(20);
 
     try {
-      // First determine whether there is a partitioned table, and then get different information
-      List<PartitionBaseInfo> partitionBaseInfos = fileInfoCacheService.getPartitionBaseInfoList(
-              AmsUtils.toTableIdentifier(TableIdentifier.of(catalog, db, table)));
+      com.netease.arctic.ams.api.TableIdentifier tableIdentifier =
+              AmsUtils.toTableIdentifier(TableIdentifier.of(catalog, db, table));
       Integer offset = (page - 1) * pageSize;
+      List<PartitionBaseInfo> partitionBaseInfos = fileInfoCacheService.getPartitionBaseInfoList(
+              tableIdentifier, offset, pageSize);
       PageResult<PartitionBaseInfo, PartitionBaseInfo> amsPageResult = PageResult.of(partitionBaseInfos,
-              offset, pageSize);
+              fileInfoCacheService.getPartitionCount(tableIdentifier));
       ctx.json(OkResponse.of(amsPageResult));
       return;
     } catch (Exception e) {
@@ -393,25 +403,22 @@ public class TableController extends RestBaseController {
     try {
       // The partition passed by the no-partition table is null
       if ("null".equals(partition)) {
-        // get table from catalog
-        String thriftHost = ArcticMetaStore.conf.getString(ArcticMetaStoreConf.THRIFT_BIND_HOST);
-        Integer thriftPort = ArcticMetaStore.conf.getInteger(ArcticMetaStoreConf.THRIFT_BIND_PORT);
-        ArcticCatalog ac = CatalogUtil.getArcticCatalog(thriftHost, thriftPort, catalog);
-        ArcticTable at = ac.loadTable(TableIdentifier.of(catalog, db, table));
         // The partition is passed as null, and it is a table with no partition,
         // then it is confirmed to be a table with no partition.
-        if (at.spec().isUnpartitioned()) {
+        if (UNPARTITIONED_TABLES.get(TableIdentifier.of(catalog, db, table), TableController::isUnpartitioned)) {
           partition = null;
         }
       }
       if (partition != null) {
         partition = java.net.URLDecoder.decode(partition, StandardCharsets.UTF_8.name());
       }
-      List<PartitionFileBaseInfo> partitionFileBaseInfos = fileInfoCacheService.getPartitionFileList(
-              AmsUtils.toTableIdentifier(TableIdentifier.of(catalog, db, table)), partition);
+      com.netease.arctic.ams.api.TableIdentifier tableIdentifier =
+              AmsUtils.toTableIdentifier(TableIdentifier.of(catalog, db, table));
       Integer offset = (page - 1) * pageSize;
+      List<PartitionFileBaseInfo> partitionFileBaseInfos = fileInfoCacheService.getPartitionFileList(
+              tableIdentifier, partition, offset, pageSize);
       PageResult<PartitionFileBaseInfo, PartitionFileBaseInfo> amsPageResult = PageResult.of(partitionFileBaseInfos,
-              offset, pageSize);
+              fileInfoCacheService.getPartitionFileCount(tableIdentifier, partition));
       ctx.json(OkResponse.of(amsPageResult));
       return;
     } catch (Exception e) {
@@ -421,6 +428,15 @@ public class TableController extends RestBaseController {
     }
   }
 
+  private static boolean isUnpartitioned(TableIdentifier tableIdentifier) {
+    // get table from catalog
+    String thriftHost = ArcticMetaStore.conf.getString(ArcticMetaStoreConf.THRIFT_BIND_HOST);
+    Integer thriftPort = ArcticMetaStore.conf.getInteger(ArcticMetaStoreConf.THRIFT_BIND_PORT);
+    ArcticCatalog ac = CatalogUtil.getArcticCatalog(thriftHost, thriftPort, tableIdentifier.getCatalog());
+    ArcticTable at = ac.loadTable(tableIdentifier);
+    return at.spec().isUnpartitioned();
+  }
+
   /* get  operations of some table*/
   public static void getTableOperations(Context ctx) {
     String catalog = ctx.pathParam("catalog");
@@ -25,21 +25,25 @@ import com.netease.arctic.ams.api.CatalogMeta;
 import com.netease.arctic.ams.api.MetaException;
 import com.netease.arctic.ams.api.NoSuchObjectException;
 import com.netease.arctic.ams.api.NotSupportedException;
+import com.netease.arctic.ams.api.TableCommitEvent;
 import com.netease.arctic.ams.api.TableCommitMeta;
 import com.netease.arctic.ams.api.TableIdentifier;
 import com.netease.arctic.ams.api.TableMeta;
 import com.netease.arctic.ams.server.model.TableMetadata;
 import com.netease.arctic.ams.server.service.IMetaService;
 import com.netease.arctic.ams.server.service.ServiceContainer;
+import com.netease.arctic.ams.server.service.impl.ArcticTransactionService;
 import com.netease.arctic.ams.server.service.impl.CatalogMetadataService;
 import com.netease.arctic.ams.server.service.impl.DDLTracerService;
 import com.netease.arctic.ams.server.service.impl.FileInfoCacheService;
+import com.netease.arctic.ams.server.service.impl.TableCommitNotifyService;
 import com.netease.arctic.ams.server.utils.ArcticMetaValidator;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.thrift.TException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -50,12 +54,14 @@ public class ArcticTableMetastoreHandler implements AmsClient, ArcticTableMetast
   private final CatalogMetadataService catalogMetadataService;
   private final FileInfoCacheService fileInfoCacheService;
   private final DDLTracerService ddlTracerService;
+  private final TableCommitNotifyService tableCommitNotifyService;
 
   public ArcticTableMetastoreHandler(IMetaService metaService) {
     this.metaService = metaService;
     this.catalogMetadataService = ServiceContainer.getCatalogMetadataService();
     this.fileInfoCacheService = ServiceContainer.getFileInfoCacheService();
     this.ddlTracerService = ServiceContainer.getDdlTracerService();
+    this.tableCommitNotifyService = ServiceContainer.getTableCommitNotifyService();
   }
 
   @Override
@@ -152,6 +158,22 @@ public class ArcticTableMetastoreHandler implements AmsClient, ArcticTableMetast
     return metadata.buildTableMeta();
   }
 
+  @Override
+  public List<TableMeta> getTables(List<TableIdentifier> tableIdentifiers) throws TException {
+    if (tableIdentifiers == null) {
+      throw new NoSuchObjectException("table identifiers should not be null");
+    }
+    List<TableMeta> tableMetas = new ArrayList<>(tableIdentifiers.size());
+    for (TableIdentifier tableIdentifier : tableIdentifiers) {
+      TableMetadata metadata = metaService.loadTableMetadata(
+          com.netease.arctic.table.TableIdentifier.of(tableIdentifier));
+      if (metadata != null) {
+        tableMetas.add(metadata.buildTableMeta());
+      }
+    }
+    return tableMetas;
+  }
+
   @Override
   public void removeTable(TableIdentifier tableIdentifier, boolean deleteData)
       throws TException {
@@ -167,6 +189,7 @@ public class ArcticTableMetastoreHandler implements AmsClient, ArcticTableMetast
         identifier,
         null,
         false);
+    tableCommitNotifyService.removeTable(tableIdentifier);
   }
 
   @Override
@@ -189,6 +212,28 @@ public class ArcticTableMetastoreHandler implements AmsClient, ArcticTableMetast
     } catch (Exception e) {
       LOG.warn("commit file cache failed", e);
     }
+    tableCommitNotifyService.notifyCommit(commit);
+  }
+
+  @Override
+  public void tableCommits(List<TableCommitMeta> commits) throws TException {
+    if (commits == null) {
+      throw new NoSuchObjectException("table commit metas should not be null");
+    }
+    // commits are handled independently, a failed commit doesn't stop handling the following ones
+    List<TableIdentifier> failedTables = new ArrayList<>();
+    for (TableCommitMeta commit : commits) {
+      try {
+        tableCommit(commit);
+      } catch (Exception e) {
+        LOG.error("handle table commit {} failed", commit, e);
+        failedTables.add(commit == null ? null : commit.getTableIdentifier());
+      }
+    }
+    if (!failedTables.isEmpty()) {
+      throw new MetaException(failedTables.size() + " of " + commits.size() + " table commits failed, tables: " +
+          failedTables);
+    }
   }
 
   @Override
@@ -200,4 +245,35 @@ public class ArcticTableMetastoreHandler implements AmsClient, ArcticTableMetast
     return ServiceContainer.getArcticTransactionService().allocateTransactionId(tableIdentifier,
         transactionSignature, 5);
   }
+
+  @Override
+  public List<Long> allocateTransactionIds(TableIdentifier tableIdentifier, int count) throws TException {
+    LOG.info("handle allocate {} transaction ids {}", count, tableIdentifier);
+    if (tableIdentifier == null) {
+      throw new NoSuchObjectException("table identifier should not be null");
+    }
+    if (count <= 0 || count > ArcticTransactionService.MAX_ALLOCATE_COUNT) {
+      throw new MetaException("count of transaction ids should be in [1, " +
+          ArcticTransactionService.MAX_ALLOCATE_COUNT + "], but is " + count);
+    }
+    return ServiceContainer.getArcticTransactionService().allocateTransactionIds(tableIdentifier, count, 5);
+  }
+
+  @Override
+  public TableCommitEvent waitTableCommit(
+      TableIdentifier tableIdentifier, long changeSnapshotId,
+      long baseSnapshotId, long waitTime) throws TException {
+    if (tableIdentifier == null) {
+      throw new NoSuchObjectException("table identifier should not be null");
+    }
+    // only existing tables are tracked, states of tables are removed when they are dropped
+    ArcticMetaValidator.nuSuchObjectValidator(metaService,
+        new com.netease.arctic.table.TableIdentifier(tableIdentifier));
+    try {
+      return tableCommitNotifyService.waitCommit(tableIdentifier, changeSnapshotId, baseSnapshotId, waitTime);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TException("interrupted while waiting for commit of table " + tableIdentifier, e);
+    }
+  }
 }
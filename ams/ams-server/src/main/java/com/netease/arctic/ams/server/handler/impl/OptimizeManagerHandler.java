@@ -22,6 +22,7 @@ import com.netease.arctic.ams.api.JobId;
 import com.netease.arctic.ams.api.NoSuchObjectException;
 import com.netease.arctic.ams.api.OptimizeManager;
 import com.netease.arctic.ams.api.OptimizeTask;
+import com.netease.arctic.ams.api.OptimizeTaskProgress;
 import com.netease.arctic.ams.api.OptimizeTaskStat;
 import com.netease.arctic.ams.api.OptimizerStateReport;
 import com.netease.arctic.ams.server.service.ServiceContainer;
@@ -45,6 +46,11 @@ public class OptimizeManagerHandler implements OptimizeManager.Iface {
     ServiceContainer.getOptimizeService().handleOptimizeResult(optimizeTaskStat);
   }
 
+  @Override
+  public void reportOptimizeTaskProgress(OptimizeTaskProgress optimizeTaskProgress) throws TException {
+    ServiceContainer.getOptimizeService().handleOptimizeProgress(optimizeTaskProgress);
+  }
+
   @Override
   public void reportOptimizerState(OptimizerStateReport reportData) throws TException {
     ServiceContainer.getOptimizerService().updateOptimizerState(reportData);
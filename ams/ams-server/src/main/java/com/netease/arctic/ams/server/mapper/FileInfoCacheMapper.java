@@ -22,7 +22,6 @@ import com.netease.arctic.ams.api.DataFileInfo;
 import com.netease.arctic.ams.api.TableIdentifier;
 import com.netease.arctic.ams.server.model.AMSDataFileInfo;
 import com.netease.arctic.ams.server.model.CacheFileInfo;
-import com.netease.arctic.ams.server.model.PartitionBaseInfo;
 import com.netease.arctic.ams.server.model.PartitionFileBaseInfo;
 import com.netease.arctic.ams.server.model.SnapshotStatistics;
 import com.netease.arctic.ams.server.model.TransactionsOfTable;
@@ -36,6 +35,7 @@ import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 
 public interface FileInfoCacheMapper {
@@ -59,6 +59,12 @@ public interface FileInfoCacheMapper {
       "#{cache.primaryKeyMd5}")
   void updateCache(@Param("cache") CacheFileInfo cache);
 
+  @Select("<script>select primary_key_md5 from " + TABLE_NAME + " where delete_snapshot_id is null and " +
+      "primary_key_md5 in " +
+      "<foreach item='md5' collection='primaryKeyMd5s' open='(' separator=',' close=')'>#{md5}</foreach>" +
+      "</script>")
+  List<String> getValidPrimaryKeyMd5s(@Param("primaryKeyMd5s") Collection<String> primaryKeyMd5s);
+
   @Select("select file_path, partition_name, file_type, file_size, commit_time, case delete_snapshot_id when " +
           "#{transactionId} then 'remove' else 'add' end as operation from " + TABLE_NAME +
           " where table_identifier = #{tableIdentifier, typeHandler=com.netease.arctic.ams.server.mybatis" +
@@ -110,28 +116,13 @@ public interface FileInfoCacheMapper {
   void deleteInnerTableCache(@Param("tableIdentifier") TableIdentifier tableIdentifier,
       @Param("innerTable") String innerTable);
 
-  @Select("select partition_name, count(1) as file_count, sum(file_size) as size," +
-          "max(commit_time) as lastCommitTime from " + TABLE_NAME +
-          " where table_identifier = #{tableIdentifier, typeHandler=com.netease.arctic" +
-          ".ams.server.mybatis.TableIdentifier2StringConverter} and delete_snapshot_id is null group by " +
-          "partition_name order by partition_name desc")
-  @Results({
-          @Result(column = "partition_name", property = "partition"),
-          @Result(column = "file_count", property = "fileCount"),
-          @Result(column = "size", property = "fileSize"),
-          @Result(column = "lastCommitTime", property = "lastCommitTime")
-  })
-  List<PartitionBaseInfo> getPartitionBaseInfoList(
-          @Param("tableIdentifier") TableIdentifier tableIdentifier);
-
-
   @Select("<script>" +
           "select add_snapshot_id, partition_name, file_path, partition_name, " +
           "file_type, file_size, commit_time, watermark from " + TABLE_NAME +
           " where table_identifier = #{tableIdentifier, typeHandler=com.netease.arctic.ams.server.mybatis" +
           ".TableIdentifier2StringConverter} and delete_snapshot_id is null " +
           "<if test='partition!=null'> and partition_name = #{partition}</if>" +
-          " order by commit_time desc </script>"
+          " order by commit_time desc limit #{offset}, #{limit}</script>"
   )
   @Results({
           @Result(column = "add_snapshot_id", property = "commitId"),
@@ -144,6 +135,16 @@ public interface FileInfoCacheMapper {
           @Result(column = "watermark", property = "watermark", typeHandler = Long2TsConvertor.class)
   })
   List<PartitionFileBaseInfo> getPartitionFileList(
+          @Param("tableIdentifier") TableIdentifier tableIdentifier, @Param("partition") String partition,
+          @Param("offset") int offset, @Param("limit") int limit);
+
+  @Select("<script>" +
+          "select count(1) from " + TABLE_NAME +
+          " where table_identifier = #{tableIdentifier, typeHandler=com.netease.arctic.ams.server.mybatis" +
+          ".TableIdentifier2StringConverter} and delete_snapshot_id is null " +
+          "<if test='partition!=null'> and partition_name = #{partition}</if></script>"
+  )
+  int countPartitionFiles(
           @Param("tableIdentifier") TableIdentifier tableIdentifier, @Param("partition") String partition);
 
   @Select("select file_path, file_type, file_size, file_mask, file_index, record_count, spec_id, partition_name, " +
@@ -60,4 +60,11 @@ public interface InternalTableFilesMapper {
       " trace_id = #{optimizeTaskId.traceId}"
   )
   void deleteOptimizeTaskTargetFile(@Param("optimizeTaskId") OptimizeTaskId optimizeTaskId);
+
+  @Delete("delete from " + TABLE_NAME + " where" +
+      " is_target = 2 and " +
+      " optimize_type = #{optimizeTaskId.type} and " +
+      " trace_id = #{optimizeTaskId.traceId}"
+  )
+  void deleteOptimizeTaskCompletedFile(@Param("optimizeTaskId") OptimizeTaskId optimizeTaskId);
 }
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.mapper;
+
+import com.netease.arctic.ams.api.TableIdentifier;
+import com.netease.arctic.ams.server.model.PartitionBaseInfo;
+import com.netease.arctic.ams.server.model.PartitionStatsDelta;
+import com.netease.arctic.ams.server.model.TableFileStats;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Partition statistics materialized from valid files of {@link FileInfoCacheMapper#TABLE_NAME}. They are maintained
+ * incrementally by deltas of commits, and can be recomputed from file cache by {@link #insertStats}.
+ */
+public interface PartitionStatsCacheMapper {
+  String TABLE_NAME = "partition_stats_cache";
+
+  // data files of base table not larger than it are counted as small files
+  long SMALL_FILE_SIZE_BYTES = 16777216L;
+
+  String DELETE_FILE_TYPES = "('POS_DELETE_FILE', 'EQ_DELETE_FILE')";
+  String DATA_FILE_TYPES = "('BASE_FILE', 'INSERT_FILE')";
+
+  @Delete("<script>" +
+      "delete from " + TABLE_NAME + " where table_identifier = #{tableIdentifier, typeHandler=com.netease.arctic" +
+      ".ams.server.mybatis.TableIdentifier2StringConverter}" +
+      "<if test='partitions != null'> and partition_name in " +
+      "<foreach item='partition' collection='partitions' open='(' separator=',' close=')'>#{partition}</foreach>" +
+      "</if></script>")
+  void deleteStats(
+      @Param("tableIdentifier") TableIdentifier tableIdentifier,
+      @Param("partitions") Collection<String> partitions);
+
+  @Insert("<script>" +
+      "insert into " + TABLE_NAME + " (table_identifier, partition_name, file_count, file_size, record_count, " +
+      "delete_file_count, delete_file_size, change_file_count, small_file_count, last_commit_time) " +
+      "select table_identifier, coalesce(partition_name, ''), count(1), coalesce(sum(file_size), 0), " +
+      "coalesce(sum(record_count), 0), " +
+      "sum(case when inner_table = 'base' and file_type in " + DELETE_FILE_TYPES + " then 1 else 0 end), " +
+      "sum(case when inner_table = 'base' and file_type in " + DELETE_FILE_TYPES + " then file_size else 0 end), " +
+      "sum(case when inner_table = 'change' then 1 else 0 end), " +
+      "sum(case when inner_table = 'base' and file_type in " + DATA_FILE_TYPES + " and file_size &lt;= " +
+      SMALL_FILE_SIZE_BYTES + " then 1 else 0 end), " +
+      "max(commit_time) from " + FileInfoCacheMapper.TABLE_NAME + " where table_identifier = #{tableIdentifier, " +
+      "typeHandler=com.netease.arctic.ams.server.mybatis.TableIdentifier2StringConverter} and " +
+      "delete_snapshot_id is null" +
+      "<if test='partitions != null'> and partition_name in " +
+      "<foreach item='partition' collection='partitions' open='(' separator=',' close=')'>#{partition}</foreach>" +
+      "</if> group by table_identifier, coalesce(partition_name, '')</script>")
+  void insertStats(
+      @Param("tableIdentifier") TableIdentifier tableIdentifier,
+      @Param("partitions") Collection<String> partitions);
+
+  /**
+   * Create empty stats of a partition if absent, so deltas can be applied by update.
+   */
+  @Insert("insert ignore into " + TABLE_NAME + " (table_identifier, partition_name) values (#{tableIdentifier, " +
+      "typeHandler=com.netease.arctic.ams.server.mybatis.TableIdentifier2StringConverter}, #{partition})")
+  void ensureStats(
+      @Param("tableIdentifier") TableIdentifier tableIdentifier,
+      @Param("partition") String partition);
+
+  @Update("update " + TABLE_NAME + " set file_count = file_count + #{delta.fileCount}, " +
+      "file_size = file_size + #{delta.fileSize}, record_count = record_count + #{delta.recordCount}, " +
+      "delete_file_count = delete_file_count + #{delta.deleteFileCount}, " +
+      "delete_file_size = delete_file_size + #{delta.deleteFileSize}, " +
+      "change_file_count = change_file_count + #{delta.changeFileCount}, " +
+      "small_file_count = small_file_count + #{delta.smallFileCount} where table_identifier = " +
+      "#{tableIdentifier, typeHandler=com.netease.arctic.ams.server.mybatis.TableIdentifier2StringConverter} " +
+      "and partition_name = #{delta.partition}")
+  void applyDelta(
+      @Param("tableIdentifier") TableIdentifier tableIdentifier,
+      @Param("delta") PartitionStatsDelta delta);
+
+  @Update("update " + TABLE_NAME + " set last_commit_time = #{commitTime, typeHandler=com.netease.arctic.ams" +
+      ".server.mybatis.Long2TsConvertor} where table_identifier = #{tableIdentifier, typeHandler=com.netease" +
+      ".arctic.ams.server.mybatis.TableIdentifier2StringConverter} and partition_name = #{partition} and " +
+      "(last_commit_time is null or last_commit_time < #{commitTime, typeHandler=com.netease.arctic.ams.server" +
+      ".mybatis.Long2TsConvertor})")
+  void updateLastCommitTime(
+      @Param("tableIdentifier") TableIdentifier tableIdentifier,
+      @Param("partition") String partition,
+      @Param("commitTime") long commitTime);
+
+  /**
+   * Delete stats of a partition if there is no valid file in it any more, as {@link #insertStats} does.
+   */
+  @Delete("delete from " + TABLE_NAME + " where table_identifier = #{tableIdentifier, typeHandler=com.netease" +
+      ".arctic.ams.server.mybatis.TableIdentifier2StringConverter} and partition_name = #{partition} and " +
+      "file_count <= 0")
+  void deleteEmptyStats(
+      @Param("tableIdentifier") TableIdentifier tableIdentifier,
+      @Param("partition") String partition);
+
+  @Select("select count(1) as partition_count, coalesce(sum(file_count), 0) as file_count, " +
+      "coalesce(sum(file_size), 0) as file_size, coalesce(sum(record_count), 0) as record_count, " +
+      "coalesce(sum(delete_file_count), 0) as delete_file_count, " +
+      "coalesce(sum(delete_file_size), 0) as delete_file_size, " +
+      "coalesce(sum(change_file_count), 0) as change_file_count, " +
+      "coalesce(sum(small_file_count), 0) as small_file_count, " +
+      "coalesce(max(small_file_count), 0) as max_partition_small_file_count, " +
+      "coalesce(sum(case when file_count < 0 or file_size < 0 or record_count < 0 or delete_file_count < 0 or " +
+      "delete_file_size < 0 or change_file_count < 0 or small_file_count < 0 then 1 else 0 end), 0) " +
+      "as negative_partition_count from " + TABLE_NAME +
+      " where table_identifier = #{tableIdentifier, typeHandler=com.netease.arctic.ams.server.mybatis" +
+      ".TableIdentifier2StringConverter}")
+  @Results({
+      @Result(column = "partition_count", property = "partitionCount"),
+      @Result(column = "file_count", property = "fileCount"),
+      @Result(column = "file_size", property = "fileSize"),
+      @Result(column = "record_count", property = "recordCount"),
+      @Result(column = "delete_file_count", property = "deleteFileCount"),
+      @Result(column = "delete_file_size", property = "deleteFileSize"),
+      @Result(column = "change_file_count", property = "changeFileCount"),
+      @Result(column = "small_file_count", property = "smallFileCount"),
+      @Result(column = "max_partition_small_file_count", property = "maxPartitionSmallFileCount"),
+      @Result(column = "negative_partition_count", property = "negativePartitionCount")
+  })
+  TableFileStats getTableStats(@Param("tableIdentifier") TableIdentifier tableIdentifier);
+
+  @Select("select partition_name, file_count, file_size, last_commit_time from " + TABLE_NAME +
+      " where table_identifier = #{tableIdentifier, typeHandler=com.netease.arctic.ams.server.mybatis" +
+      ".TableIdentifier2StringConverter} order by partition_name desc limit #{offset}, #{limit}")
+  @Results({
+      @Result(column = "partition_name", property = "partition"),
+      @Result(column = "file_count", property = "fileCount"),
+      @Result(column = "file_size", property = "fileSize"),
+      @Result(column = "last_commit_time", property = "lastCommitTime")
+  })
+  List<PartitionBaseInfo> getPartitionStats(
+      @Param("tableIdentifier") TableIdentifier tableIdentifier,
+      @Param("offset") int offset,
+      @Param("limit") int limit);
+
+  @Select("select count(1) from " + TABLE_NAME + " where table_identifier = #{tableIdentifier, " +
+      "typeHandler=com.netease.arctic.ams.server.mybatis.TableIdentifier2StringConverter}")
+  int countPartitions(@Param("tableIdentifier") TableIdentifier tableIdentifier);
+}
@@ -134,6 +134,17 @@ public interface TableMetadataMapper {
       @Param("tableIdentifier") TableIdentifier tableIdentifier,
       @Param("txId") Long txId);
 
+  @Update("update " + TABLE_NAME + " set " +
+      "current_tx_id = #{txId} where " +
+      "catalog_name = #{tableIdentifier.catalog} and " +
+      "db_name = #{tableIdentifier.database} and " +
+      "table_name = #{tableIdentifier.tableName} and " +
+      "coalesce(current_tx_id, 0) = #{expectedTxId}")
+  int compareAndSetTableTxId(
+      @Param("tableIdentifier") TableIdentifier tableIdentifier,
+      @Param("expectedTxId") Long expectedTxId,
+      @Param("txId") Long txId);
+
   @Select("select table_name, db_name, catalog_name, primary_key, " +
       "table_location, base_location, delta_location, meta_store_site, hdfs_site, core_site, " +
       "auth_method, hadoop_username, krb_keytab, krb_conf, krb_principal, properties, current_tx_id from " +
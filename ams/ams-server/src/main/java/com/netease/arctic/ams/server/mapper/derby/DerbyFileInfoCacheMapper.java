@@ -21,13 +21,16 @@ package com.netease.arctic.ams.server.mapper.derby;
 import com.netease.arctic.ams.api.TableIdentifier;
 import com.netease.arctic.ams.server.mapper.FileInfoCacheMapper;
 import com.netease.arctic.ams.server.model.CacheFileInfo;
+import com.netease.arctic.ams.server.model.PartitionFileBaseInfo;
 import com.netease.arctic.ams.server.mybatis.Long2TsConvertor;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
 import org.apache.ibatis.annotations.Select;
 
 import java.sql.Timestamp;
+import java.util.List;
 
 public interface DerbyFileInfoCacheMapper extends FileInfoCacheMapper {
   String TABLE_NAME = "file_info_cache";
@@ -56,4 +59,25 @@ public interface DerbyFileInfoCacheMapper extends FileInfoCacheMapper {
                   "watermark desc FETCH FIRST ROW ONLY")
   Timestamp getWatermark(@Param("tableIdentifier") TableIdentifier tableIdentifier,
       @Param("innerTable") String innerTable);
+
+  @Select("<script>" +
+          "select add_snapshot_id, partition_name, file_path, partition_name, " +
+          "file_type, file_size, commit_time, watermark from " + TABLE_NAME +
+          " where table_identifier = #{tableIdentifier, typeHandler=com.netease.arctic.ams.server.mybatis" +
+          ".TableIdentifier2StringConverter} and delete_snapshot_id is null " +
+          "<if test='partition!=null'> and partition_name = #{partition}</if>" +
+          " order by commit_time desc OFFSET #{offset} ROWS FETCH NEXT #{limit} ROWS ONLY</script>"
+  )
+  @Results({
+          @Result(column = "add_snapshot_id", property = "commitId"),
+          @Result(column = "partition_name", property = "partitionName"),
+          @Result(column = "file_path", property = "path"),
+          @Result(column = "file_type", property = "fileType"),
+          @Result(column = "file_size", property = "fileSize"),
+          @Result(column = "commit_time", property = "commitTime", typeHandler = Long2TsConvertor.class),
+          @Result(column = "watermark", property = "watermark", typeHandler = Long2TsConvertor.class)
+  })
+  List<PartitionFileBaseInfo> getPartitionFileList(
+          @Param("tableIdentifier") TableIdentifier tableIdentifier, @Param("partition") String partition,
+          @Param("offset") int offset, @Param("limit") int limit);
 }
\ No newline at end of file
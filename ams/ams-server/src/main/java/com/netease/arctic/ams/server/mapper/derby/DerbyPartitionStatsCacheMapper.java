@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.mapper.derby;
+
+import com.netease.arctic.ams.api.TableIdentifier;
+import com.netease.arctic.ams.server.mapper.PartitionStatsCacheMapper;
+import com.netease.arctic.ams.server.model.PartitionBaseInfo;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+
+import java.util.List;
+
+public interface DerbyPartitionStatsCacheMapper extends PartitionStatsCacheMapper {
+
+  @Insert("insert into " + TABLE_NAME + " (table_identifier, partition_name) select cast(#{tableIdentifier, " +
+      "typeHandler=com.netease.arctic.ams.server.mybatis.TableIdentifier2StringConverter} as varchar(384)), " +
+      "cast(#{partition} as varchar(256)) from SYSIBM.SYSDUMMY1 where not exists (select 1 from " + TABLE_NAME + " where table_identifier = " +
+      "#{tableIdentifier, typeHandler=com.netease.arctic.ams.server.mybatis.TableIdentifier2StringConverter} " +
+      "and partition_name = #{partition})")
+  void ensureStats(
+      @Param("tableIdentifier") TableIdentifier tableIdentifier,
+      @Param("partition") String partition);
+
+  @Select("select partition_name, file_count, file_size, last_commit_time from " + TABLE_NAME +
+      " where table_identifier = #{tableIdentifier, typeHandler=com.netease.arctic.ams.server.mybatis" +
+      ".TableIdentifier2StringConverter} order by partition_name desc " +
+      "OFFSET #{offset} ROWS FETCH NEXT #{limit} ROWS ONLY")
+  @Results({
+      @Result(column = "partition_name", property = "partition"),
+      @Result(column = "file_count", property = "fileCount"),
+      @Result(column = "file_size", property = "fileSize"),
+      @Result(column = "last_commit_time", property = "lastCommitTime")
+  })
+  List<PartitionBaseInfo> getPartitionStats(
+      @Param("tableIdentifier") TableIdentifier tableIdentifier,
+      @Param("offset") int offset,
+      @Param("limit") int limit);
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.metrics;
+
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Registry of metrics in ams, metrics are identified by name and labels, e.g.
+ * optimize_queue_depth{queue="default-1"}.
+ */
+public class AmsMetrics {
+  private static final ConcurrentMap<MetricKey, Counter> COUNTERS = new ConcurrentHashMap<>();
+  private static final ConcurrentMap<MetricKey, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+  private static final ConcurrentMap<MetricKey, Supplier<? extends Number>> GAUGES = new ConcurrentHashMap<>();
+
+  private AmsMetrics() {
+  }
+
+  /**
+   * Get or create a counter.
+   *
+   * @param name   - metric name
+   * @param labels - label name and value pairs
+   * @return counter
+   */
+  public static Counter counter(String name, String... labels) {
+    return COUNTERS.computeIfAbsent(new MetricKey(name, labels), k -> new Counter());
+  }
+
+  /**
+   * Get or create a histogram.
+   *
+   * @param name   - metric name
+   * @param labels - label name and value pairs
+   * @return histogram
+   */
+  public static Histogram histogram(String name, String... labels) {
+    return HISTOGRAMS.computeIfAbsent(new MetricKey(name, labels), k -> new Histogram());
+  }
+
+  /**
+   * Register a gauge, replace the old one if exists.
+   *
+   * @param name   - metric name
+   * @param gauge  - supplier of current value
+   * @param labels - label name and value pairs
+   */
+  public static void gauge(String name, Supplier<? extends Number> gauge, String... labels) {
+    GAUGES.put(new MetricKey(name, labels), gauge);
+  }
+
+  /**
+   * Remove all metrics with the label, e.g. when the queue or table is removed.
+   *
+   * @param label - label name
+   * @param value - label value
+   */
+  public static void removeByLabel(String label, String value) {
+    COUNTERS.keySet().removeIf(k -> value.equals(k.labels.get(label)));
+    HISTOGRAMS.keySet().removeIf(k -> value.equals(k.labels.get(label)));
+    GAUGES.keySet().removeIf(k -> value.equals(k.labels.get(label)));
+  }
+
+  /**
+   * Snapshot of all metrics.
+   *
+   * @return list of metric, sorted by name
+   */
+  public static List<Metric> snapshot() {
+    List<Metric> metrics = new ArrayList<>();
+    COUNTERS.forEach((k, v) -> metrics.add(new Metric(k.name, k.labels, "counter", v.getCount())));
+    GAUGES.forEach((k, v) -> {
+      Number value = v.get();
+      metrics.add(new Metric(k.name, k.labels, "gauge", value == null ? 0 : value));
+    });
+    HISTOGRAMS.forEach((k, v) -> metrics.add(new Metric(k.name, k.labels, "histogram", v.snapshot())));
+    metrics.sort((m1, m2) -> m1.getName().compareTo(m2.getName()));
+    return metrics;
+  }
+
+  /**
+   * A metric value in snapshot.
+   */
+  public static class Metric {
+    private final String name;
+    private final Map<String, String> labels;
+    private final String type;
+    private final Object value;
+
+    Metric(String name, Map<String, String> labels, String type, Object value) {
+      this.name = name;
+      this.labels = labels;
+      this.type = type;
+      this.value = value;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public Map<String, String> getLabels() {
+      return labels;
+    }
+
+    public String getType() {
+      return type;
+    }
+
+    public Object getValue() {
+      return value;
+    }
+  }
+
+  private static class MetricKey {
+    private final String name;
+    private final Map<String, String> labels;
+
+    MetricKey(String name, String... labels) {
+      Preconditions.checkArgument(labels.length % 2 == 0, "labels should be name and value pairs");
+      this.name = name;
+      Map<String, String> labelMap = new LinkedHashMap<>();
+      for (int i = 0; i < labels.length; i += 2) {
+        labelMap.put(labels[i], labels[i + 1]);
+      }
+      this.labels = Collections.unmodifiableMap(labelMap);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      MetricKey that = (MetricKey) o;
+      return Objects.equals(name, that.name) && Objects.equals(labels, that.labels);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(name, labels);
+    }
+  }
+}
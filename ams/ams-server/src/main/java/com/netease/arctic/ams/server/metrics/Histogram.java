@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Distribution of non-negative values (usually latencies in milliseconds), values are kept in
+ * exponential buckets, bucket i holds values in [2^(i-1), 2^i).
+ */
+public class Histogram {
+  private static final int BUCKET_CNT = 64;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_CNT);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final AtomicLong max = new AtomicLong();
+
+  public void update(long value) {
+    if (value < 0) {
+      value = 0;
+    }
+    buckets.incrementAndGet(bucketIndex(value));
+    count.increment();
+    sum.add(value);
+    max.accumulateAndGet(value, Math::max);
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getSum() {
+    return sum.sum();
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  public double getMean() {
+    long cnt = getCount();
+    return cnt == 0 ? 0 : (double) getSum() / cnt;
+  }
+
+  /**
+   * Get an upper bound of the quantile, precise to the power of 2 bucket.
+   *
+   * @param quantile - in [0, 1]
+   * @return upper bound of the bucket holding the quantile
+   */
+  public long getQuantile(double quantile) {
+    long total = 0;
+    long[] snapshot = new long[BUCKET_CNT];
+    for (int i = 0; i < BUCKET_CNT; i++) {
+      snapshot[i] = buckets.get(i);
+      total += snapshot[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = (long) Math.ceil(quantile * total);
+    long seen = 0;
+    for (int i = 0; i < BUCKET_CNT; i++) {
+      seen += snapshot[i];
+      if (seen >= Math.max(rank, 1)) {
+        return Math.min(bucketUpperBound(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  public Map<String, Object> snapshot() {
+    Map<String, Object> snapshot = new LinkedHashMap<>();
+    snapshot.put("count", getCount());
+    snapshot.put("sum", getSum());
+    snapshot.put("mean", getMean());
+    snapshot.put("max", getMax());
+    snapshot.put("p50", getQuantile(0.5));
+    snapshot.put("p95", getQuantile(0.95));
+    snapshot.put("p99", getQuantile(0.99));
+    return snapshot;
+  }
+
+  static int bucketIndex(long value) {
+    return value == 0 ? 0 : Math.min(BUCKET_CNT - 1, 64 - Long.numberOfLeadingZeros(value));
+  }
+
+  static long bucketUpperBound(int index) {
+    return index >= 63 ? Long.MAX_VALUE : (1L << index) - 1;
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.metrics;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TMultiplexedProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolDecorator;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thrift processor recording call count, errors and latency of each method, e.g.
+ * thrift_call_latency_us{service="TableMetastore",method="commit"}.
+ */
+public class InstrumentedProcessor implements TProcessor {
+  public static final String SERVICE_LABEL = "service";
+  public static final String METHOD_LABEL = "method";
+
+  private final TProcessor processor;
+  private final AtomicInteger inFlightCalls = new AtomicInteger();
+  private final ConcurrentMap<String, MethodMetrics> methodMetrics = new ConcurrentHashMap<>();
+
+  public InstrumentedProcessor(TProcessor processor) {
+    this.processor = processor;
+    AmsMetrics.gauge("thrift_in_flight_calls", inFlightCalls::get);
+  }
+
+  @Override
+  public boolean process(TProtocol in, TProtocol out) throws TException {
+    MessageRecordingProtocol recordingIn = new MessageRecordingProtocol(in);
+    MessageRecordingProtocol recordingOut = new MessageRecordingProtocol(out);
+    long start = System.nanoTime();
+    inFlightCalls.incrementAndGet();
+    boolean failed = true;
+    try {
+      boolean result = processor.process(recordingIn, recordingOut);
+      failed = recordingOut.message != null && recordingOut.message.type == TMessageType.EXCEPTION;
+      return result;
+    } finally {
+      inFlightCalls.decrementAndGet();
+      if (recordingIn.message != null) {
+        MethodMetrics metrics = methodMetrics.computeIfAbsent(recordingIn.message.name, MethodMetrics::new);
+        metrics.calls.inc();
+        metrics.latency.update(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        if (failed) {
+          metrics.errors.inc();
+        }
+      }
+    }
+  }
+
+  private static class MethodMetrics {
+    private final Counter calls;
+    private final Counter errors;
+    private final Histogram latency;
+
+    MethodMetrics(String messageName) {
+      // message name of multiplexed processor is like TableMetastore:commit
+      int index = messageName.indexOf(TMultiplexedProtocol.SEPARATOR);
+      String service = index < 0 ? "" : messageName.substring(0, index);
+      String method = index < 0 ? messageName : messageName.substring(index + 1);
+      this.calls = AmsMetrics.counter("thrift_calls", SERVICE_LABEL, service, METHOD_LABEL, method);
+      this.errors = AmsMetrics.counter("thrift_call_errors", SERVICE_LABEL, service, METHOD_LABEL, method);
+      this.latency = AmsMetrics.histogram("thrift_call_latency_us", SERVICE_LABEL, service, METHOD_LABEL, method);
+    }
+  }
+
+  /**
+   * Keep the first message read or written, which is the request or the response of the call.
+   */
+  private static class MessageRecordingProtocol extends TProtocolDecorator {
+    private TMessage message;
+
+    MessageRecordingProtocol(TProtocol protocol) {
+      super(protocol);
+    }
+
+    @Override
+    public TMessage readMessageBegin() throws TException {
+      TMessage readMessage = super.readMessageBegin();
+      if (message == null) {
+        message = readMessage;
+      }
+      return readMessage;
+    }
+
+    @Override
+    public void writeMessageBegin(TMessage writeMessage) throws TException {
+      if (message == null) {
+        message = writeMessage;
+      }
+      super.writeMessageBegin(writeMessage);
+    }
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.metrics;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed size worker pool of thrift server, recording how long requests wait for a worker and how busy the
+ * workers are.
+ */
+public class InstrumentedWorkerPool extends ThreadPoolExecutor {
+  private final Histogram queueTime;
+
+  public InstrumentedWorkerPool(String name, int threads) {
+    super(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new NamedThreadFactory(name));
+    this.queueTime = AmsMetrics.histogram(name + "_queue_time_us");
+    AmsMetrics.gauge(name + "_threads", this::getMaximumPoolSize);
+    AmsMetrics.gauge(name + "_active_threads", this::getActiveCount);
+    AmsMetrics.gauge(name + "_queue_size", () -> getQueue().size());
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    long submitTime = System.nanoTime();
+    super.execute(() -> {
+      queueTime.update(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - submitTime));
+      command.run();
+    });
+  }
+
+  private static class NamedThreadFactory implements ThreadFactory {
+    private final String name;
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    NamedThreadFactory(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+      return new Thread(r, name + "-" + threadCount.getAndIncrement());
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.metrics;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Format metrics snapshot in prometheus text exposition format, histograms are exposed as summaries.
+ */
+public class PrometheusFormatter {
+  private static final String[][] QUANTILES = {{"0.5", "p50"}, {"0.95", "p95"}, {"0.99", "p99"}};
+
+  private PrometheusFormatter() {
+  }
+
+  public static String format(List<AmsMetrics.Metric> metrics) {
+    StringBuilder sb = new StringBuilder();
+    String lastName = null;
+    for (AmsMetrics.Metric metric : metrics) {
+      String name = metric.getName();
+      boolean isHistogram = "histogram".equals(metric.getType());
+      if (!name.equals(lastName)) {
+        sb.append("# TYPE ").append(name).append(' ').append(isHistogram ? "summary" : metric.getType())
+            .append('\n');
+        lastName = name;
+      }
+      if (isHistogram) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> snapshot = (Map<String, Object>) metric.getValue();
+        for (String[] quantile : QUANTILES) {
+          appendSample(sb, name, metric.getLabels(), quantile[0], snapshot.get(quantile[1]));
+        }
+        appendSample(sb, name + "_sum", metric.getLabels(), null, snapshot.get("sum"));
+        appendSample(sb, name + "_count", metric.getLabels(), null, snapshot.get("count"));
+      } else {
+        appendSample(sb, name, metric.getLabels(), null, metric.getValue());
+      }
+    }
+    return sb.toString();
+  }
+
+  private static void appendSample(
+      StringBuilder sb, String name, Map<String, String> labels, String quantile, Object value) {
+    sb.append(name);
+    if (!labels.isEmpty() || quantile != null) {
+      sb.append('{');
+      boolean first = true;
+      for (Map.Entry<String, String> label : labels.entrySet()) {
+        if (!first) {
+          sb.append(',');
+        }
+        appendLabel(sb, label.getKey(), label.getValue());
+        first = false;
+      }
+      if (quantile != null) {
+        if (!first) {
+          sb.append(',');
+        }
+        appendLabel(sb, "quantile", quantile);
+      }
+      sb.append('}');
+    }
+    sb.append(' ').append(value).append('\n');
+  }
+
+  private static void appendLabel(StringBuilder sb, String name, String value) {
+    sb.append(name).append("=\"");
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '\\' || c == '"') {
+        sb.append('\\').append(c);
+      } else if (c == '\n') {
+        sb.append("\\n");
+      } else {
+        sb.append(c);
+      }
+    }
+    sb.append('"');
+  }
+}
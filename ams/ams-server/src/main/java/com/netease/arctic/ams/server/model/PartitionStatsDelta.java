@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.model;
+
+import com.netease.arctic.ams.api.Constants;
+import com.netease.arctic.ams.api.DataFile;
+import com.netease.arctic.ams.server.mapper.PartitionStatsCacheMapper;
+import com.netease.arctic.data.DataFileType;
+
+/**
+ * Change of the statistics of a partition made by the files added and deleted in a commit.
+ */
+public class PartitionStatsDelta {
+  private final String partition;
+  private int fileCount;
+  private long fileSize;
+  private long recordCount;
+  private int deleteFileCount;
+  private long deleteFileSize;
+  private int changeFileCount;
+  private int smallFileCount;
+  private Long lastCommitTime;
+
+  public PartitionStatsDelta(String partition) {
+    this.partition = partition;
+  }
+
+  public void addFile(String innerTable, DataFile file, long commitTime) {
+    apply(innerTable, file, 1);
+    if (lastCommitTime == null || lastCommitTime < commitTime) {
+      lastCommitTime = commitTime;
+    }
+  }
+
+  public void deleteFile(String innerTable, DataFile file) {
+    apply(innerTable, file, -1);
+  }
+
+  private void apply(String innerTable, DataFile file, int sign) {
+    fileCount += sign;
+    fileSize += sign * file.getFileSize();
+    recordCount += sign * file.getRecordCount();
+    if (Constants.INNER_TABLE_CHANGE.equals(innerTable)) {
+      changeFileCount += sign;
+    } else if (isDeleteFile(file.getFileType())) {
+      deleteFileCount += sign;
+      deleteFileSize += sign * file.getFileSize();
+    } else if (file.getFileSize() <= PartitionStatsCacheMapper.SMALL_FILE_SIZE_BYTES) {
+      smallFileCount += sign;
+    }
+  }
+
+  private static boolean isDeleteFile(String fileType) {
+    return DataFileType.POS_DELETE_FILE.name().equals(fileType) || DataFileType.EQ_DELETE_FILE.name().equals(fileType);
+  }
+
+  public String getPartition() {
+    return partition;
+  }
+
+  public int getFileCount() {
+    return fileCount;
+  }
+
+  public long getFileSize() {
+    return fileSize;
+  }
+
+  public long getRecordCount() {
+    return recordCount;
+  }
+
+  public int getDeleteFileCount() {
+    return deleteFileCount;
+  }
+
+  public long getDeleteFileSize() {
+    return deleteFileSize;
+  }
+
+  public int getChangeFileCount() {
+    return changeFileCount;
+  }
+
+  public int getSmallFileCount() {
+    return smallFileCount;
+  }
+
+  /**
+   * @return latest commit time of added files, null if no file is added
+   */
+  public Long getLastCommitTime() {
+    return lastCommitTime;
+  }
+}
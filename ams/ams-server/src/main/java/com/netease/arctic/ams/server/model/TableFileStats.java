@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.model;
+
+/**
+ * Statistics of valid files of a table, summed up from partition statistics.
+ */
+public class TableFileStats {
+  private int partitionCount;
+  private long fileCount;
+  private long fileSize;
+  private long recordCount;
+  private long deleteFileCount;
+  private long deleteFileSize;
+  private long changeFileCount;
+  private long smallFileCount;
+  private int maxPartitionSmallFileCount;
+  private int negativePartitionCount;
+
+  public int getPartitionCount() {
+    return partitionCount;
+  }
+
+  public void setPartitionCount(int partitionCount) {
+    this.partitionCount = partitionCount;
+  }
+
+  public long getFileCount() {
+    return fileCount;
+  }
+
+  public void setFileCount(long fileCount) {
+    this.fileCount = fileCount;
+  }
+
+  public long getFileSize() {
+    return fileSize;
+  }
+
+  public void setFileSize(long fileSize) {
+    this.fileSize = fileSize;
+  }
+
+  public long getRecordCount() {
+    return recordCount;
+  }
+
+  public void setRecordCount(long recordCount) {
+    this.recordCount = recordCount;
+  }
+
+  public long getDeleteFileCount() {
+    return deleteFileCount;
+  }
+
+  public void setDeleteFileCount(long deleteFileCount) {
+    this.deleteFileCount = deleteFileCount;
+  }
+
+  public long getDeleteFileSize() {
+    return deleteFileSize;
+  }
+
+  public void setDeleteFileSize(long deleteFileSize) {
+    this.deleteFileSize = deleteFileSize;
+  }
+
+  public long getChangeFileCount() {
+    return changeFileCount;
+  }
+
+  public void setChangeFileCount(long changeFileCount) {
+    this.changeFileCount = changeFileCount;
+  }
+
+  public long getSmallFileCount() {
+    return smallFileCount;
+  }
+
+  public void setSmallFileCount(long smallFileCount) {
+    this.smallFileCount = smallFileCount;
+  }
+
+  /**
+   * @return max count of small data files in one partition
+   */
+  public int getMaxPartitionSmallFileCount() {
+    return maxPartitionSmallFileCount;
+  }
+
+  public void setMaxPartitionSmallFileCount(int maxPartitionSmallFileCount) {
+    this.maxPartitionSmallFileCount = maxPartitionSmallFileCount;
+  }
+
+  /**
+   * @return count of partitions with any negative counter, which means the stats drifted from file cache
+   */
+  public int getNegativePartitionCount() {
+    return negativePartitionCount;
+  }
+
+  public void setNegativePartitionCount(int negativePartitionCount) {
+    this.negativePartitionCount = negativePartitionCount;
+  }
+}
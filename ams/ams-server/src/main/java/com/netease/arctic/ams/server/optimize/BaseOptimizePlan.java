@@ -28,6 +28,7 @@ import com.netease.arctic.ams.server.model.FileTree;
 import com.netease.arctic.ams.server.model.FilesStatistics;
 import com.netease.arctic.ams.server.model.TableOptimizeRuntime;
 import com.netease.arctic.ams.server.model.TaskConfig;
+import com.netease.arctic.ams.server.utils.ContentFileUtil;
 import com.netease.arctic.ams.server.utils.FilesStatisticsBuilder;
 import com.netease.arctic.ams.server.utils.UnKeyedTableUtil;
 import com.netease.arctic.data.DataTreeNode;
@@ -35,8 +36,10 @@ import com.netease.arctic.hive.utils.HiveTableUtil;
 import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.table.TableIdentifier;
 import com.netease.arctic.utils.SerializationUtil;
+import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Snapshot;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -87,6 +90,8 @@ public abstract class BaseOptimizePlan {
   protected long currentChangeSnapshotId = TableOptimizeRuntime.INVALID_SNAPSHOT_ID;
   // for check iceberg base table current snapshot whether cached in file cache
   protected Predicate<Long> snapshotIsCached;
+  // file path -> content file, could be shared by plans of the same table to build content files only once
+  protected Map<String, ContentFile<?>> contentFileCache = new HashMap<>();
 
   public BaseOptimizePlan(ArcticTable arcticTable, TableOptimizeRuntime tableOptimizeRuntime,
                           List<DataFileInfo> baseTableFileList,
@@ -107,6 +112,20 @@ public abstract class BaseOptimizePlan {
     this.isCustomizeDir = false;
   }
 
+  /**
+   * Share built content files with other plans of the same table in one planning round.
+   *
+   * @param contentFileCache file path -> content file
+   */
+  public void setContentFileCache(Map<String, ContentFile<?>> contentFileCache) {
+    this.contentFileCache = contentFileCache;
+  }
+
+  protected ContentFile<?> buildContentFile(DataFileInfo dataFileInfo, PartitionSpec partitionSpec) {
+    return contentFileCache.computeIfAbsent(dataFileInfo.getPath(),
+        path -> ContentFileUtil.buildContentFile(dataFileInfo, partitionSpec));
+  }
+
   /**
    * check whether partition need to plan
    * @param partitionToPath target partition
@@ -19,6 +19,7 @@
 package com.netease.arctic.ams.server.optimize;
 
 import com.netease.arctic.ams.api.NoSuchObjectException;
+import com.netease.arctic.ams.api.OptimizeTaskProgress;
 import com.netease.arctic.ams.api.OptimizeTaskStat;
 import com.netease.arctic.ams.server.model.OptimizeHistory;
 import com.netease.arctic.table.TableIdentifier;
@@ -57,6 +58,14 @@ public interface IOptimizeService {
    */
   void handleOptimizeResult(OptimizeTaskStat optimizeTaskStat) throws NoSuchObjectException;
 
+  /**
+   * Handle progress of an executing OptimizeTask.
+   *
+   * @param optimizeTaskProgress -
+   * @throws NoSuchObjectException if table not exists
+   */
+  void handleOptimizeProgress(OptimizeTaskProgress optimizeTaskProgress) throws NoSuchObjectException;
+
   /**
    * Get optimize history of an ArcticTable.
    *
@@ -82,9 +91,17 @@ public interface IOptimizeService {
 
   /**
    * Take Table to commit, wait if no table is ready.
+   * Tables are sharded by table identifier, so commits of a table are always handled by the same shard.
+   * @param shard - commit shard of the worker
    * @return TableOptimizeItem -
    */
-  TableOptimizeItem takeTableToCommit() throws InterruptedException;
+  TableOptimizeItem takeTableToCommit(int shard) throws InterruptedException;
+
+  /**
+   * Number of commit shards, each commit worker takes tables from one shard.
+   * @return shard count
+   */
+  int commitShardCount();
 
   /**
    * expire and clean optimize history record
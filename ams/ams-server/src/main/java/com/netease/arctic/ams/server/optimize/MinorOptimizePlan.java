@@ -25,7 +25,6 @@ import com.netease.arctic.ams.server.model.BaseOptimizeTask;
 import com.netease.arctic.ams.server.model.FileTree;
 import com.netease.arctic.ams.server.model.TableOptimizeRuntime;
 import com.netease.arctic.ams.server.model.TaskConfig;
-import com.netease.arctic.ams.server.utils.ContentFileUtil;
 import com.netease.arctic.data.DataFileType;
 import com.netease.arctic.data.DataTreeNode;
 import com.netease.arctic.table.ArcticTable;
@@ -253,7 +252,7 @@ public class MinorOptimizePlan extends BaseOptimizePlan {
     Preconditions.checkArgument(DataFileType.POS_DELETE_FILE != DataFileType.valueOf(dataFileInfo.getType()), 
         "not support pos-delete files in change table " + dataFileInfo.getPath());
 
-    DataFile dataFile = (DataFile) ContentFileUtil.buildContentFile(dataFileInfo, partitionSpec);
+    DataFile dataFile = (DataFile) buildContentFile(dataFileInfo, partitionSpec);
     return new ChangeFileInfo(dataFileInfo, dataFile);
   }
 
@@ -275,7 +274,7 @@ public class MinorOptimizePlan extends BaseOptimizePlan {
         return null;
       }
 
-      ContentFile<?> contentFile = ContentFileUtil.buildContentFile(dataFileInfo, partitionSpec);
+      ContentFile<?> contentFile = buildContentFile(dataFileInfo, partitionSpec);
       currentPartitions.add(partition);
       if (!anyTaskRunning(partition)) {
         FileTree treeRoot =
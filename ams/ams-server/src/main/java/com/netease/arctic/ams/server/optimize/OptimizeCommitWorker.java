@@ -28,9 +28,11 @@ import org.slf4j.LoggerFactory;
 public class OptimizeCommitWorker implements Runnable {
   private static final Logger LOG = LoggerFactory.getLogger(OptimizeCommitWorker.class);
   private final String workerName;
+  private final int index;
 
   public OptimizeCommitWorker(int index) {
     this.workerName = "Optimize Committer Worker-" + index;
+    this.index = index;
   }
 
   @Override
@@ -41,9 +43,11 @@ public class OptimizeCommitWorker implements Runnable {
       while (!ArcticMetaStore.isStarted()) {
         Thread.sleep(1000);
       }
+      int shard = index % ServiceContainer.getOptimizeService().commitShardCount();
+      LOG.info("{} take tables to commit from shard {}", workerName, shard);
       while (true) {
         try {
-          TableOptimizeItem tableOptimizeItem = ServiceContainer.getOptimizeService().takeTableToCommit();
+          TableOptimizeItem tableOptimizeItem = ServiceContainer.getOptimizeService().takeTableToCommit(shard);
           currentTable = tableOptimizeItem;
           LOG.info("{} start commit", tableOptimizeItem.getTableIdentifier());
           tableOptimizeItem.checkTaskExecuteTimeout();
@@ -25,11 +25,15 @@ import com.netease.arctic.ams.api.InvalidObjectException;
 import com.netease.arctic.ams.api.NoSuchObjectException;
 import com.netease.arctic.ams.api.OptimizeStatus;
 import com.netease.arctic.ams.api.OptimizeTaskId;
+import com.netease.arctic.ams.api.OptimizeTaskProgress;
 import com.netease.arctic.ams.api.OptimizeTaskStat;
+import com.netease.arctic.ams.server.ArcticMetaStore;
+import com.netease.arctic.ams.server.config.ArcticMetaStoreConf;
 import com.netease.arctic.ams.server.mapper.OptimizeHistoryMapper;
 import com.netease.arctic.ams.server.mapper.OptimizeTaskRuntimesMapper;
 import com.netease.arctic.ams.server.mapper.OptimizeTasksMapper;
 import com.netease.arctic.ams.server.mapper.TableOptimizeRuntimeMapper;
+import com.netease.arctic.ams.server.metrics.AmsMetrics;
 import com.netease.arctic.ams.server.model.BaseOptimizeTask;
 import com.netease.arctic.ams.server.model.BaseOptimizeTaskRuntime;
 import com.netease.arctic.ams.server.model.OptimizeHistory;
@@ -75,7 +79,9 @@ public class OptimizeService extends IJDBCService implements IOptimizeService {
 
   private ScheduledTasks<TableIdentifier, OptimizeCheckTask> checkTasks;
 
-  private final BlockingQueue<TableOptimizeItem> toCommitTables = new ArrayBlockingQueue<>(1000);
+  private static final int COMMIT_SHARD_CAPACITY = 1000;
+  // tables to commit sharded by table identifier, a slow table only blocks tables of the same shard
+  private final List<BlockingQueue<TableOptimizeItem>> toCommitTables = new ArrayList<>();
 
   private static final long DEFAULT_CACHE_REFRESH_TIME = 60_000; // 1min
   private final Map<TableIdentifier, TableOptimizeItem> cachedTables = new HashMap<>();
@@ -93,9 +99,20 @@ public class OptimizeService extends IJDBCService implements IOptimizeService {
     optimizeQueueService = ServiceContainer.getOptimizeQueueService();
     metaService = ServiceContainer.getMetaService();
     metastoreClient = ServiceContainer.getTableMetastoreHandler();
+    initCommitShards();
     init();
   }
 
+  private void initCommitShards() {
+    int shardCount = ArcticMetaStore.conf == null ? 1 :
+        Math.max(1, ArcticMetaStore.conf.getInteger(ArcticMetaStoreConf.OPTIMIZE_COMMIT_THREAD_POOL_SIZE));
+    for (int i = 0; i < shardCount; i++) {
+      BlockingQueue<TableOptimizeItem> shard = new ArrayBlockingQueue<>(COMMIT_SHARD_CAPACITY);
+      toCommitTables.add(shard);
+      AmsMetrics.gauge("optimize_commit_queue_depth", shard::size, "shard", String.valueOf(i));
+    }
+  }
+
   private void init() {
     tablesLock.writeLock().lock();
     try {
@@ -147,6 +164,7 @@ public class OptimizeService extends IJDBCService implements IOptimizeService {
   private void clearTableCache(TableIdentifier tableIdentifier) {
     TableOptimizeItem tableItem = cachedTables.remove(tableIdentifier);
     optimizeQueueService.release(tableIdentifier);
+    AmsMetrics.removeByLabel(OptimizeQueueService.TABLE_LABEL, tableIdentifier.toString());
     try {
       deleteTableOptimizeRuntime(tableIdentifier);
     } catch (Throwable t) {
@@ -203,6 +221,12 @@ public class OptimizeService extends IJDBCService implements IOptimizeService {
         .updateOptimizeTaskStat(optimizeTaskStat);
   }
 
+  @Override
+  public void handleOptimizeProgress(OptimizeTaskProgress optimizeTaskProgress) throws NoSuchObjectException {
+    getTableOptimizeItem(new TableIdentifier(optimizeTaskProgress.getTableIdentifier()))
+        .updateOptimizeTaskProgress(optimizeTaskProgress);
+  }
+
   private void loadTables() {
     LOG.info("init load tables");
     // load table when server start, only load table metadata
@@ -420,12 +444,18 @@ public class OptimizeService extends IJDBCService implements IOptimizeService {
 
   @Override
   public boolean triggerOptimizeCommit(TableOptimizeItem tableOptimizeItem) {
-    return toCommitTables.offer(tableOptimizeItem);
+    int shard = Math.floorMod(tableOptimizeItem.getTableIdentifier().hashCode(), toCommitTables.size());
+    return toCommitTables.get(shard).offer(tableOptimizeItem);
+  }
+
+  @Override
+  public TableOptimizeItem takeTableToCommit(int shard) throws InterruptedException {
+    return toCommitTables.get(shard).take();
   }
 
   @Override
-  public TableOptimizeItem takeTableToCommit() throws InterruptedException {
-    return toCommitTables.take();
+  public int commitShardCount() {
+    return toCommitTables.size();
   }
 
   @Override
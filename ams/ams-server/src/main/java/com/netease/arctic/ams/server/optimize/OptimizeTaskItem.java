@@ -23,6 +23,7 @@ import com.netease.arctic.ams.api.ErrorMessage;
 import com.netease.arctic.ams.api.JobId;
 import com.netease.arctic.ams.api.OptimizeStatus;
 import com.netease.arctic.ams.api.OptimizeTaskId;
+import com.netease.arctic.ams.api.OptimizeTaskProgress;
 import com.netease.arctic.ams.server.mapper.InternalTableFilesMapper;
 import com.netease.arctic.ams.server.mapper.OptimizeTaskRuntimesMapper;
 import com.netease.arctic.ams.server.mapper.OptimizeTasksMapper;
@@ -44,6 +45,7 @@ import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -52,10 +54,15 @@ public class OptimizeTaskItem extends IJDBCService {
   private static final long MAX_EXECUTE_TIME = 7200_000;// 2 hour
   // interval between failed and retry = (1 + retry) * RETRY_INTERVAL
   private static final long RETRY_INTERVAL = 60000; // 60s
+  // is_target value of files of nodes completed by a failed attempt, which can be reused by the next attempt
+  private static final int COMPLETED_FILE = 2;
 
   private final BaseOptimizeTask optimizeTask;
   private volatile BaseOptimizeTaskRuntime optimizeRuntime;
   private final ReentrantLock lock = new ReentrantLock();
+  private volatile OptimizeTaskProgress latestProgress;
+  private volatile int completedFileCnt = -1;
+  private volatile Consumer<TableTaskHistory> taskHistoryListener;
 
   public OptimizeTaskItem(BaseOptimizeTask optimizeTask,
                           BaseOptimizeTaskRuntime optimizeRuntime) {
@@ -83,6 +90,19 @@ public class OptimizeTaskItem extends IJDBCService {
     return optimizeRuntime.getStatus();
   }
 
+  public OptimizeTaskProgress getLatestProgress() {
+    return latestProgress;
+  }
+
+  /**
+   * Set listener notified when task history of this task is created or updated.
+   *
+   * @param taskHistoryListener -
+   */
+  public void setTaskHistoryListener(Consumer<TableTaskHistory> taskHistoryListener) {
+    this.taskHistoryListener = taskHistoryListener;
+  }
+
   public void onPending() {
     lock.lock();
     try {
@@ -117,6 +137,7 @@ public class OptimizeTaskItem extends IJDBCService {
       newRuntime.setErrorMessage(null);
       persistTaskRuntime(newRuntime, false);
       optimizeRuntime = newRuntime;
+      latestProgress = null;
       return constructNewTableTaskHistory(currentTime);
     } catch (Throwable t) {
       onFailed(new ErrorMessage(System.currentTimeMillis(),
@@ -189,6 +210,26 @@ public class OptimizeTaskItem extends IJDBCService {
     }
   }
 
+  public void onProgress(OptimizeTaskProgress progress) {
+    lock.lock();
+    try {
+      if (optimizeRuntime.getStatus() != OptimizeStatus.Executing) {
+        LOG.warn("{} is not executing, status = {}, ignore progress", getTaskId(), optimizeRuntime.getStatus());
+        return;
+      }
+      List<ByteBuffer> completedFiles = progress.getCompletedFiles();
+      if (completedFiles != null && completedFiles.size() > Math.max(completedFileCnt, 0)) {
+        persistCompletedFiles(completedFiles);
+        completedFileCnt = completedFiles.size();
+      }
+      latestProgress = progress;
+      LOG.debug("{} progress records read {}, records written {}, current node {}", getTaskId(),
+          progress.getRecordsRead(), progress.getRecordsWritten(), progress.getCurrentNode());
+    } finally {
+      lock.unlock();
+    }
+  }
+
   public boolean canExecute(Supplier<Integer> maxRetry) {
     if (getOptimizeStatus() == OptimizeStatus.Init) {
       return true;
@@ -201,7 +242,11 @@ public class OptimizeTaskItem extends IJDBCService {
 
   public boolean executeTimeout() {
     if (getOptimizeStatus() == OptimizeStatus.Executing) {
-      return System.currentTimeMillis() - optimizeRuntime.getExecuteTime() > MAX_EXECUTE_TIME;
+      // task still reporting progress is alive, timeout from the latest progress
+      OptimizeTaskProgress progress = latestProgress;
+      long aliveTime = progress == null ? optimizeRuntime.getExecuteTime() :
+          Math.max(optimizeRuntime.getExecuteTime(), progress.getReportTime());
+      return System.currentTimeMillis() - aliveTime > MAX_EXECUTE_TIME;
     }
     return false;
   }
@@ -227,6 +272,7 @@ public class OptimizeTaskItem extends IJDBCService {
     this.optimizeTask.setInsertFiles(Collections.emptyList());
     this.optimizeTask.setBaseFiles(Collections.emptyList());
     this.optimizeTask.setPosDeleteFiles(Collections.emptyList());
+    this.optimizeTask.setCompletedFiles(Collections.emptyList());
   }
 
   public void setFiles() {
@@ -242,6 +288,11 @@ public class OptimizeTaskItem extends IJDBCService {
     optimizeTask.setDeleteFiles(deleteFiles);
     optimizeTask.setBaseFiles(baseFiles);
     optimizeTask.setPosDeleteFiles(posDeleteFiles);
+    List<byte[]> completedFiles = selectOptimizeTaskFiles(DataFileType.BASE_FILE, COMPLETED_FILE);
+    completedFiles.addAll(selectOptimizeTaskFiles(DataFileType.POS_DELETE_FILE, COMPLETED_FILE));
+    optimizeTask.setCompletedFiles(completedFiles.stream()
+        .map(SerializationUtil::byteArrayToByteBuffer).collect(Collectors.toList()));
+    completedFileCnt = completedFiles.size();
     // for ams restart, files is not loaded from sysdb, reload here
     List<byte[]> targetFiles =
         selectOptimizeTaskFiles(DataFileType.BASE_FILE, 1);
@@ -318,6 +369,30 @@ public class OptimizeTaskItem extends IJDBCService {
     }
   }
 
+  private void persistCompletedFiles(List<ByteBuffer> completedFiles) {
+    try (SqlSession sqlSession = getSqlSession(false)) {
+      InternalTableFilesMapper internalTableFilesMapper =
+          getMapper(sqlSession, InternalTableFilesMapper.class);
+
+      try {
+        internalTableFilesMapper.deleteOptimizeTaskCompletedFile(optimizeTask.getTaskId());
+        completedFiles.forEach(file -> {
+          ContentFile<?> contentFile = SerializationUtil.toInternalTableFile(file);
+          DataFileType fileType =
+              contentFile.content() == FileContent.DATA ? DataFileType.BASE_FILE : DataFileType.POS_DELETE_FILE;
+          internalTableFilesMapper.insertOptimizeTaskFile(optimizeTask.getTaskId(),
+              fileType, COMPLETED_FILE, SerializationUtil.byteBufferToByteArray(file));
+        });
+      } catch (Exception e) {
+        LOG.error("Update the completed files failed.", e);
+        sqlSession.rollback(true);
+        throw e;
+      }
+
+      sqlSession.commit(true);
+    }
+  }
+
   private TableTaskHistory constructNewTableTaskHistory(long currentTime) {
     TableTaskHistory tableTaskHistory = new TableTaskHistory();
     tableTaskHistory.setTableIdentifier(new TableIdentifier(optimizeTask.getTableIdentifier()));
@@ -326,10 +401,18 @@ public class OptimizeTaskItem extends IJDBCService {
     tableTaskHistory.setRetry(optimizeRuntime.getRetry());
     tableTaskHistory.setStartTime(currentTime);
     tableTaskHistory.setQueueId(optimizeTask.getQueueId());
+    notifyTaskHistory(tableTaskHistory);
 
     return tableTaskHistory;
   }
 
+  private void notifyTaskHistory(TableTaskHistory tableTaskHistory) {
+    Consumer<TableTaskHistory> listener = taskHistoryListener;
+    if (listener != null) {
+      listener.accept(tableTaskHistory);
+    }
+  }
+
   private void updateTableTaskHistory() {
     TableTaskHistory tableTaskHistory = new TableTaskHistory();
     tableTaskHistory.setTableIdentifier(new TableIdentifier(optimizeTask.getTableIdentifier()));
@@ -341,6 +424,7 @@ public class OptimizeTaskItem extends IJDBCService {
     tableTaskHistory.setStartTime(optimizeRuntime.getExecuteTime());
     tableTaskHistory.setEndTime(optimizeRuntime.getReportTime());
     tableTaskHistory.setCostTime(optimizeRuntime.getCostTime());
+    notifyTaskHistory(tableTaskHistory);
 
     try (SqlSession sqlSession = getSqlSession(true)) {
       TaskHistoryMapper taskHistoryMapper = getMapper(sqlSession, TaskHistoryMapper.class);
@@ -26,13 +26,16 @@ import com.netease.arctic.ams.api.ErrorMessage;
 import com.netease.arctic.ams.api.OptimizeRangeType;
 import com.netease.arctic.ams.api.OptimizeStatus;
 import com.netease.arctic.ams.api.OptimizeTaskId;
+import com.netease.arctic.ams.api.OptimizeTaskProgress;
 import com.netease.arctic.ams.api.OptimizeTaskStat;
 import com.netease.arctic.ams.api.OptimizeType;
 import com.netease.arctic.ams.server.mapper.InternalTableFilesMapper;
 import com.netease.arctic.ams.server.mapper.OptimizeHistoryMapper;
 import com.netease.arctic.ams.server.mapper.OptimizeTaskRuntimesMapper;
 import com.netease.arctic.ams.server.mapper.OptimizeTasksMapper;
+import com.netease.arctic.ams.server.mapper.PartitionStatsCacheMapper;
 import com.netease.arctic.ams.server.mapper.TableOptimizeRuntimeMapper;
+import com.netease.arctic.ams.server.metrics.AmsMetrics;
 import com.netease.arctic.ams.server.model.BaseOptimizeTask;
 import com.netease.arctic.ams.server.model.BaseOptimizeTaskRuntime;
 import com.netease.arctic.ams.server.model.CoreInfo;
@@ -41,10 +44,13 @@ import com.netease.arctic.ams.server.model.OptimizeHistory;
 import com.netease.arctic.ams.server.model.TableMetadata;
 import com.netease.arctic.ams.server.model.TableOptimizeInfo;
 import com.netease.arctic.ams.server.model.TableOptimizeRuntime;
+import com.netease.arctic.ams.server.model.TableFileStats;
+import com.netease.arctic.ams.server.model.TableTaskHistory;
 import com.netease.arctic.ams.server.service.IJDBCService;
 import com.netease.arctic.ams.server.service.IQuotaService;
 import com.netease.arctic.ams.server.service.ServiceContainer;
 import com.netease.arctic.ams.server.service.impl.FileInfoCacheService;
+import com.netease.arctic.ams.server.service.impl.OptimizeQueueService;
 import com.netease.arctic.ams.server.utils.FilesStatisticsBuilder;
 import com.netease.arctic.ams.server.utils.TableStatCollector;
 import com.netease.arctic.ams.server.utils.UnKeyedTableUtil;
@@ -60,7 +66,9 @@ import com.netease.arctic.table.TableProperties;
 import com.netease.arctic.utils.TablePropertyUtil;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
+import org.apache.commons.lang.StringUtils;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.base.Predicate;
 import org.apache.iceberg.util.PropertyUtil;
@@ -83,6 +91,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -109,6 +118,12 @@ public class TableOptimizeItem extends IJDBCService {
   private final IQuotaService quotaService;
   private final AmsClient metastoreClient;
   private volatile double quotaCache;
+  // task histories of the latest plan group kept in memory for quota evaluation, key is trace id and retry
+  private final Map<String, TableTaskHistory> latestTaskHistories = new HashMap<>();
+  private String latestTaskHistoriesPlanGroup;
+  // content files built by plans, kept across planning rounds and pruned to files still valid, key is file path
+  private final Map<String, ContentFile<?>> contentFileCache = new ConcurrentHashMap<>();
+  private volatile int contentFileSpecId = -1;
   private final Predicate<Long> snapshotIsCached = new Predicate<Long>() {
     @Override
     public boolean apply(@Nullable Long snapshotId) {
@@ -138,7 +153,10 @@ public class TableOptimizeItem extends IJDBCService {
   public void initOptimizeTasks(List<OptimizeTaskItem> optimizeTasks) {
     if (CollectionUtils.isNotEmpty(optimizeTasks)) {
       optimizeTasks
-          .forEach(task -> this.optimizeTasks.put(task.getOptimizeTask().getTaskId(), task));
+          .forEach(task -> {
+            task.setTaskHistoryListener(this::onTaskHistoryUpdated);
+            this.optimizeTasks.put(task.getOptimizeTask().getTaskId(), task);
+          });
     }
   }
 
@@ -244,6 +262,104 @@ public class TableOptimizeItem extends IJDBCService {
     return quotaCache;
   }
 
+  /**
+   * Evaluate quota usage rate of the table, which is the ratio of optimizing cost time of the latest plan group
+   * to the elapsed time since the plan group started, divided by quota.
+   *
+   * @param currentTime -
+   * @return quota usage rate
+   */
+  public BigDecimal getQuotaRate(long currentTime) {
+    String latestTaskPlanGroup = tableOptimizeRuntime.getLatestTaskPlanGroup();
+    if (StringUtils.isEmpty(latestTaskPlanGroup)) {
+      return BigDecimal.ZERO;
+    }
+
+    List<TableTaskHistory> latestTaskHistories = getLatestTaskHistories(latestTaskPlanGroup);
+    if (CollectionUtils.isEmpty(latestTaskHistories)) {
+      return BigDecimal.ZERO;
+    }
+
+    long totalCostTime = 0;
+    long latestStartTime = 0;
+    for (TableTaskHistory latestTaskHistory : latestTaskHistories) {
+      if (latestStartTime == 0 || latestStartTime > latestTaskHistory.getStartTime()) {
+        latestStartTime = latestTaskHistory.getStartTime();
+      }
+
+      if (latestTaskHistory.getCostTime() != 0) {
+        totalCostTime = totalCostTime + latestTaskHistory.getCostTime();
+      } else {
+        totalCostTime = totalCostTime + currentTime - latestTaskHistory.getStartTime();
+      }
+    }
+
+    if (currentTime - latestStartTime == 0) {
+      return BigDecimal.valueOf(Long.MAX_VALUE);
+    }
+
+    BigDecimal currentQuota = new BigDecimal(totalCostTime)
+        .divide(new BigDecimal(currentTime - latestStartTime),
+            2,
+            RoundingMode.HALF_UP);
+
+    BigDecimal tableQuota = BigDecimal.valueOf(getQuotaCache());
+
+    if (tableQuota.compareTo(BigDecimal.ZERO) <= 0) {
+      return BigDecimal.valueOf(Long.MAX_VALUE);
+    }
+
+    return currentQuota.divide(tableQuota, 2, RoundingMode.HALF_UP);
+  }
+
+  private List<TableTaskHistory> getLatestTaskHistories(String taskPlanGroup) {
+    synchronized (latestTaskHistories) {
+      if (taskPlanGroup.equals(latestTaskHistoriesPlanGroup)) {
+        return new ArrayList<>(latestTaskHistories.values());
+      }
+    }
+    // not cached yet, e.g. ams restarted, load from sysdb once without holding the lock
+    List<TableTaskHistory> loadedHistories =
+        ServiceContainer.getTableTaskHistoryService().selectTaskHistory(tableIdentifier, taskPlanGroup);
+    synchronized (latestTaskHistories) {
+      if (!taskPlanGroup.equals(latestTaskHistoriesPlanGroup)) {
+        if (!taskPlanGroup.equals(tableOptimizeRuntime.getLatestTaskPlanGroup())) {
+          // a newer plan group started while loading
+          return loadedHistories;
+        }
+        latestTaskHistories.clear();
+        latestTaskHistoriesPlanGroup = taskPlanGroup;
+      }
+      // histories updated in memory while loading are newer than the loaded ones
+      loadedHistories.forEach(history -> latestTaskHistories.putIfAbsent(taskHistoryKey(history), history));
+      return new ArrayList<>(latestTaskHistories.values());
+    }
+  }
+
+  private void onTaskHistoryUpdated(TableTaskHistory taskHistory) {
+    synchronized (latestTaskHistories) {
+      if (!Objects.equals(taskHistory.getTaskPlanGroup(), latestTaskHistoriesPlanGroup)) {
+        if (!Objects.equals(taskHistory.getTaskPlanGroup(), tableOptimizeRuntime.getLatestTaskPlanGroup())) {
+          return;
+        }
+        latestTaskHistories.clear();
+        latestTaskHistoriesPlanGroup = taskHistory.getTaskPlanGroup();
+      }
+      String key = taskHistoryKey(taskHistory);
+      if (taskHistory.getCostTime() == 0 && taskHistory.getEndTime() == 0) {
+        // new task history when task start executing
+        latestTaskHistories.put(key, taskHistory);
+      } else {
+        // the same as sysdb, only update task history already started
+        latestTaskHistories.computeIfPresent(key, (k, v) -> taskHistory);
+      }
+    }
+  }
+
+  private static String taskHistoryKey(TableTaskHistory taskHistory) {
+    return taskHistory.getTaskTraceId() + "-" + taskHistory.getRetry();
+  }
+
   private void tryRefresh(boolean force) {
     if (force || isMetaExpired() || arcticTable == null) {
       tableLock.lock();
@@ -316,6 +432,29 @@ public class TableOptimizeItem extends IJDBCService {
     }
   }
 
+  /**
+   * Update progress of an executing optimize task, progress of other attempts is ignored.
+   *
+   * @param optimizeTaskProgress - optimizeTaskProgress
+   */
+  public void updateOptimizeTaskProgress(OptimizeTaskProgress optimizeTaskProgress) {
+    Objects.requireNonNull(optimizeTaskProgress, "optimizeTaskProgress can't be null");
+    Objects.requireNonNull(optimizeTaskProgress.getTaskId(), "optimizeTaskId can't be null");
+
+    OptimizeTaskItem optimizeTaskItem = optimizeTasks.get(optimizeTaskProgress.getTaskId());
+    if (optimizeTaskItem == null) {
+      LOG.warn("{} can't find optimize task {}, ignore progress", tableIdentifier, optimizeTaskProgress.getTaskId());
+      return;
+    }
+    if (!Objects.equals(optimizeTaskProgress.getAttemptId(), optimizeTaskItem.getOptimizeRuntime().getAttemptId())) {
+      LOG.warn("{} task {} get progress of wrong attemptId {}, valid attemptId {}, ignore", tableIdentifier,
+          optimizeTaskProgress.getTaskId(), optimizeTaskProgress.getAttemptId(),
+          optimizeTaskItem.getOptimizeRuntime().getAttemptId());
+      return;
+    }
+    optimizeTaskItem.onProgress(optimizeTaskProgress);
+  }
+
   /**
    * Build current table optimize info.
    *
@@ -381,15 +520,18 @@ public class TableOptimizeItem extends IJDBCService {
         .propertyAsString(getArcticTable(false).properties(), TableProperties.ENABLE_OPTIMIZE,
             TableProperties.ENABLE_OPTIMIZE_DEFAULT)))) {
       tryUpdateOptimizeInfo(TableOptimizeInfo.OptimizeStatus.Idle, Collections.emptyList(), null);
+    } else if (!mayNeedOptimize()) {
+      tryUpdateOptimizeInfo(TableOptimizeInfo.OptimizeStatus.Idle, Collections.emptyList(), null);
     } else {
-      FullOptimizePlan fullPlan = getFullPlan(-1, System.currentTimeMillis());
+      PlanFiles planFiles = loadPlanFiles();
+      FullOptimizePlan fullPlan = getFullPlan(-1, System.currentTimeMillis(), planFiles);
       List<BaseOptimizeTask> fullTasks = fullPlan.plan();
       if (CollectionUtils.isEmpty(fullTasks)) {
-        MajorOptimizePlan majorPlan = getMajorPlan(-1, System.currentTimeMillis());
+        MajorOptimizePlan majorPlan = getMajorPlan(-1, System.currentTimeMillis(), planFiles);
         List<BaseOptimizeTask> majorTasks = majorPlan.plan();
         if (CollectionUtils.isEmpty(majorTasks)) {
           if (isKeyedTable()) {
-            MinorOptimizePlan minorPlan = getMinorPlan(-1, System.currentTimeMillis());
+            MinorOptimizePlan minorPlan = getMinorPlan(-1, System.currentTimeMillis(), planFiles);
             List<BaseOptimizeTask> minorTasks = minorPlan.plan();
             if (!CollectionUtils.isEmpty(minorTasks)) {
               tryUpdateOptimizeInfo(TableOptimizeInfo.OptimizeStatus.Pending, minorTasks,
@@ -470,6 +612,7 @@ public class TableOptimizeItem extends IJDBCService {
       for (BaseOptimizeTask optimizeTask : newOptimizeTasks) {
         BaseOptimizeTaskRuntime optimizeRuntime = new BaseOptimizeTaskRuntime(optimizeTask.getTaskId());
         OptimizeTaskItem optimizeTaskItem = new OptimizeTaskItem(optimizeTask, optimizeRuntime);
+        optimizeTaskItem.setTaskHistoryListener(this::onTaskHistoryUpdated);
         if (optimizeTasks.putIfAbsent(optimizeTask.getTaskId(), optimizeTaskItem) != null) {
           throw new AlreadyExistsException(optimizeTask.getTaskId() + " already exists");
         }
@@ -807,7 +950,11 @@ public class TableOptimizeItem extends IJDBCService {
       }
     }
 
+    long startTime = System.currentTimeMillis();
+    String table = tableIdentifier.toString();
     try {
+      // all prepared tasks of the table, no matter which partition or task group they belong to,
+      // are committed together in one commit
       Map<String, List<OptimizeTaskItem>> tasksToCommit = getOptimizeTasksToCommit();
       long taskCount = tasksToCommit.values().stream().mapToLong(Collection::size).sum();
       if (MapUtils.isNotEmpty(tasksToCommit)) {
@@ -824,12 +971,20 @@ public class TableOptimizeItem extends IJDBCService {
         if (committed) {
           long commitTime = System.currentTimeMillis();
           optimizeTasksCommitted(optimizeCommit, commitTime);
+          AmsMetrics.counter("optimize_committed_tasks", OptimizeQueueService.TABLE_LABEL, table).inc(taskCount);
         } else {
+          // conflict with concurrent writes, tasks are cleared and will be planned again
           optimizeTasksClear(optimizeCommit);
+          AmsMetrics.counter("optimize_commit_conflicts", OptimizeQueueService.TABLE_LABEL, table).inc();
         }
+        AmsMetrics.histogram("optimize_commit_latency_ms", OptimizeQueueService.TABLE_LABEL, table)
+            .update(System.currentTimeMillis() - startTime);
       } else {
         LOG.info("{} get no tasks to commit", tableIdentifier);
       }
+    } catch (Exception e) {
+      AmsMetrics.counter("optimize_commit_failures", OptimizeQueueService.TABLE_LABEL, table).inc();
+      throw e;
     } finally {
       tasksCommitLock.unlock();
     }
@@ -844,6 +999,72 @@ public class TableOptimizeItem extends IJDBCService {
     return new ArrayList<>(optimizeTasks.values());
   }
 
+  /**
+   * Check partition stats of the table to tell whether any plan may produce tasks, without loading files.
+   * It is conservative, return true if the stats can not tell, so a table with work to do is never skipped.
+   *
+   * @return false if no Full, Major or Minor plan can produce tasks for the table
+   */
+  public boolean mayNeedOptimize() {
+    ArcticTable arcticTable = getArcticTable(false);
+    Map<String, String> properties = arcticTable.properties();
+    if (TableTypeUtil.isHive(arcticTable)) {
+      return true;
+    }
+    if (PropertyUtil.propertyAsLong(properties, TableProperties.FULL_OPTIMIZE_TRIGGER_MAX_INTERVAL,
+        TableProperties.FULL_OPTIMIZE_TRIGGER_MAX_INTERVAL_DEFAULT) !=
+        TableProperties.FULL_OPTIMIZE_TRIGGER_MAX_INTERVAL_DEFAULT) {
+      return true;
+    }
+    // small files in partition stats are counted by a fixed threshold
+    if (PropertyUtil.propertyAsLong(properties, TableProperties.OPTIMIZE_SMALL_FILE_SIZE_BYTES_THRESHOLD,
+        TableProperties.OPTIMIZE_SMALL_FILE_SIZE_BYTES_THRESHOLD_DEFAULT) >
+        PartitionStatsCacheMapper.SMALL_FILE_SIZE_BYTES) {
+      return true;
+    }
+    TableFileStats stats = fileInfoCacheService.getTableFileStats(tableIdentifier.buildTableIdentifier());
+    // stats are not built yet or drifted from file cache, they can not tell until reconciled
+    if (stats.getPartitionCount() == 0 || stats.getNegativePartitionCount() > 0) {
+      return true;
+    }
+    // major optimize is triggered by max interval with 2 small files at least
+    int minSmallFileCount = Math.min(2, PropertyUtil.propertyAsInt(properties,
+        TableProperties.MAJOR_OPTIMIZE_TRIGGER_SMALL_FILE_COUNT,
+        TableProperties.MAJOR_OPTIMIZE_TRIGGER_SMALL_FILE_COUNT_DEFAULT));
+    return stats.getChangeFileCount() > 0 || stats.getDeleteFileCount() > 0 ||
+        stats.getMaxPartitionSmallFileCount() >= minSmallFileCount;
+  }
+
+  /**
+   * Load files of the table from file index, they can be shared by Full, Major and Minor plans of one planning round.
+   * Content files built by previous rounds are reused if the files are still valid.
+   *
+   * @return files to plan
+   */
+  public PlanFiles loadPlanFiles() {
+    List<DataFileInfo> baseTableFiles = fileInfoCacheService.getIndexedOptimizeDatafiles(
+        tableIdentifier.buildTableIdentifier(), Constants.INNER_TABLE_BASE);
+    List<DataFileInfo> baseFiles = filterFile(baseTableFiles, DataFileType.BASE_FILE);
+    baseFiles.addAll(filterFile(baseTableFiles, DataFileType.INSERT_FILE));
+    List<DataFileInfo> posDeleteFiles = filterFile(baseTableFiles, DataFileType.POS_DELETE_FILE);
+    List<DataFileInfo> changeFiles = isKeyedTable() ?
+        fileInfoCacheService.getIndexedOptimizeDatafiles(tableIdentifier.buildTableIdentifier(),
+            Constants.INNER_TABLE_CHANGE) :
+        Collections.emptyList();
+
+    int specId = getArcticTable(false).spec().specId();
+    if (specId != contentFileSpecId) {
+      contentFileCache.clear();
+      contentFileSpecId = specId;
+    } else {
+      Set<String> validPaths = new HashSet<>();
+      baseTableFiles.forEach(file -> validPaths.add(file.getPath()));
+      changeFiles.forEach(file -> validPaths.add(file.getPath()));
+      contentFileCache.keySet().retainAll(validPaths);
+    }
+    return new PlanFiles(baseFiles, posDeleteFiles, changeFiles, contentFileCache);
+  }
+
   /**
    * Get Full Plan.
    *
@@ -852,19 +1073,30 @@ public class TableOptimizeItem extends IJDBCService {
    * @return -
    */
   public FullOptimizePlan getFullPlan(int queueId, long currentTime) {
-    List<DataFileInfo> baseTableFiles =
-        fileInfoCacheService.getOptimizeDatafiles(tableIdentifier.buildTableIdentifier(), Constants.INNER_TABLE_BASE);
-    List<DataFileInfo> baseFiles = filterFile(baseTableFiles, DataFileType.BASE_FILE);
-    baseFiles.addAll(filterFile(baseTableFiles, DataFileType.INSERT_FILE));
-    List<DataFileInfo> posDeleteFiles = filterFile(baseTableFiles, DataFileType.POS_DELETE_FILE);
+    return getFullPlan(queueId, currentTime, loadPlanFiles());
+  }
 
+  /**
+   * Get Full Plan with files loaded.
+   *
+   * @param queueId     -
+   * @param currentTime -
+   * @param planFiles   - files loaded by {@link #loadPlanFiles()}
+   * @return -
+   */
+  public FullOptimizePlan getFullPlan(int queueId, long currentTime, PlanFiles planFiles) {
+    FullOptimizePlan plan;
     if (getArcticTable() instanceof SupportHive) {
-      return new SupportHiveFullOptimizePlan(getArcticTable(), tableOptimizeRuntime,
-          baseFiles, posDeleteFiles, generatePartitionRunning(), queueId, currentTime, snapshotIsCached);
+      plan = new SupportHiveFullOptimizePlan(getArcticTable(), tableOptimizeRuntime,
+          planFiles.getBaseFiles(), planFiles.getPosDeleteFiles(), generatePartitionRunning(), queueId, currentTime,
+          snapshotIsCached);
     } else {
-      return new FullOptimizePlan(getArcticTable(), tableOptimizeRuntime,
-          baseFiles, posDeleteFiles, generatePartitionRunning(), queueId, currentTime, snapshotIsCached);
+      plan = new FullOptimizePlan(getArcticTable(), tableOptimizeRuntime,
+          planFiles.getBaseFiles(), planFiles.getPosDeleteFiles(), generatePartitionRunning(), queueId, currentTime,
+          snapshotIsCached);
     }
+    plan.setContentFileCache(planFiles.contentFiles);
+    return plan;
   }
 
   /**
@@ -875,19 +1107,30 @@ public class TableOptimizeItem extends IJDBCService {
    * @return -
    */
   public MajorOptimizePlan getMajorPlan(int queueId, long currentTime) {
-    List<DataFileInfo> baseTableFiles =
-        fileInfoCacheService.getOptimizeDatafiles(tableIdentifier.buildTableIdentifier(), Constants.INNER_TABLE_BASE);
-    List<DataFileInfo> baseFiles = filterFile(baseTableFiles, DataFileType.BASE_FILE);
-    baseFiles.addAll(filterFile(baseTableFiles, DataFileType.INSERT_FILE));
-    List<DataFileInfo> posDeleteFiles = filterFile(baseTableFiles, DataFileType.POS_DELETE_FILE);
+    return getMajorPlan(queueId, currentTime, loadPlanFiles());
+  }
 
+  /**
+   * Get Major Plan with files loaded.
+   *
+   * @param queueId     -
+   * @param currentTime -
+   * @param planFiles   - files loaded by {@link #loadPlanFiles()}
+   * @return -
+   */
+  public MajorOptimizePlan getMajorPlan(int queueId, long currentTime, PlanFiles planFiles) {
+    MajorOptimizePlan plan;
     if (getArcticTable() instanceof SupportHive) {
-      return new SupportHiveMajorOptimizePlan(getArcticTable(), tableOptimizeRuntime,
-          baseFiles, posDeleteFiles, generatePartitionRunning(), queueId, currentTime, snapshotIsCached);
+      plan = new SupportHiveMajorOptimizePlan(getArcticTable(), tableOptimizeRuntime,
+          planFiles.getBaseFiles(), planFiles.getPosDeleteFiles(), generatePartitionRunning(), queueId, currentTime,
+          snapshotIsCached);
     } else {
-      return new MajorOptimizePlan(getArcticTable(), tableOptimizeRuntime,
-          baseFiles, posDeleteFiles, generatePartitionRunning(), queueId, currentTime, snapshotIsCached);
+      plan = new MajorOptimizePlan(getArcticTable(), tableOptimizeRuntime,
+          planFiles.getBaseFiles(), planFiles.getPosDeleteFiles(), generatePartitionRunning(), queueId, currentTime,
+          snapshotIsCached);
     }
+    plan.setContentFileCache(planFiles.contentFiles);
+    return plan;
   }
 
   /**
@@ -898,17 +1141,23 @@ public class TableOptimizeItem extends IJDBCService {
    * @return -
    */
   public MinorOptimizePlan getMinorPlan(int queueId, long currentTime) {
-    List<DataFileInfo> baseTableFiles =
-        fileInfoCacheService.getOptimizeDatafiles(tableIdentifier.buildTableIdentifier(), Constants.INNER_TABLE_BASE);
-    List<DataFileInfo> baseFiles = filterFile(baseTableFiles, DataFileType.BASE_FILE);
-    baseFiles.addAll(filterFile(baseTableFiles, DataFileType.INSERT_FILE));
-    List<DataFileInfo> posDeleteFiles = filterFile(baseTableFiles, DataFileType.POS_DELETE_FILE);
-
-    List<DataFileInfo> changeTableFiles =
-        fileInfoCacheService.getOptimizeDatafiles(tableIdentifier.buildTableIdentifier(), Constants.INNER_TABLE_CHANGE);
+    return getMinorPlan(queueId, currentTime, loadPlanFiles());
+  }
 
-    return new MinorOptimizePlan(getArcticTable(), tableOptimizeRuntime, baseFiles, changeTableFiles, posDeleteFiles,
-        generatePartitionRunning(), queueId, currentTime, snapshotIsCached);
+  /**
+   * Get Minor Plan with files loaded.
+   *
+   * @param queueId     -
+   * @param currentTime -
+   * @param planFiles   - files loaded by {@link #loadPlanFiles()}
+   * @return -
+   */
+  public MinorOptimizePlan getMinorPlan(int queueId, long currentTime, PlanFiles planFiles) {
+    MinorOptimizePlan plan = new MinorOptimizePlan(getArcticTable(), tableOptimizeRuntime, planFiles.getBaseFiles(),
+        new ArrayList<>(planFiles.changeFiles), planFiles.getPosDeleteFiles(), generatePartitionRunning(), queueId,
+        currentTime, snapshotIsCached);
+    plan.setContentFileCache(planFiles.contentFiles);
+    return plan;
   }
 
   /**
@@ -954,4 +1203,31 @@ public class TableOptimizeItem extends IJDBCService {
     OptimizeTaskItem optimizeTaskItem = new ArrayList<>(optimizeTasks.values()).get(0);
     return optimizeTaskItem.getTaskId().getType() == OptimizeType.Minor;
   }
+
+  /**
+   * Files of a table loaded from file index for one planning round, content files built by a plan are cached
+   * and reused by the following plans and rounds.
+   */
+  public static class PlanFiles {
+    private final List<DataFileInfo> baseFiles;
+    private final List<DataFileInfo> posDeleteFiles;
+    private final List<DataFileInfo> changeFiles;
+    private final Map<String, ContentFile<?>> contentFiles;
+
+    private PlanFiles(List<DataFileInfo> baseFiles, List<DataFileInfo> posDeleteFiles,
+                      List<DataFileInfo> changeFiles, Map<String, ContentFile<?>> contentFiles) {
+      this.baseFiles = baseFiles;
+      this.posDeleteFiles = posDeleteFiles;
+      this.changeFiles = changeFiles;
+      this.contentFiles = contentFiles;
+    }
+
+    private List<DataFileInfo> getBaseFiles() {
+      return new ArrayList<>(baseFiles);
+    }
+
+    private List<DataFileInfo> getPosDeleteFiles() {
+      return new ArrayList<>(posDeleteFiles);
+    }
+  }
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import com.netease.arctic.ams.server.ArcticMetaStore;
 import com.netease.arctic.ams.server.config.ArcticMetaStoreConf;
 import com.netease.arctic.ams.server.utils.JDBCSqlSessionFactoryProvider;
 import org.apache.ibatis.io.ResolverUtil;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.TransactionIsolationLevel;
@@ -51,6 +52,14 @@ public abstract class IJDBCService {
     }
   }
 
+  /**
+   * Open a session whose statements are sent to database in batches on commit, for bulk writes.
+   * Update counts are not available from mapper calls of batch session.
+   */
+  public SqlSession getBatchSqlSession() {
+    return this.getSqlSessionFactory().openSession(ExecutorType.BATCH, TransactionIsolationLevel.READ_COMMITTED);
+  }
+
   public <T> T getMapper(SqlSession sqlSession, Class<T> type) {
     if (ArcticMetaStore.conf.getString(ArcticMetaStoreConf.DB_TYPE).equals("derby")) {
       if (mapperIntfMap.get(type) == null) {
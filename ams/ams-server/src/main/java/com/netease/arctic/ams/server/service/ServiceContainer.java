@@ -19,6 +19,8 @@
 package com.netease.arctic.ams.server.service;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.netease.arctic.ams.server.ArcticMetaStore;
+import com.netease.arctic.ams.server.config.ArcticMetaStoreConf;
 import com.netease.arctic.ams.server.handler.impl.ArcticTableMetastoreHandler;
 import com.netease.arctic.ams.server.handler.impl.OptimizeManagerHandler;
 import com.netease.arctic.ams.server.optimize.IOptimizeService;
@@ -38,6 +40,7 @@ import com.netease.arctic.ams.server.service.impl.QuotaService;
 import com.netease.arctic.ams.server.service.impl.RuntimeDataExpireService;
 import com.netease.arctic.ams.server.service.impl.SupportHiveSyncService;
 import com.netease.arctic.ams.server.service.impl.TableBaseInfoService;
+import com.netease.arctic.ams.server.service.impl.TableCommitNotifyService;
 import com.netease.arctic.ams.server.service.impl.TableExpireService;
 import com.netease.arctic.ams.server.service.impl.TableTaskHistoryService;
 
@@ -75,6 +78,8 @@ public class ServiceContainer {
 
   private static volatile DDLTracerService ddlTracerService;
 
+  private static volatile TableCommitNotifyService tableCommitNotifyService;
+
   private static volatile RuntimeDataExpireService runtimeDataExpireService;
 
   private static volatile AdaptHiveService adaptHiveService;
@@ -180,7 +185,8 @@ public class ServiceContainer {
     if (catalogMetadataService == null) {
       synchronized (ServiceContainer.class) {
         if (catalogMetadataService == null) {
-          catalogMetadataService = new CatalogMetadataService();
+          catalogMetadataService = new CatalogMetadataService(
+              ArcticMetaStore.conf.getLong(ArcticMetaStoreConf.CATALOG_META_CACHE_EXPIRE_TIME));
         }
       }
     }
@@ -192,7 +198,8 @@ public class ServiceContainer {
     if (fileInfoCacheService == null) {
       synchronized (ServiceContainer.class) {
         if (fileInfoCacheService == null) {
-          fileInfoCacheService = new FileInfoCacheService();
+          fileInfoCacheService = new FileInfoCacheService(
+              ArcticMetaStore.conf.getLong(ArcticMetaStoreConf.OPTIMIZE_FILE_INDEX_VERIFY_INTERVAL));
         }
       }
     }
@@ -292,6 +299,20 @@ public class ServiceContainer {
     return ddlTracerService;
   }
 
+  public static TableCommitNotifyService getTableCommitNotifyService() {
+    if (tableCommitNotifyService == null) {
+      synchronized (ServiceContainer.class) {
+        if (tableCommitNotifyService == null) {
+          tableCommitNotifyService = new TableCommitNotifyService(
+              ArcticMetaStore.conf.getLong(ArcticMetaStoreConf.TABLE_COMMIT_NOTIFY_MAX_WAIT_TIME),
+              ArcticMetaStore.conf.getInteger(ArcticMetaStoreConf.TABLE_COMMIT_NOTIFY_MAX_WAITERS));
+        }
+      }
+    }
+
+    return tableCommitNotifyService;
+  }
+
   @VisibleForTesting
   public static void setMetaService(IMetaService imetaService) {
     metaService = imetaService;
@@ -26,17 +26,40 @@ import com.netease.arctic.ams.server.service.IJDBCService;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 public class ArcticTransactionService extends IJDBCService {
+  private static final Logger LOG = LoggerFactory.getLogger(ArcticTransactionService.class);
+
+  private static final int MAX_CONFLICT_RETRY = 100;
+  private static final long MAX_BACKOFF_MS = 64;
+  public static final int MAX_ALLOCATE_COUNT = 10000;
 
+  /**
+   * Allocate transaction id with optimistic concurrency, current_tx_id of table is compared and set without
+   * holding a row lock while reading, conflicting allocations retry with backoff.
+   *
+   * @param tableIdentifier      - table
+   * @param transactionSignature - transaction with the same signature gets the same id
+   * @param retry                - retry times on errors
+   * @return allocated transaction id
+   */
   public long allocateTransactionId(TableIdentifier tableIdentifier, String transactionSignature, int retry) {
-    for (int i = 0; i < retry; i++) {
+    com.netease.arctic.table.TableIdentifier identifier =
+        new com.netease.arctic.table.TableIdentifier(tableIdentifier);
+    int errors = 0;
+    int conflicts = 0;
+    while (errors < retry && conflicts < MAX_CONFLICT_RETRY) {
       try (SqlSession sqlSession = getSqlSession(false)) {
         try {
-          com.netease.arctic.table.TableIdentifier identifier =
-              new com.netease.arctic.table.TableIdentifier(tableIdentifier);
           TableMetadataMapper tableMetadataMapper = getMapper(sqlSession, TableMetadataMapper.class);
-          TableMetadata tableMetadata = tableMetadataMapper.loadTableMetaInLock(identifier);
+          TableMetadata tableMetadata = tableMetadataMapper.loadTableMeta(identifier);
           TableTransactionMetaMapper mapper = getMapper(sqlSession, TableTransactionMetaMapper.class);
           Preconditions.checkNotNull(tableMetadata, "lost table " + identifier);
           Long currentTxId = tableMetadata.getCurrentTxId() == null ? 0 : tableMetadata.getCurrentTxId();
@@ -50,16 +73,75 @@ public class ArcticTransactionService extends IJDBCService {
             mapper.insertTransaction(finalTxId, transactionSignature, tableIdentifier);
           }
 
-          tableMetadataMapper.updateTableTxId(identifier, finalTxId);
-          sqlSession.commit();
-          return finalTxId;
+          if (tableMetadataMapper.compareAndSetTableTxId(identifier, currentTxId, finalTxId) > 0) {
+            sqlSession.commit();
+            return finalTxId;
+          }
+          sqlSession.rollback();
+          conflicts++;
+          LOG.debug("table {} transaction id {} is allocated concurrently, conflicts {}", identifier, finalTxId,
+              conflicts);
+          backoff(conflicts);
         } catch (Exception e) {
           sqlSession.rollback();
+          errors++;
+          LOG.warn("table {} allocate transaction id error, retry {}", identifier, errors, e);
         }
       }
     }
     throw new RuntimeException(String.format("table %s allocateTransactionId error after retry %d times",
-        tableIdentifier.toString(), retry));
+        tableIdentifier.toString(), errors + conflicts));
+  }
+
+  /**
+   * Allocate a block of consecutive transaction ids with one compare and set of current_tx_id.
+   *
+   * @param tableIdentifier - table
+   * @param count           - number of ids to allocate, at most {@link #MAX_ALLOCATE_COUNT}
+   * @param retry           - retry times on errors
+   * @return allocated transaction ids in ascending order
+   */
+  public List<Long> allocateTransactionIds(TableIdentifier tableIdentifier, int count, int retry) {
+    Preconditions.checkArgument(count > 0 && count <= MAX_ALLOCATE_COUNT,
+        "count of transaction ids should be in [1, %s], but is %s", MAX_ALLOCATE_COUNT, count);
+    com.netease.arctic.table.TableIdentifier identifier =
+        new com.netease.arctic.table.TableIdentifier(tableIdentifier);
+    int errors = 0;
+    int conflicts = 0;
+    while (errors < retry && conflicts < MAX_CONFLICT_RETRY) {
+      try (SqlSession sqlSession = getSqlSession(false)) {
+        try {
+          TableMetadataMapper tableMetadataMapper = getMapper(sqlSession, TableMetadataMapper.class);
+          TableMetadata tableMetadata = tableMetadataMapper.loadTableMeta(identifier);
+          Preconditions.checkNotNull(tableMetadata, "lost table " + identifier);
+          long currentTxId = tableMetadata.getCurrentTxId() == null ? 0 : tableMetadata.getCurrentTxId();
+          if (tableMetadataMapper.compareAndSetTableTxId(identifier, currentTxId, currentTxId + count) > 0) {
+            sqlSession.commit();
+            return LongStream.rangeClosed(currentTxId + 1, currentTxId + count).boxed()
+                .collect(Collectors.toList());
+          }
+          sqlSession.rollback();
+          conflicts++;
+          LOG.debug("table {} transaction ids after {} are allocated concurrently, conflicts {}", identifier,
+              currentTxId, conflicts);
+          backoff(conflicts);
+        } catch (Exception e) {
+          sqlSession.rollback();
+          errors++;
+          LOG.warn("table {} allocate transaction ids error, retry {}", identifier, errors, e);
+        }
+      }
+    }
+    throw new RuntimeException(String.format("table %s allocateTransactionIds error after retry %d times",
+        tableIdentifier.toString(), errors + conflicts));
+  }
+
+  private static void backoff(int conflicts) {
+    try {
+      Thread.sleep(ThreadLocalRandom.current().nextLong(Math.min(MAX_BACKOFF_MS, 1L << conflicts) + 1));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
   }
 
   public void delete(TableIdentifier tableIdentifier) {
@@ -18,6 +18,8 @@
 
 package com.netease.arctic.ams.server.service.impl;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.netease.arctic.ams.api.CatalogMeta;
 import com.netease.arctic.ams.server.mapper.CatalogMetadataMapper;
 import com.netease.arctic.ams.server.service.IJDBCService;
@@ -25,27 +27,35 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.ibatis.session.SqlSession;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 public class CatalogMetadataService extends IJDBCService {
+  private static final String ALL_CATALOGS = "all";
+
+  // catalog metas are only written when ams starts, so they are read through an in-memory cache
+  private final LoadingCache<String, List<CatalogMeta>> catalogCache;
+  private final LoadingCache<String, List<CatalogMeta>> catalogsCache;
+
+  public CatalogMetadataService(long cacheExpireTime) {
+    this.catalogCache = Caffeine.newBuilder()
+        .expireAfterWrite(cacheExpireTime, TimeUnit.MILLISECONDS)
+        .build(this::loadCatalog);
+    this.catalogsCache = Caffeine.newBuilder()
+        .expireAfterWrite(cacheExpireTime, TimeUnit.MILLISECONDS)
+        .build(key -> loadCatalogs());
+  }
 
   public List<CatalogMeta> getCatalogs() {
-    try (SqlSession sqlSession = getSqlSession(true)) {
-      CatalogMetadataMapper catalogMetadataMapper =
-          getMapper(sqlSession, CatalogMetadataMapper.class);
-      return catalogMetadataMapper.getCatalogs();
-    }
+    return catalogsCache.get(ALL_CATALOGS).stream().map(CatalogMeta::deepCopy).collect(Collectors.toList());
   }
 
   public CatalogMeta getCatalog(String catalogName) {
-    try (SqlSession sqlSession = getSqlSession(true)) {
-      CatalogMetadataMapper catalogMetadataMapper =
-          getMapper(sqlSession, CatalogMetadataMapper.class);
-      List<CatalogMeta> tmpMetadataList = catalogMetadataMapper.getCatalog(catalogName);
-      if (CollectionUtils.isNotEmpty(tmpMetadataList)) {
-        return tmpMetadataList.get(0);
-      } else {
-        return new CatalogMeta();
-      }
+    List<CatalogMeta> tmpMetadataList = catalogCache.get(catalogName);
+    if (CollectionUtils.isNotEmpty(tmpMetadataList)) {
+      return tmpMetadataList.get(0).deepCopy();
+    } else {
+      return new CatalogMeta();
     }
   }
 
@@ -59,6 +69,25 @@ public class CatalogMetadataService extends IJDBCService {
           catalogMetadataMapper.insertCatalog(c);
         }
       }
+    } finally {
+      catalogCache.invalidateAll();
+      catalogsCache.invalidateAll();
+    }
+  }
+
+  private List<CatalogMeta> loadCatalogs() {
+    try (SqlSession sqlSession = getSqlSession(true)) {
+      CatalogMetadataMapper catalogMetadataMapper =
+          getMapper(sqlSession, CatalogMetadataMapper.class);
+      return catalogMetadataMapper.getCatalogs();
+    }
+  }
+
+  private List<CatalogMeta> loadCatalog(String catalogName) {
+    try (SqlSession sqlSession = getSqlSession(true)) {
+      CatalogMetadataMapper catalogMetadataMapper =
+          getMapper(sqlSession, CatalogMetadataMapper.class);
+      return catalogMetadataMapper.getCatalog(catalogName);
     }
   }
 }
@@ -31,12 +31,15 @@ import com.netease.arctic.ams.api.TableIdentifier;
 import com.netease.arctic.ams.server.ArcticMetaStore;
 import com.netease.arctic.ams.server.config.ArcticMetaStoreConf;
 import com.netease.arctic.ams.server.mapper.FileInfoCacheMapper;
+import com.netease.arctic.ams.server.mapper.PartitionStatsCacheMapper;
 import com.netease.arctic.ams.server.mapper.SnapInfoCacheMapper;
 import com.netease.arctic.ams.server.model.AMSDataFileInfo;
 import com.netease.arctic.ams.server.model.CacheFileInfo;
 import com.netease.arctic.ams.server.model.CacheSnapshotInfo;
 import com.netease.arctic.ams.server.model.PartitionBaseInfo;
 import com.netease.arctic.ams.server.model.PartitionFileBaseInfo;
+import com.netease.arctic.ams.server.model.PartitionStatsDelta;
+import com.netease.arctic.ams.server.model.TableFileStats;
 import com.netease.arctic.ams.server.model.TableMetadata;
 import com.netease.arctic.ams.server.model.TransactionsOfTable;
 import com.netease.arctic.ams.server.service.IJDBCService;
@@ -63,27 +66,49 @@ import org.slf4j.LoggerFactory;
 import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class FileInfoCacheService extends IJDBCService {
 
   private static final Logger LOG = LoggerFactory.getLogger(FileInfoCacheService.class);
 
+  // max partitions refreshed by one statement, to keep the in-list of partition stats sql bounded
+  private static final int PARTITION_STATS_REFRESH_BATCH = 500;
+  private static final List<String> INNER_TABLES =
+      Lists.newArrayList(Constants.INNER_TABLE_BASE, Constants.INNER_TABLE_CHANGE);
+
+  private final OptimizeFileIndex optimizeFileIndex;
+  // partition stats are maintained incrementally by commits and recomputed from file cache periodically
+  private volatile long lastPartitionStatsReconcileTime = System.currentTimeMillis();
+
+  /**
+   * @param optimizeFileIndexVerifyInterval interval in milliseconds to check optimize file index with file cache
+   */
+  public FileInfoCacheService(long optimizeFileIndexVerifyInterval) {
+    this.optimizeFileIndex = new OptimizeFileIndex(optimizeFileIndexVerifyInterval);
+  }
+
   public void commitCacheFileInfo(TableCommitMeta tableCommitMeta) throws MetaException {
     if (needFixCacheFromTable(tableCommitMeta)) {
       LOG.warn("should not cache {}", tableCommitMeta);
+      optimizeFileIndex.invalidate(tableCommitMeta.getTableIdentifier(), INNER_TABLES);
       return;
     }
 
     List<CacheFileInfo> fileInfoList = genFileInfo(tableCommitMeta);
     List<CacheSnapshotInfo> cacheSnapInfoList = genSnapInfo(tableCommitMeta);
 
-    try (SqlSession sqlSession = getSqlSession(false)) {
+    try (SqlSession sqlSession = getBatchSqlSession()) {
       try {
         FileInfoCacheMapper fileInfoCacheMapper = getMapper(sqlSession, FileInfoCacheMapper.class);
+        Set<String> invalidatedFiles = invalidatedFiles(fileInfoCacheMapper, fileInfoList);
         fileInfoList.stream().filter(e -> e.getDeleteSnapshotId() == null)
             .forEach(fileInfoCacheMapper::insertCache);
         LOG.info("insert {} files into file cache", fileInfoList.stream().filter(e -> e.getDeleteSnapshotId() == null)
@@ -93,16 +118,21 @@ public class FileInfoCacheService extends IJDBCService {
         LOG.info("update {} files in file cache", fileInfoList.stream().filter(e -> e.getDeleteSnapshotId() != null)
             .count());
 
+        applyPartitionStatsDelta(sqlSession, tableCommitMeta, invalidatedFiles);
+
         SnapInfoCacheMapper snapInfoCacheMapper = getMapper(sqlSession, SnapInfoCacheMapper.class);
         cacheSnapInfoList.forEach(snapInfoCacheMapper::insertCache);
         LOG.info("insert {} snapshot into snapshot cache", cacheSnapInfoList.size());
 
         sqlSession.commit();
+        optimizeFileIndex.applyCommit(tableCommitMeta, file -> partitionToPath(file.getPartition()));
       } catch (Exception e) {
         sqlSession.rollback();
+        optimizeFileIndex.invalidate(tableCommitMeta.getTableIdentifier(), INNER_TABLES);
         LOG.error("insert file cache {} error", JSONObject.toJSONString(tableCommitMeta), e);
       }
     } catch (Exception e) {
+      optimizeFileIndex.invalidate(tableCommitMeta.getTableIdentifier(), INNER_TABLES);
       LOG.error("insert file cache {} error", JSONObject.toJSONString(tableCommitMeta), e);
     }
   }
@@ -114,6 +144,16 @@ public class FileInfoCacheService extends IJDBCService {
     }
   }
 
+  /**
+   * Get valid files of an inner table for optimize planning, they are served by an in memory index patched by
+   * commits. Other users that must see exactly the file cache, e.g. orphan files clean, should use
+   * {@link #getOptimizeDatafiles(TableIdentifier, String)}.
+   */
+  public List<DataFileInfo> getIndexedOptimizeDatafiles(TableIdentifier tableIdentifier, String tableType) {
+    return optimizeFileIndex.getFiles(tableIdentifier, tableType,
+        () -> getOptimizeDatafiles(tableIdentifier, tableType));
+  }
+
   public List<DataFileInfo> getChangeTableTTLDataFiles(TableIdentifier tableIdentifier, long ttl) {
     try (SqlSession sqlSession = getSqlSession(true)) {
       FileInfoCacheMapper fileInfoCacheMapper = getMapper(sqlSession, FileInfoCacheMapper.class);
@@ -209,6 +249,7 @@ public class FileInfoCacheService extends IJDBCService {
         //there is snapshot expired and not in cache.need delete all cache,and cache current snapshot
         deleteInnerTableCache(new com.netease.arctic.table.TableIdentifier(identifier), tableType);
         syncCurrentSnapshotFile(table, identifier, tableType);
+        optimizeFileIndex.invalidate(identifier, tableType);
         return;
       }
 
@@ -220,6 +261,7 @@ public class FileInfoCacheService extends IJDBCService {
           syncFileInfo(finalTable, identifier, tableType, Lists.reverse(snapshots));
           return null;
         });
+        optimizeFileIndex.invalidate(identifier, tableType);
       }
     } catch (Exception e) {
       LOG.error("sync cache info error " + identifier, e);
@@ -237,8 +279,13 @@ public class FileInfoCacheService extends IJDBCService {
 
       SnapInfoCacheMapper snapInfoCacheMapper = getMapper(sqlSession, SnapInfoCacheMapper.class);
       snapInfoCacheMapper.deleteTableCache(tableIdentifier);
+
+      PartitionStatsCacheMapper partitionStatsCacheMapper = getMapper(sqlSession, PartitionStatsCacheMapper.class);
+      partitionStatsCacheMapper.deleteStats(tableIdentifier, null);
     } catch (Exception e) {
       LOG.error("delete table file cache error ", e);
+    } finally {
+      optimizeFileIndex.remove(tableIdentifier, INNER_TABLES);
     }
   }
 
@@ -253,8 +300,13 @@ public class FileInfoCacheService extends IJDBCService {
 
       SnapInfoCacheMapper snapInfoCacheMapper = getMapper(sqlSession, SnapInfoCacheMapper.class);
       snapInfoCacheMapper.deleteInnerTableCache(tableIdentifier, innerTable);
+
+      // files of the other inner table are still cached, so rebuild stats of the whole table
+      refreshPartitionStats(sqlSession, tableIdentifier, null);
     } catch (Exception e) {
       LOG.error("delete table file cache error ", e);
+    } finally {
+      optimizeFileIndex.invalidate(tableIdentifier, innerTable);
     }
   }
 
@@ -295,6 +347,7 @@ public class FileInfoCacheService extends IJDBCService {
             "" :
             partitionToPath(amsFile.getPartition());
         cacheFileInfo.setDeleteSnapshotId(snapshot.snapshotId());
+        cacheFileInfo.setPartitionName(partitionName);
         String primaryKey =
             TableMetadataUtil.getTableAllIdentifyName(identifier) + tableType + amsFile.getPath() + partitionName;
         String primaryKeyMd5 = Hashing.md5()
@@ -314,11 +367,12 @@ public class FileInfoCacheService extends IJDBCService {
       //remove snapshot to release memory of snapshot, because there is too much cache in BaseSnapshot
       iterator.remove();
 
-      try (SqlSession sqlSession = getSqlSession(false)) {
+      try (SqlSession sqlSession = getBatchSqlSession()) {
         try {
           FileInfoCacheMapper fileInfoCacheMapper = getMapper(sqlSession, FileInfoCacheMapper.class);
           fileInfos.stream().filter(e -> e.getDeleteSnapshotId() == null).forEach(fileInfoCacheMapper::insertCache);
           fileInfos.stream().filter(e -> e.getDeleteSnapshotId() != null).forEach(fileInfoCacheMapper::updateCache);
+          refreshPartitionStats(sqlSession, identifier, changedPartitions(fileInfos));
 
           SnapInfoCacheMapper snapInfoCacheMapper = getMapper(sqlSession, SnapInfoCacheMapper.class);
           snapInfoCacheMapper.insertCache(snapshotInfo);
@@ -372,10 +426,11 @@ public class FileInfoCacheService extends IJDBCService {
       fileCount++;
     }
     CacheSnapshotInfo snapshotInfo = syncSnapInfo(identifier, tableType, curr, fileSize, fileCount);
-    try (SqlSession sqlSession = getSqlSession(false)) {
+    try (SqlSession sqlSession = getBatchSqlSession()) {
       try {
         FileInfoCacheMapper fileInfoCacheMapper = getMapper(sqlSession, FileInfoCacheMapper.class);
         cacheFileInfos.forEach(fileInfoCacheMapper::insertCache);
+        refreshPartitionStats(sqlSession, identifier, null);
 
         SnapInfoCacheMapper snapInfoCacheMapper = getMapper(sqlSession, SnapInfoCacheMapper.class);
         snapInfoCacheMapper.insertCache(snapshotInfo);
@@ -410,12 +465,9 @@ public class FileInfoCacheService extends IJDBCService {
                 "" :
                 partitionToPath(datafile.getPartition());
             cacheFileInfo.setPartitionName(partitionName);
-            String primaryKey = TableMetadataUtil.getTableAllIdentifyName(tableCommitMeta.getTableIdentifier()) +
-                tableChange.getInnerTable() + datafile.getPath() + partitionName;
-            String primaryKeyMd5 = Hashing.md5()
-                .hashBytes(primaryKey.getBytes(StandardCharsets.UTF_8))
-                .toString();
-            cacheFileInfo.setPrimaryKeyMd5(primaryKeyMd5);
+            cacheFileInfo.setPrimaryKeyMd5(
+                fileCacheKey(tableCommitMeta.getTableIdentifier(), tableChange.getInnerTable(), datafile,
+                    partitionName));
             cacheFileInfo.setFileSize(datafile.getFileSize());
             cacheFileInfo.setFileMask(datafile.getMask());
             cacheFileInfo.setFileIndex(datafile.getIndex());
@@ -444,12 +496,10 @@ public class FileInfoCacheService extends IJDBCService {
             String partitionName = StringUtils.isEmpty(partitionToPath(datafile.getPartition())) ?
                 "" :
                 partitionToPath(datafile.getPartition());
-            String primaryKey = TableMetadataUtil.getTableAllIdentifyName(tableCommitMeta.getTableIdentifier()) +
-                tableChange.getInnerTable() + datafile.getPath() + partitionName;
-            String primaryKeyMd5 = Hashing.md5()
-                .hashBytes(primaryKey.getBytes(StandardCharsets.UTF_8))
-                .toString();
-            cacheFileInfo.setPrimaryKeyMd5(primaryKeyMd5);
+            cacheFileInfo.setPrimaryKeyMd5(
+                fileCacheKey(tableCommitMeta.getTableIdentifier(), tableChange.getInnerTable(), datafile,
+                    partitionName));
+            cacheFileInfo.setPartitionName(partitionName);
             cacheFileInfo.setDeleteSnapshotId(tableChange.getSnapshotId());
             rs.add(cacheFileInfo);
           });
@@ -459,6 +509,19 @@ public class FileInfoCacheService extends IJDBCService {
     return rs;
   }
 
+  /**
+   * Primary key md5 of a file in file cache.
+   */
+  private static String fileCacheKey(
+      TableIdentifier tableIdentifier, String innerTable, DataFile datafile,
+      String partitionName) {
+    String primaryKey = TableMetadataUtil.getTableAllIdentifyName(tableIdentifier) +
+        innerTable + datafile.getPath() + partitionName;
+    return Hashing.md5()
+        .hashBytes(primaryKey.getBytes(StandardCharsets.UTF_8))
+        .toString();
+  }
+
   private CacheSnapshotInfo syncSnapInfo(
       TableIdentifier identifier, String tableType, Snapshot snapshot,
       long fileSize, int fileCount) {
@@ -516,17 +579,57 @@ public class FileInfoCacheService extends IJDBCService {
     }
   }
 
-  public List<PartitionBaseInfo> getPartitionBaseInfoList(TableIdentifier tableIdentifier) {
+  public List<PartitionBaseInfo> getPartitionBaseInfoList(TableIdentifier tableIdentifier, int offset, int limit) {
+    try (SqlSession sqlSession = getSqlSession(true)) {
+      PartitionStatsCacheMapper partitionStatsCacheMapper = getMapper(sqlSession, PartitionStatsCacheMapper.class);
+      return partitionStatsCacheMapper.getPartitionStats(tableIdentifier, offset, limit);
+    }
+  }
+
+  public int getPartitionCount(TableIdentifier tableIdentifier) {
+    try (SqlSession sqlSession = getSqlSession(true)) {
+      PartitionStatsCacheMapper partitionStatsCacheMapper = getMapper(sqlSession, PartitionStatsCacheMapper.class);
+      return partitionStatsCacheMapper.countPartitions(tableIdentifier);
+    }
+  }
+
+  public List<PartitionFileBaseInfo> getPartitionFileList(
+      TableIdentifier tableIdentifier, String partition, int offset, int limit) {
     try (SqlSession sqlSession = getSqlSession(true)) {
       FileInfoCacheMapper fileInfoCacheMapper = getMapper(sqlSession, FileInfoCacheMapper.class);
-      return fileInfoCacheMapper.getPartitionBaseInfoList(tableIdentifier);
+      return fileInfoCacheMapper.getPartitionFileList(tableIdentifier, partition, offset, limit);
     }
   }
 
-  public List<PartitionFileBaseInfo> getPartitionFileList(TableIdentifier tableIdentifier, String partition) {
+  public int getPartitionFileCount(TableIdentifier tableIdentifier, String partition) {
     try (SqlSession sqlSession = getSqlSession(true)) {
       FileInfoCacheMapper fileInfoCacheMapper = getMapper(sqlSession, FileInfoCacheMapper.class);
-      return fileInfoCacheMapper.getPartitionFileList(tableIdentifier, partition);
+      return fileInfoCacheMapper.countPartitionFiles(tableIdentifier, partition);
+    }
+  }
+
+  /**
+   * Get statistics of valid files of a table from partition stats, without scanning files of the table.
+   */
+  public TableFileStats getTableFileStats(TableIdentifier tableIdentifier) {
+    try (SqlSession sqlSession = getSqlSession(true)) {
+      PartitionStatsCacheMapper partitionStatsCacheMapper = getMapper(sqlSession, PartitionStatsCacheMapper.class);
+      return partitionStatsCacheMapper.getTableStats(tableIdentifier);
+    }
+  }
+
+  /**
+   * Recompute partition stats of a table from file cache, to correct drift of the incrementally maintained stats.
+   */
+  public void reconcilePartitionStats(TableIdentifier tableIdentifier) {
+    try (SqlSession sqlSession = getSqlSession(false)) {
+      try {
+        refreshPartitionStats(sqlSession, tableIdentifier, null);
+        sqlSession.commit();
+      } catch (Exception e) {
+        sqlSession.rollback();
+        LOG.error("reconcile partition stats of {} error", tableIdentifier, e);
+      }
     }
   }
 
@@ -538,6 +641,98 @@ public class FileInfoCacheService extends IJDBCService {
     }
   }
 
+  private Set<String> changedPartitions(List<CacheFileInfo> fileInfos) {
+    Set<String> partitions = new HashSet<>();
+    fileInfos.forEach(fileInfo -> partitions.add(
+        fileInfo.getPartitionName() == null ? "" : fileInfo.getPartitionName()));
+    return partitions;
+  }
+
+  /**
+   * Files deleted by a commit which are valid in file cache before the commit or added by the commit itself,
+   * deleted files reported again or unknown to file cache are not invalidated by the commit.
+   */
+  private Set<String> invalidatedFiles(FileInfoCacheMapper fileInfoCacheMapper, List<CacheFileInfo> fileInfoList) {
+    Set<String> deleted = fileInfoList.stream().filter(e -> e.getDeleteSnapshotId() != null)
+        .map(CacheFileInfo::getPrimaryKeyMd5).collect(Collectors.toSet());
+    Set<String> invalidated = new HashSet<>();
+    if (deleted.isEmpty()) {
+      return invalidated;
+    }
+    fileInfoList.stream().filter(e -> e.getDeleteSnapshotId() == null)
+        .map(CacheFileInfo::getPrimaryKeyMd5).filter(deleted::contains).forEach(invalidated::add);
+    for (List<String> batch : Lists.partition(new ArrayList<>(deleted), PARTITION_STATS_REFRESH_BATCH)) {
+      invalidated.addAll(fileInfoCacheMapper.getValidPrimaryKeyMd5s(batch));
+    }
+    return invalidated;
+  }
+
+  /**
+   * Apply the files added and deleted by a commit to partition stats, in the same session as the file cache change.
+   * Only the partitions changed by the commit are updated, no file of the table is scanned.
+   *
+   * @param invalidatedFiles - primary key md5 of files invalidated by the commit, other deleted files are skipped
+   */
+  private void applyPartitionStatsDelta(
+      SqlSession sqlSession, TableCommitMeta tableCommitMeta,
+      Set<String> invalidatedFiles) {
+    Map<String, PartitionStatsDelta> deltas = new LinkedHashMap<>();
+    if (CollectionUtils.isNotEmpty(tableCommitMeta.getChanges())) {
+      for (TableChange tableChange : tableCommitMeta.getChanges()) {
+        if (CollectionUtils.isNotEmpty(tableChange.getAddFiles())) {
+          tableChange.getAddFiles().forEach(file ->
+              deltas.computeIfAbsent(partitionToPath(file.getPartition()), PartitionStatsDelta::new)
+                  .addFile(tableChange.getInnerTable(), file, tableCommitMeta.getCommitTime()));
+        }
+        if (CollectionUtils.isNotEmpty(tableChange.getDeleteFiles())) {
+          tableChange.getDeleteFiles().forEach(file -> {
+            String partition = partitionToPath(file.getPartition());
+            // a file deleted more than once is only subtracted once
+            if (invalidatedFiles.remove(
+                fileCacheKey(tableCommitMeta.getTableIdentifier(), tableChange.getInnerTable(), file, partition))) {
+              deltas.computeIfAbsent(partition, PartitionStatsDelta::new)
+                  .deleteFile(tableChange.getInnerTable(), file);
+            }
+          });
+        }
+      }
+    }
+    TableIdentifier tableIdentifier = tableCommitMeta.getTableIdentifier();
+    PartitionStatsCacheMapper partitionStatsCacheMapper = getMapper(sqlSession, PartitionStatsCacheMapper.class);
+    for (PartitionStatsDelta delta : deltas.values()) {
+      partitionStatsCacheMapper.ensureStats(tableIdentifier, delta.getPartition());
+      partitionStatsCacheMapper.applyDelta(tableIdentifier, delta);
+      if (delta.getLastCommitTime() != null) {
+        partitionStatsCacheMapper.updateLastCommitTime(tableIdentifier, delta.getPartition(),
+            delta.getLastCommitTime());
+      }
+      if (delta.getFileCount() < 0) {
+        partitionStatsCacheMapper.deleteEmptyStats(tableIdentifier, delta.getPartition());
+      }
+    }
+  }
+
+  /**
+   * Recompute partition stats from valid files in file cache, in the same session as the file cache change.
+   *
+   * @param sqlSession      - session of the file cache change
+   * @param tableIdentifier - table to refresh
+   * @param partitions      - partitions to refresh, null to refresh all partitions of the table
+   */
+  private void refreshPartitionStats(
+      SqlSession sqlSession, TableIdentifier tableIdentifier, Collection<String> partitions) {
+    PartitionStatsCacheMapper partitionStatsCacheMapper = getMapper(sqlSession, PartitionStatsCacheMapper.class);
+    if (partitions == null) {
+      partitionStatsCacheMapper.deleteStats(tableIdentifier, null);
+      partitionStatsCacheMapper.insertStats(tableIdentifier, null);
+      return;
+    }
+    for (List<String> batch : Lists.partition(new ArrayList<>(partitions), PARTITION_STATS_REFRESH_BATCH)) {
+      partitionStatsCacheMapper.deleteStats(tableIdentifier, batch);
+      partitionStatsCacheMapper.insertStats(tableIdentifier, batch);
+    }
+  }
+
   private String partitionToPath(List<PartitionFieldData> partitionFieldDataList) {
     StringBuilder sb = new StringBuilder();
     for (int i = 0; i < partitionFieldDataList.size(); i++) {
@@ -566,6 +761,22 @@ public class FileInfoCacheService extends IJDBCService {
       LOG.info("start execute doTask");
       expiredCache();
       syncCache();
+      reconcilePartitionStats();
+    }
+
+    private void reconcilePartitionStats() {
+      long now = System.currentTimeMillis();
+      if (now - fileInfoCacheService.lastPartitionStatsReconcileTime <
+          ArcticMetaStore.conf.getLong(ArcticMetaStoreConf.PARTITION_STATS_RECONCILE_INTERVAL)) {
+        return;
+      }
+      LOG.info("start execute reconcilePartitionStats");
+      metaService.listTables().forEach(meta -> {
+        if (meta.getTableIdentifier() != null) {
+          fileInfoCacheService.reconcilePartitionStats(meta.getTableIdentifier().buildTableIdentifier());
+        }
+      });
+      fileInfoCacheService.lastPartitionStatsReconcileTime = now;
     }
 
     private void expiredCache() {
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.service.impl;
+
+import com.netease.arctic.ams.api.DataFile;
+import com.netease.arctic.ams.api.DataFileInfo;
+import com.netease.arctic.ams.api.TableChange;
+import com.netease.arctic.ams.api.TableCommitMeta;
+import com.netease.arctic.ams.api.TableIdentifier;
+import com.netease.arctic.ams.server.metrics.AmsMetrics;
+import com.netease.arctic.ams.server.metrics.Counter;
+import org.apache.commons.collections.CollectionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In memory index of valid files of inner tables for optimize planning, loaded from file cache once and then
+ * patched by the changes of table commits, so planning rounds do not have to query all files of the table again.
+ * <p>
+ * Index of an inner table is dropped whenever the file cache of it is not changed by a commit, e.g. the cache is
+ * synced from table, and it is reloaded and compared with file cache after verify interval to bound any drift.
+ */
+public class OptimizeFileIndex {
+
+  private static final Logger LOG = LoggerFactory.getLogger(OptimizeFileIndex.class);
+
+  private final long verifyInterval;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final Counter hits = AmsMetrics.counter("optimize_file_index_hits");
+  private final Counter loads = AmsMetrics.counter("optimize_file_index_loads");
+  private final Counter patches = AmsMetrics.counter("optimize_file_index_patches");
+  private final Counter mismatches = AmsMetrics.counter("optimize_file_index_mismatches");
+
+  /**
+   * @param verifyInterval interval in milliseconds to reload index from file cache and check it
+   */
+  public OptimizeFileIndex(long verifyInterval) {
+    this.verifyInterval = verifyInterval;
+  }
+
+  /**
+   * Get valid files of an inner table, load them by loader if they are not indexed or need to be verified.
+   *
+   * @param identifier table identifier
+   * @param innerTable base or change
+   * @param loader     load valid files from file cache
+   * @return a copy of valid files
+   */
+  public List<DataFileInfo> getFiles(TableIdentifier identifier, String innerTable,
+                                     Supplier<List<DataFileInfo>> loader) {
+    Entry entry = entries.computeIfAbsent(key(identifier, innerTable), k -> new Entry());
+    long version;
+    synchronized (entry) {
+      if (entry.files != null && System.currentTimeMillis() - entry.loadTime < verifyInterval) {
+        hits.inc();
+        return new ArrayList<>(entry.files.values());
+      }
+      version = entry.version;
+    }
+
+    long loadTime = System.currentTimeMillis();
+    List<DataFileInfo> files = loader.get();
+    loads.inc();
+    synchronized (entry) {
+      // a commit or sync happened during loading, loaded files may miss it, so do not index them
+      if (entry.version == version) {
+        Map<String, DataFileInfo> loaded = index(files);
+        if (entry.files != null && !sameFiles(entry.files, loaded)) {
+          mismatches.inc();
+          LOG.warn("{} {} optimize file index has {} files, but file cache has {} files, rebuild it",
+              identifier, innerTable, entry.files.size(), loaded.size());
+        }
+        entry.files = loaded;
+        entry.removedPaths.clear();
+        entry.loadTime = loadTime;
+      }
+    }
+    return new ArrayList<>(files);
+  }
+
+  /**
+   * Patch index by changes of a commit which has been written into file cache.
+   *
+   * @param commitMeta commit meta
+   * @param partitionToPath convert partition of data file to partition name in file cache
+   */
+  public void applyCommit(TableCommitMeta commitMeta, Function<DataFile, String> partitionToPath) {
+    if (CollectionUtils.isEmpty(commitMeta.getChanges())) {
+      return;
+    }
+    for (TableChange change : commitMeta.getChanges()) {
+      Entry entry = entries.get(key(commitMeta.getTableIdentifier(), change.getInnerTable()));
+      if (entry == null) {
+        continue;
+      }
+      synchronized (entry) {
+        entry.version++;
+        if (entry.files == null) {
+          continue;
+        }
+        if (CollectionUtils.isNotEmpty(change.getDeleteFiles())) {
+          for (DataFile file : change.getDeleteFiles()) {
+            entry.files.remove(file.getPath());
+            // commits of a table may be applied out of order, file paths are never reused
+            entry.removedPaths.add(file.getPath());
+          }
+        }
+        if (CollectionUtils.isNotEmpty(change.getAddFiles())) {
+          for (DataFile file : change.getAddFiles()) {
+            if (!entry.removedPaths.contains(file.getPath())) {
+              entry.files.put(file.getPath(), toFileInfo(file, partitionToPath.apply(file),
+                  commitMeta.getCommitTime()));
+            }
+          }
+        }
+        patches.inc();
+      }
+    }
+  }
+
+  /**
+   * Drop index of an inner table, it will be reloaded from file cache next time.
+   */
+  public void invalidate(TableIdentifier identifier, String innerTable) {
+    Entry entry = entries.get(key(identifier, innerTable));
+    if (entry != null) {
+      synchronized (entry) {
+        entry.version++;
+        entry.files = null;
+        entry.removedPaths.clear();
+      }
+    }
+  }
+
+  /**
+   * Drop index of all inner tables of a table.
+   */
+  public void invalidate(TableIdentifier identifier, Iterable<String> innerTables) {
+    innerTables.forEach(innerTable -> invalidate(identifier, innerTable));
+  }
+
+  /**
+   * Remove index of a dropped table.
+   */
+  public void remove(TableIdentifier identifier, Iterable<String> innerTables) {
+    invalidate(identifier, innerTables);
+    innerTables.forEach(innerTable -> entries.remove(key(identifier, innerTable)));
+  }
+
+  private static String key(TableIdentifier identifier, String innerTable) {
+    return identifier.getCatalog() + "." + identifier.getDatabase() + "." + identifier.getTableName() + "." +
+        innerTable;
+  }
+
+  private static Map<String, DataFileInfo> index(List<DataFileInfo> files) {
+    Map<String, DataFileInfo> indexed = new LinkedHashMap<>();
+    files.forEach(file -> indexed.put(file.getPath(), file));
+    return indexed;
+  }
+
+  private static boolean sameFiles(Map<String, DataFileInfo> indexed, Map<String, DataFileInfo> loaded) {
+    if (indexed.size() != loaded.size()) {
+      return false;
+    }
+    for (DataFileInfo file : loaded.values()) {
+      DataFileInfo indexedFile = indexed.get(file.getPath());
+      if (indexedFile == null || indexedFile.getSize() != file.getSize() ||
+          !Objects.equals(indexedFile.getType(), file.getType())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static DataFileInfo toFileInfo(DataFile file, String partition, long commitTime) {
+    DataFileInfo fileInfo = new DataFileInfo();
+    fileInfo.setPath(file.getPath());
+    fileInfo.setType(file.getFileType());
+    fileInfo.setSize(file.getFileSize());
+    fileInfo.setMask(file.getMask());
+    fileInfo.setIndex(file.getIndex());
+    fileInfo.setRecordCount(file.getRecordCount());
+    fileInfo.setSpecId(file.getSpecId());
+    fileInfo.setPartition(partition);
+    fileInfo.setCommitTime(commitTime);
+    return fileInfo;
+  }
+
+  private static class Entry {
+    // increased by every change of file cache, so a load that raced with a change is not indexed
+    private long version;
+    private Map<String, DataFileInfo> files;
+    private final Set<String> removedPaths = new HashSet<>();
+    private long loadTime;
+  }
+}
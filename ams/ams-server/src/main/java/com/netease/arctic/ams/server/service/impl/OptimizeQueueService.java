@@ -28,6 +28,9 @@ import com.netease.arctic.ams.api.OptimizeTask;
 import com.netease.arctic.ams.api.OptimizeType;
 import com.netease.arctic.ams.server.mapper.ContainerMetadataMapper;
 import com.netease.arctic.ams.server.mapper.OptimizeQueueMapper;
+import com.netease.arctic.ams.server.metrics.AmsMetrics;
+import com.netease.arctic.ams.server.metrics.Counter;
+import com.netease.arctic.ams.server.metrics.Histogram;
 import com.netease.arctic.ams.server.model.BaseOptimizeTask;
 import com.netease.arctic.ams.server.model.Container;
 import com.netease.arctic.ams.server.model.OptimizeQueueItem;
@@ -44,7 +47,6 @@ import com.netease.arctic.ams.server.utils.OptimizeStatusUtil;
 import com.netease.arctic.table.TableIdentifier;
 import com.netease.arctic.table.TableProperties;
 import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.lang.StringUtils;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.util.PropertyUtil;
@@ -52,8 +54,6 @@ import org.apache.thrift.TException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -63,7 +63,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Condition;
@@ -79,6 +85,19 @@ public class OptimizeQueueService extends IJDBCService {
 
   private static final int MAX_POOL_TASK_CNT = 10;
 
+  private static final String QUEUE_LABEL = "queue";
+
+  public static final String TABLE_LABEL = "table";
+
+  // optimizers not polling for this long are forgotten by fair dispatch, unit ms
+  private static final long DISPATCH_TIME_EXPIRE = 60 * 60 * 1000;
+
+  private ScheduledExecutorService planExecutor;
+  private ExecutorService tablePlanExecutor;
+  private int tablePlanParallelism;
+  private long planInterval;
+  private int targetBacklog;
+
   public OptimizeQueueService() {
     init();
   }
@@ -89,6 +108,31 @@ public class OptimizeQueueService extends IJDBCService {
     LOG.info("OptimizeQueueManager init completed");
   }
 
+  /**
+   * Start background planners of all optimize queues, queues created later are planned as well.
+   *
+   * @param executor             executor to run plan
+   * @param tablePlanExecutor    executor to plan tables of a queue concurrently
+   * @param tablePlanParallelism max number of tables of a queue planned concurrently
+   * @param planInterval         interval of plan for each queue, unit ms
+   * @param targetBacklog        number of pending tasks to keep in each queue
+   */
+  public void startPlanners(ScheduledExecutorService executor, ExecutorService tablePlanExecutor,
+                            int tablePlanParallelism, long planInterval, int targetBacklog) {
+    queueOperateLock.lock();
+    try {
+      this.planExecutor = executor;
+      this.tablePlanExecutor = tablePlanExecutor;
+      this.tablePlanParallelism = tablePlanParallelism;
+      this.planInterval = planInterval;
+      this.targetBacklog = targetBacklog;
+      optimizeQueues.values().forEach(q -> q.startPlanner(executor, tablePlanExecutor, tablePlanParallelism,
+          planInterval, targetBacklog));
+    } finally {
+      queueOperateLock.unlock();
+    }
+  }
+
   public int getQueueId(Map<String, String> properties) throws InvalidObjectException {
     String groupName = properties.getOrDefault(TableProperties.OPTIMIZE_GROUP,
         TableProperties.OPTIMIZE_GROUP_DEFAULT);
@@ -126,7 +170,12 @@ public class OptimizeQueueService extends IJDBCService {
       validateAddQueue(queue);
       OptimizeQueueMapper optimizeQueueMapper = getMapper(sqlSession, OptimizeQueueMapper.class);
       optimizeQueueMapper.insertQueue(queue);
-      optimizeQueues.put(queue.getQueueId(), OptimizeQueueWrapper.build(queue));
+      OptimizeQueueWrapper optimizeQueueWrapper = OptimizeQueueWrapper.build(queue);
+      optimizeQueues.put(queue.getQueueId(), optimizeQueueWrapper);
+      if (planExecutor != null) {
+        optimizeQueueWrapper.startPlanner(planExecutor, tablePlanExecutor, tablePlanParallelism, planInterval,
+            targetBacklog);
+      }
 
       return queue;
     } finally {
@@ -179,6 +228,7 @@ public class OptimizeQueueService extends IJDBCService {
         optimizeQueueMapper.deleteQueue(queueId);
 
         optimizeQueues.remove(queueId);
+        optimizeQueueWrapper.stopPlanner();
       } finally {
         optimizeQueueWrapper.unlock();
       }
@@ -323,25 +373,73 @@ public class OptimizeQueueService extends IJDBCService {
   public static class OptimizeQueueWrapper {
 
     private final ReentrantLock lock = new ReentrantLock();
-    private final Condition planThreadCondition = lock.newCondition();
-    private final AtomicBoolean planThreadStarted = new AtomicBoolean(false);
     private final OptimizeQueueItem optimizeQueue;
     private final Queue<OptimizeTaskItem> tasks;
     private final Set<TableIdentifier> tables = new HashSet<>();
-    // plan retry times
-    private final int retryTime = 5;
-    // plan retry interval unit ms
-    private final long retryInterval = 1000;
+    // pollers parked on this queue, guarded by lock
+    private final List<Waiter> waiters = new ArrayList<>();
+    // latest dispatch time of each optimizer, used to dispatch tasks fairly across optimizers, guarded by lock
+    private final Map<JobId, Long> lastDispatchTime = new HashMap<>();
+    private final AtomicBoolean planRunning = new AtomicBoolean(false);
+    private final AtomicBoolean planRequested = new AtomicBoolean(false);
+    private volatile ScheduledExecutorService planExecutor;
+    private volatile ScheduledFuture<?> planFuture;
+    private volatile ExecutorService tablePlanExecutor;
+    private volatile int tablePlanParallelism = 1;
+    private volatile int targetBacklog = MAX_POOL_TASK_CNT;
+
+    private final Histogram pollWaitTime;
+    private final Histogram planLatency;
+    private final Counter dispatchedTasks;
+    private final Counter plannedTasks;
+    private final Counter pollTimeouts;
 
     private OptimizeQueueWrapper(OptimizeQueueMeta optimizeQueue) {
       this.optimizeQueue = new OptimizeQueueItem(optimizeQueue);
       this.tasks = new LinkedTransferQueue<>();
+      String queueName = queueName();
+      this.pollWaitTime = AmsMetrics.histogram("optimize_queue_poll_wait_ms", QUEUE_LABEL, queueName);
+      this.planLatency = AmsMetrics.histogram("optimize_queue_plan_latency_ms", QUEUE_LABEL, queueName);
+      this.dispatchedTasks = AmsMetrics.counter("optimize_queue_dispatched_tasks", QUEUE_LABEL, queueName);
+      this.plannedTasks = AmsMetrics.counter("optimize_queue_planned_tasks", QUEUE_LABEL, queueName);
+      this.pollTimeouts = AmsMetrics.counter("optimize_queue_poll_timeouts", QUEUE_LABEL, queueName);
+      AmsMetrics.gauge("optimize_queue_depth", tasks::size, QUEUE_LABEL, queueName);
+      AmsMetrics.gauge("optimize_queue_waiting_pollers", this::waiterCount, QUEUE_LABEL, queueName);
     }
 
     public static OptimizeQueueWrapper build(OptimizeQueueMeta optimizeQueue) {
       return new OptimizeQueueWrapper(optimizeQueue);
     }
 
+    /**
+     * Start background planning of this queue, the planner keeps at most targetBacklog tasks pending in the queue,
+     * so pollers are served from the queue instead of waiting for plan.
+     *
+     * @param executor             - executor to run plan
+     * @param tablePlanExecutor    - executor to plan tables concurrently
+     * @param tablePlanParallelism - max number of tables planned concurrently
+     * @param planInterval         - interval of plan, unit ms
+     * @param targetBacklog        - number of pending tasks to keep in queue
+     */
+    private void startPlanner(ScheduledExecutorService executor, ExecutorService tablePlanExecutor,
+                              int tablePlanParallelism, long planInterval, int targetBacklog) {
+      this.targetBacklog = targetBacklog;
+      this.tablePlanExecutor = tablePlanExecutor;
+      this.tablePlanParallelism = Math.max(1, tablePlanParallelism);
+      this.planExecutor = executor;
+      this.planFuture = executor.scheduleWithFixedDelay(this::planToBacklog, 0, planInterval, TimeUnit.MILLISECONDS);
+      LOG.info("start planner of queue {}, interval {} ms, target backlog {}", queueName(), planInterval,
+          targetBacklog);
+    }
+
+    private void stopPlanner() {
+      if (planFuture != null) {
+        planFuture.cancel(false);
+      }
+      planExecutor = null;
+      AmsMetrics.removeByLabel(QUEUE_LABEL, queueName());
+    }
+
     private void bindTable(TableIdentifier tableIdentifier) {
       lock();
       try {
@@ -376,6 +474,7 @@ public class OptimizeQueueService extends IJDBCService {
             task.onPending();
           }
           LOG.info("submitTask into queue {} success, {}", queueName(), task);
+          dispatchToWaiters();
         } else {
           throw new InvalidObjectException(
               queueName() + " is full, size = " + tasks.size());
@@ -385,6 +484,26 @@ public class OptimizeQueueService extends IJDBCService {
       }
     }
 
+    /**
+     * Hand pending tasks to parked pollers, the optimizer served least recently goes first.
+     * Must be called with lock held.
+     */
+    private void dispatchToWaiters() {
+      while (!waiters.isEmpty() && !tasks.isEmpty()) {
+        Waiter next = null;
+        for (Waiter waiter : waiters) {
+          if (next == null ||
+              lastDispatchTime.getOrDefault(waiter.jobId, 0L) < lastDispatchTime.getOrDefault(next.jobId, 0L)) {
+            next = waiter;
+          }
+        }
+        waiters.remove(next);
+        next.task = tasks.poll();
+        lastDispatchTime.put(next.jobId, System.currentTimeMillis());
+        next.condition.signal();
+      }
+    }
+
     public void lock() {
       this.lock.lock();
     }
@@ -401,101 +520,133 @@ public class OptimizeQueueService extends IJDBCService {
     public OptimizeTask poll(JobId jobId, final String attemptId, long waitTime) {
       long startTime = System.currentTimeMillis();
       while (true) {
+        OptimizeTaskItem task = takeOrWait(jobId, waitTime - (System.currentTimeMillis() - startTime));
         long duration = System.currentTimeMillis() - startTime;
-        if (duration > waitTime) {
-          LOG.warn("pool task cost too much time {} ms, return null", duration);
+        if (task == null) {
+          LOG.debug("The queue {} has no task for {} in {} ms", queueName(), jobId, duration);
+          pollTimeouts.inc();
+          pollWaitTime.update(duration);
           return null;
         }
-        OptimizeTaskItem task = tasks.poll();
-        if (task == null) {
+        if (tables.contains(task.getTableIdentifier())) {
           try {
-            if (planThreadStarted.compareAndSet(false, true)) {
-              Thread planThread = new Thread(() -> {
-                int retry = 0;
-                boolean isHaveTask = false;
-
-                try {
-                  LOG.info("this plan started {}, {}", attemptId, jobId);
-                  while (retry <= retryTime) {
-                    LOG.debug("start get plan task retry {}", retry);
-                    retry++;
-                    List<OptimizeTaskItem> tasks = plan(System.currentTimeMillis());
-                    if (CollectionUtils.isNotEmpty(tasks)) {
-                      isHaveTask = true;
-                      break;
-                    }
-
-                    try {
-                      Thread.sleep(retryInterval);
-                    } catch (InterruptedException e) {
-                      LOG.error("Internal Thread Interrupted", e);
-                    }
-                  }
-
-                  // no task have planned
-                  if (!isHaveTask) {
-                    LOG.debug("The queue {} has retry {} times, no task have planned",
-                        optimizeQueue.getOptimizeQueueMeta().queueId,
-                        retryTime);
-                  }
-                } catch (Throwable t) {
-                  LOG.error("failed to plan", t);
-                  throw t;
-                } finally {
-                  LOG.info("this plan end {}", attemptId);
-                  if (planThreadStarted.compareAndSet(true, false)) {
-                    lock();
-                    try {
-                      planThreadCondition.signalAll();
-                    } finally {
-                      unlock();
-                    }
-                  }
-                }
-              });
-              planThread.setName(
-                  "Optimize Plan Thread Queue-" + optimizeQueue.getOptimizeQueueMeta().getQueueId());
-              planThread.start();
-            } else {
-              lock();
-              try {
-                // if timeout, return null
-                if (!planThreadCondition.await(waitTime - (System.currentTimeMillis() - startTime),
-                    TimeUnit.MILLISECONDS)) {
-                  LOG.debug("The queue {} has no task have planned", optimizeQueue.getOptimizeQueueMeta().getQueueId());
-                  return null;
-                }
-              } finally {
-                unlock();
-              }
+            // load files from sysdb
+            task.setFiles();
+          } catch (Exception e) {
+            task.clearFiles();
+            LOG.error("{} failed to load files from sysdb, try put task back into queue", task.getTaskId(), e);
+            if (!tasks.offer(task)) {
+              task.onFailed(new ErrorMessage(System.currentTimeMillis(), "failed to put task back into queue"), 0);
             }
+            continue;
+          }
+          TableTaskHistory tableTaskHistory = task.onExecuting(jobId, attemptId);
+          try {
+            insertTableTaskHistory(tableTaskHistory);
           } catch (Exception e) {
-            LOG.error("Failure when starting the plan thread, " + e);
+            LOG.error("failed to insert tableTaskHistory, {} ignore", tableTaskHistory, e);
           }
+          dispatchedTasks.inc();
+          pollWaitTime.update(duration);
+          return task.getOptimizeTask();
         } else {
-          if (tables.contains(task.getTableIdentifier())) {
-            try {
-              // load files from sysdb
-              task.setFiles();
-            } catch (Exception e) {
-              task.clearFiles();
-              LOG.error("{} failed to load files from sysdb, try put task back into queue", task.getTaskId(), e);
-              if (!tasks.offer(task)) {
-                task.onFailed(new ErrorMessage(System.currentTimeMillis(), "failed to put task back into queue"), 0);
-              }
-            }
-            TableTaskHistory tableTaskHistory = task.onExecuting(jobId, attemptId);
-            try {
-              insertTableTaskHistory(tableTaskHistory);
-            } catch (Exception e) {
-              LOG.error("failed to insert tableTaskHistory, {} ignore", tableTaskHistory, e);
-            }
-            return task.getOptimizeTask();
-          } else {
-            LOG.warn("get task {} from queue {} but table {} not in this queue",
-                task.getTaskId(), queueName(), task.getTableIdentifier());
+          LOG.warn("get task {} from queue {} but table {} not in this queue",
+              task.getTaskId(), queueName(), task.getTableIdentifier());
+        }
+      }
+    }
+
+    /**
+     * Take a pending task, or park until a task is dispatched to this poller or wait time is exhausted.
+     */
+    private OptimizeTaskItem takeOrWait(JobId jobId, long waitTime) {
+      OptimizeTaskItem task = takeTask(jobId);
+      if (task != null) {
+        return task;
+      }
+      requestPlan();
+      lock();
+      try {
+        task = takeTask(jobId);
+        if (task != null || waitTime <= 0) {
+          return task;
+        }
+        Waiter waiter = new Waiter(jobId, lock.newCondition());
+        waiters.add(waiter);
+        long remainNanos = TimeUnit.MILLISECONDS.toNanos(waitTime);
+        try {
+          while (waiter.task == null && remainNanos > 0) {
+            remainNanos = waiter.condition.awaitNanos(remainNanos);
           }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          LOG.warn("interrupted when waiting task from queue {}", queueName());
+        } finally {
+          waiters.remove(waiter);
         }
+        return waiter.task;
+      } finally {
+        unlock();
+      }
+    }
+
+    private OptimizeTaskItem takeTask(JobId jobId) {
+      lock();
+      try {
+        OptimizeTaskItem task = tasks.poll();
+        if (task != null) {
+          lastDispatchTime.put(jobId, System.currentTimeMillis());
+        }
+        return task;
+      } finally {
+        unlock();
+      }
+    }
+
+    /**
+     * Ask the planner to plan as soon as possible. If background planner is not started, plan in current thread.
+     */
+    private void requestPlan() {
+      ScheduledExecutorService executor = planExecutor;
+      if (executor == null) {
+        planToBacklog();
+      } else if (planRequested.compareAndSet(false, true)) {
+        try {
+          executor.execute(this::planToBacklog);
+        } catch (RejectedExecutionException e) {
+          planRequested.set(false);
+          LOG.warn("failed to request plan of queue {}", queueName(), e);
+        }
+      }
+    }
+
+    private void planToBacklog() {
+      planRequested.set(false);
+      if (!planRunning.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        if (size() >= targetBacklog && waiterCount() == 0) {
+          return;
+        }
+        long startTime = System.currentTimeMillis();
+        int planned = plan(startTime);
+        planLatency.update(System.currentTimeMillis() - startTime);
+        plannedTasks.inc(planned);
+        expireDispatchTime(startTime);
+      } catch (Throwable t) {
+        LOG.error("failed to plan queue {}", queueName(), t);
+      } finally {
+        planRunning.set(false);
+      }
+    }
+
+    private void expireDispatchTime(long currentTime) {
+      lock();
+      try {
+        lastDispatchTime.values().removeIf(time -> currentTime - time > DISPATCH_TIME_EXPIRE);
+      } finally {
+        unlock();
       }
     }
 
@@ -530,68 +681,136 @@ public class OptimizeQueueService extends IJDBCService {
       return tasks.size();
     }
 
+    private int waiterCount() {
+      lock();
+      try {
+        return waiters.size();
+      } finally {
+        unlock();
+      }
+    }
+
     public OptimizeQueueItem getOptimizeQueueItem() {
       optimizeQueue.setSize(size());
       return optimizeQueue;
     }
 
-    private List<OptimizeTaskItem> plan(long currentTime) {
-      List<TableIdentifier> tableSort = sortTableByQuota(new ArrayList<>(tables));
-
-      for (TableIdentifier tableIdentifier : tableSort) {
-        LOG.debug("{} try plan", tableIdentifier);
-        try {
-          TableOptimizeItem tableItem = ServiceContainer.getOptimizeService().getTableOptimizeItem(tableIdentifier);
-
-          tableItem.checkTaskExecuteTimeout();
-          // if enable_optimize is false
-          if (!(Boolean.parseBoolean(PropertyUtil
-              .propertyAsString(tableItem.getArcticTable(false).properties(), TableProperties.ENABLE_OPTIMIZE,
-                  TableProperties.ENABLE_OPTIMIZE_DEFAULT)))) {
-            LOG.debug("{} is not enable optimize continue", tableIdentifier);
-            continue;
+    /**
+     * Plan tables of this queue in order of quota usage, until the queue holds target backlog tasks.
+     *
+     * @return number of tasks put into queue
+     */
+    private int plan(long currentTime) {
+      List<TableIdentifier> queueTables;
+      lock();
+      try {
+        queueTables = new ArrayList<>(tables);
+      } finally {
+        unlock();
+      }
+      List<TableIdentifier> tableSort = sortTableByQuota(queueTables);
+
+      // tables are planned in batches in order of quota usage, tables of a batch are planned concurrently
+      ExecutorService executor = tablePlanExecutor;
+      int batchSize = executor == null ? 1 : tablePlanParallelism;
+      int planned = 0;
+      for (int i = 0; i < tableSort.size() && size() < targetBacklog; i += batchSize) {
+        List<TableIdentifier> batch = tableSort.subList(i, Math.min(i + batchSize, tableSort.size()));
+        if (executor == null) {
+          planned += planTable(batch.get(0), currentTime);
+          continue;
+        }
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (TableIdentifier tableIdentifier : batch) {
+          futures.add(executor.submit(() -> planTable(tableIdentifier, currentTime)));
+        }
+        for (Future<Integer> future : futures) {
+          try {
+            planned += future.get();
+          } catch (ExecutionException e) {
+            LOG.error("{} failed to plan table", queueName(), e);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("{} interrupted when planning tables", queueName());
+            return planned;
           }
+        }
+      }
 
-          if (tableItem.getTableOptimizeRuntime().isRunning()) {
-            LOG.debug("{} is running continue", tableIdentifier);
-            continue;
-          }
+      return planned;
+    }
 
-          List<BaseOptimizeTask> optimizeTasks;
-          BaseOptimizePlan optimizePlan;
-          Map<String, String> properties = tableItem.getArcticTable(false).properties();
-          int queueId = ServiceContainer.getOptimizeQueueService().getQueueId(properties);
-          optimizePlan = tableItem.getFullPlan(queueId, currentTime);
-          optimizeTasks = optimizePlan.plan();
+    /**
+     * Plan a table and put tasks into queue.
+     *
+     * @return number of tasks put into queue
+     */
+    private int planTable(TableIdentifier tableIdentifier, long currentTime) {
+      long startTime = System.currentTimeMillis();
+      LOG.debug("{} try plan", tableIdentifier);
+      try {
+        TableOptimizeItem tableItem = ServiceContainer.getOptimizeService().getTableOptimizeItem(tableIdentifier);
+
+        tableItem.checkTaskExecuteTimeout();
+        // if enable_optimize is false
+        if (!(Boolean.parseBoolean(PropertyUtil
+            .propertyAsString(tableItem.getArcticTable(false).properties(), TableProperties.ENABLE_OPTIMIZE,
+                TableProperties.ENABLE_OPTIMIZE_DEFAULT)))) {
+          LOG.debug("{} is not enable optimize continue", tableIdentifier);
+          return 0;
+        }
 
-          // if no full tasks, then plan minor tasks
-          if (CollectionUtils.isEmpty(optimizeTasks)) {
-            optimizePlan = tableItem.getMajorPlan(queueId, currentTime);
-            optimizeTasks = optimizePlan.plan();
-          }
+        if (tableItem.getTableOptimizeRuntime().isRunning()) {
+          LOG.debug("{} is running continue", tableIdentifier);
+          return 0;
+        }
 
-          // if no major tasks and keyed table, then plan minor tasks
-          if (tableItem.isKeyedTable() && CollectionUtils.isEmpty(optimizeTasks)) {
-            optimizePlan = tableItem.getMinorPlan(queueId, currentTime);
-            optimizeTasks = optimizePlan.plan();
-          }
+        if (!tableItem.mayNeedOptimize()) {
+          LOG.debug("{} has no change, delete or small files by partition stats, continue", tableIdentifier);
+          return 0;
+        }
 
-          initTableOptimizeRuntime(tableItem, optimizePlan, optimizeTasks, optimizePlan.getPartitionOptimizeType());
-          LOG.debug("{} after plan get {} tasks", tableItem.getTableIdentifier(), optimizeTasks.size());
+        List<BaseOptimizeTask> optimizeTasks;
+        BaseOptimizePlan optimizePlan;
+        Map<String, String> properties = tableItem.getArcticTable(false).properties();
+        int queueId = ServiceContainer.getOptimizeQueueService().getQueueId(properties);
+        // files are loaded and content files are built only once for all plans
+        long loadStartTime = System.currentTimeMillis();
+        TableOptimizeItem.PlanFiles planFiles = tableItem.loadPlanFiles();
+        AmsMetrics.histogram("optimize_table_plan_load_files_ms", TABLE_LABEL, tableIdentifier.toString())
+            .update(System.currentTimeMillis() - loadStartTime);
+        optimizePlan = tableItem.getFullPlan(queueId, currentTime, planFiles);
+        optimizeTasks = optimizePlan.plan();
+
+        // if no full tasks, then plan minor tasks
+        if (CollectionUtils.isEmpty(optimizeTasks)) {
+          optimizePlan = tableItem.getMajorPlan(queueId, currentTime, planFiles);
+          optimizeTasks = optimizePlan.plan();
+        }
 
-          List<OptimizeTaskItem> toExecuteTasks = addTask(tableItem, optimizeTasks);
-          if (!toExecuteTasks.isEmpty()) {
-            LOG.info("{} after plan put {} tasks into queue", tableItem.getTableIdentifier(), toExecuteTasks.size());
-            return toExecuteTasks;
-          } else {
-            LOG.debug("{} after plan put no tasks into queue, try next table", tableItem.getTableIdentifier());
-          }
-        } catch (Throwable e) {
-          LOG.error(tableIdentifier + " plan failed, continue", e);
+        // if no major tasks and keyed table, then plan minor tasks
+        if (tableItem.isKeyedTable() && CollectionUtils.isEmpty(optimizeTasks)) {
+          optimizePlan = tableItem.getMinorPlan(queueId, currentTime, planFiles);
+          optimizeTasks = optimizePlan.plan();
         }
-      }
 
-      return Collections.emptyList();
+        initTableOptimizeRuntime(tableItem, optimizePlan, optimizeTasks, optimizePlan.getPartitionOptimizeType());
+        LOG.debug("{} after plan get {} tasks", tableItem.getTableIdentifier(), optimizeTasks.size());
+
+        List<OptimizeTaskItem> toExecuteTasks = addTask(tableItem, optimizeTasks);
+        if (!toExecuteTasks.isEmpty()) {
+          LOG.info("{} after plan put {} tasks into queue", tableItem.getTableIdentifier(), toExecuteTasks.size());
+        } else {
+          LOG.debug("{} after plan put no tasks into queue, try next table", tableItem.getTableIdentifier());
+        }
+        return toExecuteTasks.size();
+      } catch (Throwable e) {
+        LOG.error(tableIdentifier + " plan failed, continue", e);
+        return 0;
+      } finally {
+        AmsMetrics.histogram("optimize_table_plan_latency_ms", TABLE_LABEL, tableIdentifier.toString())
+            .update(System.currentTimeMillis() - startTime);
+      }
     }
 
     private List<TableIdentifier> sortTableByQuota(List<TableIdentifier> tables) {
@@ -599,8 +818,9 @@ public class OptimizeQueueService extends IJDBCService {
       List<TableQuotaInfo> tableQuotaInfoList = tables.stream()
           .map(tableIdentifier -> {
             try {
-              return new TableQuotaInfo(tableIdentifier, evalQuotaRate(tableIdentifier, currentTime),
-                  ServiceContainer.getOptimizeService().getTableOptimizeItem(tableIdentifier).getQuotaCache());
+              TableOptimizeItem tableItem = ServiceContainer.getOptimizeService().getTableOptimizeItem(tableIdentifier);
+              return new TableQuotaInfo(tableIdentifier, tableItem.getQuotaRate(currentTime),
+                  tableItem.getQuotaCache());
             } catch (NoSuchObjectException e) {
               LOG.error("can't find table", e);
               return null;
@@ -613,52 +833,6 @@ public class OptimizeQueueService extends IJDBCService {
       return tableQuotaInfoList.stream().sorted().map(TableQuotaInfo::getTableIdentifier).collect(Collectors.toList());
     }
 
-    private BigDecimal evalQuotaRate(TableIdentifier tableId, long currentTime) throws NoSuchObjectException {
-      TableOptimizeItem tableItem;
-      tableItem = ServiceContainer.getOptimizeService().getTableOptimizeItem(tableId);
-      String latestTaskPlanGroup = tableItem.getTableOptimizeRuntime().getLatestTaskPlanGroup();
-      if (StringUtils.isEmpty(latestTaskPlanGroup)) {
-        return BigDecimal.ZERO;
-      }
-
-      List<TableTaskHistory> latestTaskHistories =
-          ServiceContainer.getTableTaskHistoryService().selectTaskHistory(tableId, latestTaskPlanGroup);
-      if (CollectionUtils.isEmpty(latestTaskHistories)) {
-        return BigDecimal.ZERO;
-      }
-
-      long totalCostTime = 0;
-      long latestStartTime = 0;
-      for (TableTaskHistory latestTaskHistory : latestTaskHistories) {
-        if (latestStartTime == 0 || latestStartTime > latestTaskHistory.getStartTime()) {
-          latestStartTime = latestTaskHistory.getStartTime();
-        }
-
-        if (latestTaskHistory.getCostTime() != 0) {
-          totalCostTime = totalCostTime + latestTaskHistory.getCostTime();
-        } else {
-          totalCostTime = totalCostTime + currentTime - latestTaskHistory.getStartTime();
-        }
-      }
-
-      if (currentTime - latestStartTime == 0) {
-        return BigDecimal.valueOf(Long.MAX_VALUE);
-      }
-
-      BigDecimal currentQuota = new BigDecimal(totalCostTime)
-          .divide(new BigDecimal(currentTime - latestStartTime),
-              2,
-              RoundingMode.HALF_UP);
-
-      BigDecimal tableQuota = BigDecimal.valueOf(tableItem.getQuotaCache());
-
-      if (tableQuota.compareTo(BigDecimal.ZERO) <= 0) {
-        return BigDecimal.valueOf(Long.MAX_VALUE);
-      }
-
-      return currentQuota.divide(tableQuota, 2, RoundingMode.HALF_UP);
-    }
-
     private void initTableOptimizeRuntime(TableOptimizeItem tableItem,
                                           BaseOptimizePlan optimizePlan,
                                           List<BaseOptimizeTask> optimizeTasks,
@@ -717,5 +891,16 @@ public class OptimizeQueueService extends IJDBCService {
 
       return toExecuteTasks;
     }
+
+    private static class Waiter {
+      private final JobId jobId;
+      private final Condition condition;
+      private OptimizeTaskItem task;
+
+      private Waiter(JobId jobId, Condition condition) {
+        this.jobId = jobId;
+        this.condition = condition;
+      }
+    }
   }
 }
@@ -358,6 +358,12 @@ public class OrphanFilesCleanService implements IOrphanFilesCleanService {
       LOG.info("{} scan snapshot {}: {} and get {} files, complete {}/{}", tableIdentifier, snapshot.snapshotId(),
           formatTime(snapshot.timestampMillis()), validFiles.size() - before, cnt, size);
     }
+    // partition properties file in use, files of older versions are cleaned as orphan files
+    String partitionPropertiesFile = internalTable.properties().get(TableProperties.TABLE_PARTITION_PROPERTIES_FILE);
+    if (partitionPropertiesFile != null) {
+      validFiles.add(partitionPropertiesFile);
+      validFiles.add(new Path(partitionPropertiesFile).toUri().getPath());
+    }
 
     return validFiles;
   }
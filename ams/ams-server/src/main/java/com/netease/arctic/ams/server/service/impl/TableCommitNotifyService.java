@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.service.impl;
+
+import com.netease.arctic.ams.api.Constants;
+import com.netease.arctic.ams.api.TableChange;
+import com.netease.arctic.ams.api.TableCommitEvent;
+import com.netease.arctic.ams.api.TableCommitMeta;
+import com.netease.arctic.ams.api.TableIdentifier;
+import com.netease.arctic.ams.server.metrics.AmsMetrics;
+import com.netease.arctic.ams.server.metrics.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the latest snapshots of tables committed through ams, and wakes up clients waiting for table commits,
+ * so streaming readers can discover new snapshots without refreshing table metadata periodically.
+ * <p>
+ * Snapshots are only kept in memory, a table is unknown (-1) until ams has seen a commit of it since started.
+ * Callers should only pass existing tables and {@link #removeTable} dropped ones, so states are bounded by tables.
+ */
+public class TableCommitNotifyService {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TableCommitNotifyService.class);
+
+  public static final long UNKNOWN_SNAPSHOT_ID = -1L;
+
+  private final Map<TableIdentifier, TableCommitState> tables = new ConcurrentHashMap<>();
+  private final AtomicInteger waiters = new AtomicInteger();
+  private final long maxWaitTime;
+  private final int maxWaiters;
+  private final Counter notifiedWaits;
+  private final Counter rejectedWaits;
+
+  public TableCommitNotifyService(long maxWaitTime, int maxWaiters) {
+    this.maxWaitTime = maxWaitTime;
+    this.maxWaiters = maxWaiters;
+    this.notifiedWaits = AmsMetrics.counter("table_commit_notified_waits");
+    this.rejectedWaits = AmsMetrics.counter("table_commit_rejected_waits");
+    AmsMetrics.gauge("table_commit_waiters", waiters::get);
+  }
+
+  /**
+   * Record snapshots of a table commit and wake up clients waiting for the table.
+   *
+   * @param commit - table commit meta
+   */
+  public void notifyCommit(TableCommitMeta commit) {
+    if (commit.getChanges() == null || commit.getChanges().isEmpty()) {
+      return;
+    }
+    long changeSnapshotId = UNKNOWN_SNAPSHOT_ID;
+    long baseSnapshotId = UNKNOWN_SNAPSHOT_ID;
+    for (TableChange change : commit.getChanges()) {
+      if (!change.isSetSnapshotId()) {
+        continue;
+      }
+      if (Constants.INNER_TABLE_CHANGE.equals(change.getInnerTable())) {
+        changeSnapshotId = change.getSnapshotId();
+      } else {
+        baseSnapshotId = change.getSnapshotId();
+      }
+    }
+    if (changeSnapshotId == UNKNOWN_SNAPSHOT_ID && baseSnapshotId == UNKNOWN_SNAPSHOT_ID) {
+      return;
+    }
+    tables.computeIfAbsent(commit.getTableIdentifier(), TableCommitState::new)
+        .update(changeSnapshotId, baseSnapshotId, commit.getCommitTime());
+  }
+
+  /**
+   * Wait until the change or base snapshot of the table advances from the given ones.
+   *
+   * @param tableIdentifier  - table to wait for
+   * @param changeSnapshotId - change snapshot known by the client, -1 if unknown
+   * @param baseSnapshotId   - base snapshot known by the client, -1 if unknown
+   * @param waitTime         - max time to wait in millis, limited by max wait time of the service
+   * @return latest snapshots known by ams, the same as given ones if no commit happened in wait time
+   */
+  public TableCommitEvent waitCommit(
+      TableIdentifier tableIdentifier, long changeSnapshotId,
+      long baseSnapshotId, long waitTime) throws InterruptedException {
+    TableCommitState state = tables.computeIfAbsent(tableIdentifier, TableCommitState::new);
+    long waitNanos = TimeUnit.MILLISECONDS.toNanos(Math.min(waitTime, maxWaitTime));
+    if (waitNanos <= 0 || state.advanced(changeSnapshotId, baseSnapshotId)) {
+      return state.toEvent();
+    }
+    if (waiters.incrementAndGet() > maxWaiters) {
+      waiters.decrementAndGet();
+      rejectedWaits.inc();
+      LOG.debug("too many clients waiting for table commits, return {} immediately", tableIdentifier);
+      return state.toEvent();
+    }
+    try {
+      if (state.await(changeSnapshotId, baseSnapshotId, waitNanos)) {
+        notifiedWaits.inc();
+      }
+      return state.toEvent();
+    } finally {
+      waiters.decrementAndGet();
+    }
+  }
+
+  public void removeTable(TableIdentifier tableIdentifier) {
+    tables.remove(tableIdentifier);
+  }
+
+  private static class TableCommitState {
+    private final TableIdentifier tableIdentifier;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition committed = lock.newCondition();
+    private long changeSnapshotId = UNKNOWN_SNAPSHOT_ID;
+    private long baseSnapshotId = UNKNOWN_SNAPSHOT_ID;
+    private long commitTime;
+
+    private TableCommitState(TableIdentifier tableIdentifier) {
+      this.tableIdentifier = tableIdentifier;
+    }
+
+    private void update(long changeSnapshotId, long baseSnapshotId, long commitTime) {
+      lock.lock();
+      try {
+        if (changeSnapshotId != UNKNOWN_SNAPSHOT_ID) {
+          this.changeSnapshotId = changeSnapshotId;
+        }
+        if (baseSnapshotId != UNKNOWN_SNAPSHOT_ID) {
+          this.baseSnapshotId = baseSnapshotId;
+        }
+        this.commitTime = commitTime;
+        committed.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private boolean advanced(long changeSnapshotId, long baseSnapshotId) {
+      lock.lock();
+      try {
+        return (this.changeSnapshotId != UNKNOWN_SNAPSHOT_ID && this.changeSnapshotId != changeSnapshotId) ||
+            (this.baseSnapshotId != UNKNOWN_SNAPSHOT_ID && this.baseSnapshotId != baseSnapshotId);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * @return true if snapshots advanced before timeout
+     */
+    private boolean await(long changeSnapshotId, long baseSnapshotId, long waitNanos) throws InterruptedException {
+      lock.lock();
+      try {
+        long remainNanos = waitNanos;
+        while (!advanced(changeSnapshotId, baseSnapshotId)) {
+          if (remainNanos <= 0) {
+            return false;
+          }
+          remainNanos = committed.awaitNanos(remainNanos);
+        }
+        return true;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private TableCommitEvent toEvent() {
+      lock.lock();
+      try {
+        return new TableCommitEvent(tableIdentifier, changeSnapshotId, baseSnapshotId, commitTime);
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
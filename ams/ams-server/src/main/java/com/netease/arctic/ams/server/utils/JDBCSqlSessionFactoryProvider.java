@@ -33,6 +33,7 @@ import com.netease.arctic.ams.server.mapper.OptimizeTaskRuntimesMapper;
 import com.netease.arctic.ams.server.mapper.OptimizeTasksMapper;
 import com.netease.arctic.ams.server.mapper.OptimizerGroupMapper;
 import com.netease.arctic.ams.server.mapper.OptimizerMapper;
+import com.netease.arctic.ams.server.mapper.PartitionStatsCacheMapper;
 import com.netease.arctic.ams.server.mapper.SnapInfoCacheMapper;
 import com.netease.arctic.ams.server.mapper.TableMetadataMapper;
 import com.netease.arctic.ams.server.mapper.TableOptimizeRuntimeMapper;
@@ -42,6 +43,7 @@ import com.netease.arctic.ams.server.mapper.derby.DerbyCatalogMetadataMapper;
 import com.netease.arctic.ams.server.mapper.derby.DerbyContainerMetadataMapper;
 import com.netease.arctic.ams.server.mapper.derby.DerbyFileInfoCacheMapper;
 import com.netease.arctic.ams.server.mapper.derby.DerbyOptimizeTasksMapper;
+import com.netease.arctic.ams.server.mapper.derby.DerbyPartitionStatsCacheMapper;
 import com.netease.arctic.ams.server.mapper.derby.DerbyTableMetadataMapper;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.commons.pool2.impl.BaseObjectPoolConfig;
@@ -74,10 +76,13 @@ public class JDBCSqlSessionFactoryProvider {
                 ArcticMetaStore.conf.getString(ArcticMetaStoreConf.MYBATIS_CONNECTION_DRIVER_CLASS_NAME));
           }
           dataSource.setDefaultAutoCommit(true);
-          dataSource.setMaxTotal(20);
-          dataSource.setMaxIdle(16);
+          dataSource.setMaxTotal(
+              ArcticMetaStore.conf.getInteger(ArcticMetaStoreConf.MYBATIS_CONNECTION_POOL_MAX_TOTAL));
+          dataSource.setMaxIdle(
+              ArcticMetaStore.conf.getInteger(ArcticMetaStoreConf.MYBATIS_CONNECTION_POOL_MAX_IDLE));
           dataSource.setMinIdle(0);
-          dataSource.setMaxWaitMillis(1000L);
+          dataSource.setMaxWaitMillis(
+              ArcticMetaStore.conf.getLong(ArcticMetaStoreConf.MYBATIS_CONNECTION_POOL_MAX_WAIT));
           dataSource.setLogAbandoned(true);
           dataSource.setRemoveAbandonedOnBorrow(true);
           dataSource.setRemoveAbandonedTimeout(60);
@@ -104,6 +109,7 @@ public class JDBCSqlSessionFactoryProvider {
           configuration.addMapper(FileInfoCacheMapper.class);
           configuration.addMapper(TaskHistoryMapper.class);
           configuration.addMapper(SnapInfoCacheMapper.class);
+          configuration.addMapper(PartitionStatsCacheMapper.class);
           configuration.addMapper(TableTransactionMetaMapper.class);
           configuration.addMapper(DatabaseMetadataMapper.class);
           configuration.addMapper(OptimizerMapper.class);
@@ -117,6 +123,7 @@ public class JDBCSqlSessionFactoryProvider {
             configuration.addMapper(DerbyCatalogMetadataMapper.class);
             configuration.addMapper(DerbyTableMetadataMapper.class);
             configuration.addMapper(DerbyOptimizeTasksMapper.class);
+            configuration.addMapper(DerbyPartitionStatsCacheMapper.class);
           }
           sqlSessionFactory = SqlSessionFactoryUtil.getSqlSessionFactory(configuration);
         }
@@ -40,6 +40,8 @@ public class ThreadPool {
   private static ThreadPool self;
   private static ScheduledExecutorService optimizeCheckPool;
   private static ScheduledExecutorService commitPool;
+  private static ScheduledExecutorService optimizePlanPool;
+  private static ScheduledExecutorService optimizeTablePlanPool;
   private static ScheduledExecutorService expirePool;
   private static ScheduledExecutorService orphanPool;
   private static ScheduledExecutorService supportHiveSyncPool;
@@ -50,6 +52,8 @@ public class ThreadPool {
   public enum Type {
     OPTIMIZE_CHECK,
     COMMIT,
+    OPTIMIZE_PLAN,
+    OPTIMIZE_TABLE_PLAN,
     EXPIRE,
     ORPHAN,
     SYNC_FILE_INFO_CACHE,
@@ -80,6 +84,18 @@ public class ThreadPool {
         conf.getInteger(ArcticMetaStoreConf.OPTIMIZE_COMMIT_THREAD_POOL_SIZE),
         commitThreadFactory);
 
+    ThreadFactory optimizePlanThreadFactory = new ThreadFactoryBuilder().setDaemon(false)
+        .setNameFormat("Metastore Scheduled Optimize Plan Worker %d").build();
+    optimizePlanPool = Executors.newScheduledThreadPool(
+        conf.getInteger(ArcticMetaStoreConf.OPTIMIZE_PLAN_THREAD_POOL_SIZE),
+        optimizePlanThreadFactory);
+
+    ThreadFactory optimizeTablePlanThreadFactory = new ThreadFactoryBuilder().setDaemon(false)
+        .setNameFormat("Metastore Optimize Table Plan Worker %d").build();
+    optimizeTablePlanPool = Executors.newScheduledThreadPool(
+        conf.getInteger(ArcticMetaStoreConf.OPTIMIZE_TABLE_PLAN_THREAD_POOL_SIZE),
+        optimizeTablePlanThreadFactory);
+
     ThreadFactory expireThreadFactory = new ThreadFactoryBuilder().setDaemon(false)
         .setNameFormat("Metastore Scheduled Expire Worker %d").build();
     expirePool = Executors.newScheduledThreadPool(
@@ -131,6 +147,10 @@ public class ThreadPool {
         return optimizeCheckPool;
       case COMMIT:
         return commitPool;
+      case OPTIMIZE_PLAN:
+        return optimizePlanPool;
+      case OPTIMIZE_TABLE_PLAN:
+        return optimizeTablePlanPool;
       case EXPIRE:
         return expirePool;
       case ORPHAN:
@@ -155,6 +175,8 @@ public class ThreadPool {
       optimizeCheckPool.shutdownNow();
       optimizerMonitorPool.shutdownNow();
       commitPool.shutdownNow();
+      optimizePlanPool.shutdownNow();
+      optimizeTablePlanPool.shutdownNow();
       expirePool.shutdownNow();
       orphanPool.shutdownNow();
       syncFileInfoCachePool.shutdownNow();
@@ -158,6 +158,22 @@ CREATE TABLE file_info_cache (
     PRIMARY KEY (primary_key_md5)
 );
 
+CREATE INDEX table_partition_commit_index ON file_info_cache (table_identifier, partition_name, commit_time);
+
+CREATE TABLE partition_stats_cache (
+    table_identifier varchar(384) NOT NULL,
+    partition_name varchar(256) NOT NULL,
+    file_count int NOT NULL DEFAULT 0,
+    file_size bigint NOT NULL DEFAULT 0,
+    record_count bigint NOT NULL DEFAULT 0,
+    delete_file_count int NOT NULL DEFAULT 0,
+    delete_file_size bigint NOT NULL DEFAULT 0,
+    change_file_count int NOT NULL DEFAULT 0,
+    small_file_count int NOT NULL DEFAULT 0,
+    last_commit_time timestamp DEFAULT NULL,
+    PRIMARY KEY (table_identifier, partition_name)
+);
+
 CREATE TABLE optimize_file (
     id bigint NOT NULL GENERATED ALWAYS AS IDENTITY (START WITH 1, INCREMENT BY 1),
     optimize_type varchar(10) NOT NULL,
@@ -49,9 +49,25 @@ CREATE TABLE `file_info_cache`
     `watermark`          timestamp  NULL DEFAULT NULL COMMENT 'file max event time',
     `producer`           varchar(64) NOT NULL DEFAULT 'INGESTION' COMMENT 'who produce this snapshot',
     PRIMARY KEY (`primary_key_md5`),
-    KEY  `table_snap_index` (`table_identifier`,`add_snapshot_id`)
+    KEY  `table_snap_index` (`table_identifier`,`add_snapshot_id`),
+    KEY  `table_partition_commit_index` (`table_identifier`,`partition_name`,`commit_time`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT 'cache files info of table';
 
+CREATE TABLE `partition_stats_cache`
+(
+    `table_identifier`  varchar(384) NOT NULL COMMENT 'table full name with catalog.db.table',
+    `partition_name`    varchar(256) NOT NULL COMMENT 'partition name, empty for unpartitioned table',
+    `file_count`        int(11) NOT NULL DEFAULT 0 COMMENT 'count of valid files in the partition',
+    `file_size`         bigint(20) NOT NULL DEFAULT 0 COMMENT 'total size of valid files in the partition',
+    `record_count`      bigint(20) NOT NULL DEFAULT 0 COMMENT 'total record count of valid files in the partition',
+    `delete_file_count` int(11) NOT NULL DEFAULT 0 COMMENT 'count of valid delete files of base table in the partition',
+    `delete_file_size`  bigint(20) NOT NULL DEFAULT 0 COMMENT 'total size of valid delete files of base table in the partition',
+    `change_file_count` int(11) NOT NULL DEFAULT 0 COMMENT 'count of valid files of change table in the partition',
+    `small_file_count`  int(11) NOT NULL DEFAULT 0 COMMENT 'count of valid data files of base table not larger than 16MB in the partition',
+    `last_commit_time`  timestamp NULL DEFAULT NULL COMMENT 'latest commit time of valid files in the partition',
+    PRIMARY KEY (`table_identifier`, `partition_name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT 'partition statistics of file_info_cache';
+
 CREATE TABLE `optimize_file`
 (
     `id`            bigint(20) NOT NULL AUTO_INCREMENT COMMENT 'Auto increment id',
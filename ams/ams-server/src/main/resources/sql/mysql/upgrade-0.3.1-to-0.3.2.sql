@@ -25,4 +25,32 @@ ALTER TABLE `optimize_job` CHANGE COLUMN `job_name` `optimizer_name` varchar(102
 ALTER TABLE `optimize_job` CHANGE COLUMN `job_start_time` `optimizer_start_time` varchar(1024) DEFAULT NULL COMMENT 'optimizer start time';
 ALTER TABLE `optimize_job` CHANGE COLUMN `job_fail_time` `optimizer_fail_time` varchar(1024) DEFAULT NULL COMMENT 'optimizer fail time';
 ALTER TABLE `optimize_job` CHANGE COLUMN `job_status` `optimizer_status` varchar(16) DEFAULT NULL COMMENT 'optimizer status';
-ALTER TABLE `optimize_job` RENAME TO `optimizer`;
\ No newline at end of file
+ALTER TABLE `optimize_job` RENAME TO `optimizer`;
+ALTER TABLE `file_info_cache` ADD KEY `table_partition_commit_index` (`table_identifier`,`partition_name`,`commit_time`);
+
+CREATE TABLE `partition_stats_cache`
+(
+    `table_identifier`  varchar(384) NOT NULL COMMENT 'table full name with catalog.db.table',
+    `partition_name`    varchar(256) NOT NULL COMMENT 'partition name, empty for unpartitioned table',
+    `file_count`        int(11) NOT NULL DEFAULT 0 COMMENT 'count of valid files in the partition',
+    `file_size`         bigint(20) NOT NULL DEFAULT 0 COMMENT 'total size of valid files in the partition',
+    `record_count`      bigint(20) NOT NULL DEFAULT 0 COMMENT 'total record count of valid files in the partition',
+    `delete_file_count` int(11) NOT NULL DEFAULT 0 COMMENT 'count of valid delete files of base table in the partition',
+    `delete_file_size`  bigint(20) NOT NULL DEFAULT 0 COMMENT 'total size of valid delete files of base table in the partition',
+    `change_file_count` int(11) NOT NULL DEFAULT 0 COMMENT 'count of valid files of change table in the partition',
+    `small_file_count`  int(11) NOT NULL DEFAULT 0 COMMENT 'count of valid data files of base table not larger than 16MB in the partition',
+    `last_commit_time`  timestamp NULL DEFAULT NULL COMMENT 'latest commit time of valid files in the partition',
+    PRIMARY KEY (`table_identifier`, `partition_name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT 'partition statistics of file_info_cache';
+INSERT INTO `partition_stats_cache` (`table_identifier`, `partition_name`, `file_count`, `file_size`, `record_count`,
+    `delete_file_count`, `delete_file_size`, `change_file_count`, `small_file_count`, `last_commit_time`)
+SELECT `table_identifier`, IFNULL(`partition_name`, ''), count(1), IFNULL(sum(`file_size`), 0),
+    IFNULL(sum(`record_count`), 0),
+    sum(CASE WHEN `inner_table` = 'base' AND `file_type` IN ('POS_DELETE_FILE', 'EQ_DELETE_FILE') THEN 1 ELSE 0 END),
+    sum(CASE WHEN `inner_table` = 'base' AND `file_type` IN ('POS_DELETE_FILE', 'EQ_DELETE_FILE')
+        THEN `file_size` ELSE 0 END),
+    sum(CASE WHEN `inner_table` = 'change' THEN 1 ELSE 0 END),
+    sum(CASE WHEN `inner_table` = 'base' AND `file_type` IN ('BASE_FILE', 'INSERT_FILE') AND `file_size` <= 16777216
+        THEN 1 ELSE 0 END),
+    max(`commit_time`)
+FROM `file_info_cache` WHERE `delete_snapshot_id` IS NULL GROUP BY `table_identifier`, IFNULL(`partition_name`, '');
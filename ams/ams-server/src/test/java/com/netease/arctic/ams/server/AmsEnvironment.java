@@ -165,6 +165,7 @@ public class AmsEnvironment {
         "  arctic.ams.http.port: 1630\n" +
         "  arctic.ams.optimize.check.thread.pool-size: 1\n" +
         "  arctic.ams.optimize.commit.thread.pool-size: 1\n" +
+        "  arctic.ams.optimize.plan.thread.pool-size: 1\n" +
         "  arctic.ams.expire.thread.pool-size: 1\n" +
         "  arctic.ams.orphan.clean.thread.pool-size: 1\n" +
         "  arctic.ams.file.sync.thread.pool-size: 1\n" +
@@ -40,6 +40,7 @@ import com.netease.arctic.ams.server.optimize.TestSupportHiveMajorOptimizeCommit
 import com.netease.arctic.ams.server.optimize.TestSupportHiveMajorOptimizePlan;
 import com.netease.arctic.ams.server.service.MetaService;
 import com.netease.arctic.ams.server.service.ServiceContainer;
+import com.netease.arctic.ams.server.service.TestArcticTransactionService;
 import com.netease.arctic.ams.server.service.TestDDLTracerService;
 import com.netease.arctic.ams.server.service.TestFileInfoCacheService;
 import com.netease.arctic.ams.server.service.impl.AdaptHiveService;
@@ -49,6 +50,7 @@ import com.netease.arctic.ams.server.service.impl.CatalogMetadataService;
 import com.netease.arctic.ams.server.service.impl.DDLTracerService;
 import com.netease.arctic.ams.server.service.impl.FileInfoCacheService;
 import com.netease.arctic.ams.server.service.impl.JDBCMetaService;
+import com.netease.arctic.ams.server.service.impl.TableCommitNotifyService;
 import com.netease.arctic.ams.server.util.DerbyTestUtil;
 import com.netease.arctic.ams.server.utils.CatalogUtil;
 import com.netease.arctic.ams.server.utils.JDBCSqlSessionFactoryProvider;
@@ -96,6 +98,7 @@ import static org.powermock.api.mockito.PowerMockito.when;
     TestMinorOptimizePlan.class,
     TestOrphanFileClean.class,
     TestFileInfoCacheService.class,
+    TestArcticTransactionService.class,
     TestSupportHiveMajorOptimizePlan.class,
     TestSupportHiveMajorOptimizeCommit.class,
     TestSupportHiveSyncService.class,
@@ -149,13 +152,15 @@ public class AmsTestBase {
     mockStatic(CatalogMetadataService.class);
 
     //mock service
-    FileInfoCacheService fileInfoCacheService = new FileInfoCacheService();
+    FileInfoCacheService fileInfoCacheService = new FileInfoCacheService(60000L);
     when(ServiceContainer.getFileInfoCacheService()).thenReturn(fileInfoCacheService);
     ArcticTransactionService arcticTransactionService = new ArcticTransactionService();
     when(ServiceContainer.getArcticTransactionService()).thenReturn(arcticTransactionService);
     DDLTracerService ddlTracerService = new DDLTracerService();
     when(ServiceContainer.getDdlTracerService()).thenReturn(ddlTracerService);
-    CatalogMetadataService catalogMetadataService = new CatalogMetadataService();
+    TableCommitNotifyService tableCommitNotifyService = new TableCommitNotifyService(1000L, 8);
+    when(ServiceContainer.getTableCommitNotifyService()).thenReturn(tableCommitNotifyService);
+    CatalogMetadataService catalogMetadataService = new CatalogMetadataService(60000L);
     when(ServiceContainer.getCatalogMetadataService()).thenReturn(catalogMetadataService);
     JDBCMetaService metaService = new JDBCMetaService();
     when(ServiceContainer.getMetaService()).thenReturn(metaService);
@@ -413,10 +413,16 @@ public class TableControllerTest {
     when(fileInfoCacheService.getDatafilesInfo(AmsUtils.toTableIdentifier(TableIdentifier.of(catalog, db, table)), 1L))
         .thenReturn(mockDataFileInfos());
     when(fileInfoCacheService.getPartitionBaseInfoList(
-        AmsUtils.toTableIdentifier(TableIdentifier.of(catalog, db, table))))
+        AmsUtils.toTableIdentifier(TableIdentifier.of(catalog, db, table)), 0, 20))
         .thenReturn(mockPartitionBaseInfos());
-    when(fileInfoCacheService.getPartitionFileList(AmsUtils.toTableIdentifier(TableIdentifier.of(catalog, db, table)), "dt"))
+    when(fileInfoCacheService.getPartitionCount(AmsUtils.toTableIdentifier(TableIdentifier.of(catalog, db, table))))
+        .thenReturn(mockPartitionBaseInfos().size());
+    when(fileInfoCacheService.getPartitionFileList(
+        AmsUtils.toTableIdentifier(TableIdentifier.of(catalog, db, table)), "dt", 0, 20))
         .thenReturn(mockPartitionFileBaseInfos());
+    when(fileInfoCacheService.getPartitionFileCount(
+        AmsUtils.toTableIdentifier(TableIdentifier.of(catalog, db, table)), "dt"))
+        .thenReturn(mockPartitionFileBaseInfos().size());
     OptimizeService optimizeService = mock(OptimizeService.class);
     when(ServiceContainer.getOptimizeService()).thenReturn(optimizeService);
     when(optimizeService.getOptimizeHistory(TableIdentifier.of(catalog, db, table)))
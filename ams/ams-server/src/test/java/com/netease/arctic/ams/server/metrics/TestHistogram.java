@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestHistogram {
+
+  @Test
+  public void testQuantile() {
+    Histogram histogram = new Histogram();
+    Assert.assertEquals(0, histogram.getQuantile(0.5));
+    for (long i = 1; i <= 100; i++) {
+      histogram.update(i);
+    }
+    Assert.assertEquals(100, histogram.getCount());
+    Assert.assertEquals(5050, histogram.getSum());
+    Assert.assertEquals(100, histogram.getMax());
+    Assert.assertEquals(50.5, histogram.getMean(), 0.001);
+    // 50 is in bucket [32, 63]
+    Assert.assertEquals(63, histogram.getQuantile(0.5));
+    // 99 is in bucket [64, 127], bounded by max value
+    Assert.assertEquals(100, histogram.getQuantile(0.99));
+  }
+
+  @Test
+  public void testBucketIndex() {
+    Assert.assertEquals(0, Histogram.bucketIndex(0));
+    Assert.assertEquals(1, Histogram.bucketIndex(1));
+    Assert.assertEquals(2, Histogram.bucketIndex(3));
+    Assert.assertEquals(3, Histogram.bucketIndex(4));
+    Assert.assertEquals(63, Histogram.bucketIndex(Long.MAX_VALUE));
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TestPrometheusFormatter {
+
+  @Test
+  public void testFormat() {
+    Map<String, String> labels = new LinkedHashMap<>();
+    labels.put("service", "TableMetastore");
+    labels.put("method", "commit");
+    Histogram histogram = new Histogram();
+    histogram.update(3);
+    histogram.update(5);
+
+    List<AmsMetrics.Metric> metrics = new ArrayList<>();
+    metrics.add(new AmsMetrics.Metric("thrift_call_latency_us", labels, "histogram", histogram.snapshot()));
+    metrics.add(new AmsMetrics.Metric("thrift_calls", labels, "counter", 2L));
+    metrics.add(new AmsMetrics.Metric("thrift_in_flight_calls", Collections.emptyMap(), "gauge", 1));
+    metrics.add(new AmsMetrics.Metric("thrift_in_flight_calls", Collections.singletonMap("queue", "a\"b"),
+        "gauge", 0));
+
+    String expected = "# TYPE thrift_call_latency_us summary\n" +
+        "thrift_call_latency_us{service=\"TableMetastore\",method=\"commit\",quantile=\"0.5\"} 3\n" +
+        "thrift_call_latency_us{service=\"TableMetastore\",method=\"commit\",quantile=\"0.95\"} 5\n" +
+        "thrift_call_latency_us{service=\"TableMetastore\",method=\"commit\",quantile=\"0.99\"} 5\n" +
+        "thrift_call_latency_us_sum{service=\"TableMetastore\",method=\"commit\"} 8\n" +
+        "thrift_call_latency_us_count{service=\"TableMetastore\",method=\"commit\"} 2\n" +
+        "# TYPE thrift_calls counter\n" +
+        "thrift_calls{service=\"TableMetastore\",method=\"commit\"} 2\n" +
+        "# TYPE thrift_in_flight_calls gauge\n" +
+        "thrift_in_flight_calls 1\n" +
+        "thrift_in_flight_calls{queue=\"a\\\"b\"} 0\n";
+    Assert.assertEquals(expected, PrometheusFormatter.format(metrics));
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.service;
+
+import com.netease.arctic.TableTestBase;
+import com.netease.arctic.ams.api.MetaException;
+import com.netease.arctic.ams.api.TableIdentifier;
+import com.netease.arctic.ams.server.service.impl.ArcticTransactionService;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.netease.arctic.ams.server.AmsTestBase.AMS_TEST_CATALOG_NAME;
+import static com.netease.arctic.ams.server.AmsTestBase.AMS_TEST_DB_NAME;
+import static com.netease.arctic.ams.server.AmsTestBase.amsHandler;
+import static com.netease.arctic.ams.server.AmsTestBase.catalog;
+
+public class TestArcticTransactionService extends TableTestBase {
+
+  @Test
+  public void testConcurrentAllocateTransactionId() throws Exception {
+    com.netease.arctic.table.TableIdentifier tableId =
+        com.netease.arctic.table.TableIdentifier.of(AMS_TEST_CATALOG_NAME, AMS_TEST_DB_NAME, "tx_concurrent_table");
+    catalog.newTableBuilder(tableId, TABLE_SCHEMA).withPartitionSpec(SPEC).create();
+    TableIdentifier tableIdentifier = tableId.buildTableIdentifier();
+
+    int threads = 8;
+    int allocationsPerThread = 20;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<List<Long>>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(executor.submit(() -> {
+          List<Long> txIds = new ArrayList<>();
+          for (int j = 0; j < allocationsPerThread; j++) {
+            txIds.add(amsHandler.allocateTransactionId(tableIdentifier, null));
+          }
+          return txIds;
+        }));
+      }
+      Set<Long> allTxIds = new HashSet<>();
+      for (Future<List<Long>> future : futures) {
+        allTxIds.addAll(future.get());
+      }
+      Assert.assertEquals(threads * allocationsPerThread, allTxIds.size());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testAllocateTransactionIdWithSignature() throws Exception {
+    com.netease.arctic.table.TableIdentifier tableId =
+        com.netease.arctic.table.TableIdentifier.of(AMS_TEST_CATALOG_NAME, AMS_TEST_DB_NAME, "tx_signature_table");
+    catalog.newTableBuilder(tableId, TABLE_SCHEMA).withPartitionSpec(SPEC).create();
+    TableIdentifier tableIdentifier = tableId.buildTableIdentifier();
+
+    long txId = amsHandler.allocateTransactionId(tableIdentifier, "signature-1");
+    Assert.assertEquals(txId, amsHandler.allocateTransactionId(tableIdentifier, "signature-1"));
+    Assert.assertEquals(txId + 1, amsHandler.allocateTransactionId(tableIdentifier, "signature-2"));
+  }
+
+  @Test
+  public void testAllocateTransactionIds() throws Exception {
+    com.netease.arctic.table.TableIdentifier tableId =
+        com.netease.arctic.table.TableIdentifier.of(AMS_TEST_CATALOG_NAME, AMS_TEST_DB_NAME, "tx_batch_table");
+    catalog.newTableBuilder(tableId, TABLE_SCHEMA).withPartitionSpec(SPEC).create();
+    TableIdentifier tableIdentifier = tableId.buildTableIdentifier();
+
+    long txId = amsHandler.allocateTransactionId(tableIdentifier, null);
+    Assert.assertEquals(Arrays.asList(txId + 1, txId + 2, txId + 3),
+        amsHandler.allocateTransactionIds(tableIdentifier, 3));
+    Assert.assertEquals(txId + 4, amsHandler.allocateTransactionId(tableIdentifier, null));
+  }
+
+  @Test
+  public void testAllocateTransactionIdsOutOfRange() throws Exception {
+    com.netease.arctic.table.TableIdentifier tableId =
+        com.netease.arctic.table.TableIdentifier.of(AMS_TEST_CATALOG_NAME, AMS_TEST_DB_NAME, "tx_batch_range_table");
+    catalog.newTableBuilder(tableId, TABLE_SCHEMA).withPartitionSpec(SPEC).create();
+    TableIdentifier tableIdentifier = tableId.buildTableIdentifier();
+
+    long txId = amsHandler.allocateTransactionId(tableIdentifier, null);
+    Assert.assertThrows(MetaException.class, () -> amsHandler.allocateTransactionIds(tableIdentifier, 0));
+    Assert.assertThrows(MetaException.class, () -> amsHandler.allocateTransactionIds(tableIdentifier,
+        ArcticTransactionService.MAX_ALLOCATE_COUNT + 1));
+    Assert.assertEquals(txId + 1, amsHandler.allocateTransactionId(tableIdentifier, null));
+  }
+}
@@ -28,7 +28,11 @@ import com.netease.arctic.ams.api.PartitionFieldData;
 import com.netease.arctic.ams.api.TableChange;
 import com.netease.arctic.ams.api.TableCommitMeta;
 import com.netease.arctic.ams.api.TableIdentifier;
+import com.netease.arctic.ams.server.model.PartitionBaseInfo;
+import com.netease.arctic.ams.server.model.PartitionFileBaseInfo;
+import com.netease.arctic.ams.server.model.TableFileStats;
 import com.netease.arctic.ams.server.model.TransactionsOfTable;
+import com.netease.arctic.ams.server.service.impl.FileInfoCacheService;
 import com.netease.arctic.table.KeyedTable;
 import com.netease.arctic.table.TableProperties;
 import com.netease.arctic.table.UnkeyedTable;
@@ -168,6 +172,134 @@ public class TestFileInfoCacheService extends TableTestBase {
     Assert.assertEquals(dataFiles1.get(0).getPath(), dataFileInfos.get(0).getPath());
   }
 
+  @Test
+  public void testPartitionStatsAndPagedFiles() throws MetaException {
+    TableIdentifier statsTableIdentifier = new TableIdentifier("test", "test", "test_partition_stats");
+    TableCommitMeta meta = new TableCommitMeta();
+    meta.setAction("append");
+    meta.setCommitTime(System.currentTimeMillis());
+    meta.setCommitMetaProducer(CommitMetaProducer.INGESTION);
+    meta.setTableIdentifier(statsTableIdentifier);
+    TableChange change = new TableChange();
+    change.setParentSnapshotId(-1);
+    change.setInnerTable("base");
+    List<DataFile> dataFiles = new ArrayList<>();
+    dataFiles.add(genDatafile());
+    dataFiles.add(genDatafile());
+    change.setAddFiles(dataFiles);
+    change.setSnapshotId(1L);
+    List<TableChange> changes = new ArrayList<>();
+    changes.add(change);
+    meta.setChanges(changes);
+    ServiceContainer.getFileInfoCacheService().commitCacheFileInfo(meta);
+
+    TableChange change1 = new TableChange();
+    change1.setParentSnapshotId(1L);
+    change1.setInnerTable("base");
+    List<DataFile> deleteFiles = new ArrayList<>();
+    deleteFiles.add(dataFiles.get(0));
+    change1.setDeleteFiles(deleteFiles);
+    List<DataFile> dataFiles1 = new ArrayList<>();
+    dataFiles1.add(genDatafile());
+    dataFiles1.add(genDatafile());
+    change1.setAddFiles(dataFiles1);
+    change1.setSnapshotId(2L);
+    List<TableChange> changes1 = new ArrayList<>();
+    changes1.add(change1);
+    meta.setChanges(changes1);
+    ServiceContainer.getFileInfoCacheService().commitCacheFileInfo(meta);
+
+    FileInfoCacheService fileInfoCacheService = ServiceContainer.getFileInfoCacheService();
+    Assert.assertEquals(1, fileInfoCacheService.getPartitionCount(statsTableIdentifier));
+    List<PartitionBaseInfo> partitionBaseInfos =
+        fileInfoCacheService.getPartitionBaseInfoList(statsTableIdentifier, 0, 10);
+    Assert.assertEquals(1, partitionBaseInfos.size());
+    Assert.assertEquals("pt=2022-08-31", partitionBaseInfos.get(0).getPartition());
+    Assert.assertEquals(3, partitionBaseInfos.get(0).getFileCount());
+    Assert.assertEquals(3, partitionBaseInfos.get(0).getFileSize());
+
+    Assert.assertEquals(3, fileInfoCacheService.getPartitionFileCount(statsTableIdentifier, "pt=2022-08-31"));
+    List<PartitionFileBaseInfo> partitionFiles =
+        fileInfoCacheService.getPartitionFileList(statsTableIdentifier, "pt=2022-08-31", 1, 10);
+    Assert.assertEquals(2, partitionFiles.size());
+
+    fileInfoCacheService.deleteTableCache(new com.netease.arctic.table.TableIdentifier(statsTableIdentifier));
+    Assert.assertEquals(0, fileInfoCacheService.getPartitionCount(statsTableIdentifier));
+  }
+
+  @Test
+  public void testIncrementalPartitionStats() throws MetaException {
+    TableIdentifier statsTableIdentifier = new TableIdentifier("test", "test", "test_incremental_stats");
+    TableCommitMeta meta = new TableCommitMeta();
+    meta.setAction("append");
+    meta.setCommitTime(System.currentTimeMillis());
+    meta.setCommitMetaProducer(CommitMetaProducer.INGESTION);
+    meta.setTableIdentifier(statsTableIdentifier);
+    TableChange change = new TableChange();
+    change.setParentSnapshotId(-1);
+    change.setInnerTable("base");
+    List<DataFile> dataFiles = new ArrayList<>();
+    dataFiles.add(genDatafile());
+    dataFiles.add(genDatafile());
+    DataFile posDeleteFile = genDatafile();
+    posDeleteFile.setFileType("POS_DELETE_FILE");
+    dataFiles.add(posDeleteFile);
+    change.setAddFiles(dataFiles);
+    change.setSnapshotId(1L);
+    List<TableChange> changes = new ArrayList<>();
+    changes.add(change);
+    meta.setChanges(changes);
+    ServiceContainer.getFileInfoCacheService().commitCacheFileInfo(meta);
+
+    TableChange change1 = new TableChange();
+    change1.setParentSnapshotId(1L);
+    change1.setInnerTable("base");
+    List<DataFile> deleteFiles = new ArrayList<>();
+    deleteFiles.add(dataFiles.get(0));
+    change1.setDeleteFiles(deleteFiles);
+    change1.setSnapshotId(2L);
+    List<TableChange> changes1 = new ArrayList<>();
+    changes1.add(change1);
+    meta.setChanges(changes1);
+    ServiceContainer.getFileInfoCacheService().commitCacheFileInfo(meta);
+
+    // files deleted again or unknown to file cache are not subtracted
+    TableChange change2 = new TableChange();
+    change2.setParentSnapshotId(2L);
+    change2.setInnerTable("base");
+    List<DataFile> deleteFiles2 = new ArrayList<>();
+    deleteFiles2.add(dataFiles.get(0));
+    deleteFiles2.add(genDatafile());
+    change2.setDeleteFiles(deleteFiles2);
+    change2.setSnapshotId(3L);
+    List<TableChange> changes2 = new ArrayList<>();
+    changes2.add(change2);
+    meta.setChanges(changes2);
+    ServiceContainer.getFileInfoCacheService().commitCacheFileInfo(meta);
+
+    FileInfoCacheService fileInfoCacheService = ServiceContainer.getFileInfoCacheService();
+    TableFileStats stats = fileInfoCacheService.getTableFileStats(statsTableIdentifier);
+    Assert.assertEquals(1, stats.getPartitionCount());
+    Assert.assertEquals(2, stats.getFileCount());
+    Assert.assertEquals(20, stats.getRecordCount());
+    Assert.assertEquals(1, stats.getDeleteFileCount());
+    Assert.assertEquals(1, stats.getSmallFileCount());
+    Assert.assertEquals(0, stats.getChangeFileCount());
+    Assert.assertEquals(0, stats.getNegativePartitionCount());
+
+    // stats recomputed from file cache are the same as the incrementally maintained ones
+    fileInfoCacheService.reconcilePartitionStats(statsTableIdentifier);
+    TableFileStats reconciledStats = fileInfoCacheService.getTableFileStats(statsTableIdentifier);
+    Assert.assertEquals(stats.getFileCount(), reconciledStats.getFileCount());
+    Assert.assertEquals(stats.getFileSize(), reconciledStats.getFileSize());
+    Assert.assertEquals(stats.getRecordCount(), reconciledStats.getRecordCount());
+    Assert.assertEquals(stats.getDeleteFileCount(), reconciledStats.getDeleteFileCount());
+    Assert.assertEquals(stats.getSmallFileCount(), reconciledStats.getSmallFileCount());
+
+    fileInfoCacheService.deleteTableCache(new com.netease.arctic.table.TableIdentifier(statsTableIdentifier));
+    Assert.assertEquals(0, fileInfoCacheService.getPartitionCount(statsTableIdentifier));
+  }
+
   @Test
   public void testUnkeyedTableSyncFileCache() {
     com.netease.arctic.table.TableIdentifier tableId =
@@ -257,6 +389,7 @@ public class TestFileInfoCacheService extends TableTestBase {
   private DataFile genDatafile() {
     DataFile dataFile = new DataFile();
     dataFile.setFileSize(1);
+    dataFile.setRecordCount(10);
     dataFile.setFileType("INSERT_FILE");
     dataFile.setIndex(0);
     dataFile.setMask(0);
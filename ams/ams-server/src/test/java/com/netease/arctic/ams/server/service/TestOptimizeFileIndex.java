@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.service;
+
+import com.netease.arctic.ams.api.Constants;
+import com.netease.arctic.ams.api.DataFile;
+import com.netease.arctic.ams.api.DataFileInfo;
+import com.netease.arctic.ams.api.TableChange;
+import com.netease.arctic.ams.api.TableCommitMeta;
+import com.netease.arctic.ams.api.TableIdentifier;
+import com.netease.arctic.ams.server.service.impl.OptimizeFileIndex;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+public class TestOptimizeFileIndex {
+
+  private static final TableIdentifier TABLE = new TableIdentifier("catalog", "db", "table");
+
+  @Test
+  public void testPatchByCommits() {
+    OptimizeFileIndex index = new OptimizeFileIndex(Long.MAX_VALUE);
+    AtomicInteger loads = new AtomicInteger();
+    List<DataFileInfo> cached = Collections.singletonList(fileInfo("f1"));
+
+    Assert.assertEquals(paths("f1"), paths(index.getFiles(TABLE, Constants.INNER_TABLE_BASE, () -> {
+      loads.incrementAndGet();
+      return cached;
+    })));
+    index.applyCommit(commit(Collections.singletonList("f2"), Collections.singletonList("f1")), file -> "");
+    Assert.assertEquals(paths("f2"), paths(index.getFiles(TABLE, Constants.INNER_TABLE_BASE, () -> {
+      loads.incrementAndGet();
+      return cached;
+    })));
+    Assert.assertEquals(1, loads.get());
+
+    // the commit deleting f3 is applied before the commit adding it
+    index.applyCommit(commit(Collections.emptyList(), Collections.singletonList("f3")), file -> "");
+    index.applyCommit(commit(Collections.singletonList("f3"), Collections.emptyList()), file -> "");
+    Assert.assertEquals(paths("f2"), paths(index.getFiles(TABLE, Constants.INNER_TABLE_BASE, ArrayList::new)));
+  }
+
+  @Test
+  public void testReloadAfterInvalidate() {
+    OptimizeFileIndex index = new OptimizeFileIndex(Long.MAX_VALUE);
+    index.getFiles(TABLE, Constants.INNER_TABLE_BASE, () -> Collections.singletonList(fileInfo("f1")));
+    index.invalidate(TABLE, Constants.INNER_TABLE_BASE);
+    Assert.assertEquals(paths("f2"), paths(index.getFiles(TABLE, Constants.INNER_TABLE_BASE,
+        () -> Collections.singletonList(fileInfo("f2")))));
+  }
+
+  @Test
+  public void testNotIndexLoadRacedWithCommit() {
+    OptimizeFileIndex index = new OptimizeFileIndex(Long.MAX_VALUE);
+    index.getFiles(TABLE, Constants.INNER_TABLE_BASE, () -> {
+      // a commit is applied while files are loading
+      index.applyCommit(commit(Collections.singletonList("f2"), Collections.emptyList()), file -> "");
+      return Collections.singletonList(fileInfo("f1"));
+    });
+    Assert.assertEquals(paths("f1", "f2"), paths(index.getFiles(TABLE, Constants.INNER_TABLE_BASE,
+        () -> new ArrayList<>(Arrays.asList(fileInfo("f1"), fileInfo("f2"))))));
+  }
+
+  private static TableCommitMeta commit(List<String> addFiles, List<String> deleteFiles) {
+    TableChange change = new TableChange();
+    change.setInnerTable(Constants.INNER_TABLE_BASE);
+    change.setAddFiles(addFiles.stream().map(TestOptimizeFileIndex::dataFile).collect(Collectors.toList()));
+    change.setDeleteFiles(deleteFiles.stream().map(TestOptimizeFileIndex::dataFile).collect(Collectors.toList()));
+    TableCommitMeta commitMeta = new TableCommitMeta();
+    commitMeta.setTableIdentifier(TABLE);
+    commitMeta.setChanges(Collections.singletonList(change));
+    commitMeta.setCommitTime(System.currentTimeMillis());
+    return commitMeta;
+  }
+
+  private static DataFile dataFile(String path) {
+    DataFile dataFile = new DataFile();
+    dataFile.setPath(path);
+    dataFile.setFileType("BASE_FILE");
+    dataFile.setFileSize(1);
+    return dataFile;
+  }
+
+  private static DataFileInfo fileInfo(String path) {
+    DataFileInfo fileInfo = new DataFileInfo();
+    fileInfo.setPath(path);
+    fileInfo.setType("BASE_FILE");
+    fileInfo.setSize(1);
+    return fileInfo;
+  }
+
+  private static Set<String> paths(String... paths) {
+    return new HashSet<>(Arrays.asList(paths));
+  }
+
+  private static Set<String> paths(List<DataFileInfo> files) {
+    return files.stream().map(DataFileInfo::getPath).collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.service;
+
+import com.netease.arctic.ams.api.Constants;
+import com.netease.arctic.ams.api.TableChange;
+import com.netease.arctic.ams.api.TableCommitEvent;
+import com.netease.arctic.ams.api.TableCommitMeta;
+import com.netease.arctic.ams.api.TableIdentifier;
+import com.netease.arctic.ams.server.service.impl.TableCommitNotifyService;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class TestTableCommitNotifyService {
+
+  private static final TableIdentifier TABLE = new TableIdentifier("catalog", "db", "table");
+
+  @Test
+  public void testWaitTimeout() throws Exception {
+    TableCommitNotifyService service = new TableCommitNotifyService(100L, 8);
+    long start = System.currentTimeMillis();
+    // wait time is limited by max wait time of service
+    TableCommitEvent event = service.waitCommit(TABLE, -1L, -1L, 60000L);
+    Assert.assertTrue(System.currentTimeMillis() - start < 60000L);
+    Assert.assertEquals(-1L, event.getChangeSnapshotId());
+    Assert.assertEquals(-1L, event.getBaseSnapshotId());
+
+    service.notifyCommit(commit(Constants.INNER_TABLE_CHANGE, 1L));
+    event = service.waitCommit(TABLE, 1L, -1L, 50L);
+    Assert.assertEquals(1L, event.getChangeSnapshotId());
+  }
+
+  @Test
+  public void testReturnAdvancedSnapshotImmediately() throws Exception {
+    TableCommitNotifyService service = new TableCommitNotifyService(60000L, 8);
+    service.notifyCommit(commit(Constants.INNER_TABLE_CHANGE, 1L));
+    service.notifyCommit(commit(Constants.INNER_TABLE_BASE, 2L));
+    TableCommitEvent event = service.waitCommit(TABLE, 1L, -1L, 60000L);
+    Assert.assertEquals(1L, event.getChangeSnapshotId());
+    Assert.assertEquals(2L, event.getBaseSnapshotId());
+  }
+
+  @Test
+  public void testNotifyWaiter() throws Exception {
+    TableCommitNotifyService service = new TableCommitNotifyService(60000L, 8);
+    CompletableFuture<TableCommitEvent> waiting = CompletableFuture.supplyAsync(() -> {
+      try {
+        return service.waitCommit(TABLE, -1L, -1L, 60000L);
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    Thread.sleep(100);
+    Assert.assertFalse(waiting.isDone());
+    service.notifyCommit(commit(Constants.INNER_TABLE_CHANGE, 3L));
+    TableCommitEvent event = waiting.get(10, TimeUnit.SECONDS);
+    Assert.assertEquals(3L, event.getChangeSnapshotId());
+    Assert.assertEquals(-1L, event.getBaseSnapshotId());
+  }
+
+  @Test
+  public void testRejectTooManyWaiters() throws Exception {
+    TableCommitNotifyService service = new TableCommitNotifyService(60000L, 0);
+    long start = System.currentTimeMillis();
+    service.waitCommit(TABLE, -1L, -1L, 60000L);
+    Assert.assertTrue(System.currentTimeMillis() - start < 60000L);
+  }
+
+  @Test
+  public void testRemoveTable() throws Exception {
+    TableCommitNotifyService service = new TableCommitNotifyService(100L, 8);
+    service.notifyCommit(commit(Constants.INNER_TABLE_CHANGE, 1L));
+    service.removeTable(TABLE);
+    TableCommitEvent event = service.waitCommit(TABLE, -1L, -1L, 0L);
+    Assert.assertEquals(-1L, event.getChangeSnapshotId());
+  }
+
+  private static TableCommitMeta commit(String innerTable, long snapshotId) {
+    TableCommitMeta commit = new TableCommitMeta();
+    commit.setTableIdentifier(TABLE);
+    commit.setCommitTime(System.currentTimeMillis());
+    TableChange change = new TableChange();
+    change.setInnerTable(innerTable);
+    change.setSnapshotId(snapshotId);
+    commit.setChanges(Collections.singletonList(change));
+    return commit;
+  }
+}
@@ -30,6 +30,7 @@ import com.netease.arctic.ams.server.mapper.OptimizeTaskRuntimesMapper;
 import com.netease.arctic.ams.server.mapper.OptimizeTasksMapper;
 import com.netease.arctic.ams.server.mapper.OptimizerGroupMapper;
 import com.netease.arctic.ams.server.mapper.OptimizerMapper;
+import com.netease.arctic.ams.server.mapper.PartitionStatsCacheMapper;
 import com.netease.arctic.ams.server.mapper.SnapInfoCacheMapper;
 import com.netease.arctic.ams.server.mapper.TableMetadataMapper;
 import com.netease.arctic.ams.server.mapper.TableOptimizeRuntimeMapper;
@@ -39,6 +40,7 @@ import com.netease.arctic.ams.server.mapper.derby.DerbyCatalogMetadataMapper;
 import com.netease.arctic.ams.server.mapper.derby.DerbyContainerMetadataMapper;
 import com.netease.arctic.ams.server.mapper.derby.DerbyFileInfoCacheMapper;
 import com.netease.arctic.ams.server.mapper.derby.DerbyOptimizeTasksMapper;
+import com.netease.arctic.ams.server.mapper.derby.DerbyPartitionStatsCacheMapper;
 import com.netease.arctic.ams.server.mapper.derby.DerbyTableMetadataMapper;
 import com.netease.arctic.ams.server.service.IJDBCService;
 import com.netease.arctic.ams.server.utils.JDBCSqlSessionFactoryProvider;
@@ -120,6 +122,7 @@ public class DerbyTestUtil extends IJDBCService {
           configuration.addMapper(FileInfoCacheMapper.class);
           configuration.addMapper(TaskHistoryMapper.class);
           configuration.addMapper(SnapInfoCacheMapper.class);
+          configuration.addMapper(PartitionStatsCacheMapper.class);
           configuration.addMapper(TableTransactionMetaMapper.class);
           configuration.addMapper(DatabaseMetadataMapper.class);
           configuration.addMapper(OptimizerMapper.class);
@@ -130,6 +133,7 @@ public class DerbyTestUtil extends IJDBCService {
           configuration.addMapper(DerbyCatalogMetadataMapper.class);
           configuration.addMapper(DerbyTableMetadataMapper.class);
           configuration.addMapper(DerbyOptimizeTasksMapper.class);
+          configuration.addMapper(DerbyPartitionStatsCacheMapper.class);
           configuration.addMapper(DDLRecordMapper.class);
           sqlSessionFactory = SqlSessionFactoryUtil.getSqlSessionFactory(configuration);
         }
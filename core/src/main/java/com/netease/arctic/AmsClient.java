@@ -19,6 +19,8 @@
 package com.netease.arctic;
 
 import com.netease.arctic.ams.api.ArcticTableMetastore;
+import com.netease.arctic.ams.api.TableCommitMeta;
+import org.apache.thrift.TException;
 
 import java.io.Serializable;
 
@@ -26,4 +28,22 @@ import java.io.Serializable;
  * Thrift client API to communicate with ams.
  */
 public interface AmsClient extends ArcticTableMetastore.Iface, Serializable {
+
+  /**
+   * Report a table commit without waiting for ams to handle it. Commits reported by the same client are handled in
+   * the order they are reported, and before any later {@link #tableCommit(TableCommitMeta)}.
+   * <p>
+   * Clients without background delivery report the commit synchronously.
+   *
+   * @param commit - commit to report
+   */
+  default void tableCommitAsync(TableCommitMeta commit) throws TException {
+    tableCommit(commit);
+  }
+
+  /**
+   * Wait until all commits reported by {@link #tableCommitAsync(TableCommitMeta)} are handled by ams.
+   */
+  default void flushTableCommits() {
+  }
 }
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic;
+
+import com.netease.arctic.ams.api.ArcticTableMetastore;
+import com.netease.arctic.ams.api.MetaException;
+import com.netease.arctic.ams.api.NoSuchObjectException;
+import com.netease.arctic.ams.api.TableCommitMeta;
+import com.netease.arctic.ams.api.client.AmsClientPools;
+import org.apache.thrift.TApplicationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Report table commits to ams on a background thread, commits queued while a report is in flight are sent together
+ * by one {@code tableCommits} call. There is one reporter for each metastore url, so the commits of a process are
+ * handled by ams in the order they are queued.
+ * <p>
+ * Reports are best effort like the synchronous ones of table tracers. Ams handles commits of a batch independently
+ * and fails the call after handling all of them if any failed. If a batch call fails without reaching ams, its commits
+ * are reported one by one, failed commits are logged and dropped. Queued commits are flushed at shutdown of jvm.
+ */
+class AsyncTableCommitReporter {
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncTableCommitReporter.class);
+
+  private static final int MAX_PENDING_COMMITS = 10000;
+  private static final int MAX_BATCH_COMMITS = 100;
+  private static final long FLUSH_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(60);
+  private static final long SHUTDOWN_FLUSH_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(10);
+
+  private static final Map<String, AsyncTableCommitReporter> REPORTERS = new ConcurrentHashMap<>();
+
+  private final String metastoreUrl;
+  private final BlockingQueue<TableCommitMeta> queue = new LinkedBlockingQueue<>(MAX_PENDING_COMMITS);
+  private final Object lock = new Object();
+  private long queued;
+  private long handled;
+  // false once ams is found not supporting tableCommits, then commits are sent one by one
+  private volatile boolean batchSupported = true;
+
+  private AsyncTableCommitReporter(String metastoreUrl) {
+    this.metastoreUrl = metastoreUrl;
+    Thread worker = new Thread(this::run, "ams-commit-reporter");
+    worker.setDaemon(true);
+    worker.start();
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(SHUTDOWN_FLUSH_TIMEOUT_MS)));
+  }
+
+  static AsyncTableCommitReporter of(String metastoreUrl) {
+    return REPORTERS.computeIfAbsent(metastoreUrl, AsyncTableCommitReporter::new);
+  }
+
+  /**
+   * Flush the reporter of metastore url if it has been created.
+   */
+  static void flush(String metastoreUrl) {
+    AsyncTableCommitReporter reporter = REPORTERS.get(metastoreUrl);
+    if (reporter != null) {
+      reporter.flush(FLUSH_TIMEOUT_MS);
+    }
+  }
+
+  /**
+   * Queue a commit, blocks if too many commits are waiting.
+   */
+  void report(TableCommitMeta commit) {
+    synchronized (lock) {
+      queued++;
+    }
+    try {
+      queue.put(commit);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      markHandled(1);
+      LOG.warn("interrupted while queueing commit of table {}, it is dropped", commit.getTableIdentifier());
+    }
+  }
+
+  private void flush(long timeoutMs) {
+    long deadline = System.currentTimeMillis() + timeoutMs;
+    synchronized (lock) {
+      long target = queued;
+      while (handled < target) {
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+          LOG.warn("{} table commits are not reported to {} after waiting {} ms", target - handled,
+              metastoreUrl, timeoutMs);
+          return;
+        }
+        try {
+          lock.wait(remaining);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  private void run() {
+    List<TableCommitMeta> batch = new ArrayList<>(MAX_BATCH_COMMITS);
+    while (true) {
+      try {
+        batch.add(queue.take());
+      } catch (InterruptedException e) {
+        return;
+      }
+      queue.drainTo(batch, MAX_BATCH_COMMITS - 1);
+      send(batch);
+      markHandled(batch.size());
+      batch.clear();
+    }
+  }
+
+  private void send(List<TableCommitMeta> batch) {
+    if (batchSupported) {
+      try {
+        iface().tableCommits(batch);
+        return;
+      } catch (MetaException | NoSuchObjectException e) {
+        // ams has tried every commit of the batch, the failed ones are not reported again
+        LOG.warn("report {} table commits to {} failed partly", batch.size(), metastoreUrl, e);
+        return;
+      } catch (TApplicationException e) {
+        if (e.getType() != TApplicationException.UNKNOWN_METHOD) {
+          LOG.warn("report {} table commits to {} failed", batch.size(), metastoreUrl, e);
+          return;
+        }
+        LOG.info("{} doesn't support reporting table commits in batch, report them one by one", metastoreUrl);
+        batchSupported = false;
+      } catch (Throwable t) {
+        LOG.warn("report {} table commits to {} failed, report them one by one", batch.size(), metastoreUrl, t);
+      }
+    }
+    for (TableCommitMeta commit : batch) {
+      try {
+        iface().tableCommit(commit);
+      } catch (Throwable t) {
+        LOG.warn("report commit of table {} to {} failed, it is dropped", commit.getTableIdentifier(),
+            metastoreUrl, t);
+      }
+    }
+  }
+
+  private ArcticTableMetastore.Iface iface() {
+    return AmsClientPools.getClientPool(metastoreUrl).iface();
+  }
+
+  private void markHandled(int commits) {
+    synchronized (lock) {
+      handled += commits;
+      lock.notifyAll();
+    }
+  }
+}
@@ -20,6 +20,7 @@ package com.netease.arctic;
 
 import com.netease.arctic.ams.api.ArcticTableMetastore;
 import com.netease.arctic.ams.api.CatalogMeta;
+import com.netease.arctic.ams.api.TableCommitEvent;
 import com.netease.arctic.ams.api.TableCommitMeta;
 import com.netease.arctic.ams.api.TableIdentifier;
 import com.netease.arctic.ams.api.TableMeta;
@@ -90,6 +91,11 @@ public class PooledAmsClient implements AmsClient {
     return getIface().getTable(tableIdentifier);
   }
 
+  @Override
+  public List<TableMeta> getTables(List<TableIdentifier> tableIdentifiers) throws TException {
+    return getIface().getTables(tableIdentifiers);
+  }
+
   @Override
   public void removeTable(TableIdentifier tableIdentifier, boolean deleteData)
       throws TException {
@@ -98,11 +104,40 @@ public class PooledAmsClient implements AmsClient {
 
   @Override
   public void tableCommit(TableCommitMeta commit) throws TException {
+    flushTableCommits();
     getIface().tableCommit(commit);
   }
 
+  @Override
+  public void tableCommits(List<TableCommitMeta> commits) throws TException {
+    flushTableCommits();
+    getIface().tableCommits(commits);
+  }
+
+  @Override
+  public void tableCommitAsync(TableCommitMeta commit) {
+    AsyncTableCommitReporter.of(metastoreUrl).report(commit);
+  }
+
+  @Override
+  public void flushTableCommits() {
+    AsyncTableCommitReporter.flush(metastoreUrl);
+  }
+
   @Override
   public long allocateTransactionId(TableIdentifier tableIdentifier, String transactionSignature) throws TException {
     return getIface().allocateTransactionId(tableIdentifier, transactionSignature);
   }
+
+  @Override
+  public List<Long> allocateTransactionIds(TableIdentifier tableIdentifier, int count) throws TException {
+    return getIface().allocateTransactionIds(tableIdentifier, count);
+  }
+
+  @Override
+  public TableCommitEvent waitTableCommit(
+      TableIdentifier tableIdentifier, long changeSnapshotId,
+      long baseSnapshotId, long waitTime) throws TException {
+    return getIface().waitTableCommit(tableIdentifier, changeSnapshotId, baseSnapshotId, waitTime);
+  }
 }
@@ -41,6 +41,9 @@ public class PrimaryKeyData implements StructLike, Serializable {
   private final int size;
   private final Object[] primaryTuple;
   private final Accessor<StructLike>[] accessors;
+  // hash code of primary tuple, computed when primary key is extracted from row and reset when it is changed
+  private transient int hashCode;
+  private transient boolean hashCodeValid;
 
   @SuppressWarnings("unchecked")
   public PrimaryKeyData(PrimaryKeySpec primaryKeySpec, Schema inputSchema) {
@@ -68,6 +71,8 @@ public class PrimaryKeyData implements StructLike, Serializable {
     this.accessors = toCopy.accessors;
 
     System.arraycopy(toCopy.primaryTuple, 0, this.primaryTuple, 0, primaryTuple.length);
+    this.hashCode = toCopy.hashCode;
+    this.hashCodeValid = toCopy.hashCodeValid;
   }
 
   @Override
@@ -88,11 +93,16 @@ public class PrimaryKeyData implements StructLike, Serializable {
     return new PrimaryKeyData(this);
   }
 
-  @SuppressWarnings("unchecked")
   public void primaryKey(StructLike row) {
+    // same as Arrays.hashCode(primaryTuple), computed while extracting values to avoid a second pass
+    int result = 1;
     for (int i = 0; i < primaryTuple.length; i += 1) {
-      primaryTuple[i] = accessors[i].get(row);
+      Object value = accessors[i].get(row);
+      primaryTuple[i] = value;
+      result = 31 * result + (value == null ? 0 : value.hashCode());
     }
+    this.hashCode = normalizeHashCode(result);
+    this.hashCodeValid = true;
   }
 
   @Override
@@ -108,6 +118,7 @@ public class PrimaryKeyData implements StructLike, Serializable {
   @Override
   public <T> void set(int pos, T value) {
     primaryTuple[pos] = value;
+    hashCodeValid = false;
   }
 
   @Override
@@ -122,13 +133,34 @@ public class PrimaryKeyData implements StructLike, Serializable {
     return Arrays.equals(primaryTuple, that.primaryTuple);
   }
 
+  /**
+   * The hash code decides which tree node the data belongs to, so it must be stable across versions and engines.
+   */
   @Override
   public int hashCode() {
-    int hashcode = Math.abs(Arrays.hashCode(primaryTuple));
+    if (!hashCodeValid) {
+      hashCode = normalizeHashCode(Arrays.hashCode(primaryTuple));
+      hashCodeValid = true;
+    }
+    return hashCode;
+  }
+
+  private static int normalizeHashCode(int hashCode) {
+    int hashcode = Math.abs(hashCode);
     return hashcode == Integer.MIN_VALUE ? Integer.MAX_VALUE : hashcode;
   }
 
   public DataTreeNode treeNode(long mask) {
-    return DataTreeNode.of(mask, Math.abs(hashCode()) & mask);
+    return DataTreeNode.of(mask, treeNodeIndex(mask));
+  }
+
+  /**
+   * Index of the tree node the data belongs to, the same as {@code treeNode(mask).index()} without creating the node.
+   *
+   * @param mask mask of the tree node
+   * @return index of the tree node
+   */
+  public long treeNodeIndex(long mask) {
+    return hashCode() & mask;
   }
 }
\ No newline at end of file
@@ -46,11 +46,15 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
 import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.Filter;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -58,6 +62,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -97,6 +102,13 @@ public abstract class ArcticDeleteFilter<T> {
   private String currentDataPath;
   private Set<Long> currentPosSet;
 
+  // used to prune data files which can't be affected by equality deletes
+  private final Long maxDeleteTransactionId;
+  private List<Types.NestedField> deleteKeyFields;
+  private Object[] deleteKeyLowerBounds;
+  private Object[] deleteKeyUpperBounds;
+  private boolean deleteKeyRangeAvailable;
+
   protected ArcticDeleteFilter(
       KeyedTableScanTask keyedTableScanTask, Schema tableSchema,
       Schema requestedSchema, PrimaryKeySpec primaryKeySpec) {
@@ -111,6 +123,10 @@ public abstract class ArcticDeleteFilter<T> {
         .map(ArcticFileScanTask::file)
         .sorted(Comparator.comparingLong(PrimaryKeyedFile::transactionId))
         .collect(Collectors.toSet());
+    OptionalLong maxTransactionId = eqDeletes.stream()
+        .mapToLong(PrimaryKeyedFile::transactionId)
+        .max();
+    this.maxDeleteTransactionId = maxTransactionId.isPresent() ? maxTransactionId.getAsLong() : null;
 
     Map<String, DeleteFile> map = new HashMap<>();
     for (ArcticFileScanTask arcticFileScanTask : keyedTableScanTask.dataTasks()) {
@@ -181,6 +197,59 @@ public abstract class ArcticDeleteFilter<T> {
     return applyEqDeletes(applyPosDeletes(records), applyEqDeletes());
   }
 
+  /**
+   * @return The data not in position delete file, equity delete file is not applied
+   */
+  public CloseableIterable<T> filterPosDeletes(CloseableIterable<T> records) {
+    return applyPosDeletes(records);
+  }
+
+  /**
+   * Check whether rows of the data file may be deleted by equity delete files. A data file can't be affected if it
+   * is added by a transaction newer than all equity delete files, or its primary key bounds don't overlap with the
+   * key range of the delete set. Equity delete files will be loaded if they are not loaded yet.
+   *
+   * @param task - data file scan task
+   * @return false if none of the rows in data file could be deleted by equity delete files
+   */
+  public boolean eqDeletesMayApply(ArcticFileScanTask task) {
+    if (eqDeletes.isEmpty()) {
+      return false;
+    }
+    Long dataTransactionId = task.file().transactionId();
+    if (dataTransactionId != null && maxDeleteTransactionId != null && dataTransactionId > maxDeleteTransactionId) {
+      return false;
+    }
+
+    applyEqDeletes();
+    if (!deleteKeyRangeAvailable) {
+      return true;
+    }
+    if (deleteKeyLowerBounds == null) {
+      // all delete records are filtered out by node filter
+      return false;
+    }
+    Map<Integer, ByteBuffer> lowerBounds = task.file().lowerBounds();
+    Map<Integer, ByteBuffer> upperBounds = task.file().upperBounds();
+    if (lowerBounds == null || upperBounds == null) {
+      return true;
+    }
+    for (int i = 0; i < deleteKeyFields.size(); i++) {
+      Types.NestedField field = deleteKeyFields.get(i);
+      ByteBuffer lower = lowerBounds.get(field.fieldId());
+      ByteBuffer upper = upperBounds.get(field.fieldId());
+      if (lower == null || upper == null) {
+        continue;
+      }
+      Comparator<Object> comparator = Comparators.forType(field.type().asPrimitiveType());
+      if (comparator.compare(Conversions.fromByteBuffer(field.type(), upper), deleteKeyLowerBounds[i]) < 0 ||
+          comparator.compare(Conversions.fromByteBuffer(field.type(), lower), deleteKeyUpperBounds[i]) > 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   public void setCurrentDataPath(String currentDataPath) {
     this.currentDataPath = currentDataPath;
     this.currentPosSet = null;
@@ -227,6 +296,7 @@ public abstract class ArcticDeleteFilter<T> {
         records, record -> new InternalRecordWrapper(deleteSchema.asStruct()).wrap(record));
 
     StructLikeMap<ChangedLsn> structLikeMap = StructLikeMap.create(pkSchema.asStruct());
+    initDeleteKeyRange(pkSchema);
     //init map
     try (CloseableIterable<StructLike> deletes = structLikeIterable) {
       Iterator<StructLike> it = getArcticFileIo() == null ? deletes.iterator()
@@ -240,6 +310,9 @@ public abstract class ArcticDeleteFilter<T> {
         if (old == null || old.compareTo(deleteLsn) <= 0) {
           structLikeMap.put(deletePK, deleteLsn);
         }
+        if (old == null) {
+          updateDeleteKeyRange(deletePK);
+        }
       }
     } catch (IOException e) {
       e.printStackTrace();
@@ -261,6 +334,38 @@ public abstract class ArcticDeleteFilter<T> {
     return isInDeleteSet;
   }
 
+  private void initDeleteKeyRange(Schema pkSchema) {
+    this.deleteKeyFields = pkSchema.columns();
+    this.deleteKeyRangeAvailable = deleteKeyFields.stream().allMatch(field -> field.type().isPrimitiveType());
+  }
+
+  private void updateDeleteKeyRange(StructLike deletePK) {
+    if (!deleteKeyRangeAvailable) {
+      return;
+    }
+    boolean first = deleteKeyLowerBounds == null;
+    if (first) {
+      deleteKeyLowerBounds = new Object[deleteKeyFields.size()];
+      deleteKeyUpperBounds = new Object[deleteKeyFields.size()];
+    }
+    for (int i = 0; i < deleteKeyFields.size(); i++) {
+      Type type = deleteKeyFields.get(i).type();
+      Object value = deletePK.get(i, type.typeId().javaClass());
+      if (value == null) {
+        // a null key can't be compared with bounds, the range of this column is unknown from now on
+        deleteKeyRangeAvailable = false;
+        return;
+      }
+      Comparator<Object> comparator = Comparators.forType(type.asPrimitiveType());
+      if (first || comparator.compare(value, deleteKeyLowerBounds[i]) < 0) {
+        deleteKeyLowerBounds[i] = value;
+      }
+      if (first || comparator.compare(value, deleteKeyUpperBounds[i]) > 0) {
+        deleteKeyUpperBounds[i] = value;
+      }
+    }
+  }
+
   private CloseableIterable<T> applyEqDeletes(CloseableIterable<T> records, Predicate<T> predicate) {
     if (eqDeletes.isEmpty()) {
       return records;
@@ -33,12 +33,16 @@ import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.NameMappingParser;
 import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.parquet.ParquetValueReader;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.types.Type;
 import org.apache.parquet.schema.MessageType;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -59,6 +63,11 @@ public abstract class BaseArcticDataReader<T> {
   protected final BiFunction<Type, Object, Object> convertConstant;
   protected final PrimaryKeySpec primaryKeySpec;
   protected final boolean reuseContainer;
+  private final LongAdder eqDeletePrunedFiles = new LongAdder();
+  private final LongAdder eqDeletePrunedRows = new LongAdder();
+  private ExecutorService prefetchExecutor;
+  private int prefetchDepth;
+  private long prefetchByteBudget;
 
   public BaseArcticDataReader(
       ArcticFileIO fileIO,
@@ -93,6 +102,24 @@ public abstract class BaseArcticDataReader<T> {
     this.reuseContainer = reuseContainer;
   }
 
+  /**
+   * Enable prefetching data files of a {@link KeyedTableScanTask}, the next files are opened on a shared I/O pool
+   * while the current one is being read.
+   *
+   * @param depth      - max count of files to prefetch, 0 to disable prefetching
+   * @param byteBudget - max total length of files being prefetched
+   */
+  public BaseArcticDataReader<T> withPrefetch(int depth, long byteBudget) {
+    return withPrefetch(DataFilePrefetcher.sharedExecutor(), depth, byteBudget);
+  }
+
+  public BaseArcticDataReader<T> withPrefetch(ExecutorService prefetchExecutor, int depth, long byteBudget) {
+    this.prefetchExecutor = prefetchExecutor;
+    this.prefetchDepth = depth;
+    this.prefetchByteBudget = byteBudget;
+    return this;
+  }
+
   public CloseableIterator<T> readData(KeyedTableScanTask keyedTableScanTask) {
 
     ArcticDeleteFilter<T> arcticDeleteFilter = new GenericArcticDeleteFilter(
@@ -100,11 +127,56 @@ public abstract class BaseArcticDataReader<T> {
     );
     Schema newProjectedSchema = arcticDeleteFilter.requiredSchema();
 
+    Function<ArcticFileScanTask, CloseableIterable<T>> opener = fileScanTask -> newParquetIterable(fileScanTask,
+        newProjectedSchema, DataReaderCommon.getIdToConstant(fileScanTask, newProjectedSchema, convertConstant));
+    DataFilePrefetcher<T> prefetcher = null;
+    if (prefetchDepth > 0 && keyedTableScanTask.dataTasks().size() > 1) {
+      prefetcher = new DataFilePrefetcher<>(keyedTableScanTask.dataTasks(), opener, fileIO, prefetchExecutor,
+          prefetchDepth, prefetchByteBudget);
+      opener = prefetcher::open;
+    }
+    Function<ArcticFileScanTask, CloseableIterable<T>> dataOpener = opener;
+
     CloseableIterable<T> dataIterable = CloseableIterable.concat(CloseableIterable.transform(
         CloseableIterable.withNoopClose(keyedTableScanTask.dataTasks()),
-        fileScanTask -> arcticDeleteFilter.filter(newParquetIterable(fileScanTask, newProjectedSchema,
-            DataReaderCommon.getIdToConstant(fileScanTask, newProjectedSchema, convertConstant)))));
-    return fileIO.doAs(dataIterable::iterator);
+        fileScanTask -> {
+          // deletes are loaded on the reading thread before the file is opened
+          boolean eqDeletesMayApply = arcticDeleteFilter.eqDeletesMayApply(fileScanTask);
+          CloseableIterable<T> records = dataOpener.apply(fileScanTask);
+          if (eqDeletesMayApply) {
+            return arcticDeleteFilter.filter(records);
+          }
+          if (!keyedTableScanTask.arcticEquityDeletes().isEmpty()) {
+            eqDeletePrunedFiles.increment();
+            return countPrunedRows(arcticDeleteFilter.filterPosDeletes(records));
+          }
+          return arcticDeleteFilter.filterPosDeletes(records);
+        }));
+    CloseableIterator<T> iterator = fileIO.doAs(dataIterable::iterator);
+    if (prefetcher == null) {
+      return iterator;
+    }
+    DataFilePrefetcher<T> toClose = prefetcher;
+    return new CloseableIterator<T>() {
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public T next() {
+        return iterator.next();
+      }
+
+      @Override
+      public void close() throws IOException {
+        try {
+          iterator.close();
+        } finally {
+          toClose.close();
+        }
+      }
+    };
   }
 
   public CloseableIterator<T> readDeletedData(KeyedTableScanTask keyedTableScanTask) {
@@ -117,8 +189,16 @@ public abstract class BaseArcticDataReader<T> {
       );
       Schema newProjectedSchema = arcticDeleteFilter.requiredSchema();
 
+      // files which can't be affected by equity deletes have no deleted data, don't need to be read at all
+      Iterable<ArcticFileScanTask> affectedTasks = Iterables.filter(keyedTableScanTask.dataTasks(), fileScanTask -> {
+        if (arcticDeleteFilter.eqDeletesMayApply(fileScanTask)) {
+          return true;
+        }
+        eqDeletePrunedFiles.increment();
+        return false;
+      });
       CloseableIterable<T> dataIterable = CloseableIterable.concat(CloseableIterable.transform(
-          CloseableIterable.withNoopClose(keyedTableScanTask.dataTasks()),
+          CloseableIterable.withNoopClose(affectedTasks),
           fileScanTask -> arcticDeleteFilter.filterNegate(
               newParquetIterable(fileScanTask, newProjectedSchema,
                   DataReaderCommon.getIdToConstant(fileScanTask, newProjectedSchema, convertConstant)))));
@@ -128,6 +208,34 @@ public abstract class BaseArcticDataReader<T> {
     }
   }
 
+  /**
+   * @return count of data files read without probing equity deletes, since they can't be affected by deletes
+   */
+  public long eqDeletePrunedFiles() {
+    return eqDeletePrunedFiles.sum();
+  }
+
+  /**
+   * @return count of rows read without probing equity deletes
+   */
+  public long eqDeletePrunedRows() {
+    return eqDeletePrunedRows.sum();
+  }
+
+  private CloseableIterable<T> countPrunedRows(CloseableIterable<T> records) {
+    // count locally and flush on close, to avoid contention on the adder per row
+    long[] count = new long[1];
+    CloseableIterable<T> counted = CloseableIterable.transform(records, record -> {
+      count[0]++;
+      return record;
+    });
+    return CloseableIterable.combine(counted, () -> {
+      eqDeletePrunedRows.add(count[0]);
+      count[0] = 0;
+      records.close();
+    });
+  }
+
   private CloseableIterable<T> newParquetIterable(
       FileScanTask task, Schema schema, Map<Integer, ?> idToConstant) {
     Parquet.ReadBuilder builder = Parquet.read(fileIO.newInputFile(task.file().path().toString()))
@@ -24,18 +24,24 @@ import com.netease.arctic.io.ArcticFileIO;
 import com.netease.arctic.scan.ArcticFileScanTask;
 import com.netease.arctic.table.PrimaryKeySpec;
 import com.netease.arctic.utils.NodeFilter;
+import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
+import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.NameMappingParser;
 import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.parquet.ParquetRowGroupUtil;
 import org.apache.iceberg.parquet.ParquetValueReader;
 import org.apache.iceberg.types.Type;
 import org.apache.iceberg.util.Filter;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.schema.MessageType;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
@@ -55,6 +61,7 @@ public abstract class BaseIcebergDataReader<T> {
   protected final BiFunction<Type, Object, Object> convertConstant;
   protected final Filter<T> dataNodeFilter;
   protected final boolean reuseContainer;
+  private final Set<DataTreeNode> sourceNodes;
 
   public BaseIcebergDataReader(
       ArcticFileIO fileIO, Schema tableSchema, Schema projectedSchema,
@@ -75,6 +82,7 @@ public abstract class BaseIcebergDataReader<T> {
     this.fileIO = fileIO;
     this.convertConstant = convertConstant;
     this.reuseContainer = reuseContainer;
+    this.sourceNodes = sourceNodes;
     if (sourceNodes != null) {
       this.dataNodeFilter = new NodeFilter<>(sourceNodes, projectedSchema, primaryKeySpec,
           toStructLikeFunction().apply(projectedSchema));
@@ -84,13 +92,61 @@ public abstract class BaseIcebergDataReader<T> {
   }
 
   public CloseableIterable<T> readData(FileScanTask task) {
+    return readData(task, task.start(), task.length());
+  }
+
+  /**
+   * Read data of the task from a record offset. If no record of the task could be filtered out, the record offset is
+   * the row position in the split, so row groups before the offset are skipped without being read. Otherwise records
+   * before the offset are read and skipped one by one.
+   *
+   * @param task                 - file scan task
+   * @param startingRecordOffset - count of records to skip
+   * @return records from the offset
+   */
+  public CloseableIterable<T> readData(FileScanTask task, long startingRecordOffset) {
+    long start = task.start();
+    long recordsToSkip = startingRecordOffset;
+    if (startingRecordOffset > 0 && rowPositionIsRecordOffset(task)) {
+      List<BlockMetaData> rowGroups = fileIO.doAs(() -> ParquetRowGroupUtil.rowGroups(
+          fileIO.newInputFile(task.file().path().toString()), task.start(), task.length()));
+      // start from the end of split if the offset is out of range, so that it fails when skipping records
+      start = task.start() + task.length();
+      for (BlockMetaData rowGroup : rowGroups) {
+        if (rowGroup.getRowCount() > recordsToSkip) {
+          start = rowGroup.getStartingPos();
+          break;
+        }
+        recordsToSkip -= rowGroup.getRowCount();
+      }
+    }
+
+    CloseableIterable<T> iterable = readData(task, start, task.start() + task.length() - start);
+    if (recordsToSkip == 0) {
+      return iterable;
+    }
+    long skip = recordsToSkip;
+    return CloseableIterable.combine(() -> {
+      CloseableIterator<T> iterator = iterable.iterator();
+      for (long i = 0; i < skip; i++) {
+        if (!iterator.hasNext()) {
+          throw new IllegalStateException(String.format(
+              "Invalid starting record offset %d for file %s", startingRecordOffset, task.file().path()));
+        }
+        iterator.next();
+      }
+      return iterator;
+    }, iterable);
+  }
+
+  private CloseableIterable<T> readData(FileScanTask task, long start, long length) {
 
     Map<Integer, ?> idToConstant = DataReaderCommon.getIdToConstant(task, projectedSchema, convertConstant);
 
     DeleteFilter<T> deleteFilter = new GenericDeleteFilter(task, tableSchema, projectedSchema);
 
     CloseableIterable<T> iterable = deleteFilter.filter(
-        newIterable(task, deleteFilter.requiredSchema(), idToConstant)
+        newIterable(task, start, length, deleteFilter.requiredSchema(), idToConstant)
     );
 
     if (dataNodeFilter != null) {
@@ -100,15 +156,34 @@ public abstract class BaseIcebergDataReader<T> {
     return iterable;
   }
 
+  /**
+   * Whether records read from the task are exactly rows of the split, that means no row is filtered out by deletes,
+   * tree node or residual row group filter.
+   */
+  private boolean rowPositionIsRecordOffset(FileScanTask task) {
+    if (task.isDataTask() || task.file().format() != FileFormat.PARQUET || !task.deletes().isEmpty() ||
+        task.residual().op() != Expression.Operation.TRUE) {
+      return false;
+    }
+    if (dataNodeFilter == null) {
+      return true;
+    }
+    if (!(task instanceof ArcticFileScanTask) || ((ArcticFileScanTask) task).file().node() == null) {
+      return false;
+    }
+    DataTreeNode fileNode = ((ArcticFileScanTask) task).file().node();
+    return sourceNodes.stream().anyMatch(fileNode::isSonOf);
+  }
+
   private CloseableIterable<T> newIterable(
-      FileScanTask task, Schema schema, Map<Integer, ?> idToConstant) {
+      FileScanTask task, long start, long length, Schema schema, Map<Integer, ?> idToConstant) {
     CloseableIterable<T> iter;
     if (task.isDataTask()) {
       throw new UnsupportedOperationException("Cannot read data task.");
     } else {
       switch (task.file().format()) {
         case PARQUET:
-          iter = newParquetIterable(task, schema, idToConstant);
+          iter = newParquetIterable(task, start, length, schema, idToConstant);
           break;
         default:
           throw new UnsupportedOperationException(
@@ -120,9 +195,9 @@ public abstract class BaseIcebergDataReader<T> {
   }
 
   private CloseableIterable<T> newParquetIterable(
-      FileScanTask task, Schema schema, Map<Integer, ?> idToConstant) {
+      FileScanTask task, long start, long length, Schema schema, Map<Integer, ?> idToConstant) {
     Parquet.ReadBuilder builder = Parquet.read(fileIO.newInputFile(task.file().path().toString()))
-        .split(task.start(), task.length())
+        .split(start, length)
         .project(schema)
         .createReaderFunc(getNewReaderFunction(schema, idToConstant))
         .filter(task.residual())
@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.io.reader;
+
+import com.netease.arctic.io.ArcticFileIO;
+import com.netease.arctic.scan.ArcticFileScanTask;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Open data files of a scan task ahead on an I/O pool, while the current file is being read.
+ * Opening a prefetched file reads its footer and first row group, so the reader doesn't wait on the storage at every
+ * file boundary. At most {@code depth} files are prefetched, and the total length of them can't exceed the byte budget.
+ * <p>
+ * Files must be opened in the order of the tasks. Only raw file records are read ahead, filters should be applied
+ * by the caller on the reading thread.
+ *
+ * @param <T> to indicate the record data type.
+ */
+class DataFilePrefetcher<T> implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(DataFilePrefetcher.class);
+
+  private static volatile ExecutorService sharedExecutor;
+
+  private final List<ArcticFileScanTask> tasks;
+  private final Function<ArcticFileScanTask, CloseableIterable<T>> opener;
+  private final ArcticFileIO fileIO;
+  private final ExecutorService executor;
+  private final int depth;
+  private final long byteBudget;
+  private final Deque<Prefetch<T>> prefetched = new ArrayDeque<>();
+  private long prefetchedBytes;
+  private int opened;
+  private int nextToPrefetch;
+  private boolean closed;
+
+  DataFilePrefetcher(
+      List<ArcticFileScanTask> tasks, Function<ArcticFileScanTask, CloseableIterable<T>> opener,
+      ArcticFileIO fileIO, ExecutorService executor, int depth, long byteBudget) {
+    this.tasks = tasks;
+    this.opener = opener;
+    this.fileIO = fileIO;
+    this.executor = executor;
+    this.depth = depth;
+    this.byteBudget = byteBudget;
+  }
+
+  /**
+   * A daemon pool shared by all readers in the process, files being prefetched are bounded by readers.
+   */
+  static ExecutorService sharedExecutor() {
+    if (sharedExecutor == null) {
+      synchronized (DataFilePrefetcher.class) {
+        if (sharedExecutor == null) {
+          sharedExecutor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+              .setDaemon(true)
+              .setNameFormat("arctic-data-prefetch-%d")
+              .build());
+        }
+      }
+    }
+    return sharedExecutor;
+  }
+
+  /**
+   * Open the data file of the task, use the prefetched one if it's ready or being prefetched.
+   */
+  synchronized CloseableIterable<T> open(ArcticFileScanTask task) {
+    opened++;
+    nextToPrefetch = Math.max(nextToPrefetch, opened);
+    Prefetch<T> head = prefetched.peekFirst();
+    CloseableIterable<T> iterable;
+    if (head != null && head.task == task) {
+      prefetched.pollFirst();
+      prefetchedBytes -= head.task.length();
+      iterable = head;
+    } else {
+      iterable = opener.apply(task);
+    }
+    prefetchAhead();
+    return iterable;
+  }
+
+  private void prefetchAhead() {
+    while (!closed && prefetched.size() < depth && nextToPrefetch < tasks.size()) {
+      ArcticFileScanTask next = tasks.get(nextToPrefetch);
+      if (prefetchedBytes + next.length() > byteBudget) {
+        // keep the order, wait for prefetched files to be consumed
+        return;
+      }
+      Prefetch<T> prefetch = new Prefetch<>(next);
+      prefetch.future = executor.submit(() -> fileIO.doAs(() -> prefetch.open(opener.apply(next))));
+      prefetched.addLast(prefetch);
+      prefetchedBytes += next.length();
+      nextToPrefetch++;
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    closed = true;
+    for (Prefetch<T> prefetch : prefetched) {
+      prefetch.close();
+    }
+    prefetched.clear();
+    prefetchedBytes = 0;
+  }
+
+  private static class Prefetch<T> implements CloseableIterable<T> {
+    private final ArcticFileScanTask task;
+    private volatile Future<?> future;
+    private CloseableIterator<T> iterator;
+    private T first;
+    private boolean hasFirst;
+    private boolean closed;
+
+    Prefetch(ArcticFileScanTask task) {
+      this.task = task;
+    }
+
+    private Void open(CloseableIterable<T> iterable) throws IOException {
+      CloseableIterator<T> opened = iterable.iterator();
+      // read the first record to load the first row group
+      T record = opened.hasNext() ? opened.next() : null;
+      synchronized (this) {
+        if (closed) {
+          opened.close();
+          return null;
+        }
+        this.iterator = opened;
+        this.first = record;
+        this.hasFirst = record != null;
+      }
+      return null;
+    }
+
+    @Override
+    public CloseableIterator<T> iterator() {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted while prefetching " + task.file().path(), e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof IOException) {
+          throw new UncheckedIOException((IOException) e.getCause());
+        } else if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw new RuntimeException("Failed to prefetch " + task.file().path(), e.getCause());
+      }
+      if (iterator == null) {
+        throw new IllegalStateException("Prefetched file is already closed: " + task.file().path());
+      }
+
+      return new CloseableIterator<T>() {
+        @Override
+        public boolean hasNext() {
+          return hasFirst || iterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+          if (hasFirst) {
+            hasFirst = false;
+            T record = first;
+            first = null;
+            return record;
+          }
+          if (!iterator.hasNext()) {
+            throw new NoSuchElementException();
+          }
+          return iterator.next();
+        }
+
+        @Override
+        public void close() throws IOException {
+          Prefetch.this.close();
+        }
+      };
+    }
+
+    @Override
+    public void close() throws IOException {
+      CloseableIterator<T> toClose;
+      synchronized (this) {
+        closed = true;
+        toClose = iterator;
+        iterator = null;
+        first = null;
+        hasFirst = false;
+      }
+      if (toClose != null) {
+        toClose.close();
+      } else if (future != null && !future.isDone()) {
+        future.cancel(false);
+        LOG.debug("Cancel prefetching {}", task.file().path());
+      }
+    }
+  }
+}
@@ -38,6 +38,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.util.Tasks;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -46,6 +47,11 @@ import java.util.Map;
  * @param <T> to indicate the record data type.
  */
 public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
+  // files smaller than it are not used to correct the size estimation, the footer dominates their size
+  private static final long MIN_FEEDBACK_FILE_SIZE = 1024 * 1024;
+  private static final double MIN_SIZE_RATIO = 0.1;
+  private static final double MAX_SIZE_RATIO = 10;
+
   private final FileFormat format;
   private final FileAppenderFactory<T> appenderFactory;
   private final OutputFileFactory outputFileFactory;
@@ -55,9 +61,17 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
 
   private final PartitionKey partitionKey;
   private final PrimaryKeyData primaryKey;
+  private final boolean unpartitioned;
 
-  private final Map<TaskWriterKey, DataWriter<T>> dataWriterMap = Maps.newHashMap();
+  // partition -> writers of the partition, writers of unpartitioned table are kept in unpartitionedWriters
+  private final Map<StructLike, PartitionWriters<T>> partitionWriters = Maps.newHashMap();
+  private PartitionWriters<T> unpartitionedWriters;
   private final List<DataFile> completedFiles = Lists.newArrayList();
+  // tree node -> max records of a file of the node, files are only rolled by size for nodes not in it
+  private Map<DataTreeNode, Long> targetFileRecords = Collections.emptyMap();
+  // ratio of the closed file size to the length reported by the writer before closing, it corrects the rolling
+  // size of later files as the length is estimated from buffered uncompressed data
+  private double sizeRatio = 1;
 
   protected BaseTaskWriter(FileFormat format, FileAppenderFactory<T> appenderFactory,
                            OutputFileFactory outputFileFactory, ArcticFileIO io, long targetFileSize, long mask,
@@ -70,26 +84,62 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
     this.mask = mask;
     this.partitionKey = new PartitionKey(spec, schema);
     this.primaryKey = primaryKeySpec == null ? null : new PrimaryKeyData(primaryKeySpec, schema);
+    this.unpartitioned = spec.isUnpartitioned();
+  }
+
+  /**
+   * Set the max records of a file for tree nodes, so the output of a node can be split into files of even size
+   * by the estimated record count of the node. For a node not in the map, the nearest ancestor in the map is used.
+   *
+   * @param targetFileRecords - tree node -> max records of a file
+   */
+  public void setTargetFileRecords(Map<DataTreeNode, Long> targetFileRecords) {
+    this.targetFileRecords = targetFileRecords;
   }
 
   @Override
   public void write(T row) throws IOException {
-    TaskWriterKey writerKey = buildWriterKey(row);
-    DataWriter<T> writer;
-    if (!dataWriterMap.containsKey(writerKey)) {
-      TaskWriterKey key = new TaskWriterKey(partitionKey.copy(), writerKey.getTreeNode(), writerKey.getFileType());
-      writer = io.doAs(() -> appenderFactory.newDataWriter(
-          outputFileFactory.newOutputFile(writerKey), format, key.getPartitionKey()));
-      dataWriterMap.put(key, writer);
+    // route the row by partition, tree node index and file type, no object is created unless a new writer is needed
+    StructLike structLike = asStructLike(row);
+    PartitionWriters<T> writers;
+    if (unpartitioned) {
+      if (unpartitionedWriters == null) {
+        unpartitionedWriters = new PartitionWriters<>(partitionKey, mask);
+      }
+      writers = unpartitionedWriters;
     } else {
-      writer = dataWriterMap.get(writerKey);
+      partitionKey.partition(structLike);
+      writers = partitionWriters.get(partitionKey);
+      if (writers == null) {
+        PartitionKey copiedKey = partitionKey.copy();
+        writers = new PartitionWriters<>(copiedKey, mask);
+        partitionWriters.put(copiedKey, writers);
+      }
+    }
+    int nodeIndex;
+    if (primaryKey != null) {
+      primaryKey.primaryKey(structLike);
+      nodeIndex = (int) primaryKey.treeNodeIndex(mask);
+    } else {
+      nodeIndex = 0;
+    }
+    DataFileType fileType = fileType(row);
+
+    RollingFile<T> file = writers.get(fileType, nodeIndex);
+    if (file == null) {
+      DataTreeNode node = primaryKey == null ? DataTreeNode.ROOT : DataTreeNode.of(mask, nodeIndex);
+      TaskWriterKey key = new TaskWriterKey(writers.partition, node, fileType);
+      DataWriter<T> writer = io.doAs(() -> appenderFactory.newDataWriter(
+          outputFileFactory.newOutputFile(key), format, key.getPartitionKey()));
+      file = new RollingFile<>(writer, targetFileRecords(node));
+      writers.put(fileType, nodeIndex, file);
     }
-    write(writer, row);
+    write(file.writer, row);
+    file.records++;
 
-    if (shouldRollToNewFile(writer)) {
-      writer.close();
-      completedFiles.add(writer.toDataFile());
-      dataWriterMap.remove(writerKey);
+    if (shouldRollToNewFile(file)) {
+      completeFile(file);
+      writers.put(fileType, nodeIndex, null);
     }
   }
 
@@ -97,22 +147,48 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
     writer.add(row);
   }
 
-  protected TaskWriterKey buildWriterKey(T row) {
-    StructLike structLike = asStructLike(row);
-    partitionKey.partition(structLike);
-    DataTreeNode node;
-    if (primaryKey != null) {
-      primaryKey.primaryKey(structLike);
-      node = primaryKey.treeNode(mask);
-    } else {
-      node = DataTreeNode.ROOT;
-    }
-    return new TaskWriterKey(partitionKey, node, DataFileType.BASE_FILE);
+  /**
+   * Type of the file the row will be written to.
+   */
+  protected DataFileType fileType(T row) {
+    return DataFileType.BASE_FILE;
   }
 
-  private boolean shouldRollToNewFile(DataWriter<T> dataWriter) {
+  private boolean shouldRollToNewFile(RollingFile<T> file) {
+    if (file.targetRecords > 0 && file.records >= file.targetRecords) {
+      return true;
+    }
     // TODO: ORC file now not support target file size before closed
-    return !format.equals(FileFormat.ORC) && dataWriter.length() >= targetFileSize;
+    return !format.equals(FileFormat.ORC) && file.writer.length() * sizeRatio >= targetFileSize;
+  }
+
+  private long targetFileRecords(DataTreeNode node) {
+    if (targetFileRecords.isEmpty()) {
+      return 0;
+    }
+    DataTreeNode current = node;
+    while (true) {
+      Long records = targetFileRecords.get(current);
+      if (records != null) {
+        return records;
+      }
+      if (current.equals(DataTreeNode.ROOT)) {
+        return 0;
+      }
+      current = current.parent();
+    }
+  }
+
+  private void completeFile(RollingFile<T> file) throws IOException {
+    long estimatedSize = format.equals(FileFormat.ORC) ? 0 : file.writer.length();
+    file.writer.close();
+    DataFile dataFile = file.writer.toDataFile();
+    if (estimatedSize > 0 && dataFile.fileSizeInBytes() >= MIN_FEEDBACK_FILE_SIZE) {
+      double ratio = (double) dataFile.fileSizeInBytes() / estimatedSize;
+      // smooth the ratio over files, a single file with skewed data should not swing the rolling size
+      sizeRatio = Math.max(MIN_SIZE_RATIO, Math.min(MAX_SIZE_RATIO, (sizeRatio + ratio) / 2));
+    }
+    completedFiles.add(dataFile);
   }
 
   @Override
@@ -136,15 +212,80 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
 
   @Override
   public void close() throws IOException {
-    for (DataWriter<T> dataWriter : dataWriterMap.values()) {
-      dataWriter.close();
-      completedFiles.add(dataWriter.toDataFile());
+    if (unpartitionedWriters != null) {
+      unpartitionedWriters.close(this);
+      unpartitionedWriters = null;
     }
-    dataWriterMap.clear();
+    for (PartitionWriters<T> writers : partitionWriters.values()) {
+      writers.close(this);
+    }
+    partitionWriters.clear();
   }
 
   /**
    * Wrap the data as a {@link StructLike}.
    */
   protected abstract StructLike asStructLike(T data);
+
+  /**
+   * A file being written, with the records written to it.
+   */
+  private static class RollingFile<T> {
+    private final DataWriter<T> writer;
+    private final long targetRecords;
+    private long records;
+
+    RollingFile(DataWriter<T> writer, long targetRecords) {
+      this.writer = writer;
+      this.targetRecords = targetRecords;
+    }
+  }
+
+  /**
+   * Writers of a partition, indexed by file type and tree node index.
+   */
+  private static class PartitionWriters<T> {
+    private static final int FILE_TYPE_CNT = DataFileType.values().length;
+
+    private final StructLike partition;
+    private final int nodeCnt;
+    // file type ordinal -> writers indexed by tree node index, created when the first row of the type arrives
+    private final RollingFile<T>[][] writers;
+
+    @SuppressWarnings("unchecked")
+    PartitionWriters(StructLike partition, long mask) {
+      this.partition = partition;
+      this.nodeCnt = (int) mask + 1;
+      this.writers = (RollingFile<T>[][]) new RollingFile[FILE_TYPE_CNT][];
+    }
+
+    RollingFile<T> get(DataFileType fileType, int nodeIndex) {
+      RollingFile<T>[] typeWriters = writers[fileType.ordinal()];
+      return typeWriters == null ? null : typeWriters[nodeIndex];
+    }
+
+    @SuppressWarnings("unchecked")
+    void put(DataFileType fileType, int nodeIndex, RollingFile<T> file) {
+      RollingFile<T>[] typeWriters = writers[fileType.ordinal()];
+      if (typeWriters == null) {
+        typeWriters = (RollingFile<T>[]) new RollingFile[nodeCnt];
+        writers[fileType.ordinal()] = typeWriters;
+      }
+      typeWriters[nodeIndex] = file;
+    }
+
+    void close(BaseTaskWriter<T> taskWriter) throws IOException {
+      for (RollingFile<T>[] typeWriters : writers) {
+        if (typeWriters == null) {
+          continue;
+        }
+        for (int i = 0; i < typeWriters.length; i++) {
+          if (typeWriters[i] != null) {
+            taskWriter.completeFile(typeWriters[i]);
+            typeWriters[i] = null;
+          }
+        }
+      }
+    }
+  }
 }
@@ -45,16 +45,15 @@ public abstract class ChangeTaskWriter<T> extends BaseTaskWriter<T> {
   }
 
   @Override
-  protected TaskWriterKey buildWriterKey(T row) {
-    TaskWriterKey key = super.buildWriterKey(row);
+  protected DataFileType fileType(T row) {
     ChangeAction action = action(row);
     switch (action) {
       case INSERT:
       case UPDATE_AFTER:
-        return new TaskWriterKey(key.getPartitionKey(), key.getTreeNode(), DataFileType.INSERT_FILE);
+        return DataFileType.INSERT_FILE;
       case DELETE:
       case UPDATE_BEFORE:
-        return new TaskWriterKey(key.getPartitionKey(), key.getTreeNode(), DataFileType.EQ_DELETE_FILE);
+        return DataFileType.EQ_DELETE_FILE;
       default:
         throw new IllegalArgumentException("Unknown action:" + action.name());
     }
@@ -19,6 +19,7 @@
 package com.netease.arctic.io.writer;
 
 import com.netease.arctic.data.ChangeAction;
+import com.netease.arctic.data.DataTreeNode;
 import com.netease.arctic.table.KeyedTable;
 import com.netease.arctic.table.TableProperties;
 import com.netease.arctic.utils.SchemaUtil;
@@ -33,6 +34,7 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.util.PropertyUtil;
 
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * Builder to create writers for {@link KeyedTable} writting {@link Record}.
@@ -51,6 +53,8 @@ public class GenericTaskWriters {
     private int partitionId = 0;
     private int taskId = 0;
     private ChangeAction changeAction = ChangeAction.INSERT;
+    private Map<DataTreeNode, Long> targetFileRecords;
+    private PosDeleteMemoryBudget posDeleteMemoryBudget;
 
     Builder(KeyedTable table) {
       this.table = table;
@@ -76,6 +80,23 @@ public class GenericTaskWriters {
       return this;
     }
 
+    /**
+     * Max records of a base file for tree nodes, see {@link BaseTaskWriter#setTargetFileRecords(Map)}.
+     */
+    public Builder withTargetFileRecords(Map<DataTreeNode, Long> targetFileRecords) {
+      this.targetFileRecords = targetFileRecords;
+      return this;
+    }
+
+    /**
+     * Memory budget shared by position delete writers of a task, by default each writer has its own budget of
+     * {@link TableProperties#POS_DELETE_WRITE_BUFFER_BYTES}.
+     */
+    public Builder withPosDeleteMemoryBudget(PosDeleteMemoryBudget posDeleteMemoryBudget) {
+      this.posDeleteMemoryBudget = posDeleteMemoryBudget;
+      return this;
+    }
+
     public GenericBaseTaskWriter buildBaseWriter() {
       preconditions();
       FileFormat fileFormat = FileFormat.valueOf((table.properties().getOrDefault(TableProperties.BASE_FILE_FORMAT,
@@ -84,10 +105,15 @@ public class GenericTaskWriters {
           TableProperties.WRITE_TARGET_FILE_SIZE_BYTES_DEFAULT);
       long mask = PropertyUtil.propertyAsLong(table.properties(), TableProperties.BASE_FILE_INDEX_HASH_BUCKET,
           TableProperties.BASE_FILE_INDEX_HASH_BUCKET_DEFAULT) - 1;
-      return new GenericBaseTaskWriter(fileFormat, new GenericAppenderFactory(table.baseTable().schema(), table.spec()),
+      GenericBaseTaskWriter writer = new GenericBaseTaskWriter(fileFormat,
+          new GenericAppenderFactory(table.baseTable().schema(), table.spec()),
           new CommonOutputFileFactory(table.baseLocation(), table.spec(), fileFormat, table.io(),
               table.baseTable().encryption(), partitionId, taskId, transactionId),
           table.io(), fileSizeBytes, mask, table.baseTable().schema(), table.spec(), table.primaryKeySpec());
+      if (targetFileRecords != null) {
+        writer.setTargetFileRecords(targetFileRecords);
+      }
+      return writer;
     }
 
     public SortedPosDeleteWriter<Record> buildBasePosDeleteWriter(long mask, long index, StructLike partitionKey) {
@@ -102,10 +128,15 @@ public class GenericTaskWriters {
       appenderFactory.set(
           org.apache.iceberg.TableProperties.METRICS_MODE_COLUMN_CONF_PREFIX + MetadataColumns.DELETE_FILE_POS.name(),
           MetricsModes.Full.get().toString());
+      PosDeleteMemoryBudget memoryBudget = posDeleteMemoryBudget != null ? posDeleteMemoryBudget :
+          new PosDeleteMemoryBudget(PropertyUtil.propertyAsLong(table.properties(),
+              TableProperties.POS_DELETE_WRITE_BUFFER_BYTES, TableProperties.POS_DELETE_WRITE_BUFFER_BYTES_DEFAULT));
+      long fileSizeBytes = PropertyUtil.propertyAsLong(table.properties(), TableProperties.WRITE_TARGET_FILE_SIZE_BYTES,
+          TableProperties.WRITE_TARGET_FILE_SIZE_BYTES_DEFAULT);
       return new SortedPosDeleteWriter<>(appenderFactory,
           new CommonOutputFileFactory(table.baseLocation(), table.spec(), fileFormat, table.io(),
               table.baseTable().encryption(), partitionId, taskId, transactionId),
-          fileFormat, mask, index, partitionKey);
+          fileFormat, mask, index, partitionKey, Long.MAX_VALUE, memoryBudget, fileSizeBytes);
     }
 
     public GenericChangeTaskWriter buildChangeWriter() {
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.io.writer;
+
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+
+import java.util.List;
+
+/**
+ * Memory budget for buffering position deletes, shared by all {@link SortedPosDeleteWriter}s of a task.
+ * <p>
+ * Writers allocate bytes from the budget for buffered deletes, and when the total of all writers exceeds the budget,
+ * the writer buffering most deletes spills them to a local file, or flushes them if they can not be spilled. It is
+ * not thread-safe, writers sharing a budget should be written by the same thread.
+ */
+public class PosDeleteMemoryBudget {
+  private final long budgetBytes;
+  private final List<SortedPosDeleteWriter<?>> writers = Lists.newArrayList();
+  private long usedBytes = 0;
+
+  public PosDeleteMemoryBudget(long budgetBytes) {
+    Preconditions.checkArgument(budgetBytes > 0, "memory budget should be positive: %s", budgetBytes);
+    this.budgetBytes = budgetBytes;
+  }
+
+  public long budgetBytes() {
+    return budgetBytes;
+  }
+
+  public long usedBytes() {
+    return usedBytes;
+  }
+
+  void register(SortedPosDeleteWriter<?> writer) {
+    writers.add(writer);
+  }
+
+  void unregister(SortedPosDeleteWriter<?> writer) {
+    writers.remove(writer);
+  }
+
+  void allocate(long bytes) {
+    usedBytes += bytes;
+    while (usedBytes >= budgetBytes) {
+      SortedPosDeleteWriter<?> largest = null;
+      for (SortedPosDeleteWriter<?> writer : writers) {
+        if (largest == null || writer.bufferedBytes() > largest.bufferedBytes()) {
+          largest = writer;
+        }
+      }
+      if (largest == null || largest.bufferedBytes() == 0) {
+        return;
+      }
+      largest.releaseMemory();
+    }
+  }
+
+  void release(long bytes) {
+    usedBytes -= bytes;
+  }
+}
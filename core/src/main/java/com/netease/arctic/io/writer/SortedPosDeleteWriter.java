@@ -26,50 +26,116 @@ import org.apache.iceberg.StructLike;
 import org.apache.iceberg.deletes.PositionDeleteWriter;
 import org.apache.iceberg.encryption.EncryptedOutputFile;
 import org.apache.iceberg.io.FileAppenderFactory;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterators;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.types.Comparators;
 import org.apache.iceberg.util.CharSequenceSet;
 import org.apache.iceberg.util.CharSequenceWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 /**
  * Abstract implementation of positional delete writer for {@link com.netease.arctic.table.BaseTable}.
+ * <p>
+ * Deletes are buffered in memory and sorted by path and position when flushed. The estimated size of buffered deletes
+ * is allocated from a {@link PosDeleteMemoryBudget}, which may be shared by all writers of a task. When the budget is
+ * exceeded, deletes of the writer buffering most are sorted and spilled to a local file as a sorted run, and all runs
+ * are merged into delete files when flushed. Deletes with rows can not be spilled, they are flushed to a delete file
+ * instead.
  * @param <T> to indicate the record data type.
  */
 public class SortedPosDeleteWriter<T> implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(SortedPosDeleteWriter.class);
+
   private static final long DEFAULT_RECORDS_NUM_THRESHOLD = Long.MAX_VALUE;
+  private static final long DEFAULT_MEMORY_BUDGET_BYTES = 67108864; // 64 MB
+  private static final long DEFAULT_TARGET_FILE_SIZE = Long.MAX_VALUE;
+  // rough heap size of a buffered position, including the list slot, and of a buffered path with its hash entry
+  private static final long POS_ROW_BYTES = 40;
+  private static final long PATH_OVERHEAD_BYTES = 96;
+  // size of a position in delete files until a file is completed, positions of the same path are well compressed
+  private static final double DEFAULT_BYTES_PER_RECORD = 8;
 
   private final Map<CharSequenceWrapper, List<PosRow<T>>> posDeletes = Maps.newHashMap();
   private final List<DeleteFile> completedFiles = Lists.newArrayList();
   private final CharSequenceSet referencedDataFiles = CharSequenceSet.empty();
   private final CharSequenceWrapper wrapper = CharSequenceWrapper.wrap(null);
+  private final List<File> spilledRuns = Lists.newArrayList();
 
   private final FileAppenderFactory<T> appenderFactory;
   private final OutputFileFactory fileFactory;
   private final FileFormat format;
   private final TaskWriterKey writerKey;
   private final long recordsNumThreshold;
+  private final PosDeleteMemoryBudget memoryBudget;
+  private final long targetFileSize;
+  private final File spillDirectory;
 
   private int records = 0;
+  private int bufferedRecords = 0;
+  private long bufferedBytes = 0;
+  private boolean hasRows = false;
+  private double bytesPerRecord = DEFAULT_BYTES_PER_RECORD;
 
   public SortedPosDeleteWriter(FileAppenderFactory<T> appenderFactory,
                                OutputFileFactory fileFactory,
                                FileFormat format,
                                long mask, long index,
                                StructLike partitionKey,
-                               long recordsNumThreshold) {
+                               long recordsNumThreshold,
+                               PosDeleteMemoryBudget memoryBudget,
+                               long targetFileSize) {
+    Preconditions.checkArgument(targetFileSize > 0, "target file size should be positive: %s", targetFileSize);
     this.appenderFactory = appenderFactory;
     this.fileFactory = fileFactory;
     this.format = format;
     this.writerKey = new TaskWriterKey(partitionKey, DataTreeNode.of(mask, index), DataFileType.POS_DELETE_FILE);
     this.recordsNumThreshold = recordsNumThreshold;
+    this.memoryBudget = memoryBudget;
+    this.targetFileSize = targetFileSize;
+    this.spillDirectory = new File(System.getProperty("java.io.tmpdir"));
+    memoryBudget.register(this);
+  }
+
+  public SortedPosDeleteWriter(FileAppenderFactory<T> appenderFactory,
+                               OutputFileFactory fileFactory,
+                               FileFormat format,
+                               long mask, long index,
+                               StructLike partitionKey,
+                               long recordsNumThreshold,
+                               long memoryBudgetBytes,
+                               long targetFileSize) {
+    this(appenderFactory, fileFactory, format, mask, index, partitionKey, recordsNumThreshold,
+        new PosDeleteMemoryBudget(memoryBudgetBytes), targetFileSize);
+  }
+
+  public SortedPosDeleteWriter(FileAppenderFactory<T> appenderFactory,
+                               OutputFileFactory fileFactory,
+                               FileFormat format,
+                               long mask, long index,
+                               StructLike partitionKey,
+                               long recordsNumThreshold) {
+    this(appenderFactory, fileFactory, format, mask, index, partitionKey, recordsNumThreshold,
+        DEFAULT_MEMORY_BUDGET_BYTES, DEFAULT_TARGET_FILE_SIZE);
   }
 
   public SortedPosDeleteWriter(FileAppenderFactory<T> appenderFactory,
@@ -87,21 +153,36 @@ public class SortedPosDeleteWriter<T> implements Closeable {
     this(appenderFactory, fileFactory, format, 0, 0, partitionKey, DEFAULT_RECORDS_NUM_THRESHOLD);
   }
 
+  public SortedPosDeleteWriter(FileAppenderFactory<T> appenderFactory,
+                               OutputFileFactory fileFactory,
+                               FileFormat format,
+                               StructLike partitionKey,
+                               PosDeleteMemoryBudget memoryBudget) {
+    this(appenderFactory, fileFactory, format, 0, 0, partitionKey, DEFAULT_RECORDS_NUM_THRESHOLD, memoryBudget,
+        DEFAULT_TARGET_FILE_SIZE);
+  }
+
   public void delete(CharSequence path, long pos) {
     delete(path, pos, null);
   }
 
   public void delete(CharSequence path, long pos, T row) {
+    long bytes = POS_ROW_BYTES;
     List<PosRow<T>> posRows = posDeletes.get(wrapper.set(path));
     if (posRows != null) {
       posRows.add(PosRow.of(pos, row));
     } else {
       posDeletes.put(CharSequenceWrapper.wrap(path), Lists.newArrayList(PosRow.of(pos, row)));
+      bytes += PATH_OVERHEAD_BYTES + 2L * path.length();
     }
+    bufferedBytes += bytes;
+    hasRows |= row != null;
 
     records += 1;
+    bufferedRecords += 1;
 
-    // TODO Flush buffer based on the policy that checking whether whole heap memory size exceed the threshold.
+    // may spill this writer or another writer sharing the budget
+    memoryBudget.allocate(bytes);
     if (records >= recordsNumThreshold) {
       flushDeletes();
     }
@@ -118,54 +199,175 @@ public class SortedPosDeleteWriter<T> implements Closeable {
   }
 
   public boolean isEmpty() {
-    return posDeletes.isEmpty();
+    return posDeletes.isEmpty() && spilledRuns.isEmpty();
   }
 
   @Override
   public void close() throws IOException {
     flushDeletes();
+    memoryBudget.unregister(this);
   }
 
-  private void flushDeletes() {
-    if (posDeletes.isEmpty()) {
-      return;
+  /**
+   * Discard buffered and spilled deletes without writing them, it should be called if the writer is abandoned
+   * before completed, or spilled runs are left in the local directory.
+   */
+  public void abort() {
+    deleteSpilledRuns();
+    clearBuffer();
+    records = 0;
+    hasRows = false;
+    memoryBudget.unregister(this);
+  }
+
+  long bufferedBytes() {
+    return bufferedBytes;
+  }
+
+  /**
+   * Release memory of buffered deletes for the budget, by spilling them, or flushing them if they have rows.
+   */
+  void releaseMemory() {
+    if (hasRows) {
+      flushDeletes();
+    } else {
+      spillDeletes();
     }
+  }
 
-    // Create a new output file.
-    EncryptedOutputFile outputFile;
-    outputFile = fileFactory.newOutputFile(writerKey);
+  private void clearBuffer() {
+    posDeletes.clear();
+    memoryBudget.release(bufferedBytes);
+    bufferedRecords = 0;
+    bufferedBytes = 0;
+  }
 
-    PositionDeleteWriter<T> writer = appenderFactory
-        .newPosDeleteWriter(outputFile, format, writerKey.getPartitionKey());
-    try (PositionDeleteWriter<T> closeableWriter = writer) {
-      // Sort all the paths.
-      List<CharSequence> paths = Lists.newArrayListWithCapacity(posDeletes.keySet().size());
-      for (CharSequenceWrapper charSequenceWrapper : posDeletes.keySet()) {
-        paths.add(charSequenceWrapper.get());
-      }
-      paths.sort(Comparators.charSequences());
+  private void deleteSpilledRuns() {
+    spilledRuns.forEach(SortedPosDeleteWriter::deleteRun);
+    spilledRuns.clear();
+  }
 
-      // Write all the sorted <path, pos, row> triples.
-      for (CharSequence path : paths) {
-        List<PosRow<T>> positions = posDeletes.get(wrapper.set(path));
-        positions.sort(Comparator.comparingLong(PosRow::pos));
+  private static void deleteRun(File run) {
+    if (run.exists() && !run.delete()) {
+      LOG.warn("Failed to delete spilled run {}", run);
+    }
+  }
 
-        positions.forEach(posRow -> closeableWriter.delete(path, posRow.pos(), posRow.row()));
+  /**
+   * Sort buffered deletes and write them to a local file as a sorted run.
+   */
+  private void spillDeletes() {
+    File run;
+    try {
+      run = File.createTempFile("arctic-pos-delete-run-", ".bin", spillDirectory);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to create spill file in " + spillDirectory, e);
+    }
+    try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(run)))) {
+      for (CharSequence path : sortedPaths()) {
+        List<PosRow<T>> positions = sortedPositions(path);
+        // paths are written as length-prefixed bytes, writeUTF is limited to 64KB
+        byte[] pathBytes = path.toString().getBytes(StandardCharsets.UTF_8);
+        output.writeBoolean(true);
+        output.writeInt(pathBytes.length);
+        output.write(pathBytes);
+        output.writeInt(positions.size());
+        for (PosRow<T> posRow : positions) {
+          output.writeLong(posRow.pos());
+        }
       }
+      output.writeBoolean(false);
     } catch (IOException e) {
-      throw new UncheckedIOException("Failed to write the sorted path/pos pairs to pos-delete file: " +
-          outputFile.encryptingOutputFile().location(), e);
+      deleteRun(run);
+      throw new UncheckedIOException("Failed to spill sorted path/pos pairs to " + run, e);
+    }
+    spilledRuns.add(run);
+    LOG.info("spill {} position deletes of {} bytes to {}", bufferedRecords, bufferedBytes, run);
+
+    clearBuffer();
+  }
+
+  private void flushDeletes() {
+    if (isEmpty()) {
+      return;
+    }
+
+    // merge the buffered deletes and the spilled runs, they are all sorted by path and position
+    List<Iterator<PosDelete<T>>> sortedDeletes = Lists.newArrayListWithCapacity(spilledRuns.size() + 1);
+    List<SpilledRunIterator<T>> runIterators = Lists.newArrayListWithCapacity(spilledRuns.size());
+    try {
+      for (File run : spilledRuns) {
+        SpilledRunIterator<T> runIterator = new SpilledRunIterator<>(run);
+        runIterators.add(runIterator);
+        sortedDeletes.add(runIterator);
+      }
+      sortedDeletes.add(sortedPaths().stream()
+          .flatMap(path -> sortedPositions(path).stream().map(posRow -> new PosDelete<>(path, posRow)))
+          .iterator());
+      Iterator<PosDelete<T>> merged = sortedDeletes.size() == 1 ? sortedDeletes.get(0) :
+          Iterators.mergeSorted(sortedDeletes, PosDelete.comparator());
+      writeDeletes(merged);
+    } finally {
+      runIterators.forEach(SpilledRunIterator::close);
+      deleteSpilledRuns();
     }
 
     // Clear the buffered pos-deletions.
-    posDeletes.clear();
+    clearBuffer();
     records = 0;
+    hasRows = false;
+  }
+
+  /**
+   * Write sorted deletes to delete files, a new file is rolled when the records of the file are estimated to reach
+   * the target file size, by the size per record of completed files.
+   */
+  private void writeDeletes(Iterator<PosDelete<T>> deletes) {
+    while (deletes.hasNext()) {
+      long fileRecordsThreshold = targetFileSize == Long.MAX_VALUE ? Long.MAX_VALUE :
+          Math.max(1, (long) (targetFileSize / bytesPerRecord));
+
+      // Create a new output file.
+      EncryptedOutputFile outputFile = fileFactory.newOutputFile(writerKey);
+      PositionDeleteWriter<T> writer = appenderFactory
+          .newPosDeleteWriter(outputFile, format, writerKey.getPartitionKey());
+      long fileRecords = 0;
+      try (PositionDeleteWriter<T> closeableWriter = writer) {
+        while (deletes.hasNext() && fileRecords < fileRecordsThreshold) {
+          PosDelete<T> delete = deletes.next();
+          closeableWriter.delete(delete.path, delete.pos, delete.row);
+          fileRecords++;
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to write the sorted path/pos pairs to pos-delete file: " +
+            outputFile.encryptingOutputFile().location(), e);
+      }
+
+      // Add the referenced data files.
+      referencedDataFiles.addAll(writer.referencedDataFiles());
 
-    // Add the referenced data files.
-    referencedDataFiles.addAll(writer.referencedDataFiles());
+      // Add the completed delete files.
+      DeleteFile deleteFile = writer.toDeleteFile();
+      completedFiles.add(deleteFile);
+      if (deleteFile.recordCount() > 0) {
+        bytesPerRecord = (double) deleteFile.fileSizeInBytes() / deleteFile.recordCount();
+      }
+    }
+  }
+
+  private List<CharSequence> sortedPaths() {
+    List<CharSequence> paths = Lists.newArrayListWithCapacity(posDeletes.keySet().size());
+    for (CharSequenceWrapper charSequenceWrapper : posDeletes.keySet()) {
+      paths.add(charSequenceWrapper.get());
+    }
+    paths.sort(Comparators.charSequences());
+    return paths;
+  }
 
-    // Add the completed delete files.
-    completedFiles.add(writer.toDeleteFile());
+  private List<PosRow<T>> sortedPositions(CharSequence path) {
+    List<PosRow<T>> positions = posDeletes.get(wrapper.set(path));
+    positions.sort(Comparator.comparingLong(PosRow::pos));
+    return positions;
   }
 
   private static class PosRow<R> {
@@ -189,4 +391,92 @@ public class SortedPosDeleteWriter<T> implements Closeable {
       return row;
     }
   }
+
+  /**
+   * A delete to write, read from buffered deletes or spilled runs.
+   */
+  private static class PosDelete<R> {
+    private static final Comparator<PosDelete<?>> COMPARATOR =
+        Comparator.<PosDelete<?>, CharSequence>comparing(delete -> delete.path, Comparators.charSequences())
+            .thenComparingLong(delete -> delete.pos);
+
+    private final CharSequence path;
+    private final long pos;
+    private final R row;
+
+    PosDelete(CharSequence path, long pos, R row) {
+      this.path = path;
+      this.pos = pos;
+      this.row = row;
+    }
+
+    PosDelete(CharSequence path, PosRow<R> posRow) {
+      this(path, posRow.pos(), posRow.row());
+    }
+
+    static Comparator<PosDelete<?>> comparator() {
+      return COMPARATOR;
+    }
+  }
+
+  /**
+   * Read deletes of a spilled run in order, spilled deletes have no row.
+   */
+  private static class SpilledRunIterator<R> implements Iterator<PosDelete<R>>, Closeable {
+    private final File run;
+    private final DataInputStream input;
+    private String path;
+    private int remaining;
+    private boolean finished;
+
+    SpilledRunIterator(File run) {
+      this.run = run;
+      try {
+        this.input = new DataInputStream(new BufferedInputStream(new FileInputStream(run)));
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to open spilled run " + run, e);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      try {
+        while (remaining == 0) {
+          if (finished || !input.readBoolean()) {
+            finished = true;
+            return false;
+          }
+          byte[] pathBytes = new byte[input.readInt()];
+          input.readFully(pathBytes);
+          path = new String(pathBytes, StandardCharsets.UTF_8);
+          remaining = input.readInt();
+        }
+        return true;
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to read spilled run " + run, e);
+      }
+    }
+
+    @Override
+    public PosDelete<R> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      try {
+        remaining--;
+        return new PosDelete<>(path, input.readLong(), null);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to read spilled run " + run, e);
+      }
+    }
+
+    @Override
+    public void close() {
+      try {
+        input.close();
+      } catch (IOException e) {
+        LOG.warn("Failed to close spilled run {}", run, e);
+      }
+    }
+  }
 }
@@ -20,6 +20,7 @@ package com.netease.arctic.op;
 
 import com.netease.arctic.table.TableProperties;
 import com.netease.arctic.table.UnkeyedTable;
+import com.netease.arctic.utils.PartitionPropertiesFile;
 import com.netease.arctic.utils.TablePropertyUtil;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.Table;
@@ -27,13 +28,17 @@ import org.apache.iceberg.Transaction;
 import org.apache.iceberg.UpdateProperties;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.StructLikeMap;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 
 public class PartitionPropertiesUpdate implements UpdatePartitionProperties {
 
+  private static final String METADATA_FOLDER_NAME = "metadata";
+
   private final UnkeyedTable table;
   private final Table transactionTable;
   private final StructLikeMap<Map<String, String>> setProperties;
@@ -87,42 +92,68 @@ public class PartitionPropertiesUpdate implements UpdatePartitionProperties {
 
   @Override
   public StructLikeMap<Map<String, String>> apply() {
-    StructLikeMap<Map<String, String>> partitionProperties;
-    if (transactionTable != null) {
-      String s = transactionTable.properties().get(TableProperties.TABLE_PARTITION_PROPERTIES);
-      if (s != null) {
-        partitionProperties = TablePropertyUtil.decodePartitionProperties(table.spec(), s);
-      } else {
-        partitionProperties = StructLikeMap.create(table.spec().partitionType());
-      }
-    } else {
-      partitionProperties = table.partitionProperty();
-    }
-    setProperties.forEach((partitionData, properties) -> {
-      Map<String, String> oldProperties = partitionProperties.computeIfAbsent(partitionData, k -> Maps.newHashMap());
-      oldProperties.putAll(properties);
-    });
-    removeProperties.forEach((partitionData, keys) -> {
-      Map<String, String> oldProperties = partitionProperties.get(partitionData);
-      if (oldProperties != null) {
-        keys.forEach(oldProperties::remove);
-      }
-    });
-    return partitionProperties;
+    return TablePropertyUtil.toPartitionProperties(table.spec(), apply(current().properties()));
   }
 
   @Override
   public void commit() {
-    StructLikeMap<Map<String, String>> result = apply();
+    Map<String, String> tableProperties = tableProperties();
+    PartitionPropertiesFile.Content current = current();
+    Map<String, Map<String, String>> result = apply(current.properties());
     UpdateProperties updateProperties;
     if (transaction == null) {
       updateProperties = table.updateProperties();
     } else {
       updateProperties = transaction.updateProperties();
     }
-    updateProperties.set(
-        TableProperties.TABLE_PARTITION_PROPERTIES,
-        TablePropertyUtil.encodePartitionProperties(table.spec(), result));
+    if (PropertyUtil.propertyAsBoolean(tableProperties, TableProperties.TABLE_PARTITION_PROPERTIES_FILE_ENABLED,
+        TableProperties.TABLE_PARTITION_PROPERTIES_FILE_ENABLED_DEFAULT)) {
+      String file = PartitionPropertiesFile.write(table.io(), table.location() + "/" + METADATA_FOLDER_NAME,
+          current.sequence() + 1, result);
+      updateProperties.set(TableProperties.TABLE_PARTITION_PROPERTIES_FILE, file);
+      // migrate from the legacy table property
+      if (tableProperties.containsKey(TableProperties.TABLE_PARTITION_PROPERTIES)) {
+        updateProperties.remove(TableProperties.TABLE_PARTITION_PROPERTIES);
+      }
+    } else {
+      updateProperties.set(
+          TableProperties.TABLE_PARTITION_PROPERTIES,
+          TablePropertyUtil.encodePartitionProperties(result));
+      if (tableProperties.containsKey(TableProperties.TABLE_PARTITION_PROPERTIES_FILE)) {
+        updateProperties.remove(TableProperties.TABLE_PARTITION_PROPERTIES_FILE);
+      }
+    }
     updateProperties.commit();
   }
+
+  private Map<String, String> tableProperties() {
+    return transactionTable != null ? transactionTable.properties() : table.properties();
+  }
+
+  private PartitionPropertiesFile.Content current() {
+    return TablePropertyUtil.readPartitionProperties(table.io(), tableProperties());
+  }
+
+  /**
+   * Apply changes on partition properties keyed by partition path, only changed partitions are copied.
+   */
+  private Map<String, Map<String, String>> apply(Map<String, Map<String, String>> current) {
+    Map<String, Map<String, String>> result = Maps.newHashMap(current);
+    setProperties.forEach((partitionData, properties) -> {
+      String partition = table.spec().partitionToPath(partitionData);
+      Map<String, String> newProperties = Maps.newHashMap(result.getOrDefault(partition, Collections.emptyMap()));
+      newProperties.putAll(properties);
+      result.put(partition, newProperties);
+    });
+    removeProperties.forEach((partitionData, keys) -> {
+      String partition = table.spec().partitionToPath(partitionData);
+      Map<String, String> oldProperties = result.get(partition);
+      if (oldProperties != null) {
+        Map<String, String> newProperties = Maps.newHashMap(oldProperties);
+        keys.forEach(newProperties::remove);
+        result.put(partition, newProperties);
+      }
+    });
+    return result;
+  }
 }
@@ -227,18 +227,21 @@ public class BaseKeyedTableScan implements KeyedTableScan {
       List<ArcticFileScanTask> baseTasks) {
     ListMultimap<StructLike, ArcticFileScanTask> filesGroupedByPartition
         = Multimaps.newListMultimap(Maps.newHashMap(), Lists::newArrayList);
-    StructLikeMap<Long> partitionMaxTxId = TablePropertyUtil.getPartitionMaxTransactionId(table);
+    // partition properties are keyed by partition path, only partitions of change files are decoded
+    Map<String, Map<String, String>> partitionProperties = TablePropertyUtil.readPartitionProperties(
+        table.baseTable().io(), table.baseTable().properties()).properties();
+    StructLikeMap<Long> partitionMaxTxId = StructLikeMap.create(table.spec().partitionType());
 
     // filter change files according to max transaction id
     changeTasks.forEach(task -> {
-      StructLike structLike = task.file().partition();
+      StructLike partition = task.file().partition();
       Long txId;
-      if (structLike.size() == 0) {
-        txId = partitionMaxTxId.get(TablePropertyUtil.EMPTY_STRUCT);
+      if (partitionMaxTxId.containsKey(partition)) {
+        txId = partitionMaxTxId.get(partition);
       } else {
-        txId = partitionMaxTxId.get(task.file().partition());
+        txId = TablePropertyUtil.getPartitionMaxTransactionId(table.spec(), partitionProperties, partition);
+        partitionMaxTxId.put(partition, txId);
       }
-      // Long transactionId = partitionTransactionMap.get(FileUtil.getPartition(task.file()));
       txId = txId == null ? -1 : txId;
       if (task.file().transactionId() > txId) {
         filesGroupedByPartition.put(task.file().partition(), task);
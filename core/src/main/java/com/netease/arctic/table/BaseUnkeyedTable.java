@@ -333,12 +333,8 @@ public class BaseUnkeyedTable implements UnkeyedTable, HasTableOperations {
 
   @Override
   public StructLikeMap<Map<String, String>> partitionProperty() {
-    String s = icebergTable.properties().get(TableProperties.TABLE_PARTITION_PROPERTIES);
-    if (s != null) {
-      return TablePropertyUtil.decodePartitionProperties(spec(), s);
-    } else {
-      return StructLikeMap.create(spec().partitionType());
-    }
+    return TablePropertyUtil.toPartitionProperties(spec(),
+        TablePropertyUtil.readPartitionProperties(io(), icebergTable.properties()).properties());
   }
 
   @Override
@@ -40,11 +40,24 @@ public class TableProperties {
     PROTECTED_PROPERTIES.add(TableProperties.BASE_TABLE_MAX_TRANSACTION_ID);
     PROTECTED_PROPERTIES.add(TableProperties.LOCATION);
     PROTECTED_PROPERTIES.add(TableProperties.TABLE_PARTITION_PROPERTIES);
+    PROTECTED_PROPERTIES.add(TableProperties.TABLE_PARTITION_PROPERTIES_FILE);
     PROTECTED_PROPERTIES.add(DEFAULT_NAME_MAPPING);
   }
 
   public static final String TABLE_PARTITION_PROPERTIES = "table.partition-properties";
 
+  /**
+   * Location of the side file storing partition properties, replaces {@link #TABLE_PARTITION_PROPERTIES}.
+   */
+  public static final String TABLE_PARTITION_PROPERTIES_FILE = "table.partition-properties.file";
+
+  /**
+   * Whether to store partition properties in a side file, disabled by default as old clients only read
+   * {@link #TABLE_PARTITION_PROPERTIES}.
+   */
+  public static final String TABLE_PARTITION_PROPERTIES_FILE_ENABLED = "table.partition-properties.file.enabled";
+  public static final boolean TABLE_PARTITION_PROPERTIES_FILE_ENABLED_DEFAULT = false;
+
   public static final String BASE_TABLE_MAX_TRANSACTION_ID = "base.table.max-transaction-id";
 
   public static final String LOCATION = "location";
@@ -53,6 +66,14 @@ public class TableProperties {
   public static final long TABLE_CREATE_TIME_DEFAULT = 0L;
 
   public static final String TABLE_EVENT_TIME_FIELD = "table.event-time-field";
+
+  /**
+   * Whether to report file changes of commits to ams in background, commits changing properties or schema are
+   * always reported synchronously.
+   */
+  public static final String TABLE_COMMIT_REPORT_ASYNC_ENABLED = "table.commit-report.async.enabled";
+  public static final boolean TABLE_COMMIT_REPORT_ASYNC_ENABLED_DEFAULT = false;
+
   /**
    * table optimize related properties
    */
@@ -101,6 +122,24 @@ public class TableProperties {
   public static final String MAJOR_OPTIMIZE_MAX_TASK_FILE_SIZE = "optimize.major.max-task-file-size-bytes";
   public static final long MAJOR_OPTIMIZE_MAX_TASK_FILE_SIZE_DEFAULT = 1073741824L; // 1 GB
 
+  /**
+   * Columns to cluster rows by when rewriting files in major and full optimize, separated by comma.
+   * Only top-level primitive columns are supported, rows are not clustered if not set.
+   */
+  public static final String OPTIMIZE_CLUSTERING_COLUMNS = "optimize.clustering.columns";
+
+  /**
+   * How rows are ordered by the clustering columns, linear sorts by columns in order, zorder interleaves bits of
+   * all columns so that every column is clustered.
+   */
+  public static final String OPTIMIZE_CLUSTERING_STRATEGY = "optimize.clustering.strategy";
+  public static final String OPTIMIZE_CLUSTERING_STRATEGY_LINEAR = "linear";
+  public static final String OPTIMIZE_CLUSTERING_STRATEGY_ZORDER = "zorder";
+  public static final String OPTIMIZE_CLUSTERING_STRATEGY_DEFAULT = OPTIMIZE_CLUSTERING_STRATEGY_LINEAR;
+
+  public static final String OPTIMIZE_CLUSTERING_SORT_BUFFER_BYTES = "optimize.clustering.sort-buffer-bytes";
+  public static final long OPTIMIZE_CLUSTERING_SORT_BUFFER_BYTES_DEFAULT = 67108864; // 64 MB
+
   /**
    * table clean related properties
    */
@@ -145,9 +184,28 @@ public class TableProperties {
       org.apache.iceberg.TableProperties.WRITE_TARGET_FILE_SIZE_BYTES;
   public static final long WRITE_TARGET_FILE_SIZE_BYTES_DEFAULT = 134217728; // 128 MB
 
+  /**
+   * Memory for buffering position deletes of a write task, shared by position delete writers of the task, sorted
+   * deletes of the writer buffering most are spilled to local files beyond it.
+   */
+  public static final String POS_DELETE_WRITE_BUFFER_BYTES = "write.pos-delete.buffer-bytes";
+  public static final long POS_DELETE_WRITE_BUFFER_BYTES_DEFAULT = 67108864; // 64 MB
+
   public static final String UPSERT_ENABLED = "write.upsert.enabled";
   public static final boolean UPSERT_ENABLED_DEFAULT = false;
 
+  /**
+   * Whether to upsert without joining the table, a delete is written only for keys which may exist according to
+   * file bounds of the first primary key column. Enable it only when keys are not written by other writers at the
+   * same time.
+   * <p>
+   * The delete carries the values of the upserted row instead of the replaced row, and keys which never existed
+   * may get a delete as the check has false positives. Merge on read only relies on keys, but consumers of the change
+   * table or the log store see these deletes as they are.
+   */
+  public static final String UPSERT_KEY_EXISTENCE_CHECK_ENABLED = "write.upsert.key-existence-check.enabled";
+  public static final boolean UPSERT_KEY_EXISTENCE_CHECK_ENABLED_DEFAULT = false;
+
   public static final String WRITE_DISTRIBUTION_MODE = org.apache.iceberg.TableProperties.WRITE_DISTRIBUTION_MODE;
   public static final String WRITE_DISTRIBUTION_MODE_NONE =
       org.apache.iceberg.TableProperties.WRITE_DISTRIBUTION_MODE_NONE;
@@ -164,6 +222,12 @@ public class TableProperties {
   public static final String WRITE_DISTRIBUTION_HASH_AUTO = "auto";
   public static final String WRITE_DISTRIBUTION_HASH_MODE_DEFAULT = WRITE_DISTRIBUTION_HASH_AUTO;
 
+  /**
+   * sort rows by primary key in each write task after they are distributed
+   */
+  public static final String WRITE_DISTRIBUTION_LOCAL_SORT_ENABLED = "write.distribution.local-sort.enabled";
+  public static final boolean WRITE_DISTRIBUTION_LOCAL_SORT_ENABLED_DEFAULT = false;
+
   /**
    * table read related properties
    */
@@ -178,6 +242,12 @@ public class TableProperties {
   public static final String READ_DISTRIBUTION_HASH_AUTO = "auto";
   public static final String READ_DISTRIBUTION_HASH_MODE_DEFAULT = READ_DISTRIBUTION_HASH_AUTO;
 
+  public static final String READ_PREFETCH_FILES = "read.prefetch.files";
+  public static final int READ_PREFETCH_FILES_DEFAULT = 0; // disabled
+
+  public static final String READ_PREFETCH_BUDGET_BYTES = "read.prefetch.budget-bytes";
+  public static final long READ_PREFETCH_BUDGET_BYTES_DEFAULT = 268435456; // 256 MB
+
   public static final String SPLIT_SIZE = org.apache.iceberg.TableProperties.SPLIT_SIZE;
   public static final long SPLIT_SIZE_DEFAULT = 134217728; // 128 MB
 
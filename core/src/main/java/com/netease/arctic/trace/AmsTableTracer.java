@@ -27,6 +27,7 @@ import com.netease.arctic.ams.api.TableCommitMeta;
 import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.table.ChangeTable;
 import com.netease.arctic.table.KeyedTable;
+import com.netease.arctic.table.TableProperties;
 import com.netease.arctic.table.UnkeyedTable;
 import com.netease.arctic.utils.ConvertStructUtil;
 import com.netease.arctic.utils.SnapshotFileUtil;
@@ -179,7 +180,13 @@ public class AmsTableTracer implements TableTracer {
     }
 
     try {
-      client.tableCommit(commitMeta);
+      if (commitMeta.getProperties() == null && commitMeta.getSchemaUpdateMeta() == null &&
+          PropertyUtil.propertyAsBoolean(table.properties(), TableProperties.TABLE_COMMIT_REPORT_ASYNC_ENABLED,
+              TableProperties.TABLE_COMMIT_REPORT_ASYNC_ENABLED_DEFAULT)) {
+        client.tableCommitAsync(commitMeta);
+      } else {
+        client.tableCommit(commitMeta);
+      }
     } catch (Throwable t) {
       LOG.warn("trace table commit failed", t);
     }
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.PositionOutputStream;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Side file of partition properties, such as max transaction id of each partition, referenced by table property
+ * {@link com.netease.arctic.table.TableProperties#TABLE_PARTITION_PROPERTIES_FILE}.
+ * <p>
+ * Keeping them out of table properties keeps metadata.json small for tables with many partitions. A file is never
+ * changed once written, every update writes a new file, so decoded files are cached by path.
+ */
+public class PartitionPropertiesFile {
+
+  public static final int FORMAT_VERSION = 1;
+
+  private static final String FILE_PREFIX = "partition-properties-";
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final Cache<String, Content> CACHE = Caffeine.newBuilder()
+      .maximumSize(32)
+      .expireAfterAccess(10, TimeUnit.MINUTES)
+      .build();
+
+  private PartitionPropertiesFile() {
+  }
+
+  /**
+   * Read partition properties of a file.
+   *
+   * @param io       file io of table
+   * @param location file location
+   * @return unmodifiable map of partition path to properties
+   */
+  public static Content read(FileIO io, String location) {
+    return CACHE.get(location, path -> doRead(io.newInputFile(path)));
+  }
+
+  /**
+   * Write partition properties into a new file in metadata folder of table.
+   *
+   * @param io               file io of table
+   * @param metadataLocation metadata folder of table
+   * @param sequence         sequence of the new file, increased by each update
+   * @param properties       map of partition path to properties
+   * @return location of the new file
+   */
+  public static String write(FileIO io, String metadataLocation, long sequence,
+                             Map<String, Map<String, String>> properties) {
+    String location = String.format("%s/%s%05d-%s.json", metadataLocation, FILE_PREFIX, sequence,
+        UUID.randomUUID());
+    Content content = new Content(sequence, properties);
+    OutputFile outputFile = io.newOutputFile(location);
+    try (PositionOutputStream out = outputFile.create()) {
+      Map<String, Object> json = new LinkedHashMap<>();
+      json.put("format-version", FORMAT_VERSION);
+      json.put("sequence", sequence);
+      json.put("partitions", properties);
+      MAPPER.writeValue(out, json);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write partition properties file " + location, e);
+    }
+    CACHE.put(location, content);
+    return location;
+  }
+
+  private static Content doRead(InputFile inputFile) {
+    try (InputStream in = inputFile.newStream()) {
+      Map<String, Object> json = MAPPER.readValue(in, new TypeReference<Map<String, Object>>() {});
+      int formatVersion = ((Number) json.get("format-version")).intValue();
+      Preconditions.checkArgument(formatVersion <= FORMAT_VERSION,
+          "Cannot read partition properties file %s of format version %s", inputFile.location(), formatVersion);
+      Map<String, Map<String, String>> properties = MAPPER.convertValue(json.get("partitions"),
+          new TypeReference<Map<String, Map<String, String>>>() {});
+      return new Content(((Number) json.get("sequence")).longValue(), properties);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read partition properties file " + inputFile.location(), e);
+    }
+  }
+
+  /**
+   * Decoded partition properties file.
+   */
+  public static class Content {
+    private final long sequence;
+    private final Map<String, Map<String, String>> properties;
+
+    public Content(long sequence, Map<String, Map<String, String>> properties) {
+      this.sequence = sequence;
+      this.properties = Collections.unmodifiableMap(properties);
+    }
+
+    public long sequence() {
+      return sequence;
+    }
+
+    /**
+     * @return unmodifiable map of partition path to properties, the path of unpartitioned table is empty string
+     */
+    public Map<String, Map<String, String>> properties() {
+      return properties;
+    }
+  }
+}
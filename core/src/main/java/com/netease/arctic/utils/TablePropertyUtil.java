@@ -28,10 +28,12 @@ import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.util.StructLikeMap;
 
 import java.io.UncheckedIOException;
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -68,25 +70,40 @@ public class TablePropertyUtil {
   }
 
   public static StructLikeMap<Map<String, String>> decodePartitionProperties(PartitionSpec spec, String value) {
+    return toPartitionProperties(spec, decodePartitionProperties(value));
+  }
+
+  private static Map<String, Map<String, String>> decodePartitionProperties(String value) {
     try {
-      StructLikeMap<Map<String, String>> results = StructLikeMap.create(spec.partitionType());
       TypeReference<Map<String, Map<String, String>>> typeReference =
           new TypeReference<Map<String, Map<String, String>>>() {};
-      Map<String, Map<String, String>> map = new ObjectMapper().readValue(value, typeReference);
-      for (String key : map.keySet()) {
-        if (spec.isUnpartitioned()) {
-          results.put(EMPTY_STRUCT, map.get(key));
-        } else {
-          StructLike partitionData = DataFiles.data(spec, key);
-          results.put(partitionData, map.get(key));
-        }
-      }
-      return results;
+      return new ObjectMapper().readValue(value, typeReference);
     } catch (JsonProcessingException e) {
       throw new UnsupportedOperationException("Failed to decode partition max txId ", e);
     }
   }
 
+  /**
+   * Convert partition properties keyed by partition path to be keyed by partition data.
+   *
+   * @param spec       table partition spec
+   * @param properties map of partition path to properties
+   * @return a modifiable copy of partition properties
+   */
+  public static StructLikeMap<Map<String, String>> toPartitionProperties(
+      PartitionSpec spec, Map<String, Map<String, String>> properties) {
+    StructLikeMap<Map<String, String>> results = StructLikeMap.create(spec.partitionType());
+    properties.forEach((key, value) -> {
+      if (spec.isUnpartitioned()) {
+        results.put(EMPTY_STRUCT, Maps.newHashMap(value));
+      } else {
+        StructLike partitionData = DataFiles.data(spec, key);
+        results.put(partitionData, Maps.newHashMap(value));
+      }
+    });
+    return results;
+  }
+
   public static String encodePartitionProperties(PartitionSpec spec,
       StructLikeMap<Map<String, String>> partitionProperties) {
     Map<String, Map<String, String>> stringKeyMap = Maps.newHashMap();
@@ -94,15 +111,59 @@ public class TablePropertyUtil {
       String pathLike = spec.partitionToPath(pd);
       stringKeyMap.put(pathLike, partitionProperties.get(pd));
     }
+    return encodePartitionProperties(stringKeyMap);
+  }
+
+  public static String encodePartitionProperties(Map<String, Map<String, String>> partitionProperties) {
     String value;
     try {
-      value = new ObjectMapper().writeValueAsString(stringKeyMap);
+      value = new ObjectMapper().writeValueAsString(partitionProperties);
     } catch (JsonProcessingException e) {
       throw new UncheckedIOException(e);
     }
     return value;
   }
 
+  /**
+   * Read partition properties of a table, from the side file if table has one, otherwise from the legacy
+   * table property which is migrated to a side file by the next update of partition properties.
+   *
+   * @param io              file io of table
+   * @param tableProperties properties of table
+   * @return partition properties keyed by partition path, should not be modified
+   */
+  public static PartitionPropertiesFile.Content readPartitionProperties(
+      FileIO io, Map<String, String> tableProperties) {
+    String file = tableProperties.get(TableProperties.TABLE_PARTITION_PROPERTIES_FILE);
+    if (file != null) {
+      return PartitionPropertiesFile.read(io, file);
+    }
+    String value = tableProperties.get(TableProperties.TABLE_PARTITION_PROPERTIES);
+    if (value != null) {
+      return new PartitionPropertiesFile.Content(0, decodePartitionProperties(value));
+    }
+    return new PartitionPropertiesFile.Content(0, Collections.emptyMap());
+  }
+
+  /**
+   * Get max transaction id of a partition from partition properties keyed by partition path, so only partitions
+   * needed are decoded.
+   *
+   * @param spec       table partition spec
+   * @param properties partition properties read by {@link #readPartitionProperties(FileIO, Map)}
+   * @param partition  partition data
+   * @return max transaction id, null if partition has no properties
+   */
+  public static Long getPartitionMaxTransactionId(PartitionSpec spec, Map<String, Map<String, String>> properties,
+                                                  StructLike partition) {
+    Map<String, String> propertyValue = properties.get(spec.partitionToPath(partition));
+    if (propertyValue == null) {
+      return null;
+    }
+    String maxTxId = propertyValue.get(TableProperties.BASE_TABLE_MAX_TRANSACTION_ID);
+    return maxTxId == null ? 0 : Long.parseLong(maxTxId);
+  }
+
   public static StructLikeMap<Long> getPartitionMaxTransactionId(KeyedTable keyedTable) {
     StructLikeMap<Long> baseTableMaxTransactionId = StructLikeMap.create(keyedTable.spec().partitionType());
 
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.iceberg.parquet;
+
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.io.InputFile;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Util to read row group metadata of parquet files, placed in this package to use {@link ParquetIO}.
+ */
+public class ParquetRowGroupUtil {
+  private ParquetRowGroupUtil() {
+  }
+
+  /**
+   * Returns row groups of a file split, selected by the same range as {@link Parquet.ReadBuilder#split(long, long)}.
+   *
+   * @param file   - parquet file
+   * @param start  - start position of the split
+   * @param length - length of the split
+   * @return row groups of which the midpoint is in the split, in the file order
+   */
+  public static List<BlockMetaData> rowGroups(InputFile file, long start, long length) {
+    ParquetReadOptions options = ParquetReadOptions.builder()
+        .withRange(start, start + length)
+        .build();
+    try (ParquetFileReader reader = ParquetFileReader.open(ParquetIO.file(file), options)) {
+      return reader.getRowGroups();
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to read row groups of file: %s", file.location());
+    }
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.data;
+
+import com.netease.arctic.table.PrimaryKeySpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class PrimaryKeyDataTest {
+
+  private static final Schema SCHEMA = new Schema(
+      Types.NestedField.required(1, "id", Types.IntegerType.get()),
+      Types.NestedField.required(2, "name", Types.StringType.get()),
+      Types.NestedField.optional(3, "score", Types.LongType.get())
+  );
+
+  @Test
+  public void testHashCodeStable() {
+    PrimaryKeySpec primaryKeySpec = PrimaryKeySpec.builderFor(SCHEMA)
+        .addColumn("id").addColumn("name").addColumn("score").build();
+    PrimaryKeyData primaryKey = new PrimaryKeyData(primaryKeySpec, SCHEMA);
+    GenericRecord record = GenericRecord.create(SCHEMA);
+
+    for (int i = 0; i < 100; i++) {
+      record.set(0, i);
+      record.set(1, "name" + i);
+      record.set(2, i % 3 == 0 ? null : (long) i * 1000);
+      primaryKey.primaryKey(record);
+
+      // tree node of data written by earlier versions must not change
+      int expected = Math.abs(Arrays.hashCode(new Object[] {record.get(0), record.get(1), record.get(2)}));
+      Assert.assertEquals(expected, primaryKey.hashCode());
+      Assert.assertEquals(DataTreeNode.of(7, expected & 7), primaryKey.treeNode(7));
+      Assert.assertEquals(expected & 7, primaryKey.treeNodeIndex(7));
+      Assert.assertEquals(expected, primaryKey.copy().hashCode());
+    }
+  }
+
+  @Test
+  public void testHashCodeAfterSet() {
+    PrimaryKeySpec primaryKeySpec = PrimaryKeySpec.builderFor(SCHEMA).addColumn("id").build();
+    PrimaryKeyData primaryKey = new PrimaryKeyData(primaryKeySpec, SCHEMA);
+    GenericRecord record = GenericRecord.create(SCHEMA);
+    record.set(0, 1);
+    primaryKey.primaryKey(record);
+
+    primaryKey.set(0, 2);
+    Assert.assertEquals(Arrays.hashCode(new Object[] {2}), primaryKey.hashCode());
+  }
+}
@@ -19,25 +19,34 @@
 package com.netease.arctic.io;
 
 import com.google.common.collect.Sets;
+import com.netease.arctic.data.DefaultKeyedFile;
 import com.netease.arctic.io.reader.BaseIcebergPosDeleteReader;
 import com.netease.arctic.io.reader.GenericArcticDataReader;
+import com.netease.arctic.io.writer.GenericChangeTaskWriter;
+import com.netease.arctic.io.writer.GenericTaskWriters;
 import com.netease.arctic.scan.CombinedScanTask;
 import com.netease.arctic.scan.KeyedTableScanTask;
+import org.apache.iceberg.AppendFiles;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.data.GenericRecord;
 import org.apache.iceberg.data.IdentityPartitionConverters;
 import org.apache.iceberg.data.Record;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.netease.arctic.io.TestRecords.changeDeleteRecords;
+
 public class TaskReaderTest extends TableTestBaseWithInitData {
 
   @Test
@@ -66,6 +75,37 @@ public class TaskReaderTest extends TableTestBaseWithInitData {
     Assert.assertEquals(rightIds, resultIds);
   }
 
+  @Test
+  public void testReadWithPrefetch() {
+    CloseableIterable<CombinedScanTask> combinedScanTasks = testKeyedTable.newScan().planTasks();
+    Schema schema = testKeyedTable.schema();
+    GenericArcticDataReader genericArcticDataReader = new GenericArcticDataReader(
+        testKeyedTable.io(),
+        schema,
+        schema,
+        testKeyedTable.primaryKeySpec(),
+        null,
+        true,
+        IdentityPartitionConverters::convertConstant
+    );
+    genericArcticDataReader.withPrefetch(2, Long.MAX_VALUE);
+    ImmutableList.Builder<Record> builder = ImmutableList.builder();
+    for (CombinedScanTask combinedScanTask: combinedScanTasks){
+      for (KeyedTableScanTask keyedTableScanTask: combinedScanTask.tasks()){
+        try (CloseableIterator<Record> iterator = genericArcticDataReader.readData(keyedTableScanTask)) {
+          iterator.forEachRemaining(record -> builder.add(record.copy()));
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+    }
+    List<Record> records = builder.build();
+    List<Object> resultIds = records.stream().map(s -> s.get(0)).collect(Collectors.toList());
+
+    Assert.assertEquals(Sets.newHashSet(1, 2, 3, 6), Sets.newHashSet(resultIds));
+    Assert.assertEquals(4, resultIds.size());
+  }
+
   @Test
   public void testReadPosDelete() {
     BaseIcebergPosDeleteReader baseIcebergPosDeleteReader =
@@ -115,4 +155,47 @@ public class TaskReaderTest extends TableTestBaseWithInitData {
     Set<Integer> rightIds = Sets.newHashSet(5);
     Assert.assertEquals(rightIds, resultIds);
   }
+
+  @Test
+  public void testPruneEqDeletes() throws IOException {
+    // insert id 5 again after it is deleted, the new file is newer than all equity delete files
+    GenericChangeTaskWriter writer = GenericTaskWriters.builderFor(testKeyedTable)
+        .withTransactionId(5L).buildChangeWriter();
+    for (Record record : changeDeleteRecords()) {
+      writer.write(record);
+    }
+    AppendFiles changeAppend = testKeyedTable.changeTable().newAppend();
+    Arrays.stream(writer.complete().dataFiles())
+        .map(DefaultKeyedFile::new)
+        .forEach(changeAppend::appendFile);
+    changeAppend.commit();
+
+    CloseableIterable<CombinedScanTask> combinedScanTasks = testKeyedTable.newScan().planTasks();
+    Schema schema = testKeyedTable.schema();
+    GenericArcticDataReader genericArcticDataReader = new GenericArcticDataReader(
+        testKeyedTable.io(),
+        schema,
+        schema,
+        testKeyedTable.primaryKeySpec(),
+        null,
+        true,
+        IdentityPartitionConverters::convertConstant
+    );
+    ImmutableList.Builder<Record> builder = ImmutableList.builder();
+    ImmutableList.Builder<Record> deletedBuilder = ImmutableList.builder();
+    for (CombinedScanTask combinedScanTask: combinedScanTasks){
+      for (KeyedTableScanTask keyedTableScanTask: combinedScanTask.tasks()){
+        builder.addAll(genericArcticDataReader.readData(keyedTableScanTask));
+        deletedBuilder.addAll(genericArcticDataReader.readDeletedData(keyedTableScanTask));
+      }
+    }
+    List<Object> resultIds = builder.build().stream().map(s -> s.get(0)).collect(Collectors.toList());
+    Assert.assertEquals(Sets.newHashSet(1, 2, 3, 5, 6), Sets.newHashSet(resultIds));
+    Assert.assertEquals(5, resultIds.size());
+    Set deletedIds = deletedBuilder.build().stream().map(s -> s.get(0)).collect(Collectors.toSet());
+    Assert.assertEquals(Sets.newHashSet(5), deletedIds);
+
+    Assert.assertTrue(genericArcticDataReader.eqDeletePrunedFiles() > 0);
+    Assert.assertTrue(genericArcticDataReader.eqDeletePrunedRows() > 0);
+  }
 }
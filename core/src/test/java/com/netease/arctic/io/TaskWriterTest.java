@@ -19,10 +19,15 @@
 package com.netease.arctic.io;
 
 import com.netease.arctic.TableTestBase;
+import com.netease.arctic.data.DataTreeNode;
+import com.netease.arctic.io.reader.BaseIcebergPosDeleteReader;
 import com.netease.arctic.io.writer.GenericBaseTaskWriter;
 import com.netease.arctic.io.writer.GenericChangeTaskWriter;
 import com.netease.arctic.io.writer.GenericTaskWriters;
+import com.netease.arctic.io.writer.PosDeleteMemoryBudget;
 import com.netease.arctic.io.writer.SortedPosDeleteWriter;
+import com.netease.arctic.table.TableProperties;
+import com.netease.arctic.utils.FileUtil;
 import com.netease.arctic.utils.ManifestEntryFields;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DeleteFile;
@@ -33,6 +38,7 @@ import org.apache.iceberg.data.GenericRecord;
 import org.apache.iceberg.data.IcebergGenerics;
 import org.apache.iceberg.data.Record;
 import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.WriteResult;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
@@ -42,8 +48,12 @@ import org.junit.Test;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 public class TaskWriterTest extends TableTestBase {
 
@@ -59,6 +69,37 @@ public class TaskWriterTest extends TableTestBase {
     Assert.assertEquals(4, result.dataFiles().length);
   }
 
+  @Test
+  public void testBaseWriterWithTargetFileRecords() throws IOException {
+    GenericBaseTaskWriter writer = GenericTaskWriters.builderFor(testKeyedTable)
+        .withTransactionId(1L)
+        .withTargetFileRecords(ImmutableMap.of(DataTreeNode.ROOT, 10L))
+        .buildBaseWriter();
+
+    GenericRecord record = GenericRecord.create(TABLE_SCHEMA);
+    for (int i = 0; i < 100; i++) {
+      writer.write(record.copy(ImmutableMap.of("id", i, "name", "name" + i, "op_time",
+          LocalDateTime.of(2022, 1, 1, 1, 0, 0))));
+    }
+    WriteResult result = writer.complete();
+
+    // files of a node are rolled every 10 records, only the last file of a node has less records
+    Map<DataTreeNode, List<Long>> nodeFileRecords = new HashMap<>();
+    for (DataFile dataFile : result.dataFiles()) {
+      nodeFileRecords.computeIfAbsent(FileUtil.parseFileNodeFromFileName(dataFile.path().toString()),
+          node -> new ArrayList<>()).add(dataFile.recordCount());
+    }
+    long totalRecords = 0;
+    for (List<Long> fileRecords : nodeFileRecords.values()) {
+      long nodeRecords = fileRecords.stream().mapToLong(Long::longValue).sum();
+      Assert.assertEquals((nodeRecords + 9) / 10, fileRecords.size());
+      Assert.assertTrue(fileRecords.stream().allMatch(records -> records <= 10));
+      Assert.assertTrue(fileRecords.stream().filter(records -> records < 10).count() <= 1);
+      totalRecords += nodeRecords;
+    }
+    Assert.assertEquals(100, totalRecords);
+  }
+
   @Test
   public void testBasePosDeleteWriter() throws IOException {
     SortedPosDeleteWriter<Record> writer = GenericTaskWriters.builderFor(testKeyedTable)
@@ -92,6 +133,103 @@ public class TaskWriterTest extends TableTestBase {
         });
   }
 
+  @Test
+  public void testBasePosDeleteWriterSpill() throws IOException {
+    // a small buffer spills sorted runs every few deletes, they are merged into one file
+    testKeyedTable.updateProperties().set(TableProperties.POS_DELETE_WRITE_BUFFER_BYTES, "1024").commit();
+    List<DeleteFile> result = writePosDeletes(1000);
+    Assert.assertEquals(1, result.size());
+    assertSortedPosDeletes(result, 1000);
+  }
+
+  @Test
+  public void testBasePosDeleteWriterRollFile() throws IOException {
+    testKeyedTable.updateProperties()
+        .set(TableProperties.POS_DELETE_WRITE_BUFFER_BYTES, "1024")
+        .set(TableProperties.WRITE_TARGET_FILE_SIZE_BYTES, "1")
+        .commit();
+    List<DeleteFile> result = writePosDeletes(20);
+    Assert.assertEquals(20, result.size());
+    assertSortedPosDeletes(result, 20);
+  }
+
+  @Test
+  public void testBasePosDeleteWriterSpillLongPath() throws IOException {
+    // paths longer than 64KB can not be spilled by DataOutput#writeUTF
+    testKeyedTable.updateProperties().set(TableProperties.POS_DELETE_WRITE_BUFFER_BYTES, "1024").commit();
+    SortedPosDeleteWriter<Record> writer = GenericTaskWriters.builderFor(testKeyedTable)
+        .withTransactionId(1L).buildBasePosDeleteWriter(0, 0, FILE_A.partition());
+    StringBuilder longPath = new StringBuilder(FILE_A.path().toString());
+    while (longPath.length() <= 70000) {
+      longPath.append("/long");
+    }
+    for (long i = 0; i < 10; i++) {
+      writer.delete(longPath.toString(), i);
+    }
+    List<DeleteFile> result = writer.complete();
+    Assert.assertEquals(1, result.size());
+    assertSortedPosDeletes(result, 10);
+  }
+
+  @Test
+  public void testBasePosDeleteWritersShareBudget() throws IOException {
+    // writers of a task spill the largest buffer when their total exceeds the shared budget
+    PosDeleteMemoryBudget budget = new PosDeleteMemoryBudget(1024);
+    List<SortedPosDeleteWriter<Record>> writers = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      writers.add(GenericTaskWriters.builderFor(testKeyedTable)
+          .withTransactionId(1L)
+          .withPosDeleteMemoryBudget(budget)
+          .buildBasePosDeleteWriter(1, i, FILE_A.partition()));
+    }
+    for (long i = 0; i < 1000; i++) {
+      writers.get((int) (i % 2)).delete(i % 2 == 0 ? FILE_A.path() : FILE_B.path(), 999 - i);
+      Assert.assertTrue(budget.usedBytes() < budget.budgetBytes());
+    }
+    for (SortedPosDeleteWriter<Record> writer : writers) {
+      List<DeleteFile> result = writer.complete();
+      Assert.assertEquals(1, result.size());
+      assertSortedPosDeletes(result, 500);
+    }
+    Assert.assertEquals(0, budget.usedBytes());
+  }
+
+  private List<DeleteFile> writePosDeletes(int count) throws IOException {
+    SortedPosDeleteWriter<Record> writer = GenericTaskWriters.builderFor(testKeyedTable)
+        .withTransactionId(1L).buildBasePosDeleteWriter(0, 0, FILE_A.partition());
+    List<Long> positions = new ArrayList<>();
+    for (long i = 0; i < count; i++) {
+      positions.add(i);
+    }
+    Collections.shuffle(positions, new Random(0));
+    String[] paths = new String[] {FILE_A.path().toString(), FILE_B.path().toString(), FILE_C.path().toString()};
+    for (int i = 0; i < count; i++) {
+      writer.delete(paths[i % paths.length], positions.get(i));
+    }
+    return writer.complete();
+  }
+
+  private void assertSortedPosDeletes(List<DeleteFile> deleteFiles, int count) throws IOException {
+    BaseIcebergPosDeleteReader reader = new BaseIcebergPosDeleteReader(testKeyedTable.io(), deleteFiles);
+    String lastPath = null;
+    long lastPos = -1;
+    int records = 0;
+    try (CloseableIterable<Record> deletes = reader.readDeletes()) {
+      for (Record record : deletes) {
+        String path = reader.readPath(record);
+        long pos = reader.readPos(record);
+        if (lastPath != null) {
+          int cmp = lastPath.compareTo(path);
+          Assert.assertTrue(cmp < 0 || (cmp == 0 && lastPos < pos));
+        }
+        lastPath = path;
+        lastPos = pos;
+        records++;
+      }
+    }
+    Assert.assertEquals(count, records);
+  }
+
   @Test
   public void testChangeWriter() throws IOException {
     GenericChangeTaskWriter writer =   GenericTaskWriters.builderFor(testKeyedTable)
@@ -19,6 +19,8 @@
 package com.netease.arctic.op;
 
 import com.netease.arctic.TableTestBase;
+import com.netease.arctic.table.TableProperties;
+import com.netease.arctic.utils.TablePropertyUtil;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.Transaction;
 import org.apache.iceberg.data.GenericRecord;
@@ -26,6 +28,7 @@ import org.apache.iceberg.util.StructLikeMap;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.Map;
 
 public class UpdatePartitionPropertiesTest extends TableTestBase {
@@ -57,4 +60,59 @@ public class UpdatePartitionPropertiesTest extends TableTestBase {
     Assert.assertEquals(1, partitionProperties.size());
     Assert.assertEquals("value", partitionProperties.get(p0).get("key"));
   }
+
+  @Test
+  public void testStorePartitionPropertiesInTablePropertyByDefault() {
+    StructLike p0 = GenericRecord.create(SPEC.partitionType());
+    p0.set(0, 1200);
+    testTable.updatePartitionProperties(null).set(p0, "key", "value").commit();
+    Assert.assertTrue(testTable.properties().containsKey(TableProperties.TABLE_PARTITION_PROPERTIES));
+    Assert.assertFalse(testTable.properties().containsKey(TableProperties.TABLE_PARTITION_PROPERTIES_FILE));
+    Assert.assertEquals("value", testTable.partitionProperty().get(p0).get("key"));
+  }
+
+  @Test
+  public void testStorePartitionPropertiesInFile() {
+    testTable.updateProperties().set(TableProperties.TABLE_PARTITION_PROPERTIES_FILE_ENABLED, "true").commit();
+    StructLike p0 = GenericRecord.create(SPEC.partitionType());
+    p0.set(0, 1200);
+    StructLike p1 = GenericRecord.create(SPEC.partitionType());
+    p1.set(0, 1300);
+    testTable.updatePartitionProperties(null).set(p0, "key", "value").commit();
+    String file = testTable.properties().get(TableProperties.TABLE_PARTITION_PROPERTIES_FILE);
+    Assert.assertNotNull(file);
+    Assert.assertFalse(testTable.properties().containsKey(TableProperties.TABLE_PARTITION_PROPERTIES));
+
+    testTable.updatePartitionProperties(null).set(p1, "key", "value1").commit();
+    Assert.assertNotEquals(file, testTable.properties().get(TableProperties.TABLE_PARTITION_PROPERTIES_FILE));
+    // the previous file is not changed
+    Assert.assertEquals(1, TablePropertyUtil.readPartitionProperties(testTable.io(),
+        Collections.singletonMap(TableProperties.TABLE_PARTITION_PROPERTIES_FILE, file)).properties().size());
+    StructLikeMap<Map<String, String>> partitionProperties = testTable.partitionProperty();
+    Assert.assertEquals(2, partitionProperties.size());
+    Assert.assertEquals("value", partitionProperties.get(p0).get("key"));
+    Assert.assertEquals("value1", partitionProperties.get(p1).get("key"));
+  }
+
+  @Test
+  public void testMigratePartitionPropertiesFromTableProperty() {
+    testTable.updateProperties().set(TableProperties.TABLE_PARTITION_PROPERTIES_FILE_ENABLED, "true").commit();
+    StructLike p0 = GenericRecord.create(SPEC.partitionType());
+    p0.set(0, 1200);
+    StructLike p1 = GenericRecord.create(SPEC.partitionType());
+    p1.set(0, 1300);
+    StructLikeMap<Map<String, String>> legacy = StructLikeMap.create(SPEC.partitionType());
+    legacy.put(p0, Collections.singletonMap("key", "value"));
+    testTable.updateProperties().set(TableProperties.TABLE_PARTITION_PROPERTIES,
+        TablePropertyUtil.encodePartitionProperties(SPEC, legacy)).commit();
+    Assert.assertEquals("value", testTable.partitionProperty().get(p0).get("key"));
+
+    testTable.updatePartitionProperties(null).set(p1, "key", "value1").commit();
+    Assert.assertFalse(testTable.properties().containsKey(TableProperties.TABLE_PARTITION_PROPERTIES));
+    Assert.assertTrue(testTable.properties().containsKey(TableProperties.TABLE_PARTITION_PROPERTIES_FILE));
+    StructLikeMap<Map<String, String>> partitionProperties = testTable.partitionProperty();
+    Assert.assertEquals(2, partitionProperties.size());
+    Assert.assertEquals("value", partitionProperties.get(p0).get("key"));
+    Assert.assertEquals("value1", partitionProperties.get(p1).get("key"));
+  }
 }
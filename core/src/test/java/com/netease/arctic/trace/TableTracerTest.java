@@ -19,6 +19,7 @@
 package com.netease.arctic.trace;
 
 import com.google.common.collect.Lists;
+import com.netease.arctic.PooledAmsClient;
 import com.netease.arctic.TableTestBase;
 import com.netease.arctic.ams.api.CommitMetaProducer;
 import com.netease.arctic.ams.api.Constants;
@@ -28,6 +29,7 @@ import com.netease.arctic.ams.api.TableCommitMeta;
 import com.netease.arctic.data.DataFileType;
 import com.netease.arctic.io.writer.GenericTaskWriters;
 import com.netease.arctic.io.writer.SortedPosDeleteWriter;
+import com.netease.arctic.table.TableProperties;
 import org.apache.iceberg.DataOperations;
 import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.DeleteFiles;
@@ -96,6 +98,28 @@ public class TableTracerTest extends TableTestBase {
         new org.apache.iceberg.DataFile[]{});
   }
 
+  @Test
+  public void testTraceAppendFilesAsync() {
+    testTable.updateProperties()
+        .set(TableProperties.TABLE_COMMIT_REPORT_ASYNC_ENABLED, "true")
+        .commit();
+    testTable.newAppend()
+        .appendFile(FILE_A)
+        .commit();
+    testTable.newAppend()
+        .appendFile(FILE_B)
+        .commit();
+    new PooledAmsClient(AMS.getUrl()).flushTableCommits();
+
+    List<TableCommitMeta> TableCommitMetas = AMS.handler().getTableCommitMetas().get(TABLE_ID.buildTableIdentifier());
+    // the first one is the synchronous report of properties
+    Assert.assertEquals(3, TableCommitMetas.size());
+    validateCommitMeta(TableCommitMetas.get(1), DataOperations.APPEND, new org.apache.iceberg.DataFile[]{FILE_A},
+        new org.apache.iceberg.DataFile[]{});
+    validateCommitMeta(TableCommitMetas.get(2), DataOperations.APPEND, new org.apache.iceberg.DataFile[]{FILE_B},
+        new org.apache.iceberg.DataFile[]{});
+  }
+
   @Test
   public void testTraceFastAppend() {
     testTable.newFastAppend()
@@ -155,6 +155,11 @@ public class ShuffleSplitAssigner implements SplitAssigner {
     return arcticSplitStates;
   }
 
+  @Override
+  public int pendingSplitCount() {
+    return subtaskSplitMap.values().stream().mapToInt(Queue::size).sum();
+  }
+
   @Override
   public void close() throws IOException {
     subtaskSplitMap.clear();
@@ -18,6 +18,7 @@
 
 package com.netease.arctic.flink.read.hybrid.enumerator;
 
+import com.netease.arctic.PooledAmsClient;
 import com.netease.arctic.flink.read.hybrid.assigner.ShuffleSplitAssigner;
 import com.netease.arctic.flink.read.hybrid.assigner.SplitAssigner;
 import com.netease.arctic.flink.read.hybrid.reader.HybridSplitReader;
@@ -42,6 +43,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 
+import static com.netease.arctic.flink.metric.MetricConstant.DISCOVERY_LAG_MILLIS;
+import static com.netease.arctic.flink.metric.MetricConstant.DISCOVERY_LAG_SNAPSHOTS;
+import static com.netease.arctic.flink.metric.MetricConstant.PENDING_SPLITS;
 import static com.netease.arctic.flink.read.hybrid.enumerator.ArcticEnumeratorOffset.EARLIEST_SNAPSHOT_ID;
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SCAN_STARTUP_MODE;
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SCAN_STARTUP_MODE_LATEST;
@@ -65,6 +69,10 @@ public class ArcticSourceEnumerator extends AbstractArcticEnumerator {
   private final SplitAssigner splitAssigner;
   private final ArcticScanContext scanContext;
   private final long snapshotDiscoveryIntervalMs;
+  private final int maxPendingSplits;
+  private final long commitNotifyMaxIntervalMs;
+  private transient TableCommitWatcher commitWatcher;
+  private volatile long lastDiscoveryTime;
   /**
    * If true, using arctic table as build table.
    * {@link ArcticSourceEnumerator} will notify {@link com.netease.arctic.flink.read.hybrid.reader.ArcticSourceReader}
@@ -95,8 +103,11 @@ public class ArcticSourceEnumerator extends AbstractArcticEnumerator {
     this.context = enumContext;
     this.splitAssigner = splitAssigner;
     this.scanContext = scanContext;
-    this.continuousSplitPlanner = new ContinuousSplitPlannerImpl(loader);
+    this.continuousSplitPlanner = new ContinuousSplitPlannerImpl(loader, scanContext.maxSnapshotsPerDiscovery(),
+        scanContext.maxFilesPerDiscovery(), scanContext.maxBytesPerDiscovery());
     this.snapshotDiscoveryIntervalMs = scanContext.monitorInterval().toMillis();
+    this.maxPendingSplits = scanContext.maxPendingSplits();
+    this.commitNotifyMaxIntervalMs = scanContext.commitNotifyMaxInterval().toMillis();
     this.enumeratorPosition = new AtomicReference<>();
     if (enumState != null) {
       this.enumeratorPosition.set(enumState.lastEnumeratedOffset());
@@ -120,6 +131,9 @@ public class ArcticSourceEnumerator extends AbstractArcticEnumerator {
       LOG.info("{} is {}, the current snapshot id of the change table {}  is {}.",
           SCAN_STARTUP_MODE.key(), SCAN_STARTUP_MODE_LATEST, keyedTable.id(), snapshotId);
     }
+    context.metricGroup().gauge(DISCOVERY_LAG_SNAPSHOTS, continuousSplitPlanner::discoveryLagSnapshots);
+    context.metricGroup().gauge(DISCOVERY_LAG_MILLIS, continuousSplitPlanner::discoveryLagMillis);
+    context.metricGroup().gauge(PENDING_SPLITS, splitAssigner::pendingSplitCount);
     if (snapshotDiscoveryIntervalMs > 0) {
       LOG.info(
           "Starting the ArcticSourceEnumerator with arctic table {} snapshot discovery interval of {} ms.",
@@ -132,6 +146,10 @@ public class ArcticSourceEnumerator extends AbstractArcticEnumerator {
           snapshotDiscoveryIntervalMs
       );
 
+      if (scanContext.commitNotifyEnabled()) {
+        startCommitWatcher();
+      }
+
       context.callAsync(
           this::assignSplits,
           (unused, t) -> {
@@ -146,6 +164,18 @@ public class ArcticSourceEnumerator extends AbstractArcticEnumerator {
     }
   }
 
+  private void startCommitWatcher() {
+    LOG.info("Watching commits of arctic table {} through ams, max discovery interval {} ms.",
+        keyedTable.id(), commitNotifyMaxIntervalMs);
+    commitWatcher = new TableCommitWatcher(
+        new PooledAmsClient(loader.metastoreUrl()),
+        keyedTable.id().buildTableIdentifier(),
+        snapshotDiscoveryIntervalMs,
+        snapshotDiscoveryIntervalMs,
+        () -> context.callAsync(this::planSplits, this::handleResultOfSplits));
+    commitWatcher.start();
+  }
+
   private ContinuousEnumerationResult planSplits() {
     ContinuousEnumerationResult result = doPlanSplits();
     if (dimTable && temporalJoinSplits == null) {
@@ -163,11 +193,37 @@ public class ArcticSourceEnumerator extends AbstractArcticEnumerator {
       LOG.info("prefix plan splits thread haven't finished.");
       return ContinuousEnumerationResult.EMPTY;
     }
+    if (enumeratorPosition.get() != null) {
+      int pendingSplits = splitAssigner.pendingSplitCount();
+      if (pendingSplits >= maxPendingSplits) {
+        LOG.info("skip planning splits, there are {} pending splits not assigned yet.", pendingSplits);
+        return ContinuousEnumerationResult.EMPTY;
+      }
+      if (!shouldDiscover()) {
+        return ContinuousEnumerationResult.EMPTY;
+      }
+    }
     lock.set(true);
+    lastDiscoveryTime = System.currentTimeMillis();
     LOG.info("begin to plan splits current offset {}.", enumeratorPosition.get());
     return continuousSplitPlanner.planSplits(enumeratorPosition.get());
   }
 
+  /**
+   * If ams notifies commits of the table, only discover new snapshots after commits, or when it's too long since
+   * last discovery, to save refreshing table metadata.
+   */
+  private boolean shouldDiscover() {
+    if (commitWatcher == null) {
+      return true;
+    }
+    if (continuousSplitPlanner.discoveryLagSnapshots() > 0) {
+      // last discovery was bounded, keep discovering the snapshots left without waiting for new commits
+      return true;
+    }
+    return commitWatcher.shouldDiscover(lastDiscoveryTime, commitNotifyMaxIntervalMs);
+  }
+
   private void handleResultOfSplits(ContinuousEnumerationResult enumerationResult, Throwable t) {
     if (t != null) {
       lock.set(false);
@@ -177,6 +233,10 @@ public class ArcticSourceEnumerator extends AbstractArcticEnumerator {
     if (!enumerationResult.isEmpty()) {
       splitAssigner.onDiscoveredSplits(enumerationResult.splits());
       enumeratorPosition.set(enumerationResult.toOffset());
+    } else if (enumerationResult.fromOffset() != null &&
+        enumerationResult.toOffset() != ArcticEnumeratorOffset.EMPTY) {
+      // snapshots without any file are planned, move forward, or the bounded discovery may stay there forever
+      enumeratorPosition.set(enumerationResult.toOffset());
     }
     LOG.info("handled result of splits, discover splits size {}, latest offset {}.",
         enumerationResult.splits().size(), enumeratorPosition.get());
@@ -246,6 +306,9 @@ public class ArcticSourceEnumerator extends AbstractArcticEnumerator {
 
   @Override
   public void close() throws IOException {
+    if (commitWatcher != null) {
+      commitWatcher.close();
+    }
     continuousSplitPlanner.close();
     splitAssigner.close();
     super.close();
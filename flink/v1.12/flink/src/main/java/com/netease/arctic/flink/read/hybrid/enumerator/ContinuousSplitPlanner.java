@@ -32,4 +32,18 @@ public interface ContinuousSplitPlanner extends Closeable {
    * Discover the files appended between {@code lastPosition} and current table snapshot
    */
   ContinuousEnumerationResult planSplits(ArcticEnumeratorOffset lastPosition);
+
+  /**
+   * @return the number of change snapshots not planned yet after the last discovery
+   */
+  default long discoveryLagSnapshots() {
+    return 0;
+  }
+
+  /**
+   * @return the commit time gap in milliseconds between the current change snapshot and the last planned one
+   */
+  default long discoveryLagMillis() {
+    return 0;
+  }
 }
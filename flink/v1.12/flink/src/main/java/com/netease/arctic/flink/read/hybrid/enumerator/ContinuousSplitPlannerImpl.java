@@ -25,11 +25,13 @@ import com.netease.arctic.table.KeyedTable;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.flink.annotation.Internal;
 import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.SnapshotSummary;
 import org.apache.iceberg.TableScan;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -48,9 +50,22 @@ public class ContinuousSplitPlannerImpl implements ContinuousSplitPlanner {
   private transient KeyedTable table;
   private final ArcticTableLoader loader;
   private static final AtomicInteger splitCount = new AtomicInteger();
+  private final int maxSnapshotsPerDiscovery;
+  private final int maxFilesPerDiscovery;
+  private final long maxBytesPerDiscovery;
+  private volatile long discoveryLagSnapshots;
+  private volatile long discoveryLagMillis;
 
   public ContinuousSplitPlannerImpl(ArcticTableLoader loader) {
+    this(loader, Integer.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE);
+  }
+
+  public ContinuousSplitPlannerImpl(
+      ArcticTableLoader loader, int maxSnapshotsPerDiscovery, int maxFilesPerDiscovery, long maxBytesPerDiscovery) {
     this.loader = loader;
+    this.maxSnapshotsPerDiscovery = maxSnapshotsPerDiscovery;
+    this.maxFilesPerDiscovery = maxFilesPerDiscovery;
+    this.maxBytesPerDiscovery = maxBytesPerDiscovery;
   }
 
   @Override
@@ -74,11 +89,13 @@ public class ContinuousSplitPlannerImpl implements ContinuousSplitPlanner {
     long fromChangeSnapshotId = lastPosition.changeSnapshotId();
     Snapshot changeSnapshot = table.changeTable().currentSnapshot();
     if (changeSnapshot != null && changeSnapshot.snapshotId() != fromChangeSnapshotId) {
-      long snapshotId = changeSnapshot.snapshotId();
+      long snapshotId = boundedToSnapshot(fromChangeSnapshotId, changeSnapshot).snapshotId();
       TableScan tableScan = table.changeTable().newScan();
 
       if (fromChangeSnapshotId != Long.MIN_VALUE) {
         tableScan = tableScan.appendsBetween(fromChangeSnapshotId, snapshotId);
+      } else if (snapshotId != changeSnapshot.snapshotId()) {
+        tableScan = tableScan.useSnapshot(snapshotId);
       }
 
       List<ArcticSplit> arcticChangeSplit = planChangeTable(tableScan, splitCount);
@@ -87,9 +104,83 @@ public class ContinuousSplitPlannerImpl implements ContinuousSplitPlanner {
           lastPosition,
           ArcticEnumeratorOffset.of(snapshotId, null));
     }
+    discoveryLagSnapshots = 0;
+    discoveryLagMillis = 0;
     return ContinuousEnumerationResult.EMPTY;
   }
 
+  /**
+   * Walk the snapshot chain of the change table from the current snapshot back to the last enumerated one, and return
+   * the newest snapshot within the discovery limits. At least one snapshot is returned to make sure the discovery
+   * always moves forward.
+   */
+  private Snapshot boundedToSnapshot(long fromChangeSnapshotId, Snapshot currentSnapshot) {
+    if (maxSnapshotsPerDiscovery == Integer.MAX_VALUE && maxFilesPerDiscovery == Integer.MAX_VALUE &&
+        maxBytesPerDiscovery == Long.MAX_VALUE) {
+      discoveryLagSnapshots = 0;
+      discoveryLagMillis = 0;
+      return currentSnapshot;
+    }
+
+    // snapshots after the last enumerated one, the newest first
+    List<Snapshot> snapshots = new ArrayList<>();
+    Snapshot snapshot = currentSnapshot;
+    while (snapshot != null && snapshot.snapshotId() != fromChangeSnapshotId) {
+      snapshots.add(snapshot);
+      snapshot = snapshot.parentId() == null ? null : table.changeTable().snapshot(snapshot.parentId());
+    }
+    if (snapshot == null && fromChangeSnapshotId != EARLIEST_SNAPSHOT_ID) {
+      LOG.warn("Snapshot {} is not an ancestor of the current snapshot of change table {}, plan to the current one.",
+          fromChangeSnapshotId, table.id());
+      discoveryLagSnapshots = 0;
+      discoveryLagMillis = 0;
+      return currentSnapshot;
+    }
+
+    Snapshot toSnapshot = null;
+    int plannedSnapshots = 0;
+    long plannedFiles = 0;
+    long plannedBytes = 0;
+    for (int i = snapshots.size() - 1; i >= 0; i--) {
+      Snapshot next = snapshots.get(i);
+      long addedFiles = summaryValue(next, SnapshotSummary.ADDED_FILES_PROP);
+      long addedBytes = summaryValue(next, SnapshotSummary.ADDED_FILE_SIZE_PROP);
+      if (toSnapshot != null && (plannedSnapshots + 1 > maxSnapshotsPerDiscovery ||
+          plannedFiles + addedFiles > maxFilesPerDiscovery || plannedBytes + addedBytes > maxBytesPerDiscovery)) {
+        break;
+      }
+      toSnapshot = next;
+      plannedSnapshots++;
+      plannedFiles += addedFiles;
+      plannedBytes += addedBytes;
+    }
+
+    discoveryLagSnapshots = snapshots.size() - plannedSnapshots;
+    discoveryLagMillis = currentSnapshot.timestampMillis() - toSnapshot.timestampMillis();
+    if (discoveryLagSnapshots > 0) {
+      LOG.info("Plan {} snapshots with {} files and {} bytes of change table {}, {} snapshots are left.",
+          plannedSnapshots, plannedFiles, plannedBytes, table.id(), discoveryLagSnapshots);
+    }
+    return toSnapshot;
+  }
+
+  private static long summaryValue(Snapshot snapshot, String key) {
+    if (snapshot.summary() == null || snapshot.summary().get(key) == null) {
+      return 0;
+    }
+    return Long.parseLong(snapshot.summary().get(key));
+  }
+
+  @Override
+  public long discoveryLagSnapshots() {
+    return discoveryLagSnapshots;
+  }
+
+  @Override
+  public long discoveryLagMillis() {
+    return discoveryLagMillis;
+  }
+
   private ContinuousEnumerationResult discoverInitialSplits() {
     Snapshot changeSnapshot = table.changeTable().currentSnapshot();
     List<ArcticSplit> arcticSplits = FlinkSplitPlanner.planFullTable(table, splitCount);
@@ -32,6 +32,12 @@ import java.util.Objects;
 
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.ARCTIC_READ_FILE;
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.ARCTIC_READ_MODE;
+import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SCAN_COMMIT_NOTIFY_ENABLED;
+import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SCAN_COMMIT_NOTIFY_MAX_INTERVAL;
+import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SCAN_DISCOVERY_MAX_BYTES;
+import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SCAN_DISCOVERY_MAX_FILES;
+import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SCAN_DISCOVERY_MAX_PENDING_SPLITS;
+import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SCAN_DISCOVERY_MAX_SNAPSHOTS;
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SCAN_STARTUP_MODE;
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SCAN_STARTUP_MODE_EARLIEST;
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SCAN_STARTUP_MODE_LATEST;
@@ -45,6 +51,12 @@ public class ArcticScanContext extends ScanContext implements Serializable {
   private static final long serialVersionUID = 1L;
 
   private final String scanStartupMode;
+  private final int maxSnapshotsPerDiscovery;
+  private final int maxFilesPerDiscovery;
+  private final long maxBytesPerDiscovery;
+  private final int maxPendingSplits;
+  private final boolean commitNotifyEnabled;
+  private final Duration commitNotifyMaxInterval;
 
   protected ArcticScanContext(
       boolean caseSensitive,
@@ -61,7 +73,13 @@ public class ArcticScanContext extends ScanContext implements Serializable {
       Schema schema,
       List<Expression> filters,
       long limit,
-      String scanStartupMode) {
+      String scanStartupMode,
+      int maxSnapshotsPerDiscovery,
+      int maxFilesPerDiscovery,
+      long maxBytesPerDiscovery,
+      int maxPendingSplits,
+      boolean commitNotifyEnabled,
+      Duration commitNotifyMaxInterval) {
     super(caseSensitive,
         snapshotId,
         startSnapshotId,
@@ -77,6 +95,12 @@ public class ArcticScanContext extends ScanContext implements Serializable {
         filters,
         limit);
     this.scanStartupMode = scanStartupMode;
+    this.maxSnapshotsPerDiscovery = maxSnapshotsPerDiscovery;
+    this.maxFilesPerDiscovery = maxFilesPerDiscovery;
+    this.maxBytesPerDiscovery = maxBytesPerDiscovery;
+    this.maxPendingSplits = maxPendingSplits;
+    this.commitNotifyEnabled = commitNotifyEnabled;
+    this.commitNotifyMaxInterval = commitNotifyMaxInterval;
   }
 
   public boolean caseSensitive() {
@@ -143,6 +167,30 @@ public class ArcticScanContext extends ScanContext implements Serializable {
     return scanStartupMode;
   }
 
+  public int maxSnapshotsPerDiscovery() {
+    return maxSnapshotsPerDiscovery;
+  }
+
+  public int maxFilesPerDiscovery() {
+    return maxFilesPerDiscovery;
+  }
+
+  public long maxBytesPerDiscovery() {
+    return maxBytesPerDiscovery;
+  }
+
+  public int maxPendingSplits() {
+    return maxPendingSplits;
+  }
+
+  public boolean commitNotifyEnabled() {
+    return commitNotifyEnabled;
+  }
+
+  public Duration commitNotifyMaxInterval() {
+    return commitNotifyMaxInterval;
+  }
+
   public static class Builder {
     private boolean caseSensitive = CASE_SENSITIVE.defaultValue();
     private Long snapshotId = SNAPSHOT_ID.defaultValue();
@@ -159,6 +207,12 @@ public class ArcticScanContext extends ScanContext implements Serializable {
     private List<Expression> filters;
     private long limit = -1L;
     private String scanStartupMode;
+    private int maxSnapshotsPerDiscovery = SCAN_DISCOVERY_MAX_SNAPSHOTS.defaultValue();
+    private int maxFilesPerDiscovery = SCAN_DISCOVERY_MAX_FILES.defaultValue();
+    private long maxBytesPerDiscovery = SCAN_DISCOVERY_MAX_BYTES.defaultValue();
+    private int maxPendingSplits = SCAN_DISCOVERY_MAX_PENDING_SPLITS.defaultValue();
+    private boolean commitNotifyEnabled = SCAN_COMMIT_NOTIFY_ENABLED.defaultValue();
+    private Duration commitNotifyMaxInterval = SCAN_COMMIT_NOTIFY_MAX_INTERVAL.defaultValue();
 
     private Builder() {
     }
@@ -238,6 +292,36 @@ public class ArcticScanContext extends ScanContext implements Serializable {
       return this;
     }
 
+    public Builder maxSnapshotsPerDiscovery(int maxSnapshotsPerDiscovery) {
+      this.maxSnapshotsPerDiscovery = maxSnapshotsPerDiscovery;
+      return this;
+    }
+
+    public Builder maxFilesPerDiscovery(int maxFilesPerDiscovery) {
+      this.maxFilesPerDiscovery = maxFilesPerDiscovery;
+      return this;
+    }
+
+    public Builder maxBytesPerDiscovery(long maxBytesPerDiscovery) {
+      this.maxBytesPerDiscovery = maxBytesPerDiscovery;
+      return this;
+    }
+
+    public Builder maxPendingSplits(int maxPendingSplits) {
+      this.maxPendingSplits = maxPendingSplits;
+      return this;
+    }
+
+    public Builder commitNotifyEnabled(boolean commitNotifyEnabled) {
+      this.commitNotifyEnabled = commitNotifyEnabled;
+      return this;
+    }
+
+    public Builder commitNotifyMaxInterval(Duration commitNotifyMaxInterval) {
+      this.commitNotifyMaxInterval = commitNotifyMaxInterval;
+      return this;
+    }
+
     public Builder fromProperties(Map<String, String> properties) {
       Configuration config = new Configuration();
       properties.forEach(config::setString);
@@ -253,7 +337,13 @@ public class ArcticScanContext extends ScanContext implements Serializable {
           .streaming(config.get(STREAMING))
           .monitorInterval(config.get(MONITOR_INTERVAL))
           .nameMapping(properties.get(DEFAULT_NAME_MAPPING))
-          .scanStartupMode(properties.get(SCAN_STARTUP_MODE.key()));
+          .scanStartupMode(properties.get(SCAN_STARTUP_MODE.key()))
+          .maxSnapshotsPerDiscovery(config.get(SCAN_DISCOVERY_MAX_SNAPSHOTS))
+          .maxFilesPerDiscovery(config.get(SCAN_DISCOVERY_MAX_FILES))
+          .maxBytesPerDiscovery(config.get(SCAN_DISCOVERY_MAX_BYTES))
+          .maxPendingSplits(config.get(SCAN_DISCOVERY_MAX_PENDING_SPLITS))
+          .commitNotifyEnabled(config.get(SCAN_COMMIT_NOTIFY_ENABLED))
+          .commitNotifyMaxInterval(config.get(SCAN_COMMIT_NOTIFY_MAX_INTERVAL));
     }
 
     public ArcticScanContext build() {
@@ -270,7 +360,8 @@ public class ArcticScanContext extends ScanContext implements Serializable {
       return new ArcticScanContext(caseSensitive, snapshotId, startSnapshotId,
           endSnapshotId, asOfTimestamp, splitSize, splitLookback,
           splitOpenFileCost, isStreaming, monitorInterval, nameMapping, projectedSchema,
-          filters, limit, scanStartupMode);
+          filters, limit, scanStartupMode, maxSnapshotsPerDiscovery, maxFilesPerDiscovery, maxBytesPerDiscovery,
+          maxPendingSplits, commitNotifyEnabled, commitNotifyMaxInterval);
     }
   }
 }
@@ -32,4 +32,19 @@ import java.io.Serializable;
 @Internal
 public interface FileScanTaskReader<T> extends Serializable {
   CloseableIterator<T> open(FileScanTask fileScanTask);
+
+  /**
+   * Open the task and skip records before the starting record offset.
+   */
+  default CloseableIterator<T> open(FileScanTask fileScanTask, long startingRecordOffset) {
+    CloseableIterator<T> iterator = open(fileScanTask);
+    for (long i = 0; i < startingRecordOffset; ++i) {
+      if (!iterator.hasNext()) {
+        throw new IllegalStateException(String.format(
+            "Invalid starting record offset %d for file %s", startingRecordOffset, fileScanTask.file().path()));
+      }
+      iterator.next();
+    }
+    return iterator;
+  }
 }
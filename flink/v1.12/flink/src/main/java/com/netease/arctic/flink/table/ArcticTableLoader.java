@@ -118,6 +118,10 @@ public class ArcticTableLoader implements TableLoader {
     return (Table) table;
   }
 
+  public String metastoreUrl() {
+    return catalogBuilder.getMetastoreUrl();
+  }
+
   @Override
   public void close() throws IOException {
   }
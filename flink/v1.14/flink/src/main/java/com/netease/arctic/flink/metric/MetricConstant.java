@@ -32,5 +32,17 @@ public class MetricConstant {
    * The end time of arctic table's initialization when it used as build table in temporal join.
    */
   public static final String TEMPORAL_TABLE_INITIALIZATION_END_TIMESTAMP = "temporalTableInitializationEndTimestamp";
+  /**
+   * The number of change snapshots not planned yet by the enumerator.
+   */
+  public static final String DISCOVERY_LAG_SNAPSHOTS = "discoveryLagSnapshots";
+  /**
+   * The commit time gap between the current change snapshot and the last planned one.
+   */
+  public static final String DISCOVERY_LAG_MILLIS = "discoveryLagMillis";
+  /**
+   * The number of splits discovered but not assigned to readers yet.
+   */
+  public static final String PENDING_SPLITS = "pendingSplits";
 
 }
@@ -55,4 +55,9 @@ public interface SplitAssigner extends Closeable {
   }
 
   Collection<ArcticSplitState> state();
+
+  /**
+   * @return the number of splits discovered but not assigned yet
+   */
+  int pendingSplitCount();
 }
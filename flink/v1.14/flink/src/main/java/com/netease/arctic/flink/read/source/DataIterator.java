@@ -91,17 +91,8 @@ public class DataIterator<T> implements CloseableIterator<T> {
       tasks.next();
     }
 
-    updateCurrentIterator();
-    // skip records within the file
-    for (long i = 0; i < startingRecordOffset; ++i) {
-      if (currentFileHasNext() && hasNext()) {
-        next();
-      } else {
-        throw new IllegalStateException(String.format(
-            "Invalid starting record offset %d for file %d from FileScanTask List.",
-            startingRecordOffset, startingFileOffset));
-      }
-    }
+    // skip records within the file, the reader may skip whole row groups without decoding them
+    currentIterator = fileScanTaskReader.open(tasks.next(), startingRecordOffset);
 
     fileOffset = startingFileOffset;
     recordOffset = startingRecordOffset;
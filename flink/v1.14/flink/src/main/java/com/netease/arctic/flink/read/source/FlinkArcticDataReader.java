@@ -88,4 +88,10 @@ public class FlinkArcticDataReader extends BaseIcebergDataReader<RowData> implem
     CloseableIterable<RowData> rowDataIterable = readData(arcticFileScanTask);
     return fileIO.doAs(rowDataIterable::iterator);
   }
+
+  @Override
+  public CloseableIterator<RowData> open(FileScanTask fileScanTask, long startingRecordOffset) {
+    CloseableIterable<RowData> rowDataIterable = readData(fileScanTask, startingRecordOffset);
+    return fileIO.doAs(rowDataIterable::iterator);
+  }
 }
@@ -120,6 +120,49 @@ public class ArcticValidator extends ConnectorDescriptorValidator {
           .withDescription(
               "Optional timestamp used in case of \"timestamp\" startup mode");
 
+  public static final ConfigOption<Integer> SCAN_DISCOVERY_MAX_SNAPSHOTS = ConfigOptions
+      .key("scan.discovery.max-snapshots")
+      .intType()
+      .defaultValue(Integer.MAX_VALUE)
+      .withDescription("Optional max number of change snapshots planned by one incremental discovery, the remaining" +
+          " snapshots will be planned by the following discoveries. At least one snapshot is planned each time.");
+
+  public static final ConfigOption<Integer> SCAN_DISCOVERY_MAX_FILES = ConfigOptions
+      .key("scan.discovery.max-files")
+      .intType()
+      .defaultValue(Integer.MAX_VALUE)
+      .withDescription("Optional max number of change files planned by one incremental discovery, counted by the" +
+          " summaries of change snapshots.");
+
+  public static final ConfigOption<Long> SCAN_DISCOVERY_MAX_BYTES = ConfigOptions
+      .key("scan.discovery.max-bytes")
+      .longType()
+      .defaultValue(Long.MAX_VALUE)
+      .withDescription("Optional max size in bytes of change files planned by one incremental discovery, counted" +
+          " by the summaries of change snapshots.");
+
+  public static final ConfigOption<Integer> SCAN_DISCOVERY_MAX_PENDING_SPLITS = ConfigOptions
+      .key("scan.discovery.max-pending-splits")
+      .intType()
+      .defaultValue(Integer.MAX_VALUE)
+      .withDescription("Optional max number of splits discovered but not assigned to readers yet, incremental" +
+          " discovery is paused until the pending splits are less than it.");
+
+  public static final ConfigOption<Boolean> SCAN_COMMIT_NOTIFY_ENABLED = ConfigOptions
+      .key("scan.discovery.commit-notify.enabled")
+      .booleanType()
+      .defaultValue(false)
+      .withDescription("Optional flag to discover new snapshots once they are committed, by waiting for commit" +
+          " notifications from arctic meta service. Falls back to polling every monitor-interval if ams doesn't" +
+          " track commits of the table.");
+
+  public static final ConfigOption<Duration> SCAN_COMMIT_NOTIFY_MAX_INTERVAL = ConfigOptions
+      .key("scan.discovery.commit-notify.max-interval")
+      .durationType()
+      .defaultValue(Duration.ofMinutes(5))
+      .withDescription("Optional max interval of discovering new snapshots if commit notification is enabled," +
+          " to pick up commits not notified by ams.");
+
   public static final ConfigOption<Boolean> SUBMIT_EMPTY_SNAPSHOTS = ConfigOptions
       .key("submit.empty.snapshots")
       .booleanType()
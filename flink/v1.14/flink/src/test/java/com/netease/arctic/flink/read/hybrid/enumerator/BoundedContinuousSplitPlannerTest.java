@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.flink.read.hybrid.enumerator;
+
+import com.netease.arctic.flink.table.ArcticTableLoader;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.types.RowKind;
+import org.apache.iceberg.io.TaskWriter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+
+public class BoundedContinuousSplitPlannerTest extends ContinuousSplitPlannerImplTest {
+
+  @Test
+  public void testDiscoverSnapshotsIncrementally() throws IOException {
+    testKeyedTable.changeTable().refresh();
+    long fromSnapshotId = testKeyedTable.changeTable().currentSnapshot().snapshotId();
+    for (int i = 0; i < 3; i++) {
+      TaskWriter<RowData> taskWriter = createTaskWriter(false);
+      taskWriter.write(GenericRowData.ofKind(
+          RowKind.INSERT, 10 + i, StringData.fromString("tom"), TimestampData.fromLocalDateTime(ldt)));
+      commit(testKeyedTable, taskWriter.complete(), false);
+    }
+    testKeyedTable.changeTable().refresh();
+    long currentSnapshotId = testKeyedTable.changeTable().currentSnapshot().snapshotId();
+
+    ContinuousSplitPlannerImpl planner = new ContinuousSplitPlannerImpl(
+        ArcticTableLoader.of(PK_TABLE_ID, catalogBuilder), 2, Integer.MAX_VALUE, Long.MAX_VALUE);
+    ContinuousEnumerationResult result = planner.planSplits(ArcticEnumeratorOffset.of(fromSnapshotId, null));
+    Assert.assertFalse(result.isEmpty());
+    Assert.assertNotEquals(currentSnapshotId, (long) result.toOffset().changeSnapshotId());
+    Assert.assertEquals(1, planner.discoveryLagSnapshots());
+
+    result = planner.planSplits(result.toOffset());
+    Assert.assertFalse(result.isEmpty());
+    Assert.assertEquals(currentSnapshotId, (long) result.toOffset().changeSnapshotId());
+    Assert.assertEquals(0, planner.discoveryLagSnapshots());
+    Assert.assertEquals(0, planner.discoveryLagMillis());
+  }
+}
@@ -121,6 +121,45 @@ public class RowDataReaderFunctionTest extends ContinuousSplitPlannerImplTest {
     assertArrayEquals(excepts2(), actual);
   }
 
+  @Test
+  public void testSeekSnapshotSplit() throws IOException {
+    List<ArcticSplit> arcticSplits = FlinkSplitPlanner.planFullTable(testKeyedTable, new AtomicInteger(0));
+
+    RowDataReaderFunction rowDataReaderFunction = new RowDataReaderFunction(
+        new Configuration(),
+        testKeyedTable.schema(),
+        testKeyedTable.schema(),
+        testKeyedTable.primaryKeySpec(),
+        null,
+        true,
+        testKeyedTable.io()
+    );
+
+    for (ArcticSplit split : arcticSplits) {
+      if (!split.isSnapshotSplit()) {
+        continue;
+      }
+      List<RowData> all = new ArrayList<>();
+      try (DataIterator<RowData> dataIterator = rowDataReaderFunction.createDataIterator(split)) {
+        while (dataIterator.hasNext() && dataIterator.fileOffset() <= 0) {
+          all.add(dataIterator.next());
+        }
+      }
+      if (all.isEmpty()) {
+        continue;
+      }
+
+      List<RowData> restored = new ArrayList<>();
+      try (DataIterator<RowData> dataIterator = rowDataReaderFunction.createDataIterator(split)) {
+        dataIterator.seek(0, 1);
+        while (dataIterator.hasNext() && dataIterator.fileOffset() <= 0) {
+          restored.add(dataIterator.next());
+        }
+      }
+      Assert.assertEquals(all.subList(1, all.size()), restored);
+    }
+  }
+
   protected void assertArrayEquals(RowData[] excepts, List<RowData> actual) {
     Assert.assertArrayEquals(excepts, sortRowDataCollection(actual));
   }
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.netease.arctic.flink.read.hybrid.enumerator;
+
+import com.netease.arctic.AmsClient;
+import com.netease.arctic.ams.api.TableCommitEvent;
+import com.netease.arctic.ams.api.TableIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Watch commits of a table by waiting on arctic meta service, so the enumerator discovers new snapshots as soon as
+ * they are committed, instead of refreshing table metadata on every monitor interval.
+ * <p>
+ * The watcher is healthy only if ams has tracked commits of the table, the enumerator should fall back to polling
+ * if not.
+ */
+public class TableCommitWatcher implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(TableCommitWatcher.class);
+
+  private static final long UNKNOWN_SNAPSHOT_ID = -1L;
+  /**
+   * Calls returned faster than it without any new commit are regarded as not waiting on ams, e.g. ams rejects
+   * waiters or doesn't track the table, back off to avoid busy calling.
+   */
+  private static final long MIN_CALL_INTERVAL_MS = 1000L;
+
+  private final AmsClient client;
+  private final TableIdentifier tableIdentifier;
+  private final long waitTime;
+  private final long retryInterval;
+  private final Runnable onCommit;
+  private final AtomicBoolean committed = new AtomicBoolean(false);
+  private final Thread thread;
+  private volatile boolean healthy = false;
+  private volatile boolean running = true;
+  private long changeSnapshotId = UNKNOWN_SNAPSHOT_ID;
+  private long baseSnapshotId = UNKNOWN_SNAPSHOT_ID;
+
+  /**
+   * @param client          - client of arctic meta service
+   * @param tableIdentifier - table to watch
+   * @param waitTime        - max time of waiting on ams in one call
+   * @param retryInterval   - interval to retry after failed calls
+   * @param onCommit        - called in the watcher thread once new commits of table are notified
+   */
+  public TableCommitWatcher(
+      AmsClient client, TableIdentifier tableIdentifier,
+      long waitTime, long retryInterval, Runnable onCommit) {
+    this.client = client;
+    this.tableIdentifier = tableIdentifier;
+    this.waitTime = waitTime;
+    this.retryInterval = retryInterval;
+    this.onCommit = onCommit;
+    this.thread = new Thread(this::run, "arctic-commit-watcher-" + tableIdentifier.getTableName());
+    this.thread.setDaemon(true);
+  }
+
+  public void start() {
+    thread.start();
+  }
+
+  /**
+   * @return true if ams tracks commits of the table, the enumerator may rely on {@link #pollCommitted()}.
+   */
+  public boolean healthy() {
+    return healthy;
+  }
+
+  /**
+   * @return true if there are new commits since last call, and reset it.
+   */
+  public boolean pollCommitted() {
+    return committed.getAndSet(false);
+  }
+
+  /**
+   * Only discover new snapshots after notified commits, or when it's too long since last discovery. Discover on
+   * every call if the watcher is not healthy.
+   *
+   * @param lastDiscoveryTime - time of last discovery
+   * @param maxIntervalMs     - max interval between two discoveries
+   * @return true if the enumerator should discover new snapshots now
+   */
+  public boolean shouldDiscover(long lastDiscoveryTime, long maxIntervalMs) {
+    if (pollCommitted() || !healthy()) {
+      return true;
+    }
+    return System.currentTimeMillis() - lastDiscoveryTime >= maxIntervalMs;
+  }
+
+  private void run() {
+    while (running) {
+      long start = System.currentTimeMillis();
+      boolean advanced = false;
+      try {
+        TableCommitEvent event = client.waitTableCommit(tableIdentifier, changeSnapshotId, baseSnapshotId, waitTime);
+        healthy = event.getChangeSnapshotId() != UNKNOWN_SNAPSHOT_ID ||
+            event.getBaseSnapshotId() != UNKNOWN_SNAPSHOT_ID;
+        advanced = event.getChangeSnapshotId() != changeSnapshotId ||
+            event.getBaseSnapshotId() != baseSnapshotId;
+        if (advanced) {
+          LOG.debug("table {} committed, change snapshot {}, base snapshot {}.", tableIdentifier,
+              event.getChangeSnapshotId(), event.getBaseSnapshotId());
+          changeSnapshotId = event.getChangeSnapshotId();
+          baseSnapshotId = event.getBaseSnapshotId();
+          committed.set(true);
+          onCommit.run();
+        }
+      } catch (Throwable t) {
+        if (!running) {
+          return;
+        }
+        healthy = false;
+        LOG.warn("failed to wait for commits of table {}, fall back to polling, retry in {} ms.",
+            tableIdentifier, retryInterval, t);
+        sleep(retryInterval);
+        continue;
+      }
+      long elapsed = System.currentTimeMillis() - start;
+      if (!advanced && elapsed < MIN_CALL_INTERVAL_MS) {
+        sleep(MIN_CALL_INTERVAL_MS - elapsed);
+      }
+    }
+  }
+
+  private void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      running = false;
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    thread.interrupt();
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.netease.arctic.flink.read.hybrid.enumerator;
+
+import com.netease.arctic.AmsClient;
+import com.netease.arctic.ams.api.TableCommitEvent;
+import com.netease.arctic.ams.api.TableIdentifier;
+import org.apache.thrift.TException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TableCommitWatcherTest {
+  private static final TableIdentifier TABLE = new TableIdentifier("catalog", "db", "table");
+  private static final long WAIT_TIME = 100L;
+
+  // snapshots reported by the mocked ams, null to fail the call
+  private final AtomicReference<long[]> snapshots = new AtomicReference<>(new long[] {-1L, -1L});
+
+  @Test
+  public void testWakeUpOnCommit() throws Exception {
+    CountDownLatch commits = new CountDownLatch(1);
+    snapshots.set(new long[] {1L, -1L});
+    try (TableCommitWatcher watcher = startWatcher(commits::countDown)) {
+      Assert.assertTrue(commits.await(10, TimeUnit.SECONDS));
+      Assert.assertTrue(watcher.healthy());
+      long now = System.currentTimeMillis();
+      Assert.assertTrue(watcher.shouldDiscover(now, Long.MAX_VALUE));
+      // the commit is consumed by the last discovery
+      Assert.assertFalse(watcher.shouldDiscover(now, Long.MAX_VALUE));
+    }
+  }
+
+  @Test
+  public void testFallBackIfUnhealthy() throws Exception {
+    CountDownLatch commits = new CountDownLatch(1);
+    snapshots.set(new long[] {1L, 2L});
+    try (TableCommitWatcher watcher = startWatcher(commits::countDown)) {
+      Assert.assertTrue(commits.await(10, TimeUnit.SECONDS));
+      waitUntil(watcher::healthy);
+      Assert.assertTrue(watcher.pollCommitted());
+
+      // ams fails to wait for commits
+      snapshots.set(null);
+      waitUntil(() -> !watcher.healthy());
+      Assert.assertTrue(watcher.shouldDiscover(System.currentTimeMillis(), Long.MAX_VALUE));
+
+      // ams does not track the table any more
+      snapshots.set(new long[] {-1L, -1L});
+      Thread.sleep(WAIT_TIME * 3);
+      Assert.assertFalse(watcher.healthy());
+      Assert.assertTrue(watcher.shouldDiscover(System.currentTimeMillis(), Long.MAX_VALUE));
+    }
+  }
+
+  @Test
+  public void testMaxIntervalFallBack() throws Exception {
+    CountDownLatch commits = new CountDownLatch(1);
+    snapshots.set(new long[] {1L, -1L});
+    try (TableCommitWatcher watcher = startWatcher(commits::countDown)) {
+      Assert.assertTrue(commits.await(10, TimeUnit.SECONDS));
+      waitUntil(watcher::healthy);
+      Assert.assertTrue(watcher.pollCommitted());
+
+      long maxInterval = 60000L;
+      long now = System.currentTimeMillis();
+      Assert.assertFalse(watcher.shouldDiscover(now, maxInterval));
+      Assert.assertTrue(watcher.shouldDiscover(now - maxInterval, maxInterval));
+    }
+  }
+
+  private TableCommitWatcher startWatcher(Runnable onCommit) throws TException {
+    AmsClient client = mock(AmsClient.class);
+    when(client.waitTableCommit(any(), anyLong(), anyLong(), anyLong())).thenAnswer(invocation -> {
+      long[] current = snapshots.get();
+      if (current == null) {
+        throw new TException("failed to wait for commits");
+      }
+      if (current[0] == invocation.<Long>getArgument(1) && current[1] == invocation.<Long>getArgument(2)) {
+        Thread.sleep(WAIT_TIME);
+      }
+      return new TableCommitEvent(TABLE, current[0], current[1], System.currentTimeMillis());
+    });
+    TableCommitWatcher watcher = new TableCommitWatcher(client, TABLE, WAIT_TIME, WAIT_TIME, onCommit);
+    watcher.start();
+    return watcher;
+  }
+
+  private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10000L;
+    while (!condition.getAsBoolean()) {
+      Assert.assertTrue(System.currentTimeMillis() < deadline);
+      Thread.sleep(10L);
+    }
+  }
+}
@@ -19,13 +19,16 @@
 package com.netease.arctic.hive.io.writer;
 
 import com.netease.arctic.data.ChangeAction;
+import com.netease.arctic.data.DataTreeNode;
 import com.netease.arctic.hive.table.HiveLocationKind;
 import com.netease.arctic.hive.table.SupportHive;
 import com.netease.arctic.hive.utils.TableTypeUtil;
+import com.netease.arctic.io.writer.BaseTaskWriter;
 import com.netease.arctic.io.writer.CommonOutputFileFactory;
 import com.netease.arctic.io.writer.GenericBaseTaskWriter;
 import com.netease.arctic.io.writer.GenericChangeTaskWriter;
 import com.netease.arctic.io.writer.OutputFileFactory;
+import com.netease.arctic.io.writer.PosDeleteMemoryBudget;
 import com.netease.arctic.io.writer.SortedPosDeleteWriter;
 import com.netease.arctic.io.writer.TaskWriterBuilder;
 import com.netease.arctic.table.ArcticTable;
@@ -53,6 +56,7 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.util.PropertyUtil;
 
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * Builder to create writers for {@link KeyedTable} writting {@link Record}.
@@ -66,6 +70,8 @@ public class AdaptHiveGenericTaskWriterBuilder implements TaskWriterBuilder<Reco
   private int taskId = 0;
   private ChangeAction changeAction = ChangeAction.INSERT;
   private String customHiveSubdirectory;
+  private Map<DataTreeNode, Long> targetFileRecords;
+  private PosDeleteMemoryBudget posDeleteMemoryBudget;
 
   private AdaptHiveGenericTaskWriterBuilder(ArcticTable table) {
     this.table = table;
@@ -96,6 +102,23 @@ public class AdaptHiveGenericTaskWriterBuilder implements TaskWriterBuilder<Reco
     return this;
   }
 
+  /**
+   * Max records of a base file for tree nodes, see {@link BaseTaskWriter#setTargetFileRecords(Map)}.
+   */
+  public AdaptHiveGenericTaskWriterBuilder withTargetFileRecords(Map<DataTreeNode, Long> targetFileRecords) {
+    this.targetFileRecords = targetFileRecords;
+    return this;
+  }
+
+  /**
+   * Memory budget shared by position delete writers of a task, by default each writer has its own budget of
+   * {@link TableProperties#POS_DELETE_WRITE_BUFFER_BYTES}.
+   */
+  public AdaptHiveGenericTaskWriterBuilder withPosDeleteMemoryBudget(PosDeleteMemoryBudget posDeleteMemoryBudget) {
+    this.posDeleteMemoryBudget = posDeleteMemoryBudget;
+    return this;
+  }
+
   @Override
   public TaskWriter<Record> buildWriter(WriteOperationKind writeOperationKind) {
     LocationKind locationKind = AdaptHiveOperateToTableRelation.INSTANT.getLocationKindsFromOperateKind(
@@ -129,10 +152,15 @@ public class AdaptHiveGenericTaskWriterBuilder implements TaskWriterBuilder<Reco
     appenderFactory.set(
         org.apache.iceberg.TableProperties.METRICS_MODE_COLUMN_CONF_PREFIX + MetadataColumns.DELETE_FILE_POS.name(),
         MetricsModes.Full.get().toString());
+    PosDeleteMemoryBudget memoryBudget = posDeleteMemoryBudget != null ? posDeleteMemoryBudget :
+        new PosDeleteMemoryBudget(PropertyUtil.propertyAsLong(baseTable.properties(),
+            TableProperties.POS_DELETE_WRITE_BUFFER_BYTES, TableProperties.POS_DELETE_WRITE_BUFFER_BYTES_DEFAULT));
+    long fileSizeBytes = PropertyUtil.propertyAsLong(baseTable.properties(),
+        TableProperties.WRITE_TARGET_FILE_SIZE_BYTES, TableProperties.WRITE_TARGET_FILE_SIZE_BYTES_DEFAULT);
     return new SortedPosDeleteWriter<>(appenderFactory,
         new CommonOutputFileFactory(baseTable.location(), baseTable.spec(), fileFormat, baseTable.io(),
             baseTable.encryption(), partitionId, taskId, transactionId),
-        fileFormat, mask, index, partitionKey);
+        fileFormat, mask, index, partitionKey, Long.MAX_VALUE, memoryBudget, fileSizeBytes);
   }
 
   private GenericBaseTaskWriter buildBaseWriter(LocationKind locationKind) {
@@ -170,9 +198,13 @@ public class AdaptHiveGenericTaskWriterBuilder implements TaskWriterBuilder<Reco
     FileAppenderFactory<Record> appenderFactory = TableTypeUtil.isHive(table) ?
         new AdaptHiveGenericAppenderFactory(schema, table.spec()) :
         new GenericAppenderFactory(schema, table.spec());
-    return new GenericBaseTaskWriter(fileFormat, appenderFactory,
+    GenericBaseTaskWriter writer = new GenericBaseTaskWriter(fileFormat, appenderFactory,
         outputFileFactory,
         table.io(), fileSizeBytes, mask, schema, table.spec(), primaryKeySpec);
+    if (targetFileRecords != null) {
+      writer.setTargetFileRecords(targetFileRecords);
+    }
+    return writer;
   }
 
   private GenericChangeTaskWriter buildChangeWriter() {
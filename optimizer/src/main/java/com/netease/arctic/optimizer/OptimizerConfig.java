@@ -38,6 +38,11 @@ public class OptimizerConfig implements Serializable {
   private String optimizerId = "unknown";
   @Option(name = "-hb", aliases = "--heart-beat", usage = "heart beat interval (ms)")
   private long heartBeat = 10000; // 10 s
+  @Option(name = "-pi", aliases = "--progress-interval", usage = "task progress report interval (ms), 0 to disable")
+  private long progressInterval = 30000; // 30 s
+  @Option(name = "-mb", aliases = "--memory-budget",
+      usage = "heap budget (MB) for admitting tasks to execute, 0 to use 70% of max heap")
+  private long memoryBudget = 0;
 
   public OptimizerConfig() {
   }
@@ -59,6 +64,22 @@ public class OptimizerConfig implements Serializable {
     this.heartBeat = heartBeat;
   }
 
+  public long getProgressInterval() {
+    return progressInterval;
+  }
+
+  public void setProgressInterval(long progressInterval) {
+    this.progressInterval = progressInterval;
+  }
+
+  public long getMemoryBudget() {
+    return memoryBudget;
+  }
+
+  public void setMemoryBudget(long memoryBudget) {
+    this.memoryBudget = memoryBudget;
+  }
+
   public void setAmsUrl(String amsUrl) {
     this.amsUrl = amsUrl;
   }
@@ -95,6 +116,8 @@ public class OptimizerConfig implements Serializable {
         ", queueId=" + queueId +
         ", optimizerId='" + optimizerId + '\'' +
         ", heartBeat=" + heartBeat +
+        ", progressInterval=" + progressInterval +
+        ", memoryBudget=" + memoryBudget +
         '}';
   }
 }
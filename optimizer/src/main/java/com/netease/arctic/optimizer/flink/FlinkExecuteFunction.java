@@ -22,6 +22,8 @@ import com.netease.arctic.ams.api.OptimizeTaskStat;
 import com.netease.arctic.optimizer.OptimizerConfig;
 import com.netease.arctic.optimizer.TaskWrapper;
 import com.netease.arctic.optimizer.operator.BaseTaskExecutor;
+import com.netease.arctic.optimizer.operator.TaskMemoryBudget;
+import com.netease.arctic.optimizer.operator.TaskMemoryEstimator;
 import com.netease.arctic.optimizer.util.CircularArray;
 import org.apache.flink.api.common.ExecutionConfig;
 import org.apache.flink.configuration.Configuration;
@@ -56,6 +58,8 @@ public class FlinkExecuteFunction extends ProcessFunction<TaskWrapper, OptimizeT
 
   private volatile long lastUsageCheckTime = 0;
 
+  private transient TaskMemoryBudget memoryBudget;
+
   FlinkExecuteFunction(OptimizerConfig config) {
     this.config = config;
     this.executor = new BaseTaskExecutor(config, this);
@@ -71,7 +75,17 @@ public class FlinkExecuteFunction extends ProcessFunction<TaskWrapper, OptimizeT
   public void processElement(TaskWrapper compactTaskTaskWrapper,
                              ProcessFunction<TaskWrapper, OptimizeTaskStat>.Context context,
                              Collector<OptimizeTaskStat> collector) throws Exception {
-    OptimizeTaskStat result = executor.execute(compactTaskTaskWrapper);
+    // slots of the same task manager share the heap, wait until the memory of task is admitted
+    long memory = TaskMemoryEstimator.estimateOrZero(compactTaskTaskWrapper.getTask());
+    long admitted = memoryBudget.acquire(memory);
+    LOG.info("admit task {} with estimated memory {}, {}", compactTaskTaskWrapper.getTask().getTaskId(), memory,
+        memoryBudget);
+    OptimizeTaskStat result;
+    try {
+      result = executor.execute(compactTaskTaskWrapper);
+    } finally {
+      memoryBudget.release(admitted);
+    }
     collector.collect(result);
   }
 
@@ -122,6 +136,7 @@ public class FlinkExecuteFunction extends ProcessFunction<TaskWrapper, OptimizeT
   @Override
   public void open(Configuration parameters) throws Exception {
     super.open(parameters);
+    this.memoryBudget = TaskMemoryBudget.shared(config);
     ExecutionConfig.GlobalJobParameters globalJobParameters =
         getRuntimeContext().getExecutionConfig().getGlobalJobParameters();
 
@@ -169,6 +184,18 @@ public class FlinkExecuteFunction extends ProcessFunction<TaskWrapper, OptimizeT
         .gauge("usage-percentage", this::getUsagePercentage);
     LOG.info("add Gauge metrics usage-percentage");
 
+    getRuntimeContext()
+        .getMetricGroup()
+        .addGroup(INFLUXDB_TAG_NAME, taskId)
+        .gauge("admitted-memory-bytes", memoryBudget::getAdmittedBytes);
+    LOG.info("add Gauge metrics admitted-memory-bytes");
+
+    getRuntimeContext()
+        .getMetricGroup()
+        .addGroup(INFLUXDB_TAG_NAME, taskId)
+        .gauge("queued-memory-bytes", memoryBudget::getQueuedBytes);
+    LOG.info("add Gauge metrics queued-memory-bytes");
+
     final int flowRateTimeSpanInSeconds = 5;
     this.inputFlowRateMeter = getRuntimeContext()
         .getMetricGroup()
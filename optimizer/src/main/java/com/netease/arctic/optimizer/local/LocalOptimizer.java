@@ -29,6 +29,8 @@ import com.netease.arctic.optimizer.operator.BaseTaskConsumer;
 import com.netease.arctic.optimizer.operator.BaseTaskExecutor;
 import com.netease.arctic.optimizer.operator.BaseTaskReporter;
 import com.netease.arctic.optimizer.operator.BaseToucher;
+import com.netease.arctic.optimizer.operator.TaskMemoryBudget;
+import com.netease.arctic.optimizer.operator.TaskMemoryEstimator;
 import org.kohsuke.args4j.CmdLineException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,7 +57,9 @@ public class LocalOptimizer implements StatefulOptimizer {
 
   private OptimizerConfig config;
 
-  private Semaphore pollTaskSemaphore;
+  private Semaphore executorSlots;
+
+  private TaskMemoryBudget memoryBudget;
 
   private Consumer consumer;
 
@@ -65,6 +69,8 @@ public class LocalOptimizer implements StatefulOptimizer {
 
   private ExecutorService executeThreadPool;
 
+  private Thread dispatchThread;
+
   private ScheduledExecutorService toucherService;
   
   private volatile boolean stopped = false;
@@ -160,7 +166,9 @@ public class LocalOptimizer implements StatefulOptimizer {
     }
     this.config = config;
     this.consumer = new Consumer();
-    this.pollTaskSemaphore = new Semaphore(1);
+    this.executorSlots = new Semaphore(config.getExecutorParallel());
+    this.memoryBudget = new TaskMemoryBudget(TaskMemoryBudget.capacity(config));
+    LOG.info("init memory budget {}", memoryBudget);
 
     ThreadFactory executorFactory = new ThreadFactoryBuilder().setDaemon(false)
         .setNameFormat("Executor %d").build();
@@ -172,11 +180,15 @@ public class LocalOptimizer implements StatefulOptimizer {
         Executors.newScheduledThreadPool(config.getExecutorParallel(), toucherFactory);
 
     toucherService.scheduleAtFixedRate(new Toucher(), 3000, config.getHeartBeat(), TimeUnit.MILLISECONDS);
-    executeThreadPool.execute(new Executor());
+    dispatchThread = new Thread(new Dispatcher(), "Dispatcher");
+    dispatchThread.start();
   }
   
   public void release() {
     this.stopped = true;
+    if (dispatchThread != null) {
+      dispatchThread.interrupt();
+    }
     if (executeThreadPool != null) {
       executeThreadPool.shutdownNow();
     }
@@ -240,13 +252,17 @@ public class LocalOptimizer implements StatefulOptimizer {
     }
   }
 
-  private class Executor implements Runnable {
+  /**
+   * Poll tasks and admit them to execute by free executors and the memory budget. The next task is polled while
+   * running tasks are not finished, so it starts as soon as it's admitted.
+   */
+  private class Dispatcher implements Runnable {
 
     private final BaseTaskExecutor baseTaskExecutor;
 
     private final BaseTaskReporter baseTaskReporter;
 
-    public Executor() {
+    public Dispatcher() {
       this.baseTaskExecutor = new BaseTaskExecutor(config);
       this.baseTaskReporter = new BaseTaskReporter(config);
     }
@@ -255,29 +271,45 @@ public class LocalOptimizer implements StatefulOptimizer {
     public void run() {
       while (!stopped) {
         try {
-          TaskWrapper task;
-          pollTaskSemaphore.acquire();
+          TaskWrapper task = consumer.pollTask();
+          if (task == null) {
+            continue;
+          }
+          baseTaskExecutor.prepare(task);
+          long memory = TaskMemoryEstimator.estimateOrZero(task.getTask());
+          executorSlots.acquire();
+          long admitted;
           try {
-            task = consumer.pollTask();
-            if (task == null) {
-              continue;
-            }
-          } finally {
-            pollTaskSemaphore.release();
+            admitted = memoryBudget.acquire(memory);
+          } catch (InterruptedException e) {
+            executorSlots.release();
+            throw e;
           }
-          LOG.info("get task to execute {}", task.getTask().getTaskId());
-          OptimizeTaskStat result = baseTaskExecutor.execute(task);
-          LOG.info("execute {} {}", result.getStatus(), task.getTask().getTaskId());
-          baseTaskReporter.report(result, 20, 10000);
-          LOG.info("report success {}", result.getTaskId());
+          LOG.info("admit task {} with estimated memory {}, {}", task.getTask().getTaskId(), memory, memoryBudget);
+          executeThreadPool.execute(() -> execute(task, admitted));
         } catch (InterruptedException e) {
-          LOG.warn("execute interrupted");
+          LOG.warn("dispatch interrupted");
           break;
         } catch (Throwable t) {
-          LOG.error("execute error, ignore", t);
+          LOG.error("dispatch error, ignore", t);
         }
       }
-      LOG.info("execute thread exit");
+      LOG.info("dispatch thread exit");
+    }
+
+    private void execute(TaskWrapper task, long admitted) {
+      try {
+        LOG.info("get task to execute {}", task.getTask().getTaskId());
+        OptimizeTaskStat result = baseTaskExecutor.execute(task);
+        LOG.info("execute {} {}", result.getStatus(), task.getTask().getTaskId());
+        baseTaskReporter.report(result, 20, 10000);
+        LOG.info("report success {}", result.getTaskId());
+      } catch (Throwable t) {
+        LOG.error("execute error, ignore", t);
+      } finally {
+        memoryBudget.release(admitted);
+        executorSlots.release();
+      }
     }
   }
 
@@ -296,7 +328,7 @@ public class LocalOptimizer implements StatefulOptimizer {
       String processId = runtimeMXBean.getName().split("@")[0];
       Map<String, String> state = new HashMap<>();
       state.put(STATE_JOB_ID, processId);
-      boolean success = toucher.touch(state);
+      boolean success = toucher.touch(state, memoryBudget);
       LOG.info("touch {}", success ? "success" : "failed");
     }
   }
@@ -20,11 +20,13 @@ package com.netease.arctic.optimizer.operator;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.netease.arctic.ams.api.ErrorMessage;
 import com.netease.arctic.ams.api.JobId;
 import com.netease.arctic.ams.api.JobType;
 import com.netease.arctic.ams.api.OptimizeStatus;
 import com.netease.arctic.ams.api.OptimizeTask;
+import com.netease.arctic.ams.api.OptimizeTaskProgress;
 import com.netease.arctic.ams.api.OptimizeTaskStat;
 import com.netease.arctic.ams.api.TableIdentifier;
 import com.netease.arctic.ams.api.properties.OptimizeTaskProperties;
@@ -39,6 +41,7 @@ import com.netease.arctic.optimizer.operator.executor.ExecutorFactory;
 import com.netease.arctic.optimizer.operator.executor.NodeTask;
 import com.netease.arctic.optimizer.operator.executor.OptimizeTaskResult;
 import com.netease.arctic.optimizer.operator.executor.TableIdentificationInfo;
+import com.netease.arctic.optimizer.operator.executor.TaskProgress;
 import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.utils.SerializationUtil;
 import org.apache.commons.beanutils.BeanUtils;
@@ -53,6 +56,9 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -67,10 +73,15 @@ public class BaseTaskExecutor implements Serializable {
       .maximumSize(100)
       .build(BaseTaskExecutor::buildArcticTable);
 
+  private static final ScheduledExecutorService PROGRESS_REPORTER = Executors.newSingleThreadScheduledExecutor(
+      new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Task Progress Reporter %d").build());
+
   private final OptimizerConfig config;
 
   private final ExecuteListener listener;
 
+  private final BaseTaskReporter progressReporter;
+
   public interface ExecuteListener {
     default void onTaskStart(Iterable<ContentFile<?>> inputFiles) {
     }
@@ -90,6 +101,21 @@ public class BaseTaskExecutor implements Serializable {
                           ExecuteListener listener) {
     this.config = config;
     this.listener = listener;
+    this.progressReporter = new BaseTaskReporter(config);
+  }
+
+  /**
+   * Load the table of task in advance, so a prefetched task starts without waiting for loading table metadata.
+   *
+   * @param sourceTask -
+   */
+  public void prepare(TaskWrapper sourceTask) {
+    try {
+      getArcticTable(new TableIdentificationInfo(config.getAmsUrl(),
+          toTableIdentifier(sourceTask.getTask().getTableIdentifier())));
+    } catch (Throwable t) {
+      LOG.warn("failed to load table of task {} in advance, ignore", sourceTask.getTask().getTaskId(), t);
+    }
   }
 
   /**
@@ -120,6 +146,7 @@ public class BaseTaskExecutor implements Serializable {
       return constructFailedResult(task, e);
     }
     Executor<?> optimize = ExecutorFactory.constructOptimize(task, table, startTime, config);
+    ScheduledFuture<?> progressReport = scheduleProgressReport(task);
     try {
       OptimizeTaskResult<?> result = optimize.execute();
       onTaskFinish(result.getTargetFiles());
@@ -127,12 +154,59 @@ public class BaseTaskExecutor implements Serializable {
     } catch (Throwable t) {
       LOG.error("failed to execute task {}", task.getTaskId(), t);
       onTaskFailed(t);
+      if (progressReport != null) {
+        // report the nodes completed before failure, so retried attempt can skip them
+        reportProgress(task);
+      }
       return constructFailedResult(task, t);
     } finally {
+      if (progressReport != null) {
+        progressReport.cancel(false);
+      }
       optimize.close();
     }
   }
 
+  private ScheduledFuture<?> scheduleProgressReport(NodeTask task) {
+    long interval = config.getProgressInterval();
+    if (interval <= 0) {
+      return null;
+    }
+    return PROGRESS_REPORTER.scheduleAtFixedRate(() -> reportProgress(task), interval, interval,
+        TimeUnit.MILLISECONDS);
+  }
+
+  private void reportProgress(NodeTask task) {
+    try {
+      progressReporter.reportProgress(buildProgress(task));
+    } catch (Throwable t) {
+      LOG.warn("failed to report progress of task {}, ignore", task.getTaskId(), t);
+    }
+  }
+
+  private OptimizeTaskProgress buildProgress(NodeTask task) {
+    TaskProgress progress = task.progress();
+    OptimizeTaskProgress optimizeTaskProgress = new OptimizeTaskProgress();
+    JobId jobId = new JobId();
+    jobId.setId(config.getOptimizerId());
+    jobId.setType(JobType.Optimize);
+    optimizeTaskProgress.setJobId(jobId);
+    optimizeTaskProgress.setTableIdentifier(task.getTableIdentifier().buildTableIdentifier());
+    optimizeTaskProgress.setTaskId(task.getTaskId());
+    optimizeTaskProgress.setAttemptId(task.getAttemptId() + "");
+    optimizeTaskProgress.setRecordsRead(progress.getRecordsRead());
+    optimizeTaskProgress.setRecordsWritten(progress.getRecordsWritten());
+    optimizeTaskProgress.setBytesRead(progress.getBytesRead());
+    optimizeTaskProgress.setBytesWritten(progress.getBytesWritten());
+    if (progress.getCurrentNode() != null) {
+      optimizeTaskProgress.setCurrentNode(progress.getCurrentNode().toString());
+    }
+    optimizeTaskProgress.setCompletedFiles(progress.getCompletedFiles().stream()
+        .map(SerializationUtil::toByteBuffer).collect(Collectors.toList()));
+    optimizeTaskProgress.setReportTime(System.currentTimeMillis());
+    return optimizeTaskProgress;
+  }
+
   private void onTaskStart(Iterable<ContentFile<?>> inputFiles) {
     if (listener != null) {
       listener.onTaskStart(inputFiles);
@@ -249,6 +323,11 @@ public class BaseTaskExecutor implements Serializable {
     for (ByteBuffer file : task.getPosDeleteFiles()) {
       nodeTask.addFile(SerializationUtil.toInternalTableFile(file), DataFileType.POS_DELETE_FILE);
     }
+    if (task.getCompletedFiles() != null) {
+      for (ByteBuffer file : task.getCompletedFiles()) {
+        nodeTask.addCompletedFile(SerializationUtil.toInternalTableFile(file));
+      }
+    }
 
     Map<String, String> properties = task.getProperties();
     if (properties != null) {
@@ -19,6 +19,7 @@
 package com.netease.arctic.optimizer.operator;
 
 import com.netease.arctic.ams.api.OptimizeManager;
+import com.netease.arctic.ams.api.OptimizeTaskProgress;
 import com.netease.arctic.ams.api.OptimizeTaskStat;
 import com.netease.arctic.ams.api.client.OptimizeManagerClientPools;
 import com.netease.arctic.optimizer.OptimizerConfig;
@@ -77,6 +78,24 @@ public class BaseTaskReporter implements Serializable {
     }
   }
 
+  /**
+   * Report progress of a running task, without retry.
+   *
+   * @param optimizeTaskProgress -
+   * @return - true if success
+   */
+  public boolean reportProgress(OptimizeTaskProgress optimizeTaskProgress) {
+    try {
+      OptimizeManager.Iface compactManager = OptimizeManagerClientPools.getClient(config.getAmsUrl());
+      compactManager.reportOptimizeTaskProgress(optimizeTaskProgress);
+      LOG.debug("report progress {}", optimizeTaskProgress);
+      return true;
+    } catch (Throwable t) {
+      LOG.warn("failed to report progress, task: {}", optimizeTaskProgress.getTaskId(), t);
+      return false;
+    }
+  }
+
   private static void reportResult(String thriftUrl, OptimizeTaskStat optimizeTaskStat)
       throws TException {
     LOG.info("start reporting result: {}", printOptimizeTaskStat(optimizeTaskStat));
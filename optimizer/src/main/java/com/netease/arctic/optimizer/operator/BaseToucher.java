@@ -35,6 +35,9 @@ import java.util.Map;
 public class BaseToucher implements Serializable {
   private static final Logger LOG = LoggerFactory.getLogger(BaseToucher.class);
   private static final Map<String, String> EMPTY_STATE = Maps.newHashMap();
+  public static final String STATE_MEMORY_BUDGET = "memory-budget";
+  public static final String STATE_ADMITTED_BYTES = "admitted-bytes";
+  public static final String STATE_QUEUED_BYTES = "queued-bytes";
 
   private final OptimizerConfig config;
 
@@ -50,6 +53,20 @@ public class BaseToucher implements Serializable {
     return touch(EMPTY_STATE);
   }
 
+  /**
+   * Report state together with memory admitted to running tasks and memory of tasks waiting for admission.
+   * @param state -
+   * @param memoryBudget - memory budget of optimizer
+   * @return true if success
+   */
+  public boolean touch(Map<String, String> state, TaskMemoryBudget memoryBudget) {
+    Map<String, String> stateWithMemory = state == null ? Maps.newHashMap() : Maps.newHashMap(state);
+    stateWithMemory.put(STATE_MEMORY_BUDGET, String.valueOf(memoryBudget.getCapacity()));
+    stateWithMemory.put(STATE_ADMITTED_BYTES, String.valueOf(memoryBudget.getAdmittedBytes()));
+    stateWithMemory.put(STATE_QUEUED_BYTES, String.valueOf(memoryBudget.getQueuedBytes()));
+    return touch(stateWithMemory);
+  }
+
   /**
    * Report state, with optimizerId.
    * @param state -
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package com.netease.arctic.optimizer.operator;
+
+import com.netease.arctic.optimizer.OptimizerConfig;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * Heap budget for admitting optimize tasks to execute concurrently in one JVM.
+ * <p>
+ * A task waits until the estimated memory of it fits into the budget. A task larger than the whole budget is
+ * admitted alone, so it can still run when no other task is running.
+ */
+public class TaskMemoryBudget {
+  /**
+   * Percentage of max heap used as the budget if not configured.
+   */
+  static final double DEFAULT_HEAP_PERCENTAGE = 0.7;
+
+  private static volatile TaskMemoryBudget shared;
+
+  private final long capacity;
+  private long admittedBytes;
+  private long queuedBytes;
+  private int admittedTasks;
+
+  public TaskMemoryBudget(long capacity) {
+    Preconditions.checkArgument(capacity > 0, "memory budget should be positive: %s", capacity);
+    this.capacity = capacity;
+  }
+
+  /**
+   * Budget shared by all executors in this JVM, e.g. slots of a flink task manager.
+   *
+   * @param config - optimizer config
+   * @return shared budget
+   */
+  public static TaskMemoryBudget shared(OptimizerConfig config) {
+    if (shared == null) {
+      synchronized (TaskMemoryBudget.class) {
+        if (shared == null) {
+          shared = new TaskMemoryBudget(capacity(config));
+        }
+      }
+    }
+    return shared;
+  }
+
+  /**
+   * @param config - optimizer config
+   * @return budget configured in MB, or a percentage of max heap if not configured
+   */
+  public static long capacity(OptimizerConfig config) {
+    if (config.getMemoryBudget() > 0) {
+      return config.getMemoryBudget() * 1024 * 1024;
+    }
+    return (long) (Runtime.getRuntime().maxMemory() * DEFAULT_HEAP_PERCENTAGE);
+  }
+
+  /**
+   * Wait until the memory of task is admitted.
+   *
+   * @param bytes - estimated memory of task
+   * @return admitted bytes, should be released by {@link #release(long)} after task finished
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public synchronized long acquire(long bytes) throws InterruptedException {
+    long request = Math.min(bytes, capacity);
+    queuedBytes += bytes;
+    try {
+      while (admittedBytes + request > capacity) {
+        wait();
+      }
+    } finally {
+      queuedBytes -= bytes;
+    }
+    admittedBytes += request;
+    admittedTasks++;
+    return request;
+  }
+
+  public synchronized void release(long bytes) {
+    admittedBytes -= bytes;
+    admittedTasks--;
+    notifyAll();
+  }
+
+  public long getCapacity() {
+    return capacity;
+  }
+
+  public synchronized long getAdmittedBytes() {
+    return admittedBytes;
+  }
+
+  public synchronized long getQueuedBytes() {
+    return queuedBytes;
+  }
+
+  public synchronized int getAdmittedTasks() {
+    return admittedTasks;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("capacity", capacity)
+        .add("admittedBytes", admittedBytes)
+        .add("queuedBytes", queuedBytes)
+        .add("admittedTasks", admittedTasks)
+        .toString();
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and 
+ * limitations under the License.
+ */
+
+package com.netease.arctic.optimizer.operator;
+
+import com.netease.arctic.ams.api.OptimizeTask;
+import com.netease.arctic.ams.api.OptimizeType;
+import com.netease.arctic.table.ArcticTable;
+import com.netease.arctic.table.TableProperties;
+import com.netease.arctic.utils.SerializationUtil;
+import org.apache.iceberg.ContentFile;
+import org.apache.iceberg.util.PropertyUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Estimate heap memory used by executing an optimize task, by the size of input files and the count of deletes.
+ * <p>
+ * Data files are read and written as streams, so only fixed read/write buffers are counted for them, while
+ * equality-deletes are loaded into memory as key sets, and position-deletes are loaded and sorted in memory.
+ * Position-deletes written by minor optimize tasks are buffered within a fixed budget, see
+ * {@link #posDeleteWriteBuffer(ArcticTable)}.
+ */
+public class TaskMemoryEstimator {
+  private static final Logger LOG = LoggerFactory.getLogger(TaskMemoryEstimator.class);
+
+  /**
+   * Memory of task context, reader and metadata, regardless of files.
+   */
+  static final long TASK_BASE_MEMORY = 32L * 1024 * 1024;
+  /**
+   * Memory of reader and writer buffers of each tree node, nodes are processed one by one but writers of a node
+   * may be opened for all partitions.
+   */
+  static final long NODE_BUFFER_MEMORY = 16L * 1024 * 1024;
+  /**
+   * Memory of one record in the key set of equality-deletes, including primary key, transaction id and hash entry.
+   */
+  static final long EQ_DELETE_RECORD_MEMORY = 128L;
+  /**
+   * Memory of one position-delete, file path is shared by positions of the same file.
+   */
+  static final long POS_DELETE_RECORD_MEMORY = 32L;
+  /**
+   * Max memory of buffering position-deletes written by a minor optimize task, shared by writers of all nodes.
+   */
+  static final long POS_DELETE_WRITE_BUFFER_MEMORY = 64L * 1024 * 1024;
+
+  private TaskMemoryEstimator() {
+  }
+
+  /**
+   * Estimate heap memory of task.
+   *
+   * @param task - optimize task
+   * @return estimated bytes
+   */
+  public static long estimate(OptimizeTask task) {
+    long memory = TASK_BASE_MEMORY;
+    int nodes = task.getSourceNodes() == null ? 1 : Math.max(1, task.getSourceNodes().size());
+    memory += NODE_BUFFER_MEMORY * nodes;
+    memory += records(task.getDeleteFiles()) * EQ_DELETE_RECORD_MEMORY;
+    memory += records(task.getPosDeleteFiles()) * POS_DELETE_RECORD_MEMORY;
+    if (task.getTaskId() != null && task.getTaskId().getType() == OptimizeType.Minor) {
+      memory += POS_DELETE_WRITE_BUFFER_MEMORY;
+    }
+    return memory;
+  }
+
+  /**
+   * Memory budget of buffering position-deletes written by a minor optimize task, it is counted by
+   * {@link #estimate(OptimizeTask)}, so it is limited by {@link #POS_DELETE_WRITE_BUFFER_MEMORY} even if the table
+   * allows more.
+   *
+   * @param table - table to optimize
+   * @return budget bytes
+   */
+  public static long posDeleteWriteBuffer(ArcticTable table) {
+    long tableBuffer = PropertyUtil.propertyAsLong(table.properties(), TableProperties.POS_DELETE_WRITE_BUFFER_BYTES,
+        TableProperties.POS_DELETE_WRITE_BUFFER_BYTES_DEFAULT);
+    return Math.min(tableBuffer, POS_DELETE_WRITE_BUFFER_MEMORY);
+  }
+
+  /**
+   * Estimate heap memory of task, 0 if it fails to estimate, so the task is admitted and fails on executing.
+   *
+   * @param task - optimize task
+   * @return estimated bytes
+   */
+  public static long estimateOrZero(OptimizeTask task) {
+    try {
+      return estimate(task);
+    } catch (Throwable t) {
+      LOG.warn("failed to estimate memory of task {}", task.getTaskId(), t);
+      return 0;
+    }
+  }
+
+  private static long records(List<ByteBuffer> files) {
+    if (files == null) {
+      return 0;
+    }
+    long records = 0;
+    for (ByteBuffer file : files) {
+      ContentFile<?> contentFile = SerializationUtil.toInternalTableFile(file);
+      records += contentFile.recordCount();
+    }
+    return records;
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.netease.arctic.optimizer.operator.executor;
+
+import com.netease.arctic.iceberg.optimize.InternalRecordWrapper;
+import com.netease.arctic.table.TableProperties;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.PropertyUtil;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Order of rows by the clustering columns of a table, see {@link TableProperties#OPTIMIZE_CLUSTERING_COLUMNS}.
+ * <p>
+ * Linear order compares column values one by one. Z-order maps each value to 8 order-preserving bytes and
+ * interleaves their bits into a sort key, so that rows close in any of the columns are close in the order.
+ */
+public class ClusteringOrder {
+  private static final int VALUE_BYTES = 8;
+
+  private final boolean zorder;
+  private final int[] positions;
+  private final Function<Object, Object>[] converters;
+  private final Comparator<Object>[] comparators;
+
+  @SuppressWarnings("unchecked")
+  private ClusteringOrder(Schema schema, List<Types.NestedField> fields, boolean zorder) {
+    this.zorder = zorder;
+    this.positions = new int[fields.size()];
+    this.converters = new Function[fields.size()];
+    this.comparators = new Comparator[fields.size()];
+    List<Types.NestedField> columns = schema.columns();
+    for (int i = 0; i < fields.size(); i++) {
+      Types.NestedField field = fields.get(i);
+      positions[i] = columns.indexOf(field);
+      converters[i] = InternalRecordWrapper.converter(field.type());
+      comparators[i] = Comparator.nullsFirst(Comparators.<Object>forType(field.type().asPrimitiveType()));
+    }
+  }
+
+  /**
+   * @param schema     - schema of records
+   * @param properties - table properties
+   * @return order of the table, or null if clustering columns are not set
+   */
+  public static ClusteringOrder fromProperties(Schema schema, Map<String, String> properties) {
+    String columns = properties.get(TableProperties.OPTIMIZE_CLUSTERING_COLUMNS);
+    if (columns == null || columns.trim().isEmpty()) {
+      return null;
+    }
+    List<Types.NestedField> fields = new ArrayList<>();
+    for (String column : columns.split(",")) {
+      Types.NestedField field = schema.findField(column.trim());
+      Preconditions.checkArgument(field != null && schema.columns().contains(field),
+          "clustering column %s is not a top-level column of %s", column, schema);
+      Preconditions.checkArgument(field.type().isPrimitiveType(),
+          "clustering column %s is not a primitive column", column);
+      fields.add(field);
+    }
+    String strategy = PropertyUtil.propertyAsString(properties, TableProperties.OPTIMIZE_CLUSTERING_STRATEGY,
+        TableProperties.OPTIMIZE_CLUSTERING_STRATEGY_DEFAULT).toLowerCase(Locale.ROOT);
+    Preconditions.checkArgument(TableProperties.OPTIMIZE_CLUSTERING_STRATEGY_LINEAR.equals(strategy) ||
+        TableProperties.OPTIMIZE_CLUSTERING_STRATEGY_ZORDER.equals(strategy),
+        "unknown clustering strategy %s", strategy);
+    return new ClusteringOrder(schema, fields, TableProperties.OPTIMIZE_CLUSTERING_STRATEGY_ZORDER.equals(strategy));
+  }
+
+  /**
+   * @param record - record to sort
+   * @return z-order key of the record, or null for linear order which compares records directly
+   */
+  public byte[] sortKey(Record record) {
+    if (!zorder) {
+      return null;
+    }
+    int columnCnt = positions.length;
+    long[] values = new long[columnCnt];
+    for (int i = 0; i < columnCnt; i++) {
+      values[i] = orderedLong(value(record, i));
+    }
+    // bit b of column c goes to bit (b * columnCnt + c) of the key, from the most significant bit
+    byte[] key = new byte[VALUE_BYTES * columnCnt];
+    int keyBit = 0;
+    for (int bit = Long.SIZE - 1; bit >= 0; bit--) {
+      for (int c = 0; c < columnCnt; c++) {
+        if ((values[c] >>> bit & 1) == 1) {
+          key[keyBit >>> 3] |= 1 << (7 - (keyBit & 7));
+        }
+        keyBit++;
+      }
+    }
+    return key;
+  }
+
+  /**
+   * Compare two records with their keys built by {@link #sortKey(Record)}.
+   */
+  public int compare(Record left, byte[] leftKey, Record right, byte[] rightKey) {
+    if (zorder) {
+      return compareUnsigned(leftKey, rightKey);
+    }
+    for (int i = 0; i < positions.length; i++) {
+      int cmp = comparators[i].compare(value(left, i), value(right, i));
+      if (cmp != 0) {
+        return cmp;
+      }
+    }
+    return 0;
+  }
+
+  private Object value(Record record, int index) {
+    Object value = record.get(positions[index]);
+    return value == null || converters[index] == null ? value : converters[index].apply(value);
+  }
+
+  /**
+   * Map a value to a long whose unsigned order is the order of values, nulls are the smallest.
+   */
+  private static long orderedLong(Object value) {
+    if (value == null) {
+      return 0;
+    } else if (value instanceof Integer || value instanceof Long) {
+      return ((Number) value).longValue() ^ Long.MIN_VALUE;
+    } else if (value instanceof Float || value instanceof Double || value instanceof BigDecimal) {
+      long bits = Double.doubleToLongBits(((Number) value).doubleValue());
+      return bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+    } else if (value instanceof Boolean) {
+      return (Boolean) value ? 1 : 0;
+    } else if (value instanceof ByteBuffer) {
+      return prefixLong(((ByteBuffer) value).duplicate());
+    } else {
+      return prefixLong(ByteBuffer.wrap(value.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+  }
+
+  private static long prefixLong(ByteBuffer buffer) {
+    long result = 0;
+    for (int i = 0; i < VALUE_BYTES; i++) {
+      result <<= 8;
+      if (buffer.hasRemaining()) {
+        result |= buffer.get() & 0xFF;
+      }
+    }
+    return result;
+  }
+
+  private static int compareUnsigned(byte[] left, byte[] right) {
+    for (int i = 0; i < left.length; i++) {
+      int cmp = Integer.compare(left[i] & 0xFF, right[i] & 0xFF);
+      if (cmp != 0) {
+        return cmp;
+      }
+    }
+    return 0;
+  }
+}
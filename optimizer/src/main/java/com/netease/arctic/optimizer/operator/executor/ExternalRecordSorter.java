@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.netease.arctic.optimizer.operator.executor;
+
+import org.apache.iceberg.Files;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.avro.Avro;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.avro.DataReader;
+import org.apache.iceberg.data.avro.DataWriter;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Sort records by a {@link ClusteringOrder} within a bounded memory buffer.
+ * <p>
+ * Records are buffered until the estimated size of them exceeds the buffer, then the buffer is sorted and spilled
+ * to a local avro file as a sorted run. Sorted runs are merged when the records are read.
+ */
+public class ExternalRecordSorter {
+  private static final Logger LOG = LoggerFactory.getLogger(ExternalRecordSorter.class);
+
+  // rough heap size of an object header and a reference, used to estimate the size of buffered records
+  private static final long OBJECT_OVERHEAD = 16;
+  private static final long REFERENCE_SIZE = 8;
+
+  private final Schema schema;
+  private final ClusteringOrder order;
+  private final long bufferBytes;
+  private final File spillDirectory;
+
+  public ExternalRecordSorter(Schema schema, ClusteringOrder order, long bufferBytes, File spillDirectory) {
+    Preconditions.checkArgument(bufferBytes > 0, "sort buffer should be positive: %s", bufferBytes);
+    this.schema = schema;
+    this.order = order;
+    this.bufferBytes = bufferBytes;
+    this.spillDirectory = spillDirectory;
+  }
+
+  /**
+   * Sort records, spilled runs are deleted when the returned iterator is closed.
+   *
+   * @param records - records to sort, closed after all records are read
+   * @return sorted records
+   */
+  public CloseableIterator<Record> sort(CloseableIterator<Record> records) throws IOException {
+    List<SortEntry> buffer = new ArrayList<>();
+    List<File> runs = new ArrayList<>();
+    long bufferedBytes = 0;
+    try {
+      while (records.hasNext()) {
+        // readers may reuse records, buffered records are copied
+        Record record = records.next().copy();
+        buffer.add(new SortEntry(record, order.sortKey(record)));
+        bufferedBytes += estimateSize(record);
+        if (bufferedBytes >= bufferBytes) {
+          runs.add(spill(buffer));
+          buffer.clear();
+          bufferedBytes = 0;
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      runs.forEach(File::delete);
+      throw e;
+    } finally {
+      records.close();
+    }
+
+    buffer.sort(this::compare);
+    if (runs.isEmpty()) {
+      return CloseableIterator.withClose(buffer.stream().map(entry -> entry.record).iterator());
+    }
+    if (!buffer.isEmpty()) {
+      runs.add(spill(buffer));
+      buffer.clear();
+    }
+    LOG.info("merge {} sorted runs spilled to {}", runs.size(), spillDirectory);
+    return new MergingIterator(runs);
+  }
+
+  private int compare(SortEntry left, SortEntry right) {
+    return order.compare(left.record, left.key, right.record, right.key);
+  }
+
+  private File spill(List<SortEntry> buffer) throws IOException {
+    buffer.sort(this::compare);
+    File run = File.createTempFile("arctic-sort-run-", ".avro", spillDirectory);
+    try (FileAppender<Record> appender = Avro.write(Files.localOutput(run))
+        .schema(schema)
+        .createWriterFunc(DataWriter::create)
+        .overwrite()
+        .build()) {
+      for (SortEntry entry : buffer) {
+        appender.add(entry.record);
+      }
+    } catch (IOException | RuntimeException e) {
+      run.delete();
+      throw e;
+    }
+    LOG.info("spill sorted run of {} records to {}", buffer.size(), run);
+    return run;
+  }
+
+  /**
+   * Estimate heap size of a value, it is not exact but grows with the size of strings, binaries and collections.
+   */
+  static long estimateSize(Object value) {
+    if (value == null) {
+      return REFERENCE_SIZE;
+    } else if (value instanceof Record) {
+      Record record = (Record) value;
+      long size = OBJECT_OVERHEAD;
+      for (int i = 0; i < record.size(); i++) {
+        size += REFERENCE_SIZE + estimateSize(record.get(i));
+      }
+      return size;
+    } else if (value instanceof CharSequence) {
+      return OBJECT_OVERHEAD * 2 + 2L * ((CharSequence) value).length();
+    } else if (value instanceof ByteBuffer) {
+      return OBJECT_OVERHEAD * 2 + ((ByteBuffer) value).remaining();
+    } else if (value instanceof byte[]) {
+      return OBJECT_OVERHEAD + ((byte[]) value).length;
+    } else if (value instanceof Collection) {
+      long size = OBJECT_OVERHEAD * 2;
+      for (Object element : (Collection<?>) value) {
+        size += REFERENCE_SIZE + estimateSize(element);
+      }
+      return size;
+    } else if (value instanceof Map) {
+      long size = OBJECT_OVERHEAD * 2;
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        size += OBJECT_OVERHEAD + estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+      }
+      return size;
+    } else {
+      // boxed primitives, decimals, dates and times
+      return OBJECT_OVERHEAD * 2;
+    }
+  }
+
+  private static class SortEntry {
+    private final Record record;
+    private final byte[] key;
+
+    SortEntry(Record record, byte[] key) {
+      this.record = record;
+      this.key = key;
+    }
+  }
+
+  /**
+   * Merge sorted runs by a heap of the head record of each run.
+   */
+  private class MergingIterator implements CloseableIterator<Record> {
+    private final List<File> runs;
+    private final List<CloseableIterable<Record>> readers = new ArrayList<>();
+    private final PriorityQueue<RunHead> heads = new PriorityQueue<>((left, right) -> compare(left.entry, right.entry));
+
+    MergingIterator(List<File> runs) {
+      this.runs = runs;
+      for (File run : runs) {
+        CloseableIterable<Record> reader = Avro.read(Files.localInput(run))
+            .project(schema)
+            .createReaderFunc(DataReader::create)
+            .build();
+        readers.add(reader);
+        advance(reader.iterator());
+      }
+    }
+
+    private void advance(Iterator<Record> run) {
+      if (run.hasNext()) {
+        Record record = run.next();
+        heads.add(new RunHead(new SortEntry(record, order.sortKey(record)), run));
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !heads.isEmpty();
+    }
+
+    @Override
+    public Record next() {
+      RunHead head = heads.poll();
+      if (head == null) {
+        throw new NoSuchElementException();
+      }
+      advance(head.run);
+      return head.entry.record;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        for (CloseableIterable<Record> reader : readers) {
+          reader.close();
+        }
+      } finally {
+        runs.forEach(File::delete);
+      }
+    }
+  }
+
+  private static class RunHead {
+    private final SortEntry entry;
+    private final Iterator<Record> run;
+
+    RunHead(SortEntry entry, Iterator<Record> run) {
+      this.entry = entry;
+      this.run = run;
+    }
+  }
+}
@@ -37,9 +37,11 @@ import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.table.KeyedTable;
 import com.netease.arctic.table.PrimaryKeySpec;
 import com.netease.arctic.table.WriteOperationKind;
+import com.netease.arctic.utils.FileUtil;
 import com.netease.arctic.utils.SerializationUtil;
 import org.apache.commons.beanutils.BeanUtils;
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.Schema;
@@ -48,12 +50,17 @@ import org.apache.iceberg.data.IdentityPartitionConverters;
 import org.apache.iceberg.data.Record;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.TaskWriter;
+import org.apache.iceberg.util.PropertyUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -130,24 +137,97 @@ public class MajorExecutor extends BaseExecutor<DataFile> {
         .withTransactionId(transactionId)
         .withTaskId(task.getAttemptId())
         .withCustomHiveSubdirectory(task.getCustomHiveSubdirectory())
+        .withTargetFileRecords(estimateTargetFileRecords())
         .buildWriter(task.getOptimizeType() == OptimizeType.Major ?
             WriteOperationKind.MAJOR_OPTIMIZE : WriteOperationKind.FULL_OPTIMIZE);
     long insertCount = 0;
-    while (recordIterator.hasNext()) {
-      Record baseRecord = recordIterator.next();
-      writer.write(baseRecord);
-      insertCount++;
-      if (insertCount == 1 || insertCount == 100000) {
-        LOG.info("task {} insert records number {} and data sampling {}",
-            task.getTaskId(), insertCount, baseRecord);
+    try (CloseableIterator<Record> records = clustered(recordIterator)) {
+      while (records.hasNext()) {
+        Record baseRecord = records.next();
+        writer.write(baseRecord);
+        insertCount++;
+        if (insertCount % TaskProgress.RECORDS_PUBLISH_INTERVAL == 0) {
+          task.progress().recordRead(TaskProgress.RECORDS_PUBLISH_INTERVAL);
+          task.progress().recordWritten(TaskProgress.RECORDS_PUBLISH_INTERVAL);
+        }
+        if (insertCount == 1 || insertCount == 100000) {
+          LOG.info("task {} insert records number {} and data sampling {}",
+              task.getTaskId(), insertCount, baseRecord);
+        }
       }
     }
 
+    task.progress().recordRead(insertCount % TaskProgress.RECORDS_PUBLISH_INTERVAL);
+    task.progress().recordWritten(insertCount % TaskProgress.RECORDS_PUBLISH_INTERVAL);
     LOG.info("task {} insert records number {}", task.getTaskId(), insertCount);
 
     return Arrays.asList(writer.complete().dataFiles());
   }
 
+  /**
+   * Sort merged records by the clustering columns of the table, so that files written for each node and partition
+   * are clustered. Deletes are applied before sorting, so the rows written are the same as without clustering.
+   */
+  private CloseableIterator<Record> clustered(CloseableIterator<Record> recordIterator) throws IOException {
+    ClusteringOrder clusteringOrder = ClusteringOrder.fromProperties(table.schema(), table.properties());
+    if (clusteringOrder == null) {
+      return recordIterator;
+    }
+    long bufferBytes = PropertyUtil.propertyAsLong(table.properties(),
+        com.netease.arctic.table.TableProperties.OPTIMIZE_CLUSTERING_SORT_BUFFER_BYTES,
+        com.netease.arctic.table.TableProperties.OPTIMIZE_CLUSTERING_SORT_BUFFER_BYTES_DEFAULT);
+    LOG.info("task {} sort records by clustering columns of table {}", task.getTaskId(), table.id());
+    return new ExternalRecordSorter(table.schema(), clusteringOrder, bufferBytes,
+        new File(System.getProperty("java.io.tmpdir"))).sort(recordIterator);
+  }
+
+  /**
+   * Estimate the records of each tree node after merging from the metrics of input files, and split the output of a
+   * node into files of even size, instead of files of target size followed by a small one.
+   * Files are still rolled by target size, as the estimation is not exact.
+   *
+   * @return tree node -> max records of an output file, only for nodes with more than one output file
+   */
+  private Map<DataTreeNode, Long> estimateTargetFileRecords() {
+    long targetFileSize = PropertyUtil.propertyAsLong(table.properties(),
+        com.netease.arctic.table.TableProperties.WRITE_TARGET_FILE_SIZE_BYTES,
+        com.netease.arctic.table.TableProperties.WRITE_TARGET_FILE_SIZE_BYTES_DEFAULT);
+    Map<DataTreeNode, Long> nodeRecords = new HashMap<>();
+    long totalRecords = 0;
+    long totalSize = 0;
+    for (DataFile dataFile : task.dataFiles()) {
+      nodeRecords.merge(fileNode(dataFile), dataFile.recordCount(), Long::sum);
+      totalRecords += dataFile.recordCount();
+      totalSize += dataFile.fileSizeInBytes();
+    }
+    if (totalRecords == 0) {
+      return Collections.emptyMap();
+    }
+    for (DeleteFile posDeleteFile : task.posDeleteFiles()) {
+      nodeRecords.computeIfPresent(fileNode(posDeleteFile), (node, records) -> records - posDeleteFile.recordCount());
+    }
+    // equality deletes can not be mapped to nodes, they are applied to all nodes in proportion
+    long eqDeleteRecords = task.deleteFiles().stream().mapToLong(DataFile::recordCount).sum();
+    double remainRatio = Math.max(0, 1 - (double) eqDeleteRecords / totalRecords);
+    double bytesPerRecord = (double) totalSize / totalRecords;
+
+    Map<DataTreeNode, Long> targetFileRecords = new HashMap<>();
+    nodeRecords.forEach((node, records) -> {
+      long estimatedRecords = (long) (Math.max(0, records) * remainRatio);
+      long fileCount = (long) Math.ceil(estimatedRecords * bytesPerRecord / targetFileSize);
+      if (fileCount > 1) {
+        targetFileRecords.put(node, (estimatedRecords + fileCount - 1) / fileCount);
+      }
+    });
+    LOG.info("task {} estimate {} records of {} bytes per record, max records of files {}",
+        task.getTaskId(), totalRecords, bytesPerRecord, targetFileRecords);
+    return targetFileRecords;
+  }
+
+  private DataTreeNode fileNode(ContentFile<?> file) {
+    return table.isKeyedTable() ? FileUtil.parseFileNodeFromFileName(file.path().toString()) : DataTreeNode.ROOT;
+  }
+
   private CloseableIterator<Record> openTask(List<DataFile> dataFiles,
                                              Map<DataTreeNode, List<DeleteFile>> deleteFileMap,
                                              Schema requiredSchema, Set<DataTreeNode> sourceNodes) {
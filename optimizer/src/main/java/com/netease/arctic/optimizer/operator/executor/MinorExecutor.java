@@ -27,8 +27,10 @@ import com.netease.arctic.data.DefaultKeyedFile;
 import com.netease.arctic.hive.io.reader.AdaptHiveGenericArcticDataReader;
 import com.netease.arctic.hive.io.writer.AdaptHiveGenericTaskWriterBuilder;
 import com.netease.arctic.io.reader.BaseIcebergPosDeleteReader;
+import com.netease.arctic.io.writer.PosDeleteMemoryBudget;
 import com.netease.arctic.io.writer.SortedPosDeleteWriter;
 import com.netease.arctic.optimizer.OptimizerConfig;
+import com.netease.arctic.optimizer.operator.TaskMemoryEstimator;
 import com.netease.arctic.scan.ArcticFileScanTask;
 import com.netease.arctic.scan.BaseArcticFileScanTask;
 import com.netease.arctic.scan.KeyedTableScanTask;
@@ -39,6 +41,7 @@ import com.netease.arctic.table.PrimaryKeySpec;
 import com.netease.arctic.utils.SerializationUtil;
 import org.apache.commons.beanutils.BeanUtils;
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.MetadataColumns;
@@ -86,9 +89,21 @@ public class MinorExecutor extends BaseExecutor<DeleteFile> {
     long insertCount = 0;
     Schema requiredSchema = new Schema(MetadataColumns.FILE_PATH, MetadataColumns.ROW_POSITION);
     Types.StructType recordStruct = requiredSchema.asStruct();
+    // writers of all nodes share the budget counted by the memory estimation of the task
+    PosDeleteMemoryBudget memoryBudget = new PosDeleteMemoryBudget(TaskMemoryEstimator.posDeleteWriteBuffer(table));
     for (Map.Entry<DataTreeNode, List<DataFile>> nodeFileEntry : dataFileMap.entrySet()) {
       DataTreeNode treeNode = nodeFileEntry.getKey();
       List<DataFile> dataFiles = nodeFileEntry.getValue();
+      List<ContentFile<?>> completedFiles = task.completedFiles(treeNode);
+      if (completedFiles != null) {
+        // node has been completed by previous attempt, reuse the output files
+        LOG.info("task {} skip node {} completed by previous attempt, reuse {} files",
+            task.getTaskId(), treeNode, completedFiles.size());
+        completedFiles.forEach(file -> targetFiles.add((DeleteFile) file));
+        task.progress().reuseNode(treeNode, completedFiles);
+        continue;
+      }
+      task.progress().startNode(treeNode);
       dataFiles.addAll(task.deleteFiles());
       List<DeleteFile> posDeleteList = deleteFileMap.get(treeNode);
       CloseableIterator<Record> iterator =
@@ -97,35 +112,51 @@ public class MinorExecutor extends BaseExecutor<DeleteFile> {
       SortedPosDeleteWriter<Record> posDeleteWriter = AdaptHiveGenericTaskWriterBuilder.builderFor(keyedTable)
           .withTransactionId(getMaxTransactionId(dataFiles))
           .withTaskId(task.getAttemptId())
+          .withPosDeleteMemoryBudget(memoryBudget)
           .buildBasePosDeleteWriter(treeNode.mask(), treeNode.index(), task.getPartition());
-      while (iterator.hasNext()) {
-        Record record = iterator.next();
-        String filePath = (String) record.get(recordStruct.fields()
-            .indexOf(recordStruct.field(MetadataColumns.FILE_PATH.name())));
-        Long rowPosition = (Long) record.get(recordStruct.fields()
-            .indexOf(recordStruct.field(MetadataColumns.ROW_POSITION.name())));
-        posDeleteWriter.delete(filePath, rowPosition);
-        insertCount++;
-        if (insertCount == 1 || insertCount == 100000) {
-          LOG.info("task {} insert records number {} and data sampling path:{}, pos:{}",
-              task.getTaskId(), insertCount, "", 0);
-        }
-      }
-
-      // rewrite pos-delete content
-      if (CollectionUtils.isNotEmpty(posDeleteList)) {
-        BaseIcebergPosDeleteReader posDeleteReader = new BaseIcebergPosDeleteReader(table.io(), posDeleteList);
-        CloseableIterable<Record> posDeleteIterable = posDeleteReader.readDeletes();
-        CloseableIterator<Record> posDeleteIterator = table.io().doAs(posDeleteIterable::iterator);
-        while (posDeleteIterator.hasNext()) {
-          Record record = posDeleteIterator.next();
-          String filePath = posDeleteReader.readPath(record);
-          Long rowPosition = posDeleteReader.readPos(record);
+      List<DeleteFile> nodeTargetFiles;
+      long nodeReadCount = 0;
+      try {
+        while (iterator.hasNext()) {
+          Record record = iterator.next();
+          String filePath = (String) record.get(recordStruct.fields()
+              .indexOf(recordStruct.field(MetadataColumns.FILE_PATH.name())));
+          Long rowPosition = (Long) record.get(recordStruct.fields()
+              .indexOf(recordStruct.field(MetadataColumns.ROW_POSITION.name())));
           posDeleteWriter.delete(filePath, rowPosition);
+          insertCount++;
+          if (++nodeReadCount % TaskProgress.RECORDS_PUBLISH_INTERVAL == 0) {
+            task.progress().recordRead(TaskProgress.RECORDS_PUBLISH_INTERVAL);
+          }
+          if (insertCount == 1 || insertCount == 100000) {
+            LOG.info("task {} insert records number {} and data sampling path:{}, pos:{}",
+                task.getTaskId(), insertCount, "", 0);
+          }
+        }
+        task.progress().recordRead(nodeReadCount % TaskProgress.RECORDS_PUBLISH_INTERVAL);
+
+        // rewrite pos-delete content
+        if (CollectionUtils.isNotEmpty(posDeleteList)) {
+          BaseIcebergPosDeleteReader posDeleteReader = new BaseIcebergPosDeleteReader(table.io(), posDeleteList);
+          CloseableIterable<Record> posDeleteIterable = posDeleteReader.readDeletes();
+          CloseableIterator<Record> posDeleteIterator = table.io().doAs(posDeleteIterable::iterator);
+          while (posDeleteIterator.hasNext()) {
+            Record record = posDeleteIterator.next();
+            String filePath = posDeleteReader.readPath(record);
+            Long rowPosition = posDeleteReader.readPos(record);
+            posDeleteWriter.delete(filePath, rowPosition);
+          }
         }
-      }
 
-      targetFiles.addAll(posDeleteWriter.complete());
+        nodeTargetFiles = posDeleteWriter.complete();
+      } catch (Throwable t) {
+        // remove deletes spilled to local files
+        posDeleteWriter.abort();
+        throw t;
+      }
+      task.progress().recordWritten(nodeTargetFiles.stream().mapToLong(DeleteFile::recordCount).sum());
+      task.progress().completeNode(treeNode, inputFileSize(dataFiles, posDeleteList), nodeTargetFiles);
+      targetFiles.addAll(nodeTargetFiles);
     }
     LOG.info("task {} insert records number {}", task.getTaskId(), insertCount);
 
@@ -160,6 +191,14 @@ public class MinorExecutor extends BaseExecutor<DeleteFile> {
     return result;
   }
 
+  private long inputFileSize(List<DataFile> dataFiles, List<DeleteFile> posDeleteList) {
+    long size = dataFiles.stream().mapToLong(DataFile::fileSizeInBytes).sum();
+    if (posDeleteList != null) {
+      size += posDeleteList.stream().mapToLong(DeleteFile::fileSizeInBytes).sum();
+    }
+    return size;
+  }
+
   @Override
   public void close() {
 
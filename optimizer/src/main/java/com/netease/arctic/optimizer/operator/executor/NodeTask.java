@@ -24,6 +24,7 @@ import com.netease.arctic.ams.api.OptimizeType;
 import com.netease.arctic.data.DataFileType;
 import com.netease.arctic.data.DataTreeNode;
 import com.netease.arctic.table.TableIdentifier;
+import com.netease.arctic.utils.FileUtil;
 import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DeleteFile;
@@ -33,7 +34,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class NodeTask {
@@ -44,6 +47,8 @@ public class NodeTask {
   private final List<DataFile> insertFiles = new ArrayList<>();
   private final List<DataFile> deleteFiles = new ArrayList<>();
   private final List<DeleteFile> posDeleteFiles = new ArrayList<>();
+  private final Map<DataTreeNode, List<ContentFile<?>>> completedFiles = new HashMap<>();
+  private final TaskProgress progress = new TaskProgress();
   private Set<DataTreeNode> sourceNodes;
   private StructLike partition;
   private OptimizeTaskId taskId;
@@ -87,6 +92,30 @@ public class NodeTask {
     }
   }
 
+  /**
+   * Add an output file of a node completed by a previous attempt.
+   *
+   * @param file - output file
+   */
+  public void addCompletedFile(ContentFile<?> file) {
+    completedFiles.computeIfAbsent(FileUtil.parseFileNodeFromFileName(file.path().toString()),
+        node -> new ArrayList<>()).add(file);
+  }
+
+  /**
+   * Get output files of a node completed by a previous attempt.
+   *
+   * @param node - node
+   * @return output files, null if the node is not completed
+   */
+  public List<ContentFile<?>> completedFiles(DataTreeNode node) {
+    return completedFiles.get(node);
+  }
+
+  public TaskProgress progress() {
+    return progress;
+  }
+
   public List<DataFile> dataFiles() {
     dataFiles.clear();
     Iterables.addAll(dataFiles, baseFiles);
@@ -173,6 +202,7 @@ public class NodeTask {
         .add("insertFiles", insertFiles.size())
         .add("deleteFiles", deleteFiles.size())
         .add("posDeleteFiles", posDeleteFiles.size())
+        .add("completedNodes", completedFiles.keySet())
         .add("customHiveSubdirectory", customHiveSubdirectory)
         .toString();
   }
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.optimizer.operator.executor;
+
+import com.netease.arctic.data.DataTreeNode;
+import org.apache.iceberg.ContentFile;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of a running task, updated by executor and read by the progress reporter.
+ */
+public class TaskProgress {
+  // executors count records locally and publish them every this number of records
+  public static final int RECORDS_PUBLISH_INTERVAL = 10000;
+
+  private final AtomicLong recordsRead = new AtomicLong();
+  private final AtomicLong recordsWritten = new AtomicLong();
+  private final AtomicLong bytesRead = new AtomicLong();
+  private final AtomicLong bytesWritten = new AtomicLong();
+  private volatile DataTreeNode currentNode;
+  // output files of nodes completed in this attempt, they can be reused by a retried attempt
+  private final List<ContentFile<?>> completedFiles = new ArrayList<>();
+
+  public void recordRead(long records) {
+    recordsRead.addAndGet(records);
+  }
+
+  public void recordWritten(long records) {
+    recordsWritten.addAndGet(records);
+  }
+
+  public void startNode(DataTreeNode node) {
+    this.currentNode = node;
+  }
+
+  /**
+   * Mark a node completed, the output files of the node will be kept by ams for retried attempt.
+   *
+   * @param node        - completed node
+   * @param inputBytes  - total size of input files of the node
+   * @param outputFiles - output files of the node
+   */
+  public synchronized void completeNode(DataTreeNode node, long inputBytes,
+                                        Iterable<? extends ContentFile<?>> outputFiles) {
+    bytesRead.addAndGet(inputBytes);
+    for (ContentFile<?> outputFile : outputFiles) {
+      bytesWritten.addAndGet(outputFile.fileSizeInBytes());
+      completedFiles.add(outputFile);
+    }
+    if (node.equals(currentNode)) {
+      currentNode = null;
+    }
+  }
+
+  /**
+   * Mark a node completed by previous attempt, so the reused output files are kept by ams as well.
+   *
+   * @param node        - completed node
+   * @param outputFiles - output files of the node
+   */
+  public synchronized void reuseNode(DataTreeNode node, Iterable<? extends ContentFile<?>> outputFiles) {
+    for (ContentFile<?> outputFile : outputFiles) {
+      completedFiles.add(outputFile);
+    }
+  }
+
+  public long getRecordsRead() {
+    return recordsRead.get();
+  }
+
+  public long getRecordsWritten() {
+    return recordsWritten.get();
+  }
+
+  public long getBytesRead() {
+    return bytesRead.get();
+  }
+
+  public long getBytesWritten() {
+    return bytesWritten.get();
+  }
+
+  public DataTreeNode getCurrentNode() {
+    return currentNode;
+  }
+
+  public synchronized List<ContentFile<?>> getCompletedFiles() {
+    return new ArrayList<>(completedFiles);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("recordsRead", recordsRead)
+        .add("recordsWritten", recordsWritten)
+        .add("bytesRead", bytesRead)
+        .add("bytesWritten", bytesWritten)
+        .add("currentNode", currentNode)
+        .add("completedFiles", getCompletedFiles().size())
+        .toString();
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.optimizer.operator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class TestTaskMemoryBudget {
+
+  @Test
+  public void testAdmitWithinBudget() throws Exception {
+    TaskMemoryBudget budget = new TaskMemoryBudget(100);
+    long first = budget.acquire(40);
+    long second = budget.acquire(60);
+    Assert.assertEquals(40, first);
+    Assert.assertEquals(60, second);
+    Assert.assertEquals(100, budget.getAdmittedBytes());
+    Assert.assertEquals(2, budget.getAdmittedTasks());
+
+    budget.release(first);
+    budget.release(second);
+    Assert.assertEquals(0, budget.getAdmittedBytes());
+    Assert.assertEquals(0, budget.getAdmittedTasks());
+  }
+
+  @Test
+  public void testWaitForRelease() throws Exception {
+    TaskMemoryBudget budget = new TaskMemoryBudget(100);
+    long running = budget.acquire(80);
+    CompletableFuture<Long> waiting = CompletableFuture.supplyAsync(() -> {
+      try {
+        return budget.acquire(50);
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    Thread.sleep(100);
+    Assert.assertFalse(waiting.isDone());
+    Assert.assertEquals(50, budget.getQueuedBytes());
+
+    budget.release(running);
+    Assert.assertEquals(50, (long) waiting.get(10, TimeUnit.SECONDS));
+    Assert.assertEquals(0, budget.getQueuedBytes());
+    Assert.assertEquals(50, budget.getAdmittedBytes());
+  }
+
+  @Test
+  public void testAdmitOversizedTaskAlone() throws Exception {
+    TaskMemoryBudget budget = new TaskMemoryBudget(100);
+    long small = budget.acquire(10);
+    CompletableFuture<Long> waiting = CompletableFuture.supplyAsync(() -> {
+      try {
+        return budget.acquire(1000);
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    Thread.sleep(100);
+    Assert.assertFalse(waiting.isDone());
+
+    budget.release(small);
+    // limited by the whole budget
+    Assert.assertEquals(100, (long) waiting.get(10, TimeUnit.SECONDS));
+  }
+}
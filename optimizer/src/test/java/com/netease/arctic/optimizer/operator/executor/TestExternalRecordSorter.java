@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.netease.arctic.optimizer.operator.executor;
+
+import com.netease.arctic.table.TableProperties;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class TestExternalRecordSorter {
+
+  private static final Schema SCHEMA = new Schema(
+      Types.NestedField.required(1, "x", Types.IntegerType.get()),
+      Types.NestedField.optional(2, "y", Types.IntegerType.get()),
+      Types.NestedField.optional(3, "name", Types.StringType.get()));
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private final Random random = new Random(0);
+
+  @Test
+  public void testSortWithSpill() throws IOException {
+    List<Record> records = randomRecords(1000);
+    ClusteringOrder order = ClusteringOrder.fromProperties(SCHEMA,
+        ImmutableMap.of(TableProperties.OPTIMIZE_CLUSTERING_COLUMNS, "x, y"));
+    File spillDirectory = temp.newFolder();
+    // a small buffer spills a run every few records
+    ExternalRecordSorter sorter = new ExternalRecordSorter(SCHEMA, order, 4096, spillDirectory);
+
+    List<Record> sorted = new ArrayList<>();
+    try (CloseableIterator<Record> iterator = sorter.sort(CloseableIterator.withClose(records.iterator()))) {
+      Assert.assertTrue(spillDirectory.list().length > 1);
+      iterator.forEachRemaining(sorted::add);
+    }
+    Assert.assertEquals(0, spillDirectory.list().length);
+
+    Assert.assertEquals(records.size(), sorted.size());
+    for (int i = 1; i < sorted.size(); i++) {
+      Record previous = sorted.get(i - 1);
+      Record current = sorted.get(i);
+      int cmp = Integer.compare((Integer) previous.getField("x"), (Integer) current.getField("x"));
+      Assert.assertTrue(cmp < 0 || (cmp == 0 && compareNullsFirst(previous, current) <= 0));
+    }
+  }
+
+  @Test
+  public void testSortInMemory() throws IOException {
+    List<Record> records = randomRecords(100);
+    ClusteringOrder order = ClusteringOrder.fromProperties(SCHEMA,
+        ImmutableMap.of(TableProperties.OPTIMIZE_CLUSTERING_COLUMNS, "name"));
+    File spillDirectory = temp.newFolder();
+    ExternalRecordSorter sorter = new ExternalRecordSorter(SCHEMA, order, Long.MAX_VALUE, spillDirectory);
+
+    List<String> names = new ArrayList<>();
+    try (CloseableIterator<Record> iterator = sorter.sort(CloseableIterator.withClose(records.iterator()))) {
+      Assert.assertEquals(0, spillDirectory.list().length);
+      iterator.forEachRemaining(record -> names.add((String) record.getField("name")));
+    }
+    List<String> expected = new ArrayList<>(names);
+    expected.sort(String::compareTo);
+    Assert.assertEquals(expected, names);
+  }
+
+  @Test
+  public void testZOrderPruneRowGroups() throws IOException {
+    List<Record> records = randomRecords(10000);
+    ClusteringOrder order = ClusteringOrder.fromProperties(SCHEMA, ImmutableMap.of(
+        TableProperties.OPTIMIZE_CLUSTERING_COLUMNS, "x,y",
+        TableProperties.OPTIMIZE_CLUSTERING_STRATEGY, TableProperties.OPTIMIZE_CLUSTERING_STRATEGY_ZORDER));
+    ExternalRecordSorter sorter = new ExternalRecordSorter(SCHEMA, order, 64 * 1024, temp.newFolder());
+    List<Record> sorted = new ArrayList<>();
+    try (CloseableIterator<Record> iterator = sorter.sort(CloseableIterator.withClose(records.iterator()))) {
+      iterator.forEachRemaining(sorted::add);
+    }
+
+    // split rows into 20 row groups, and count row groups whose min/max may match a filter on x or y
+    int rowGroupSize = 500;
+    Assert.assertEquals(20, rowGroupsToRead(records, rowGroupSize, "x", 100, 150));
+    Assert.assertEquals(20, rowGroupsToRead(records, rowGroupSize, "y", 100, 150));
+    Assert.assertTrue(rowGroupsToRead(sorted, rowGroupSize, "x", 100, 150) <= 12);
+    Assert.assertTrue(rowGroupsToRead(sorted, rowGroupSize, "y", 100, 150) <= 12);
+  }
+
+  private int rowGroupsToRead(List<Record> records, int rowGroupSize, String column, int lower, int upper) {
+    int rowGroups = 0;
+    for (int start = 0; start < records.size(); start += rowGroupSize) {
+      int min = Integer.MAX_VALUE;
+      int max = Integer.MIN_VALUE;
+      for (Record record : records.subList(start, Math.min(records.size(), start + rowGroupSize))) {
+        Integer value = (Integer) record.getField(column);
+        if (value != null) {
+          min = Math.min(min, value);
+          max = Math.max(max, value);
+        }
+      }
+      if (min <= upper && max >= lower) {
+        rowGroups++;
+      }
+    }
+    return rowGroups;
+  }
+
+  private int compareNullsFirst(Record left, Record right) {
+    Integer leftY = (Integer) left.getField("y");
+    Integer rightY = (Integer) right.getField("y");
+    if (leftY == null || rightY == null) {
+      return leftY == null ? (rightY == null ? 0 : -1) : 1;
+    }
+    return Integer.compare(leftY, rightY);
+  }
+
+  private List<Record> randomRecords(int count) {
+    GenericRecord record = GenericRecord.create(SCHEMA);
+    List<Record> records = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      records.add(record.copy(
+          "x", random.nextInt(1000),
+          "y", random.nextInt(100) == 0 ? null : random.nextInt(1000),
+          "name", "name" + random.nextInt(10000)));
+    }
+    return records;
+  }
+}
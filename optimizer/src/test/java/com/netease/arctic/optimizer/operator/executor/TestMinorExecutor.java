@@ -45,6 +45,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 public class TestMinorExecutor extends TestBaseOptimizeBase {
   protected List<DataFileInfo> changeInsertFilesInfo = new ArrayList<>();
@@ -88,6 +89,36 @@ public class TestMinorExecutor extends TestBaseOptimizeBase {
     });
   }
 
+  @Test
+  public void testMinorExecutorResumeCompletedNodes() throws Exception {
+    insertBasePosDeleteFiles(testKeyedTable, 2L, baseDataFilesInfo, posDeleteFilesInfo);
+    insertChangeDeleteFiles(3);
+    insertChangeDataFiles(4);
+
+    String[] arg = new String[0];
+    OptimizerConfig optimizerConfig = new OptimizerConfig(arg);
+    optimizerConfig.setOptimizerId("UnitTest");
+    NodeTask nodeTask = constructNodeTask();
+    MinorExecutor minorExecutor = new MinorExecutor(nodeTask, testKeyedTable, System.currentTimeMillis(), optimizerConfig);
+    OptimizeTaskResult<DeleteFile> result = minorExecutor.execute();
+    Assert.assertEquals(4, nodeTask.progress().getCompletedFiles().size());
+    Assert.assertEquals(1000, nodeTask.progress().getRecordsWritten());
+
+    // retried attempt reuses the output files of completed nodes
+    NodeTask retryNodeTask = constructNodeTask();
+    nodeTask.progress().getCompletedFiles().forEach(retryNodeTask::addCompletedFile);
+    MinorExecutor retryExecutor =
+        new MinorExecutor(retryNodeTask, testKeyedTable, System.currentTimeMillis(), optimizerConfig);
+    OptimizeTaskResult<DeleteFile> retryResult = retryExecutor.execute();
+    Assert.assertEquals(
+        StreamSupport.stream(result.getTargetFiles().spliterator(), false)
+            .map(f -> f.path().toString()).collect(Collectors.toSet()),
+        StreamSupport.stream(retryResult.getTargetFiles().spliterator(), false)
+            .map(f -> f.path().toString()).collect(Collectors.toSet()));
+    Assert.assertEquals(0, retryNodeTask.progress().getRecordsRead());
+    Assert.assertEquals(4, retryNodeTask.progress().getCompletedFiles().size());
+  }
+
   private NodeTask constructNodeTask() {
     NodeTask nodeTask = new NodeTask();
     nodeTask.setSourceNodes(baseDataFilesInfo.stream()
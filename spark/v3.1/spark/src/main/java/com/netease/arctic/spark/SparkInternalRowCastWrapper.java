@@ -48,6 +48,26 @@ public class SparkInternalRowCastWrapper extends GenericInternalRow {
     this.isUpsert = true;
   }
 
+  private SparkInternalRowCastWrapper(SparkInternalRowCastWrapper other, ChangeAction changeAction) {
+    this.row = other.row;
+    this.schema = other.schema;
+    this.middle = other.middle;
+    this.isDelete = other.isDelete;
+    this.isUpsert = other.isUpsert;
+    this.dataTypeList = other.dataTypeList;
+    this.changeAction = changeAction;
+  }
+
+  /**
+   * Copy of this row with another change action, e.g. to delete the key of an upserted row.
+   *
+   * @param changeAction change action of the copy
+   * @return copy of this row
+   */
+  public SparkInternalRowCastWrapper withChangeAction(ChangeAction changeAction) {
+    return new SparkInternalRowCastWrapper(this, changeAction);
+  }
+
   private boolean isUpsertRow(InternalRow row, StructType schema) {
     for (int i = 0; i < schema.size() / 2; i++) {
       if (!row.isNullAt(i)) {
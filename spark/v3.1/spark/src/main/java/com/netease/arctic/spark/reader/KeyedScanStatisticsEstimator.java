@@ -0,0 +1,339 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.spark.reader;
+
+import com.netease.arctic.scan.ArcticFileScanTask;
+import com.netease.arctic.scan.KeyedTableScanTask;
+import com.netease.arctic.spark.util.Stats;
+import org.apache.iceberg.ContentFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.expressions.Binder;
+import org.apache.iceberg.expressions.BoundReference;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.ExpressionVisitors;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.Literal;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.spark.SparkSchemaUtil;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.TypeUtil;
+import org.apache.spark.sql.connector.read.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimate statistics of a keyed table scan.
+ * <ul>
+ *   <li>rows deleted by position delete files of base files and equality delete files of change are discounted</li>
+ *   <li>size is scaled by the size ratio of projected columns in files</li>
+ *   <li>rows and size are scaled by selectivity of pushed filters estimated from column bounds of files</li>
+ * </ul>
+ */
+class KeyedScanStatisticsEstimator {
+  private static final Logger LOG = LoggerFactory.getLogger(KeyedScanStatisticsEstimator.class);
+
+  private final Set<Integer> projectedIds;
+  private final double defaultProjectionRatio;
+  // filter bound to table schema, null if all rows are selected or the filter could not be bound
+  private final Expression boundFilter;
+  // delete files may be shared by tasks of split nodes, count each of them once
+  private final Set<String> countedDeleteFiles = Sets.newHashSet();
+
+  private double sizeInBytes = 0;
+  private double numRows = 0;
+
+  KeyedScanStatisticsEstimator(Schema tableSchema, Schema expectedSchema, List<Expression> filters,
+                               boolean caseSensitive) {
+    this.projectedIds = TypeUtil.getProjectedIds(expectedSchema);
+    long tableRowSize = SparkSchemaUtil.convert(tableSchema).defaultSize();
+    this.defaultProjectionRatio = tableRowSize <= 0 ? 1.0 :
+        Math.min(1.0, (double) SparkSchemaUtil.convert(expectedSchema).defaultSize() / tableRowSize);
+    Expression combined = Expressions.alwaysTrue();
+    if (filters != null) {
+      for (Expression expression : filters) {
+        combined = Expressions.and(combined, expression);
+      }
+    }
+    this.boundFilter = bindFilter(tableSchema, Expressions.rewriteNot(combined), caseSensitive);
+  }
+
+  private static Expression bindFilter(Schema schema, Expression filter, boolean caseSensitive) {
+    if (filter == Expressions.alwaysTrue()) {
+      return null;
+    }
+    try {
+      return Binder.bind(schema.asStruct(), filter, caseSensitive);
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to bind filter {} to estimate statistics", filter, e);
+      return null;
+    }
+  }
+
+  void add(KeyedTableScanTask task) {
+    double rows = 0;
+    double selectedRows = 0;
+    double selectedSize = 0;
+    long deletedRows = 0;
+    for (ArcticFileScanTask dataTask : task.dataTasks()) {
+      ContentFile<?> file = dataTask.file();
+      double selectivity = selectivity(file);
+      rows += file.recordCount();
+      selectedRows += file.recordCount() * selectivity;
+      selectedSize += file.fileSizeInBytes() * projectionRatio(file) * selectivity;
+      for (DeleteFile deleteFile : dataTask.deletes()) {
+        deletedRows += countDeletes(deleteFile);
+      }
+    }
+    for (ArcticFileScanTask deleteTask : task.arcticEquityDeletes()) {
+      deletedRows += countDeletes(deleteTask.file());
+    }
+    double liveRatio = rows <= 0 ? 0 : Math.max(0, rows - deletedRows) / rows;
+    numRows += selectedRows * liveRatio;
+    sizeInBytes += selectedSize * liveRatio;
+  }
+
+  Statistics toStatistics() {
+    return new Stats((long) Math.ceil(sizeInBytes), (long) Math.ceil(numRows));
+  }
+
+  private long countDeletes(ContentFile<?> deleteFile) {
+    return countedDeleteFiles.add(deleteFile.path().toString()) ? deleteFile.recordCount() : 0;
+  }
+
+  private double projectionRatio(ContentFile<?> file) {
+    Map<Integer, Long> columnSizes = file.columnSizes();
+    if (columnSizes == null || columnSizes.isEmpty()) {
+      return defaultProjectionRatio;
+    }
+    long total = 0;
+    long projected = 0;
+    for (Map.Entry<Integer, Long> columnSize : columnSizes.entrySet()) {
+      total += columnSize.getValue();
+      if (projectedIds.contains(columnSize.getKey())) {
+        projected += columnSize.getValue();
+      }
+    }
+    return total <= 0 ? defaultProjectionRatio : (double) projected / total;
+  }
+
+  private double selectivity(ContentFile<?> file) {
+    if (boundFilter == null) {
+      return 1.0;
+    }
+    try {
+      Double selectivity = ExpressionVisitors.visit(boundFilter, new SelectivityVisitor(file));
+      return selectivity == null ? 1.0 : Math.max(0, Math.min(1.0, selectivity));
+    } catch (RuntimeException e) {
+      LOG.debug("Failed to estimate selectivity of filter {}", boundFilter, e);
+      return 1.0;
+    }
+  }
+
+  /**
+   * Estimate the ratio of rows in a file matching the filter, assuming values are uniformly distributed between
+   * the lower and upper bounds. Predicates which can not be estimated are assumed to match all rows.
+   */
+  private static class SelectivityVisitor extends ExpressionVisitors.BoundExpressionVisitor<Double> {
+    private final ContentFile<?> file;
+
+    SelectivityVisitor(ContentFile<?> file) {
+      this.file = file;
+    }
+
+    @Override
+    public Double alwaysTrue() {
+      return 1.0;
+    }
+
+    @Override
+    public Double alwaysFalse() {
+      return 0.0;
+    }
+
+    @Override
+    public Double not(Double result) {
+      return 1.0;
+    }
+
+    @Override
+    public Double and(Double leftResult, Double rightResult) {
+      return leftResult * rightResult;
+    }
+
+    @Override
+    public Double or(Double leftResult, Double rightResult) {
+      return leftResult + rightResult - leftResult * rightResult;
+    }
+
+    @Override
+    public <T> Double isNull(BoundReference<T> ref) {
+      Double nullRatio = nullRatio(ref);
+      return nullRatio == null ? 1.0 : nullRatio;
+    }
+
+    @Override
+    public <T> Double notNull(BoundReference<T> ref) {
+      Double nullRatio = nullRatio(ref);
+      return nullRatio == null ? 1.0 : 1.0 - nullRatio;
+    }
+
+    @Override
+    public <T> Double isNaN(BoundReference<T> ref) {
+      return 1.0;
+    }
+
+    @Override
+    public <T> Double notNaN(BoundReference<T> ref) {
+      return 1.0;
+    }
+
+    @Override
+    public <T> Double lt(BoundReference<T> ref, Literal<T> lit) {
+      return lessThan(ref, lit);
+    }
+
+    @Override
+    public <T> Double ltEq(BoundReference<T> ref, Literal<T> lit) {
+      return lessThan(ref, lit);
+    }
+
+    @Override
+    public <T> Double gt(BoundReference<T> ref, Literal<T> lit) {
+      return greaterThan(ref, lit);
+    }
+
+    @Override
+    public <T> Double gtEq(BoundReference<T> ref, Literal<T> lit) {
+      return greaterThan(ref, lit);
+    }
+
+    @Override
+    public <T> Double eq(BoundReference<T> ref, Literal<T> lit) {
+      return equalTo(ref, lit.value());
+    }
+
+    @Override
+    public <T> Double notEq(BoundReference<T> ref, Literal<T> lit) {
+      return 1.0;
+    }
+
+    @Override
+    public <T> Double in(BoundReference<T> ref, Set<T> literalSet) {
+      double selectivity = 0;
+      for (T value : literalSet) {
+        selectivity += equalTo(ref, value);
+      }
+      return Math.min(1.0, selectivity);
+    }
+
+    @Override
+    public <T> Double notIn(BoundReference<T> ref, Set<T> literalSet) {
+      return 1.0;
+    }
+
+    @Override
+    public <T> Double startsWith(BoundReference<T> ref, Literal<T> lit) {
+      return 1.0;
+    }
+
+    private <T> Double lessThan(BoundReference<T> ref, Literal<T> lit) {
+      Double lower = bound(ref, file.lowerBounds());
+      Double upper = bound(ref, file.upperBounds());
+      Double value = toDouble(lit.value());
+      if (lower == null || upper == null || value == null) {
+        return 1.0;
+      } else if (value < lower) {
+        return 0.0;
+      } else if (value >= upper) {
+        return 1.0;
+      } else {
+        return (value - lower) / (upper - lower);
+      }
+    }
+
+    private <T> Double greaterThan(BoundReference<T> ref, Literal<T> lit) {
+      Double lower = bound(ref, file.lowerBounds());
+      Double upper = bound(ref, file.upperBounds());
+      Double value = toDouble(lit.value());
+      if (lower == null || upper == null || value == null) {
+        return 1.0;
+      } else if (value > upper) {
+        return 0.0;
+      } else if (value <= lower) {
+        return 1.0;
+      } else {
+        return (upper - value) / (upper - lower);
+      }
+    }
+
+    private <T> Double equalTo(BoundReference<T> ref, Object literal) {
+      Double lower = bound(ref, file.lowerBounds());
+      Double upper = bound(ref, file.upperBounds());
+      Double value = toDouble(literal);
+      if (lower == null || upper == null || value == null) {
+        return 1.0;
+      } else if (value < lower || value > upper) {
+        return 0.0;
+      } else if (isIntegral(ref.type())) {
+        return 1.0 / (upper - lower + 1);
+      } else {
+        return 1.0;
+      }
+    }
+
+    private <T> Double nullRatio(BoundReference<T> ref) {
+      Map<Integer, Long> nullCounts = file.nullValueCounts();
+      if (nullCounts == null || !nullCounts.containsKey(ref.fieldId()) || file.recordCount() <= 0) {
+        return null;
+      }
+      return (double) nullCounts.get(ref.fieldId()) / file.recordCount();
+    }
+
+    private <T> Double bound(BoundReference<T> ref, Map<Integer, ByteBuffer> bounds) {
+      if (bounds == null || !bounds.containsKey(ref.fieldId())) {
+        return null;
+      }
+      return toDouble(Conversions.fromByteBuffer(ref.type(), bounds.get(ref.fieldId())));
+    }
+
+    private static boolean isIntegral(Type type) {
+      switch (type.typeId()) {
+        case INTEGER:
+        case LONG:
+        case DATE:
+        case TIME:
+        case TIMESTAMP:
+          return true;
+        default:
+          return false;
+      }
+    }
+
+    private static Double toDouble(Object value) {
+      return value instanceof Number ? ((Number) value).doubleValue() : null;
+    }
+  }
+}
@@ -22,7 +22,6 @@ import com.netease.arctic.io.ArcticFileIO;
 import com.netease.arctic.scan.CombinedScanTask;
 import com.netease.arctic.scan.KeyedTableScan;
 import com.netease.arctic.scan.KeyedTableScanTask;
-import com.netease.arctic.spark.util.Stats;
 import com.netease.arctic.table.KeyedTable;
 import com.netease.arctic.table.PrimaryKeySpec;
 import org.apache.iceberg.Schema;
@@ -33,6 +32,7 @@ import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.spark.Spark3Util;
 import org.apache.iceberg.spark.SparkSchemaUtil;
+import org.apache.iceberg.util.PropertyUtil;
 import org.apache.spark.sql.catalyst.InternalRow;
 import org.apache.spark.sql.connector.read.Batch;
 import org.apache.spark.sql.connector.read.InputPartition;
@@ -127,18 +127,14 @@ public class KeyedSparkBatchScan implements Scan, Batch, SupportsReportStatistic
 
   @Override
   public Statistics estimateStatistics() {
-    long sizeInBytes = 0L;
-    long numRows = 0L;
-
+    KeyedScanStatisticsEstimator estimator = new KeyedScanStatisticsEstimator(
+        table.schema(), expectedSchema, filterExpressions, caseSensitive);
     for (CombinedScanTask combinedScanTask : tasks()) {
       for (KeyedTableScanTask fileScanTask : combinedScanTask.tasks()) {
-
-        sizeInBytes += fileScanTask.cost();
-        numRows += fileScanTask.recordCount();
+        estimator.add(fileScanTask);
       }
     }
-
-    return new Stats(sizeInBytes, numRows);
+    return estimator.toStatistics();
   }
 
   @Override
@@ -228,6 +224,9 @@ public class KeyedSparkBatchScan implements Scan, Batch, SupportsReportStatistic
           task.io, task.tableSchema, task.expectedSchema, task.keySpec,
           task.nameMapping, task.caseSensitive
       );
+      if (task.prefetchFiles > 0) {
+        reader.withPrefetch(task.prefetchFiles, task.prefetchBudgetBytes);
+      }
       scanTasks = task.combinedScanTask.tasks().iterator();
     }
 
@@ -270,6 +269,8 @@ public class KeyedSparkBatchScan implements Scan, Batch, SupportsReportStatistic
     final Schema tableSchema;
     final PrimaryKeySpec keySpec;
     final String nameMapping;
+    final int prefetchFiles;
+    final long prefetchBudgetBytes;
 
     ArcticInputPartition(
         CombinedScanTask combinedScanTask,
@@ -283,6 +284,12 @@ public class KeyedSparkBatchScan implements Scan, Batch, SupportsReportStatistic
       this.io = table.io();
       this.keySpec = table.primaryKeySpec();
       this.nameMapping = table.properties().get(TableProperties.DEFAULT_NAME_MAPPING);
+      this.prefetchFiles = PropertyUtil.propertyAsInt(table.properties(),
+          com.netease.arctic.table.TableProperties.READ_PREFETCH_FILES,
+          com.netease.arctic.table.TableProperties.READ_PREFETCH_FILES_DEFAULT);
+      this.prefetchBudgetBytes = PropertyUtil.propertyAsLong(table.properties(),
+          com.netease.arctic.table.TableProperties.READ_PREFETCH_BUDGET_BYTES,
+          com.netease.arctic.table.TableProperties.READ_PREFETCH_BUDGET_BYTES_DEFAULT);
     }
   }
 }
@@ -18,12 +18,15 @@
 
 package com.netease.arctic.spark.writer;
 
+import com.netease.arctic.data.DataTreeNode;
 import com.netease.arctic.hive.utils.HiveTableUtil;
 import com.netease.arctic.op.OverwriteBaseFiles;
 import com.netease.arctic.op.RewritePartitions;
 import com.netease.arctic.spark.io.TaskWriters;
 import com.netease.arctic.spark.table.SupportsUpsert;
 import com.netease.arctic.table.KeyedTable;
+import com.netease.arctic.table.TableProperties;
+import com.netease.arctic.utils.FileUtil;
 import org.apache.iceberg.AppendFiles;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.expressions.Expression;
@@ -38,10 +41,14 @@ import org.apache.spark.sql.connector.write.PhysicalWriteInfo;
 import org.apache.spark.sql.connector.write.WriterCommitMessage;
 import org.apache.spark.sql.types.StructField;
 import org.apache.spark.sql.types.StructType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Map;
+import java.util.TreeMap;
 
 import static com.netease.arctic.spark.writer.WriteTaskCommit.files;
 import static org.apache.iceberg.TableProperties.COMMIT_MAX_RETRY_WAIT_MS;
@@ -54,6 +61,8 @@ import static org.apache.iceberg.TableProperties.COMMIT_TOTAL_RETRY_TIME_MS;
 import static org.apache.iceberg.TableProperties.COMMIT_TOTAL_RETRY_TIME_MS_DEFAULT;
 
 public class KeyedSparkBatchWrite implements ArcticSparkWriteBuilder.ArcticWrite {
+  private static final Logger LOG = LoggerFactory.getLogger(KeyedSparkBatchWrite.class);
+
   private final KeyedTable table;
   private final StructType dsSchema;
 
@@ -109,6 +118,24 @@ public class KeyedSparkBatchWrite implements ArcticSparkWriteBuilder.ArcticWrite
             table.io().deleteFile(file.path().toString());
           });
     }
+
+    /**
+     * Files written by tasks, the count of files per tree node is logged to see how rows are distributed.
+     */
+    protected Iterable<DataFile> filesToCommit(WriterCommitMessage[] messages) {
+      Iterable<DataFile> files = files(messages);
+      if (LOG.isInfoEnabled()) {
+        Map<DataTreeNode, Integer> filesPerNode = new TreeMap<>(Comparator.comparingLong(DataTreeNode::getId));
+        int fileCount = 0;
+        for (DataFile file : files) {
+          filesPerNode.merge(FileUtil.parseFileNodeFromFileName(file.path().toString()), 1, Integer::sum);
+          fileCount++;
+        }
+        LOG.info("{} {} files written by {} tasks to table {}, files per tree node: {}",
+            getClass().getSimpleName(), fileCount, messages.length, table.id(), filesPerNode);
+      }
+      return files;
+    }
   }
 
   private class AppendWrite extends BaseBatchWrite {
@@ -125,7 +152,7 @@ public class KeyedSparkBatchWrite implements ArcticSparkWriteBuilder.ArcticWrite
     @Override
     public void commit(WriterCommitMessage[] messages) {
       AppendFiles append = table.changeTable().newAppend();
-      for (DataFile file : files(messages)) {
+      for (DataFile file : filesToCommit(messages)) {
         append.appendFile(file);
       }
       append.commit();
@@ -148,7 +175,7 @@ public class KeyedSparkBatchWrite implements ArcticSparkWriteBuilder.ArcticWrite
       RewritePartitions rewritePartitions = table.newRewritePartitions();
       rewritePartitions.withTransactionId(transactionId);
 
-      for (DataFile file : files(messages)) {
+      for (DataFile file : filesToCommit(messages)) {
         rewritePartitions.addDataFile(file);
       }
       rewritePartitions.commit();
@@ -174,7 +201,7 @@ public class KeyedSparkBatchWrite implements ArcticSparkWriteBuilder.ArcticWrite
       overwriteBaseFiles.overwriteByRowFilter(overwriteExpr);
       overwriteBaseFiles.withTransactionId(transactionId);
 
-      for (DataFile file : files(messages)) {
+      for (DataFile file : filesToCommit(messages)) {
         overwriteBaseFiles.addFile(file);
       }
       overwriteBaseFiles.commit();
@@ -188,13 +215,23 @@ public class KeyedSparkBatchWrite implements ArcticSparkWriteBuilder.ArcticWrite
 
     @Override
     public DataWriterFactory createBatchWriterFactory(PhysicalWriteInfo info) {
-      return new UpsertChangeFactory(table, dsSchema, transactionId);
+      UpsertKeyExistenceFilter keyExistenceFilter = null;
+      if (PropertyUtil.propertyAsBoolean(table.properties(), TableProperties.UPSERT_KEY_EXISTENCE_CHECK_ENABLED,
+          TableProperties.UPSERT_KEY_EXISTENCE_CHECK_ENABLED_DEFAULT)) {
+        // rows to upsert are [before columns, after columns], the before columns have names of table columns
+        StructType rowSchema = new StructType(Arrays.stream(dsSchema.fields())
+            .filter(field -> !field.name().equals(SupportsUpsert.UPSERT_OP_COLUMN_NAME))
+            .limit(table.schema().columns().size())
+            .toArray(StructField[]::new));
+        keyExistenceFilter = UpsertKeyExistenceFilter.build(table, rowSchema);
+      }
+      return new UpsertChangeFactory(table, dsSchema, transactionId, keyExistenceFilter);
     }
 
     @Override
     public void commit(WriterCommitMessage[] messages) {
       AppendFiles append = table.changeTable().newAppend();
-      for (DataFile file : files(messages)) {
+      for (DataFile file : filesToCommit(messages)) {
         append.appendFile(file);
       }
       append.commit();
@@ -255,8 +292,12 @@ public class KeyedSparkBatchWrite implements ArcticSparkWriteBuilder.ArcticWrite
 
   private static class UpsertChangeFactory extends AbstractWriterFactory {
 
-    UpsertChangeFactory(KeyedTable table, StructType dsSchema, long transactionId) {
+    private final UpsertKeyExistenceFilter keyExistenceFilter;
+
+    UpsertChangeFactory(KeyedTable table, StructType dsSchema, long transactionId,
+                        UpsertKeyExistenceFilter keyExistenceFilter) {
       super(table, dsSchema, transactionId);
+      this.keyExistenceFilter = keyExistenceFilter;
     }
 
     @Override
@@ -269,7 +310,7 @@ public class KeyedSparkBatchWrite implements ArcticSparkWriteBuilder.ArcticWrite
           .withTaskId(taskId)
           .withDataSourceSchema(schema)
           .newChangeWriter();
-      return new SimpleKeyedUpsertDataWriter(writer, dsSchema, true);
+      return new SimpleKeyedUpsertDataWriter(writer, dsSchema, true, keyExistenceFilter);
     }
   }
 }
@@ -19,11 +19,19 @@ public class SimpleKeyedUpsertDataWriter implements DataWriter<InternalRow> {
   final TaskWriter<InternalRow> writer;
   final StructType schema;
   final boolean isUpsert;
+  // not null if rows are upserted without joining table, delete is written only for keys which may exist
+  final UpsertKeyExistenceFilter keyExistenceFilter;
 
   public SimpleKeyedUpsertDataWriter(TaskWriter<InternalRow> writer, StructType schema, boolean isUpsert) {
+    this(writer, schema, isUpsert, null);
+  }
+
+  public SimpleKeyedUpsertDataWriter(TaskWriter<InternalRow> writer, StructType schema, boolean isUpsert,
+                                     UpsertKeyExistenceFilter keyExistenceFilter) {
     this.writer = writer;
     this.schema = schema;
     this.isUpsert = isUpsert;
+    this.keyExistenceFilter = keyExistenceFilter;
   }
 
   @Override
@@ -35,8 +43,14 @@ public class SimpleKeyedUpsertDataWriter implements DataWriter<InternalRow> {
               ChangeAction.DELETE, false);
       if (delete.getRow() != null) {
         writer.write(delete);
+      } else if (keyExistenceFilter != null && keyExistenceFilter.mightExist(insert.getRow())) {
+        // the replaced row is not read, so the delete carries the values of the upserted row
+        writer.write(insert.withChangeAction(ChangeAction.DELETE));
+      }
+      // rows deleted by merge into have no after image
+      if (hasAfterImage(record, schema)) {
+        writer.write(insert);
       }
-      writer.write(insert);
     } else if (schema != null && isDelete(schema) && isUpsert) {
       SparkInternalRowCastWrapper delete = new SparkInternalRowCastWrapper(record, schema, ChangeAction.DELETE, true);
       writer.write(delete);
@@ -50,6 +64,15 @@ public class SimpleKeyedUpsertDataWriter implements DataWriter<InternalRow> {
     }
   }
 
+  private boolean hasAfterImage(InternalRow record, StructType schema) {
+    for (int i = schema.size() / 2; i < schema.size(); i++) {
+      if (!record.isNullAt(i)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private boolean isDelete(StructType schema) {
     return Arrays.stream(schema.fieldNames()).findFirst().get().equals("_arctic_upsert_op");
   }
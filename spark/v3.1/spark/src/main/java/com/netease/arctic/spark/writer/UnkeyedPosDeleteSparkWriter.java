@@ -2,6 +2,7 @@ package com.netease.arctic.spark.writer;
 
 import com.netease.arctic.data.ChangeAction;
 import com.netease.arctic.io.writer.OutputFileFactory;
+import com.netease.arctic.io.writer.PosDeleteMemoryBudget;
 import com.netease.arctic.io.writer.SortedPosDeleteWriter;
 import com.netease.arctic.spark.SparkInternalRowCastWrapper;
 import com.netease.arctic.spark.SparkInternalRowWrapper;
@@ -44,6 +45,8 @@ public class UnkeyedPosDeleteSparkWriter<T> implements TaskWriter<T> {
   private final Schema schema;
   private final ArcticTable table;
   private final Map<PartitionKey, SortedPosDeleteWriter<InternalRow>> writerMap = new HashMap<>();
+  // shared by writers of all partitions, so the memory of a task is limited regardless of partitions
+  private final PosDeleteMemoryBudget memoryBudget;
 
   private int records = 0;
 
@@ -58,6 +61,8 @@ public class UnkeyedPosDeleteSparkWriter<T> implements TaskWriter<T> {
     this.format = format;
     this.recordsNumThreshold = recordsNumThreshold;
     this.schema = schema;
+    this.memoryBudget = new PosDeleteMemoryBudget(PropertyUtil.propertyAsLong(table.properties(),
+        TableProperties.POS_DELETE_WRITE_BUFFER_BYTES, TableProperties.POS_DELETE_WRITE_BUFFER_BYTES_DEFAULT));
   }
 
   public UnkeyedPosDeleteSparkWriter(ArcticTable table, FileAppenderFactory<InternalRow> appenderFactory,
@@ -76,7 +81,7 @@ public class UnkeyedPosDeleteSparkWriter<T> implements TaskWriter<T> {
     if (writerMap.get(partitionKey) == null) {
       SortedPosDeleteWriter<InternalRow> writer = new SortedPosDeleteWriter<>(appenderFactory,
           fileFactory,
-          format, partitionKey);
+          format, partitionKey, memoryBudget);
       writerMap.putIfAbsent(partitionKey, writer);
     }
     if (internalRow.getChangeAction() == ChangeAction.DELETE) {
@@ -100,7 +105,7 @@ public class UnkeyedPosDeleteSparkWriter<T> implements TaskWriter<T> {
 
   @Override
   public void abort() throws IOException {
-
+    writerMap.values().forEach(SortedPosDeleteWriter::abort);
   }
 
   @Override
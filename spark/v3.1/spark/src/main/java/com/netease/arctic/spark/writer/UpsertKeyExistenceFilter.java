@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.spark.writer;
+
+import com.netease.arctic.table.KeyedTable;
+import com.netease.arctic.table.PrimaryKeySpec;
+import com.netease.arctic.table.UnkeyedTable;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.hash.BloomFilter;
+import org.apache.iceberg.relocated.com.google.common.hash.Funnels;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.spark.sql.catalyst.InternalRow;
+import org.apache.spark.sql.types.DataType;
+import org.apache.spark.sql.types.DataTypes;
+import org.apache.spark.sql.types.StructType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Tell whether the key of an upserted row may already exist in a keyed table, so upsert writes a delete record
+ * only for keys which may exist instead of joining the table.
+ * <p>
+ * Bounds of the first primary key column of all data files in base and change store are merged into sorted
+ * disjoint ranges on driver. A key is treated as not existing if it is out of all ranges and is not written
+ * before by the same task, keys written by a task are tracked by a bloom filter.
+ */
+public class UpsertKeyExistenceFilter implements Serializable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(UpsertKeyExistenceFilter.class);
+
+  private static final int EXPECTED_KEYS_PER_TASK = 1_000_000;
+  private static final double BLOOM_FILTER_FPP = 0.01;
+
+  // positions of primary key columns in rows to write
+  private final int[] keyPositions;
+  private final DataType[] keyTypes;
+  // lower bounds and upper bounds of disjoint ranges of the first primary key column, sorted by lower bound,
+  // null if ranges are unknown and all keys may exist
+  private final Object[] lowers;
+  private final Object[] uppers;
+  private final Comparator<Object> comparator;
+
+  private transient BloomFilter<CharSequence> writtenKeys;
+
+  private UpsertKeyExistenceFilter(int[] keyPositions, DataType[] keyTypes, Object[] lowers, Object[] uppers,
+                                   Comparator<Object> comparator) {
+    this.keyPositions = keyPositions;
+    this.keyTypes = keyTypes;
+    this.lowers = lowers;
+    this.uppers = uppers;
+    this.comparator = comparator;
+  }
+
+  /**
+   * Build filter from file bounds of the table.
+   *
+   * @param table  keyed table
+   * @param schema schema of rows to write, without upsert columns
+   * @return filter, all keys may exist if the first primary key column is not supported or some file has no
+   * bounds of it
+   */
+  public static UpsertKeyExistenceFilter build(KeyedTable table, StructType schema) {
+    PrimaryKeySpec primaryKeySpec = table.primaryKeySpec();
+    List<String> keyNames = primaryKeySpec.fieldNames();
+    int[] keyPositions = new int[keyNames.size()];
+    DataType[] keyTypes = new DataType[keyNames.size()];
+    for (int i = 0; i < keyNames.size(); i++) {
+      keyPositions[i] = schema.fieldIndex(keyNames.get(i));
+      keyTypes[i] = schema.fields()[keyPositions[i]].dataType();
+    }
+
+    Types.NestedField firstKey = table.schema().findField(keyNames.get(0));
+    Type.PrimitiveType keyType = firstKey.type().asPrimitiveType();
+    if (!isSupported(keyType, keyTypes[0])) {
+      LOG.info("Skip key existence check of {}, unsupported primary key type {}", table.id(), keyType);
+      return new UpsertKeyExistenceFilter(keyPositions, keyTypes, null, null, null);
+    }
+
+    List<Object[]> ranges = new ArrayList<>();
+    if (!collectRanges(table.baseTable(), firstKey.fieldId(), keyType, ranges) ||
+        !collectRanges(table.changeTable(), firstKey.fieldId(), keyType, ranges)) {
+      LOG.info("Skip key existence check of {}, some file has no bounds of {}", table.id(), firstKey.name());
+      return new UpsertKeyExistenceFilter(keyPositions, keyTypes, null, null, null);
+    }
+
+    Comparator<Object> comparator = comparator(keyType);
+    ranges.sort((r1, r2) -> comparator.compare(r1[0], r2[0]));
+    List<Object> lowers = new ArrayList<>();
+    List<Object> uppers = new ArrayList<>();
+    for (Object[] range : ranges) {
+      int last = uppers.size() - 1;
+      if (last >= 0 && comparator.compare(range[0], uppers.get(last)) <= 0) {
+        if (comparator.compare(range[1], uppers.get(last)) > 0) {
+          uppers.set(last, range[1]);
+        }
+      } else {
+        lowers.add(range[0]);
+        uppers.add(range[1]);
+      }
+    }
+    LOG.info("Build key existence filter of {} with {} ranges from {} files", table.id(), lowers.size(),
+        ranges.size());
+    return new UpsertKeyExistenceFilter(keyPositions, keyTypes, lowers.toArray(), uppers.toArray(), comparator);
+  }
+
+  /**
+   * Whether the key of a row may exist in table or be written before by this task, the key is recorded as written.
+   *
+   * @param row row to write
+   * @return false if the key does not exist for sure
+   */
+  public boolean mightExist(InternalRow row) {
+    if (lowers == null) {
+      return true;
+    }
+    if (writtenKeys == null) {
+      writtenKeys = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), EXPECTED_KEYS_PER_TASK,
+          BLOOM_FILTER_FPP);
+    }
+    String key = keyString(row);
+    boolean mightExist = writtenKeys.mightContain(key) || inRanges(firstKeyValue(row));
+    writtenKeys.put(key);
+    return mightExist;
+  }
+
+  private boolean inRanges(Object value) {
+    if (value == null) {
+      return true;
+    }
+    int low = 0;
+    int high = lowers.length - 1;
+    // find the last range whose lower bound is not greater than value
+    int found = -1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (comparator.compare(lowers[mid], value) <= 0) {
+        found = mid;
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return found >= 0 && comparator.compare(value, uppers[found]) <= 0;
+  }
+
+  private Object firstKeyValue(InternalRow row) {
+    Object value = row.get(keyPositions[0], keyTypes[0]);
+    if (value == null) {
+      return null;
+    }
+    return keyTypes[0] == DataTypes.StringType ? value.toString() : value;
+  }
+
+  private String keyString(InternalRow row) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < keyPositions.length; i++) {
+      if (i > 0) {
+        sb.append('\u0001');
+      }
+      sb.append(row.get(keyPositions[i], keyTypes[i]));
+    }
+    return sb.toString();
+  }
+
+  private static boolean collectRanges(UnkeyedTable table, int fieldId, Type.PrimitiveType type,
+                                       List<Object[]> ranges) {
+    if (table.currentSnapshot() == null) {
+      return true;
+    }
+    try (CloseableIterable<FileScanTask> tasks = table.newScan().planFiles()) {
+      for (FileScanTask task : tasks) {
+        DataFile file = task.file();
+        ByteBuffer lower = file.lowerBounds() == null ? null : file.lowerBounds().get(fieldId);
+        ByteBuffer upper = file.upperBounds() == null ? null : file.upperBounds().get(fieldId);
+        if (lower == null || upper == null) {
+          // an empty file or a file of null keys has no bounds, but they can not be told from missing metrics
+          if (file.recordCount() == 0) {
+            continue;
+          }
+          return false;
+        }
+        ranges.add(new Object[] {fromBound(type, lower), fromBound(type, upper)});
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return true;
+  }
+
+  private static Object fromBound(Type.PrimitiveType type, ByteBuffer bound) {
+    Object value = Conversions.fromByteBuffer(type, bound);
+    return value instanceof CharSequence ? value.toString() : value;
+  }
+
+  private static boolean isSupported(Type.PrimitiveType type, DataType sparkType) {
+    switch (type.typeId()) {
+      case INTEGER:
+      case DATE:
+        return sparkType == DataTypes.IntegerType || sparkType == DataTypes.DateType;
+      case LONG:
+      case TIMESTAMP:
+        return sparkType == DataTypes.LongType || sparkType == DataTypes.TimestampType;
+      case STRING:
+        return sparkType == DataTypes.StringType;
+      default:
+        return false;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Comparator<Object> comparator(Type.PrimitiveType type) {
+    if (type.typeId() == Type.TypeID.STRING) {
+      return (Comparator<Object> & Serializable) (o1, o2) -> Comparators.charSequences().compare(
+          (CharSequence) o1, (CharSequence) o2);
+    }
+    return (Comparator<Object> & Serializable) (o1, o2) -> ((Comparable<Object>) o1).compareTo(o2);
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.spark.sql.optimize
+
+import com.netease.arctic.spark.table.ArcticSparkTable
+import com.netease.arctic.spark.util.ArcticSparkUtils
+import com.netease.arctic.table.TableProperties
+import org.apache.iceberg.util.PropertyUtil
+import org.apache.spark.sql.catalyst.SQLConfHelper
+import org.apache.spark.sql.catalyst.expressions.{ArcticExpressionUtils, Ascending, Attribute, Coalesce, Expression, Literal, Murmur3Hash, Pmod, SortOrder}
+import org.apache.spark.sql.catalyst.plans.logical.{LogicalPlan, RepartitionByExpression, Sort}
+import org.apache.spark.sql.connector.expressions.Transform
+import org.apache.spark.sql.connector.iceberg.distributions.ClusteredDistribution
+
+import scala.collection.JavaConverters._
+
+/**
+ * Distribute rows to write by the required distribution of arctic table.
+ *
+ * For keyed tables the primary key is clustered by the tree node index which task writers write rows to,
+ * so each tree node of a partition is written by one task, or by a few tasks if there are no other clusterings.
+ */
+trait ArcticWriteDistributionHelper extends SQLConfHelper {
+
+  private val afterPrefix = "_arctic_after_"
+
+  protected def distributionQuery(query: LogicalPlan, table: ArcticSparkTable): LogicalPlan = {
+    val transforms = ArcticSparkUtils.buildRequiredDistribution(table) match {
+      case d: ClusteredDistribution => d.clustering.toSeq
+      case _ => Nil
+    }
+    // primary key bucket is always the first clustering transform
+    val clusteredByPrimaryKey = transforms.headOption.exists {
+      case t: Transform => isPrimaryKeyBucket(t, table)
+      case _ => false
+    }
+    val clustering = transforms.zipWithIndex.map {
+      case (_, 0) if clusteredByPrimaryKey =>
+        ArcticExpressionUtils.toTreeNodeIndex(table.table().asKeyedTable(), treeNodeMask(table), query)
+      case (e, _) =>
+        ArcticExpressionUtils.toCatalyst(e, query)
+    }.map(withAfterColumns(_, query))
+
+    val distributed = if (clustering.isEmpty) {
+      query
+    } else if (clusteredByPrimaryKey && clustering.size == 1) {
+      // only clustered by tree node, rows of a tree node are spread to several tasks by primary key hash, or there
+      // would be no more tasks than tree nodes. each task still gets only a few tree nodes.
+      val spread = math.max(1L, conf.numShufflePartitions / (treeNodeMask(table) + 1)).toInt
+      val spreadClustering = if (spread > 1) {
+        clustering :+ Pmod(new Murmur3Hash(primaryKeys(query, table)), Literal(spread))
+      } else {
+        clustering
+      }
+      RepartitionByExpression(spreadClustering, query, conf.numShufflePartitions)
+    } else {
+      RepartitionByExpression(clustering, query, conf.numShufflePartitions)
+    }
+    if (table.table().isKeyedTable && localSortEnabled(table)) {
+      Sort(primaryKeys(query, table).map(SortOrder(_, Ascending)), global = false, distributed)
+    } else {
+      distributed
+    }
+  }
+
+  private def primaryKeys(query: LogicalPlan, table: ArcticSparkTable): Seq[Expression] = {
+    table.table().asKeyedTable().primaryKeySpec().fieldNames().asScala
+        .flatMap(k => query.output.find(_.name == k))
+        .map(withAfterColumns(_, query))
+  }
+
+  private def isPrimaryKeyBucket(transform: Transform, table: ArcticSparkTable): Boolean = {
+    table.table().isKeyedTable && transform.name() == "bucket" &&
+        transform.references().map(_.fieldNames().mkString(".")).toSeq ==
+            Seq(table.table().asKeyedTable().primaryKeySpec().fieldNames().get(0))
+  }
+
+  private def treeNodeMask(table: ArcticSparkTable): Long = {
+    PropertyUtil.propertyAsLong(table.properties(), TableProperties.BASE_FILE_INDEX_HASH_BUCKET,
+      TableProperties.BASE_FILE_INDEX_HASH_BUCKET_DEFAULT) - 1
+  }
+
+  private def localSortEnabled(table: ArcticSparkTable): Boolean = {
+    PropertyUtil.propertyAsBoolean(table.properties(), TableProperties.WRITE_DISTRIBUTION_LOCAL_SORT_ENABLED,
+      TableProperties.WRITE_DISTRIBUTION_LOCAL_SORT_ENABLED_DEFAULT)
+  }
+
+  /**
+   * columns of table are resolved to before columns of upsert rows, which are null for inserted rows,
+   * so use after columns instead if before columns are null.
+   */
+  private def withAfterColumns(expr: Expression, query: LogicalPlan): Expression = {
+    val afterColumns = query.output.filter(_.name.startsWith(afterPrefix))
+        .map(a => a.name.substring(afterPrefix.length) -> a).toMap
+    if (afterColumns.isEmpty) {
+      expr
+    } else {
+      expr transform {
+        case a: Attribute if afterColumns.contains(a.name) && !a.name.startsWith(afterPrefix) =>
+          Coalesce(Seq(a, afterColumns(a.name)))
+      }
+    }
+  }
+}
@@ -19,18 +19,15 @@
 package com.netease.arctic.spark.sql.optimize
 
 import com.netease.arctic.spark.table.ArcticSparkTable
-import com.netease.arctic.spark.util.ArcticSparkUtils
 import org.apache.spark.sql.SparkSession
-import org.apache.spark.sql.catalyst.expressions.{ArcticExpressionUtils, Expression}
-import org.apache.spark.sql.catalyst.plans.logical.{LogicalPlan, OverwritePartitionsDynamic, RepartitionByExpression}
+import org.apache.spark.sql.catalyst.plans.logical.{LogicalPlan, OverwritePartitionsDynamic}
 import org.apache.spark.sql.catalyst.rules.Rule
-import org.apache.spark.sql.connector.iceberg.distributions.ClusteredDistribution
 import org.apache.spark.sql.connector.write.LogicalWriteInfo
 import org.apache.spark.sql.execution.datasources.v2.DataSourceV2Relation
 import org.apache.spark.sql.types.StructType
 import org.apache.spark.sql.util.CaseInsensitiveStringMap
 
-case class OptimizeWriteRule(spark: SparkSession) extends Rule[LogicalPlan] {
+case class OptimizeWriteRule(spark: SparkSession) extends Rule[LogicalPlan] with ArcticWriteDistributionHelper {
 
   override def apply(plan: LogicalPlan): LogicalPlan = plan transformDown {
     case a@OverwritePartitionsDynamic(r: DataSourceV2Relation, query, writeOptions, _) =>
@@ -43,25 +40,6 @@ case class OptimizeWriteRule(spark: SparkSession) extends Rule[LogicalPlan] {
           a
       }
   }
-
-
-  private def distributionQuery(query: LogicalPlan, table: ArcticSparkTable): LogicalPlan =  {
-      val distribution = ArcticSparkUtils.buildRequiredDistribution(table) match {
-        case d: ClusteredDistribution =>
-          d.clustering.map(e => ArcticExpressionUtils.toCatalyst(e, query))
-        case _ =>
-          Array.empty[Expression]
-      }
-      val queryWithDistribution = if (distribution.nonEmpty) {
-        val partitionNum = conf.numShufflePartitions
-        val pp = RepartitionByExpression(distribution, query, partitionNum)
-        pp
-      } else {
-        query
-      }
-      queryWithDistribution
-  }
-
 }
 
 
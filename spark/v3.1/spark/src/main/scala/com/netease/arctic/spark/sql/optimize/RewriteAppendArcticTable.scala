@@ -20,19 +20,20 @@ package com.netease.arctic.spark.sql.optimize
 
 import com.netease.arctic.spark.sql.catalyst.plans.ReplaceArcticData
 import com.netease.arctic.spark.table.ArcticSparkTable
-import com.netease.arctic.spark.util.ArcticSparkUtils
 import com.netease.arctic.spark.writer.WriteMode
+import com.netease.arctic.table.TableProperties
+import org.apache.iceberg.util.PropertyUtil
 import org.apache.spark.sql.SparkSession
-import org.apache.spark.sql.catalyst.expressions.{Alias, And, ArcticExpressionUtils, EqualTo, Expression}
+import org.apache.spark.sql.catalyst.expressions.{Alias, And, EqualTo, Expression, Literal}
 import org.apache.spark.sql.catalyst.plans.RightOuter
 import org.apache.spark.sql.catalyst.plans.logical._
 import org.apache.spark.sql.catalyst.rules.Rule
-import org.apache.spark.sql.connector.iceberg.distributions.ClusteredDistribution
 import org.apache.spark.sql.execution.datasources.v2.DataSourceV2Relation
 
 import java.util
 
-case class RewriteAppendArcticTable(spark: SparkSession) extends Rule[LogicalPlan] {
+case class RewriteAppendArcticTable(spark: SparkSession) extends Rule[LogicalPlan]
+  with ArcticWriteDistributionHelper {
 
   import com.netease.arctic.spark.sql.ArcticExtensionUtils._
 
@@ -50,7 +51,12 @@ case class RewriteAppendArcticTable(spark: SparkSession) extends Rule[LogicalPla
       arcticRelation.table match {
         case a: ArcticSparkTable =>
           if (a.table().isKeyedTable) {
-            val insertQuery = distributionQuery(newQuery, a)
+            val insertQuery = if (upsertWrite.appendAsUpsert() && keyExistenceCheckEnabled(a)) {
+              // already distributed by columns to insert
+              newQuery
+            } else {
+              distributionQuery(newQuery, a)
+            }
             ReplaceArcticData(arcticRelation, insertQuery, options)
           } else {
             ReplaceArcticData(arcticRelation, query, writeOptions)
@@ -85,16 +91,29 @@ case class RewriteAppendArcticTable(spark: SparkSession) extends Rule[LogicalPla
     r.table match {
       case arctic: ArcticSparkTable =>
         if (arctic.table().isKeyedTable) {
-          val primaries = arctic.table().asKeyedTable().primaryKeySpec().fieldNames()
-          val insertPlan = buildKeyedTableInsertProjection(query)
-          val joinCondition = buildJoinCondition(primaries, r, insertPlan)
-          Join(r, insertPlan, RightOuter, Some(joinCondition), JoinHint.NONE)
+          if (keyExistenceCheckEnabled(arctic)) {
+            // writer deletes keys which may exist by itself, so the table is not joined
+            val insertPlan = buildKeyedTableInsertProjection(distributionQuery(query, arctic))
+            val beforeColumns = r.output.map(a => Alias(Literal(null, a.dataType), a.name)())
+            Project(beforeColumns ++ insertPlan.output, insertPlan)
+          } else {
+            val primaries = arctic.table().asKeyedTable().primaryKeySpec().fieldNames()
+            val insertPlan = buildKeyedTableInsertProjection(query)
+            val joinCondition = buildJoinCondition(primaries, r, insertPlan)
+            Join(r, insertPlan, RightOuter, Some(joinCondition), JoinHint.NONE)
+          }
         } else {
           query
         }
     }
   }
 
+  private def keyExistenceCheckEnabled(table: ArcticSparkTable): Boolean = {
+    PropertyUtil.propertyAsBoolean(table.table().properties(),
+      TableProperties.UPSERT_KEY_EXISTENCE_CHECK_ENABLED,
+      TableProperties.UPSERT_KEY_EXISTENCE_CHECK_ENABLED_DEFAULT)
+  }
+
   private def buildKeyedTableInsertProjection(relation: LogicalPlan): LogicalPlan = {
     val output = relation.output
     val outputWithValues = output.map( a => {
@@ -102,21 +121,4 @@ case class RewriteAppendArcticTable(spark: SparkSession) extends Rule[LogicalPla
     })
     Project(outputWithValues, relation)
   }
-
-  private def distributionQuery(query: LogicalPlan, table: ArcticSparkTable): LogicalPlan =  {
-    val distribution = ArcticSparkUtils.buildRequiredDistribution(table) match {
-      case d: ClusteredDistribution =>
-        d.clustering.map(e => ArcticExpressionUtils.toCatalyst(e, query))
-      case _ =>
-        Array.empty[Expression]
-    }
-    val queryWithDistribution = if (distribution.nonEmpty) {
-      val partitionNum = conf.numShufflePartitions
-      val pp = RepartitionByExpression(distribution, query, partitionNum)
-      pp
-    } else {
-      query
-    }
-    queryWithDistribution
-  }
 }
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.spark.sql.optimize
+
+import com.netease.arctic.spark.sql.ArcticExtensionUtils.{ArcticTableHelper, asTableRelation, isArcticRelation}
+import com.netease.arctic.spark.sql.catalyst.plans.ReplaceArcticData
+import com.netease.arctic.spark.table.ArcticSparkTable
+import com.netease.arctic.spark.writer.WriteMode
+import org.apache.spark.sql.SparkSession
+import org.apache.spark.sql.catalyst.expressions.{Alias, And, Attribute, AttributeMap, AttributeReference, CaseWhen, Cast, EqualTo, Expression, GreaterThan, If, IsNotNull, Literal, Murmur3Hash, Not, Or, RaiseError, RowFrame, SpecifiedWindowFrame, UnboundedFollowing, UnboundedPreceding, WindowExpression, WindowSpecDefinition}
+import org.apache.spark.sql.catalyst.expressions.Literal.TrueLiteral
+import org.apache.spark.sql.catalyst.expressions.aggregate.Count
+import org.apache.spark.sql.catalyst.plans.{Inner, RightOuter}
+import org.apache.spark.sql.catalyst.plans.logical._
+import org.apache.spark.sql.catalyst.rules.Rule
+import org.apache.spark.sql.execution.datasources.v2.{DataSourceV2Relation, DataSourceV2ScanRelation}
+import org.apache.spark.sql.types.{BooleanType, IntegerType, MapType, StructType}
+import org.apache.spark.sql.utils.ArcticRewriteHelper
+
+import java.util
+
+/**
+ * rewrite merge into keyed table plan as append upsert data.
+ *
+ * target rows are scanned with the target only predicates of merge condition pushed down, so only the matched
+ * partitions and files of the target are joined with the source. every joined row is projected as
+ * [before columns, after columns] for the upsert writer:
+ * 1. matched update: [target row, updated row]
+ * 2. matched delete: [target row, nulls]
+ * 3. not matched insert: [nulls, inserted row]
+ */
+case class RewriteMergeIntoArcticTable(spark: SparkSession) extends Rule[LogicalPlan] with ArcticRewriteHelper
+  with ArcticWriteDistributionHelper {
+
+  private val afterPrefix = "_arctic_after_"
+  private val targetRowPresentCol = "_arctic_target_row_present"
+  private val matchedCountCol = "_arctic_matched_count"
+
+  override def apply(plan: LogicalPlan): LogicalPlan = plan transform {
+    case m@MergeIntoTable(target, source, cond, matchedActions, notMatchedActions)
+      if m.resolved && isArcticRelation(target) && isKeyedRelation(asTableRelation(target)) =>
+      val r = asTableRelation(target)
+      val primaries = r.table.asArcticTable.table().asKeyedTable().primaryKeySpec().fieldNames()
+      validatePrimaryKey(primaries, cond, matchedActions)
+
+      val scanBuilder = r.table.asUpsertWrite.newUpsertScanBuilder(r.options)
+      pushFilter(scanBuilder, cond, r.output)
+      val scan = scanBuilder.build()
+      val targetScan = DataSourceV2ScanRelation(r, scan, toOutputAttrs(scan.readSchema(), r.output))
+      val targetPlan = Project(targetScan.output :+ Alias(TrueLiteral, targetRowPresentCol)(), targetScan)
+      val joinType = if (notMatchedActions.isEmpty) Inner else RightOuter
+      val joinPlan = Join(targetPlan, source, joinType, Some(cond), JoinHint.NONE)
+
+      val checkedJoinPlan = if (isCardinalityCheckNeeded(matchedActions)) {
+        val joinAttrs = AttributeMap(joinPlan.output.map(a => a -> a))
+        val targetKeys = primaries.toArray.map(p => joinAttrs(targetScan.output.find(_.name == p).get)).toSeq
+        buildCardinalityCheck(joinPlan, targetKeys, source)
+      } else {
+        joinPlan
+      }
+      val query = buildUpsertQuery(r, checkedJoinPlan, matchedActions, notMatchedActions)
+      var options: Map[String, String] = Map.empty
+      options += (WriteMode.WRITE_MODE_KEY -> WriteMode.UPSERT.toString)
+      ReplaceArcticData(r, distributionQuery(query, r.table.asArcticTable), options)
+  }
+
+  private def isKeyedRelation(r: DataSourceV2Relation): Boolean = r.table match {
+    case a: ArcticSparkTable => a.table().isKeyedTable
+    case _ => false
+  }
+
+  private def buildUpsertQuery(r: DataSourceV2Relation,
+                               joinPlan: LogicalPlan,
+                               matchedActions: Seq[MergeAction],
+                               notMatchedActions: Seq[MergeAction]): LogicalPlan = {
+    // attributes of target are nullable after right outer join
+    val joinAttrs = AttributeMap(joinPlan.output.map(a => a -> a))
+    def resolve(e: Expression): Expression = e transform {
+      case a: Attribute if joinAttrs.contains(a) => joinAttrs(a)
+    }
+    val targetOutput = r.output.map(a => joinAttrs(a))
+    val nulls: Seq[Expression] = targetOutput.map(a => Literal(null, a.dataType))
+    val isTargetRowPresent = IsNotNull(joinPlan.output.find(_.name == targetRowPresentCol).get)
+
+    // each branch is (condition, before values, after values), the first satisfied branch wins like merge actions
+    val matchedBranches = matchedActions.map {
+      case DeleteAction(c) =>
+        (And(isTargetRowPresent, c.map(resolve).getOrElse(TrueLiteral)), targetOutput, nulls)
+      case UpdateAction(c, assignments) =>
+        val after = alignAssignments(
+          targetOutput, assignments.map(a => Assignment(a.key, resolve(a.value))), targetOutput)
+        (And(isTargetRowPresent, c.map(resolve).getOrElse(TrueLiteral)), targetOutput, after)
+      case action =>
+        throw new UnsupportedOperationException(s"unsupported matched action: $action")
+    }
+    val notMatchedBranches = notMatchedActions.map {
+      case InsertAction(c, assignments) =>
+        val after = alignAssignments(targetOutput, assignments.map(a => Assignment(a.key, resolve(a.value))), nulls)
+        (And(Not(isTargetRowPresent), c.map(resolve).getOrElse(TrueLiteral)), nulls, after)
+      case action =>
+        throw new UnsupportedOperationException(s"unsupported not matched action: $action")
+    }
+    val branches = matchedBranches ++ notMatchedBranches
+
+    // rows satisfying no action are left unchanged
+    val changedRows = Filter(branches.map(_._1).reduce[Expression]((l, r) => Or(l, r)), joinPlan)
+    val before = targetOutput.indices.map(i =>
+      Alias(CaseWhen(branches.map(b => (b._1, b._2(i)))), targetOutput(i).name)())
+    val after = targetOutput.indices.map(i =>
+      Alias(CaseWhen(branches.map(b => (b._1, b._3(i)))), afterPrefix + targetOutput(i).name)())
+    Project(before ++ after, changedRows)
+  }
+
+  private def alignAssignments(targetOutput: Seq[Attribute],
+                               assignments: Seq[Assignment],
+                               defaults: Seq[Expression]): Seq[Expression] = {
+    val assignmentMap = assignments.map(
+      a =>
+        if (a.value.dataType.catalogString.equals(a.key.dataType.catalogString)) {
+          a.key.asInstanceOf[AttributeReference].name -> a.value
+        } else {
+          a.key.asInstanceOf[AttributeReference].name -> Cast(a.value, a.key.dataType)
+        }
+    ).toMap
+    targetOutput.zip(defaults).map {
+      case (a, default) => assignmentMap.getOrElse(a.name, default)
+    }
+  }
+
+  /**
+   * a target row matched by more than one source row would be updated or deleted more than once, count the source
+   * rows joined with each target row before conditions of actions are applied, and fail the query if any target row
+   * is matched more than once.
+   */
+  private def buildCardinalityCheck(joinPlan: LogicalPlan,
+                                    targetKeys: Seq[Attribute],
+                                    source: LogicalPlan): LogicalPlan = {
+    val output = joinPlan.output
+    val targetRowPresent = output.find(_.name == targetRowPresentCol).get
+    // source rows not matched have null target keys, spread them by hash instead of one window partition
+    val hashableSourceOutput = source.output.filterNot(_.dataType.existsRecursively(_.isInstanceOf[MapType]))
+    val partitions = targetKeys :+
+        If(IsNotNull(targetRowPresent), Literal(null, IntegerType), new Murmur3Hash(hashableSourceOutput))
+    val matchedCount = WindowExpression(
+      Count(targetRowPresent).toAggregateExpression(),
+      WindowSpecDefinition(partitions, Nil, SpecifiedWindowFrame(RowFrame, UnboundedPreceding, UnboundedFollowing)))
+    val window = Window(Seq(Alias(matchedCount, matchedCountCol)()), partitions, Nil, joinPlan)
+    val countAttr = window.output.last
+    val checked = Filter(If(GreaterThan(countAttr, Literal(1L)),
+      Cast(new RaiseError(Literal("The MERGE INTO statement matched a target row with more than one source row, " +
+        "this could result in the target row being modified more than once")), BooleanType),
+      TrueLiteral), window)
+    Project(output, checked)
+  }
+
+  private def isCardinalityCheckNeeded(actions: Seq[MergeAction]): Boolean = actions match {
+    case Seq() => false
+    case Seq(DeleteAction(None)) => false
+    case _ => true
+  }
+
+  /**
+   * primary key could be assigned only by the value it is joined with, e.g. update set * with merge on key.
+   */
+  private def validatePrimaryKey(primaries: util.List[String], cond: Expression, actions: Seq[MergeAction]): Unit = {
+    val equalities = splitConjunctivePredicates(cond).collect { case EqualTo(left, right) => (left, right) }
+    def isKeyPreserved(key: Expression, value: Expression): Boolean = {
+      key.semanticEquals(value) || equalities.exists {
+        case (left, right) =>
+          (left.semanticEquals(key) && right.semanticEquals(value)) ||
+            (right.semanticEquals(key) && left.semanticEquals(value))
+      }
+    }
+    actions.foreach {
+      case UpdateAction(_, assignments) =>
+        assignments.foreach(a => {
+          val name = a.key.asInstanceOf[AttributeReference].name
+          if (primaries.contains(name) && !isKeyPreserved(a.key, a.value)) {
+            throw new UnsupportedOperationException(s"primary key: ${name} can not be updated")
+          }
+        })
+      case _ =>
+    }
+  }
+
+  protected def toOutputAttrs(schema: StructType, attrs: Seq[AttributeReference]): Seq[AttributeReference] = {
+    val nameToAttr = attrs.map(_.name).zip(attrs).toMap
+    schema.map(f => AttributeReference(f.name, f.dataType, f.nullable, f.metadata)()).map {
+      a =>
+        nameToAttr.get(a.name) match {
+          case Some(ref) =>
+            // keep the attribute id if it was present in the relation
+            a.withExprId(ref.exprId)
+          case _ =>
+            // if the field is new, create a new attribute
+            AttributeReference(a.name, a.dataType, a.nullable, a.metadata)()
+        }
+    }
+  }
+}
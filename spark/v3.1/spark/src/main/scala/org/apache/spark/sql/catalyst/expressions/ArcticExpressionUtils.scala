@@ -18,11 +18,15 @@
 
 package org.apache.spark.sql.catalyst.expressions
 
+import com.netease.arctic.data.PrimaryKeyData
+import com.netease.arctic.spark.SparkInternalRowWrapper
+import com.netease.arctic.table.{KeyedTable, PrimaryKeySpec}
+import org.apache.iceberg.Schema
 import org.apache.iceberg.spark.SparkSchemaUtil
 import org.apache.iceberg.transforms.Transforms
 import org.apache.iceberg.types.{Type, Types}
 import org.apache.spark.sql.AnalysisException
-import org.apache.spark.sql.catalyst.SQLConfHelper
+import org.apache.spark.sql.catalyst.{InternalRow, SQLConfHelper}
 import org.apache.spark.sql.catalyst.expressions.codegen.CodegenFallback
 import org.apache.spark.sql.catalyst.plans.logical.LogicalPlan
 import org.apache.spark.sql.catalyst.utils.DistributionAndOrderingUtils.TruncateTransform
@@ -33,6 +37,8 @@ import org.apache.spark.unsafe.types.UTF8String
 
 import java.nio.ByteBuffer
 
+import scala.collection.JavaConverters._
+
 object ArcticExpressionUtils extends SQLConfHelper{
   val resolver = conf.resolver
   def toCatalyst(expr: V2Expression, query: LogicalPlan): Expression =  {
@@ -78,6 +84,16 @@ object ArcticExpressionUtils extends SQLConfHelper{
     }
   }
 
+  /**
+   * Build the expression of tree node index which rows of keyed table are written to, it is the same as the
+   * index computed by task writers, so rows clustered by it are written to one file per tree node.
+   */
+  def toTreeNodeIndex(table: KeyedTable, mask: Long, query: LogicalPlan): Expression = {
+    val keySchema = table.schema().select(table.primaryKeySpec().fieldNames())
+    val keys = keySchema.columns().asScala.map(c => resolveRef[NamedExpression](FieldReference(c.name()), query))
+    ArcticTreeNodeIndex(table.primaryKeySpec(), keySchema, mask, keys)
+  }
+
   private object ArcticBucketTransform {
     def unapply(transform: Transform): Option[(Int, FieldReference)] = transform match {
       case bt: BucketTransform => bt.columns match {
@@ -132,3 +148,28 @@ case class ArcticBucketTransform(numBuckets: Int, child: Expression)  extends Ar
     copy(child = newChild)
   }
 }
+
+
+/**
+ * Index of the tree node the row belongs to, computed by the primary key the same as task writers do.
+ *
+ * @param keySpec   primary key spec of table
+ * @param keySchema schema of primary key columns, in the order of children
+ * @param mask      mask of tree node
+ */
+case class ArcticTreeNodeIndex(keySpec: PrimaryKeySpec, keySchema: Schema, mask: Long, children: Seq[Expression])
+  extends Expression with CodegenFallback {
+
+  @transient private lazy val keyData = new PrimaryKeyData(keySpec, keySchema)
+  @transient private lazy val keyWrapper = new SparkInternalRowWrapper(SparkSchemaUtil.convert(keySchema))
+
+  override def eval(input: InternalRow): Any = {
+    val keyRow = InternalRow.fromSeq(children.map(_.eval(input)))
+    keyData.primaryKey(keyWrapper.wrap(keyRow))
+    keyData.treeNodeIndex(mask).toInt
+  }
+
+  override def nullable: Boolean = false
+
+  override def dataType: DataType = IntegerType
+}
@@ -32,6 +32,7 @@ import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.RowDelta;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.data.Record;
+import org.apache.spark.sql.catalyst.plans.logical.Statistics;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -101,6 +102,21 @@ public class TestKeyedTableDML extends SparkTestBase {
   }
 
 
+  @Test
+  public void testEstimateStatisticsWithDeletes() {
+    TableIdentifier identifier = TableIdentifier.of(catalogNameArctic, database, table);
+    writeBase(identifier, baseFiles);
+    writeChange(identifier, ChangeAction.DELETE, Lists.newArrayList(
+        newRecord(keyedTable, 1, "aaa", quickDateWithZone(1))
+    ));
+
+    String tableName = catalogNameArctic + "." + database + "." + table;
+    Statistics allColumns = spark.table(tableName).queryExecution().optimizedPlan().stats();
+    Assert.assertEquals(2, allColumns.rowCount().get().longValue());
+    Statistics idColumn = spark.table(tableName).select("id").queryExecution().optimizedPlan().stats();
+    Assert.assertTrue(idColumn.sizeInBytes().longValue() < allColumns.sizeInBytes().longValue());
+  }
+
   @Test
   public void testSelectChangeFiles() {
     TableIdentifier identifier = TableIdentifier.of(catalogNameArctic, database, table);
@@ -131,6 +147,88 @@ public class TestKeyedTableDML extends SparkTestBase {
     assertContainIdSet(rows, 0, 2, 3);
   }
 
+  @Test
+  public void testMergeInto() {
+    writeBase(TableIdentifier.of(catalogNameArctic, database, table), baseFiles);
+    String sourceTable = "testB";
+    sql("create table {0}.{1} ( \n" +
+        " id int , \n" +
+        " name string , \n " +
+        " ts timestamp \n" +
+        ") using arctic ", database, sourceTable);
+    sql("insert into {0}.{1} values " +
+        "(1, ''aaa'', timestamp(''2022-01-01 00:00:00'')), " +
+        "(2, ''xxx'', timestamp(''2022-01-02 00:00:00'')), " +
+        "(4, ''ddd'', timestamp(''2022-01-04 00:00:00''))", database, sourceTable);
+
+    sql("merge into {0}.{1} t using {0}.{2} s on t.id = s.id \n" +
+        "when matched and s.name = ''aaa'' then delete \n" +
+        "when matched then update set * \n" +
+        "when not matched then insert *", database, table, sourceTable);
+
+    rows = sql("select id, name from {0}.{1} order by id", database, table);
+    Assert.assertEquals(3, rows.size());
+    Assert.assertEquals(2, rows.get(0)[0]);
+    Assert.assertEquals("xxx", rows.get(0)[1]);
+    Assert.assertEquals(3, rows.get(1)[0]);
+    Assert.assertEquals("ccc", rows.get(1)[1]);
+    Assert.assertEquals(4, rows.get(2)[0]);
+    Assert.assertEquals("ddd", rows.get(2)[1]);
+
+    sql("drop table {0}.{1}", database, sourceTable);
+  }
+
+  @Test
+  public void testMergeIntoMultipleMatchedRows() {
+    writeBase(TableIdentifier.of(catalogNameArctic, database, table), baseFiles);
+    String sourceTable = "testB";
+    sql("create table {0}.{1} ( \n" +
+        " id int , \n" +
+        " name string , \n " +
+        " ts timestamp \n" +
+        ") using arctic ", database, sourceTable);
+    sql("insert into {0}.{1} values " +
+        "(2, ''xxx'', timestamp(''2022-01-02 00:00:00'')), " +
+        "(2, ''yyy'', timestamp(''2022-01-02 00:00:00''))", database, sourceTable);
+
+    try {
+      Assert.assertThrows(Exception.class,
+          () -> sql("merge into {0}.{1} t using {0}.{2} s on t.id = s.id \n" +
+              "when matched then update set t.name = s.name", database, table, sourceTable));
+      rows = sql("select name from {0}.{1} where id = 2", database, table);
+      Assert.assertEquals(1, rows.size());
+      Assert.assertEquals("bbb", rows.get(0)[0]);
+    } finally {
+      sql("drop table {0}.{1}", database, sourceTable);
+    }
+  }
+
+  @Test
+  public void testMergeIntoMultipleMatchedRowsWithCondition() {
+    writeBase(TableIdentifier.of(catalogNameArctic, database, table), baseFiles);
+    String sourceTable = "testB";
+    sql("create table {0}.{1} ( \n" +
+        " id int , \n" +
+        " name string , \n " +
+        " ts timestamp \n" +
+        ") using arctic ", database, sourceTable);
+    sql("insert into {0}.{1} values " +
+        "(2, ''xxx'', timestamp(''2022-01-02 00:00:00'')), " +
+        "(2, ''yyy'', timestamp(''2022-01-02 00:00:00''))", database, sourceTable);
+
+    try {
+      // only one of the source rows satisfies the condition, the target row is still matched twice
+      Assert.assertThrows(Exception.class,
+          () -> sql("merge into {0}.{1} t using {0}.{2} s on t.id = s.id \n" +
+              "when matched and s.name = ''xxx'' then update set t.name = s.name", database, table, sourceTable));
+      rows = sql("select name from {0}.{1} where id = 2", database, table);
+      Assert.assertEquals(1, rows.size());
+      Assert.assertEquals("bbb", rows.get(0)[0]);
+    } finally {
+      sql("drop table {0}.{1}", database, sourceTable);
+    }
+  }
+
   protected void insertBasePosDeleteFiles(long transactionId, List<DataFile> dataFiles) throws IOException {
     Map<StructLike, List<DataFile>> dataFilesPartitionMap =
         new HashMap<>(dataFiles.stream().collect(Collectors.groupingBy(ContentFile::partition)));
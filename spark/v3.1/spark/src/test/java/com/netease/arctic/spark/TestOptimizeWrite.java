@@ -23,8 +23,12 @@ import com.google.common.collect.Lists;
 import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.table.TableIdentifier;
 import com.netease.arctic.table.UnkeyedTable;
+import com.netease.arctic.utils.FileUtil;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.iceberg.DataFile;
+import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.spark.SparkSchemaUtil;
 import org.apache.iceberg.types.Types;
@@ -40,6 +44,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 public class TestOptimizeWrite extends SparkTestBase {
+  private static final String SHUFFLE_PARTITIONS = "spark.sql.shuffle.partitions";
 
   private final String database = "db";
   private final String sinkTable = "sink_table";
@@ -70,6 +75,7 @@ public class TestOptimizeWrite extends SparkTestBase {
 
   @After
   public void cleanUpTable() {
+    spark.conf().unset(SHUFFLE_PARTITIONS);
     sql("drop table " + database + "." + sinkTable);
     sql("drop table " + sourceTable);
     sql("drop database " + database);
@@ -164,6 +170,8 @@ public class TestOptimizeWrite extends SparkTestBase {
             "''write.distribution.hash-mode'' = ''primary-key''," +
             "''base.file-index.hash-bucket'' = ''1'')"
         , database, sinkTable);
+    // the tree node is written by one task
+    spark.conf().set(SHUFFLE_PARTITIONS, "1");
     sql("insert overwrite {0}.{1} SELECT id, column1, column2 from {2}",
         database, sinkTable, sourceTable);
     rows = sql("select * from {0}.{1} order by id", database, sinkTable);
@@ -174,9 +182,9 @@ public class TestOptimizeWrite extends SparkTestBase {
   }
 
   /**
-   * shuffle by primary key
-   * source[3partition] -> shuffle %2 primary key -> sink[2partition]
-   * write 4 file
+   * shuffle by tree node of primary key
+   * source[3partition] -> shuffle %2 tree node -> sink[2partition]
+   * write 2 file, ids of partition aaa are all in node 0 and ids of partition bbb are all in node 1
    */
   @Test
   public void testPrimaryKeyTableFileSplitNum() {
@@ -191,6 +199,8 @@ public class TestOptimizeWrite extends SparkTestBase {
             "''write.distribution.hash-mode'' = ''primary-key''," +
             "''base.file-index.hash-bucket'' = ''2'')"
         , database, sinkTable);
+    // each tree node is written by one task
+    spark.conf().set(SHUFFLE_PARTITIONS, "2");
     sql("insert overwrite {0}.{1} SELECT id, column1, column2 from {2}",
         database, sinkTable, sourceTable);
     rows = sql("select * from {0}.{1} order by id", database, sinkTable);
@@ -198,10 +208,108 @@ public class TestOptimizeWrite extends SparkTestBase {
     // Assert.assertEquals(
     //     4,
     //     Iterables.size(loadTable(identifier).asKeyedTable().baseTable().newScan().planFiles()));
-    Assert.assertEquals(4,
+    Assert.assertEquals(2,
         baseTableSize(identifier));
   }
 
+  /**
+   * rows of a tree node are spread to several tasks if they are only clustered by tree node, so the write
+   * parallelism is not limited by the number of tree nodes
+   * shuffle partitions 8, 2 tree nodes -> each tree node is spread to 4 tasks
+   */
+  @Test
+  public void testPrimaryKeyTableWriteParallelism() {
+    sql("create table {0}.{1} ( \n" +
+            " id int , \n" +
+            " column1 string , \n " +
+            " column2 string, \n" +
+            " primary key (id) \n" +
+            ") using arctic \n" +
+            " TBLPROPERTIES(''write.distribution-mode'' = ''hash'', " +
+            "''write.distribution.hash-mode'' = ''primary-key''," +
+            "''base.file-index.hash-bucket'' = ''2'')"
+        , database, sinkTable);
+    spark.conf().set(SHUFFLE_PARTITIONS, "8");
+    sql("insert overwrite {0}.{1} SELECT cast(id as int), ''aaa'', ''bbb'' from range(1000)",
+        database, sinkTable);
+    rows = sql("select * from {0}.{1}", database, sinkTable);
+    Assert.assertEquals(1000, rows.size());
+    int files = Iterables.size(loadTable(identifier).asKeyedTable().baseTable().newScan().planFiles());
+    Assert.assertTrue(files > 2);
+    Assert.assertTrue(files <= 8);
+  }
+
+  /**
+   * each tree node of a partition is written by one task, so there is one file per tree node
+   */
+  @Test
+  public void testPrimaryKeyTableOneFilePerTreeNode() {
+    sql("create table {0}.{1} ( \n" +
+            " id int , \n" +
+            " column1 string , \n " +
+            " column2 string, \n" +
+            " primary key (id) \n" +
+            ") using arctic \n" +
+            " partitioned by ( column2 ) \n" +
+            " TBLPROPERTIES(''write.distribution-mode'' = ''hash'', " +
+            "''write.distribution.hash-mode'' = ''primary-partition-key''," +
+            "''write.distribution.local-sort.enabled'' = ''true''," +
+            "''base.file-index.hash-bucket'' = ''4'')"
+        , database, sinkTable);
+    sql("insert overwrite {0}.{1} SELECT id, column1, column2 from {2}",
+        database, sinkTable, sourceTable);
+    rows = sql("select * from {0}.{1} order by id", database, sinkTable);
+    Assert.assertEquals(6, rows.size());
+
+    List<DataFile> files = Lists.newArrayList(
+        loadTable(identifier).asKeyedTable().baseTable().newScan().planFiles())
+        .stream().map(FileScanTask::file).collect(Collectors.toList());
+    Set<String> partitionNodes = files.stream()
+        .map(f -> f.partition().get(0, String.class) + ":" + FileUtil.parseFileNodeFromFileName(f.path().toString()))
+        .collect(Collectors.toSet());
+    Assert.assertEquals(files.size(), partitionNodes.size());
+  }
+
+  /**
+   * rows read from a keyed table are not grouped by tree node across tasks, as the scan combines and splits nodes,
+   * so they are still shuffled and each tree node of a partition is written by one task
+   */
+  @Test
+  public void testShuffleFromKeyedTable() {
+    String keyedSourceTable = "keyed_source_table";
+    String createTableTemplate = "create table {0}.{1} ( \n" +
+        " id int , \n" +
+        " column1 string , \n " +
+        " column2 string, \n" +
+        " primary key (id) \n" +
+        ") using arctic \n" +
+        " partitioned by ( column1 ) \n" +
+        " TBLPROPERTIES(''write.distribution-mode'' = ''hash'', " +
+        "''write.distribution.hash-mode'' = ''primary-partition-key''," +
+        "''base.file-index.hash-bucket'' = ''2'')";
+    sql(createTableTemplate, database, keyedSourceTable);
+    sql(createTableTemplate, database, sinkTable);
+    sql("insert overwrite {0}.{1} SELECT id, column1, column2 from {2}",
+        database, keyedSourceTable, sourceTable);
+
+    String plan = spark.sql("insert overwrite " + database + "." + sinkTable +
+        " select id, column1, column2 from " + database + "." + keyedSourceTable)
+        .queryExecution().optimizedPlan().toString();
+    Assert.assertTrue(plan.contains("RepartitionByExpression"));
+    rows = sql("select * from {0}.{1} order by id", database, sinkTable);
+    Assert.assertEquals(6, rows.size());
+
+    List<DataFile> files = Lists.newArrayList(
+        loadTable(identifier).asKeyedTable().baseTable().newScan().planFiles())
+        .stream().map(FileScanTask::file).collect(Collectors.toList());
+    Set<String> partitionNodes = files.stream()
+        .map(f -> f.partition().get(0, String.class) + ":" + FileUtil.parseFileNodeFromFileName(f.path().toString()))
+        .collect(Collectors.toSet());
+    Assert.assertEquals(files.size(), partitionNodes.size());
+
+    sql("drop table {0}.{1}", database, keyedSourceTable);
+  }
+
   protected long baseTableSize(TableIdentifier identifier) {
     ArcticTable arcticTable = loadTable(identifier);
     UnkeyedTable base = null;
@@ -100,6 +100,27 @@ public class TestKeyedTableDml extends SparkTestBase {
     Assert.assertEquals(5, rows.size());
   }
 
+  @Test
+  public void testUpsertTableWithKeyExistenceCheck() {
+    sql("use " + catalogNameHive);
+    sql(createUpsertTableTemplate + ", ''write.upsert.key-existence-check.enabled'' = ''true'' )",
+        database, upsertTable);
+    sql("insert overwrite " + database + "." + upsertTable +
+        " values (1, 'aaa', 'aaaa' ) , " +
+        "(4, 'bbb', 'bbcd'), " +
+        "(5, 'ccc', 'cbcd') ");
+    sql("insert into " + database + "." + upsertTable +
+        " values (1, 'aaa', 'dddd' ) , " +
+        "(2, 'bbb', 'bbbb'), " +
+        "(10, 'ccc', 'cccc') ");
+
+    rows = sql("select * from {0}.{1} ", database, upsertTable);
+    Assert.assertEquals(5, rows.size());
+    rows = sql("select data from {0}.{1} where id = 1", database, upsertTable);
+    Assert.assertEquals(1, rows.size());
+    Assert.assertEquals("dddd", rows.get(0)[0]);
+  }
+
   @Test
   public void testInsertSelectUpsertTable() {
     sql("use " + catalogNameHive);